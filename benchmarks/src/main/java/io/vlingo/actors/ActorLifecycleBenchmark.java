@@ -0,0 +1,220 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * ActorLifecycleBenchmark measures the costs of the {@code ActorFactory},
+ * {@code Environment} and {@code Directory} that every {@code Actor} pays
+ * regardless of its messages, each reported per {@code Actor}:
+ * <ul>
+ * <li>{@code actorFor} and {@code actorForManyThreads} create {@code Batch} idle
+ * actors from one and from four threads. The actors are stopped after each
+ * invocation, so that the {@code Directory} and the default parent do not grow.</li>
+ * <li>{@code stopWide} stops a parent of {@code Width} children, and
+ * {@code stopDeep} stops the root of a chain of {@code Depth} actors.</li>
+ * <li>{@code actorOf} looks up a live actor through {@code Stage.actorOf()}, which
+ * asks the directory scanner actor and spins until its answer, rather than
+ * {@code await()} and its sleeps, and {@code directoryActorOf} looks it up in the
+ * {@code Directory} itself.</li>
+ * </ul>
+ * It is in the package of {@code Directory} because its operations are package
+ * private. Run with {@code -prof gc} to report allocations per actor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class ActorLifecycleBenchmark {
+  static final int Batch = 1_000;
+  static final int Depth = 500;
+  static final int Lookups = 1_000;
+  static final int Width = 1_000;
+
+  private Address[] lookups;
+  private World world;
+
+  @Setup
+  public void setUp() {
+    world = World.startWithDefaults("lifecycle-benchmark");
+    lookups = new Address[Lookups];
+    for (int index = 0; index < Lookups; ++index) {
+      lookups[index] = world.addressFactory().unique();
+      world.stage().actorFor(Definition.has(IdleActor.class, Definition.NoParameters), Idle.class, lookups[index]);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    world.terminate();
+  }
+
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(Batch)
+  public void actorFor(final Created created) {
+    created.create();
+  }
+
+  @Benchmark
+  @Threads(4)
+  @OperationsPerInvocation(Batch)
+  public void actorForManyThreads(final Created created) {
+    created.create();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Width)
+  public void stopWide(final Wide wide) {
+    wide.parent.stop();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Depth)
+  public void stopDeep(final Deep deep) {
+    deep.root.stop();
+  }
+
+  @Benchmark
+  public Idle actorOf(final Lookup lookup) {
+    lookup.found = null;
+    world.stage().actorOf(lookup.next(lookups), Idle.class).andThenConsume(idle -> lookup.found = idle);
+    while (lookup.found == null) {
+      Thread.yield();
+    }
+    return lookup.found;
+  }
+
+  @Benchmark
+  public Actor directoryActorOf(final Lookup lookup) {
+    return world.stage().directory().actorOf(lookup.next(lookups));
+  }
+
+  private static Actor actorOf(final World world, final Address address) {
+    return world.stage().directory().actorOf(address);
+  }
+
+  private static Actor childOf(final World world, final Actor parent) {
+    final Address address = world.addressFactory().unique();
+    final String actorName = null;
+    world.stage().actorFor(Definition.has(IdleActor.class, Definition.NoParameters, parent, actorName), Idle.class, address);
+    return actorOf(world, address);
+  }
+
+  /**
+   * Created is the state of one creating thread: the addresses of the actors
+   * it creates in an invocation, which are allocated before and stopped after it.
+   */
+  @State(Scope.Thread)
+  public static class Created {
+    final Address[] addresses = new Address[Batch];
+    World world;
+
+    @Setup(Level.Invocation)
+    public void setUp(final ActorLifecycleBenchmark benchmark) {
+      world = benchmark.world;
+      for (int index = 0; index < Batch; ++index) {
+        addresses[index] = world.addressFactory().unique();
+      }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+      for (final Address address : addresses) {
+        final Actor actor = actorOf(world, address);
+        if (actor != null) {
+          actor.stop();
+        }
+      }
+    }
+
+    void create() {
+      final Definition definition = Definition.has(IdleActor.class, Definition.NoParameters);
+      for (final Address address : addresses) {
+        world.stage().actorFor(definition, Idle.class, address);
+      }
+    }
+  }
+
+  /**
+   * Wide is a parent of {@code Width} children, created before each invocation.
+   */
+  @State(Scope.Thread)
+  public static class Wide {
+    Actor parent;
+
+    @Setup(Level.Invocation)
+    public void setUp(final ActorLifecycleBenchmark benchmark) {
+      final World world = benchmark.world;
+      final Address address = world.addressFactory().unique();
+      world.stage().actorFor(Definition.has(IdleActor.class, Definition.NoParameters), Idle.class, address);
+      parent = actorOf(world, address);
+      for (int count = 1; count < Width; ++count) {
+        childOf(world, parent);
+      }
+    }
+  }
+
+  /**
+   * Deep is the root of a chain of {@code Depth} actors, each the parent of the
+   * next, created before each invocation.
+   */
+  @State(Scope.Thread)
+  public static class Deep {
+    Actor root;
+
+    @Setup(Level.Invocation)
+    public void setUp(final ActorLifecycleBenchmark benchmark) {
+      final World world = benchmark.world;
+      final Address address = world.addressFactory().unique();
+      world.stage().actorFor(Definition.has(IdleActor.class, Definition.NoParameters), Idle.class, address);
+      root = actorOf(world, address);
+      Actor parent = root;
+      for (int count = 1; count < Depth; ++count) {
+        parent = childOf(world, parent);
+      }
+    }
+  }
+
+  /**
+   * Lookup cycles one thread through the addresses of the live actors, and
+   * holds the last one found.
+   */
+  @State(Scope.Thread)
+  public static class Lookup {
+    volatile Idle found;
+    private int index;
+
+    Address next(final Address[] addresses) {
+      index = (index + 1) % addresses.length;
+      return addresses[index];
+    }
+  }
+
+  public static interface Idle extends Stoppable { }
+
+  public static class IdleActor extends Actor implements Idle { }
+}
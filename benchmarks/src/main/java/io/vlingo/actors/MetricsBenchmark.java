@@ -0,0 +1,107 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * MetricsBenchmark measures the send-side and delivery-side cost of one message,
+ * {@code enqueued()} followed by {@code deliver()}, with {@code Metrics} disabled
+ * and enabled, to show that disabled metrics cost nothing measurable. It is in
+ * the package of {@code LocalMessage} because the actor instance is found through
+ * the package private {@code Directory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+  @Param({ "false", "true" })
+  public boolean metrics;
+
+  private Actor actor;
+  private Consumer<Logger> consumer;
+  private LocalMessage<Logger> message;
+  private World world;
+
+  @Setup
+  public void setUp() {
+    final Configuration configuration = Configuration.define();
+    configuration.metricsPluginConfiguration().enabled(metrics).jmx(false);
+    world = World.start("metrics-benchmark", configuration);
+
+    world.actorFor(Definition.has(CountingLoggerActor.class, Definition.NoParameters, "counting"), Logger.class);
+    while (actor == null) {
+      actor = CountingLoggerActor.instance;
+    }
+
+    consumer = logger -> logger.log("delivered");
+    message = new LocalMessage<>(actor, Logger.class, consumer, "log(java.lang.String)");
+  }
+
+  @TearDown
+  public void tearDown() {
+    world.terminate();
+  }
+
+  @Benchmark
+  public void enqueueThenDeliver() {
+    message.set(actor, Logger.class, consumer, null, "log(java.lang.String)");
+    message.enqueued();
+    message.deliver();
+  }
+
+  public static class CountingLoggerActor extends Actor implements Logger {
+    static volatile CountingLoggerActor instance;
+
+    private long count;
+
+    public CountingLoggerActor() {
+      instance = this;
+    }
+
+    @Override
+    public void close() { }
+
+    @Override
+    public boolean isEnabled() {
+      return true;
+    }
+
+    @Override
+    public void log(final String message) {
+      ++count;
+    }
+
+    @Override
+    public void log(final String message, final Throwable throwable) {
+      ++count;
+    }
+
+    @Override
+    public String name() {
+      return "counting-" + count;
+    }
+  }
+}
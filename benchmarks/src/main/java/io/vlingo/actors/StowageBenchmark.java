@@ -0,0 +1,67 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StowageBenchmark stows {@code Messages} preallocated messages and then disperses
+ * all of them, as an {@code Actor} does between {@code stowMessages()} and
+ * {@code disperseStowedMessages()}. The reported time is per message. It is in the
+ * package of {@code Stowage} because its operations are package private. Run with
+ * {@code -prof gc} to report allocations per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StowageBenchmark {
+  private static final int Messages = 1_000_000;
+
+  private Message[] messages;
+  private Stowage stowage;
+
+  @Setup
+  public void setUp() {
+    messages = new Message[Messages];
+    for (int index = 0; index < Messages; ++index) {
+      messages[index] = new LocalMessage<Object>(null, Object.class, null, "stowed()");
+    }
+    stowage = new Stowage();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Messages)
+  public int stowThenDisperse() {
+    stowage.stowingMode();
+    for (final Message message : messages) {
+      stowage.stow(message);
+    }
+
+    stowage.dispersingMode();
+    int dispersed = 0;
+    while (stowage.head() != null) {
+      ++dispersed;
+    }
+    return dispersed;
+  }
+}
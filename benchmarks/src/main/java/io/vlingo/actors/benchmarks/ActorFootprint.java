@@ -0,0 +1,109 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.Stoppable;
+import io.vlingo.actors.World;
+
+/**
+ * ActorFootprint reports the heap retained per idle {@code Actor} of each mailbox
+ * type, by creating many actors that receive no messages and comparing the heap
+ * used after a full collection before and after creating them. It then stops all
+ * of them and reports the heap still retained per stopped {@code Actor}, which is
+ * zero unless something, such as the {@code Directory} or the parent, holds on to
+ * stopped actors. It is not a JMH benchmark, because the result is a size rather
+ * than a time, and runs from the benchmarks jar with a heap large enough for its
+ * actors:
+ * <pre>
+ * java -Xmx3g -cp target/benchmarks.jar io.vlingo.actors.benchmarks.ActorFootprint [actors] [dedicatedActors]
+ * </pre>
+ * The {@code queueMailbox} actors, which share one dispatcher, number {@code actors},
+ * 1,000,000 by default. The {@code ringMailbox} and {@code arrayQueueMailbox}
+ * actors each start a dispatcher thread with its own preallocated queue, and so
+ * number only {@code dedicatedActors}, 100 by default.
+ */
+public final class ActorFootprint {
+  private static final String[] DedicatedMailboxes = { "ringMailbox", "arrayQueueMailbox" };
+  private static final String SharedMailbox = "queueMailbox";
+
+  private static final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+  public static void main(final String[] args) throws Exception {
+    final int actors = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+    final int dedicatedActors = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+    System.out.println("mailbox              actors   bytes/actor   bytes/stopped actor");
+    report(SharedMailbox, actors);
+    for (final String mailbox : DedicatedMailboxes) {
+      report(mailbox, dedicatedActors);
+    }
+  }
+
+  private static void report(final String mailbox, final int actors) throws Exception {
+    final World world = World.startWithDefaults("footprint-" + mailbox);
+    try {
+      final String actorName = null;
+      final Definition definition = Definition.has(IdleActor.class, Definition.NoParameters, mailbox, actorName);
+      final Idle[] idles = new Idle[actors];
+
+      final int baselineCount = world.stage().count();
+
+      // load and generate everything an actor needs before the baseline
+      world.actorFor(definition, Idle.class).stop();
+      awaitCount(world, baselineCount);
+
+      final long baseline = usedHeap();
+
+      for (int index = 0; index < actors; ++index) {
+        idles[index] = world.actorFor(definition, Idle.class);
+      }
+
+      final long created = usedHeap();
+
+      for (int index = 0; index < actors; ++index) {
+        idles[index].stop();
+        idles[index] = null; // a proxy refers to its actor
+      }
+      awaitCount(world, baselineCount);
+
+      final long stopped = usedHeap();
+
+      System.out.println(String.format(
+              "%-18s %8d %13.1f %21.1f",
+              mailbox,
+              actors,
+              (double) (created - baseline) / actors,
+              (double) (stopped - baseline) / actors));
+    } finally {
+      world.terminate();
+    }
+  }
+
+  private static void awaitCount(final World world, final int count) throws InterruptedException {
+    while (world.stage().count() > count) {
+      Thread.sleep(10);
+    }
+  }
+
+  private static long usedHeap() throws InterruptedException {
+    for (int collections = 0; collections < 3; ++collections) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+
+  public static interface Idle extends Stoppable { }
+
+  public static class IdleActor extends Actor implements Idle { }
+}
@@ -0,0 +1,229 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.World;
+
+/**
+ * MailboxBenchmark compares the mailbox plugins named by {@code mailbox}, to
+ * which a future mailbox plugin is added by name:
+ * <ul>
+ * <li>{@code oneProducer}, {@code manyProducersOneActor} and {@code manyProducersManyActors}
+ * measure one-way throughput in messages per microsecond from one producer to one
+ * actor, from four producers to one actor, and from four producers each to its own
+ * actor. Each producer keeps at most {@code Window} messages in flight, so that the
+ * throughput is that of delivery rather than of filling an unbounded queue. The
+ * messages in flight at the end of an iteration are not awaited, because the
+ * {@code World} may be terminated as soon as the first thread finishes.</li>
+ * <li>{@code burst} sends {@code Burst} messages at once and waits for all to be
+ * delivered, reporting the time per message.</li>
+ * <li>{@code pingPong} reports the time of a round trip between two actors.</li>
+ * </ul>
+ * Every message is sent through a generated proxy, as an application sends it.
+ * Run with {@code -prof gc} to report allocations per message. Each fork runs
+ * with a fixed heap so that results are comparable from run to run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class MailboxBenchmark {
+  static final int Burst = 10_000;
+  static final int RoundTrips = 1_000;
+  static final int Window = 1_024;
+
+  @Param({ "queueMailbox", "ringMailbox", "arrayQueueMailbox" })
+  public String mailbox;
+
+  private Processed pingPongs;
+  private Pinger pinger;
+  private Ponger ponger;
+  private Receiver receiver;
+  private World world;
+
+  @Setup
+  public void setUp() {
+    world = World.startWithDefaults("mailbox-benchmark");
+    receiver = receiver();
+    pinger = world.actorFor(definitionOf(PingerActor.class), Pinger.class);
+    ponger = world.actorFor(definitionOf(PongerActor.class), Ponger.class);
+    pingPongs = new Processed();
+  }
+
+  @TearDown
+  public void tearDown() {
+    world.terminate();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void oneProducer(final Producer producer) {
+    producer.send(receiver);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void manyProducersOneActor(final Producer producer) {
+    producer.send(receiver);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void manyProducersManyActors(final Producer producer) {
+    producer.send(producer.receiver);
+  }
+
+  @Benchmark
+  @Threads(1)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @OperationsPerInvocation(Burst)
+  public void burst(final Producer producer) {
+    for (int count = 0; count < Burst; ++count) {
+      producer.receiver.receive(producer.processed);
+    }
+    producer.sent += Burst;
+    producer.awaitProcessed();
+  }
+
+  @Benchmark
+  @Threads(1)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @OperationsPerInvocation(RoundTrips)
+  public void pingPong() {
+    final long expected = pingPongs.count + 1;
+    pinger.start(ponger, RoundTrips, pingPongs);
+    while (pingPongs.count < expected) {
+      Thread.yield();
+    }
+  }
+
+  Receiver receiver() {
+    return world.actorFor(definitionOf(ReceiverActor.class), Receiver.class);
+  }
+
+  private Definition definitionOf(final Class<? extends Actor> type) {
+    final String actorName = null;
+    return Definition.has(type, Definition.NoParameters, mailbox, actorName);
+  }
+
+  /**
+   * Producer is the state of one benchmark thread: the count of messages it
+   * sent, the count of them processed, and its own receiver.
+   */
+  @State(Scope.Thread)
+  public static class Producer {
+    final Processed processed = new Processed();
+    Receiver receiver;
+    long sent;
+
+    @Setup
+    public void setUp(final MailboxBenchmark benchmark) {
+      receiver = benchmark.receiver();
+    }
+
+    void awaitProcessed() {
+      while (processed.count < sent) {
+        Thread.yield();
+      }
+    }
+
+    void send(final Receiver receiver) {
+      while (sent - processed.count >= Window) {
+        Thread.yield();
+      }
+      receiver.receive(processed);
+      ++sent;
+    }
+  }
+
+  /**
+   * Processed counts the messages processed for one producer. Only the one actor
+   * receiving from the producer writes it, so incrementing it needs no atomicity.
+   */
+  public static final class Processed {
+    volatile long count;
+  }
+
+  public static interface Receiver {
+    void receive(final Processed processed);
+  }
+
+  public static class ReceiverActor extends Actor implements Receiver {
+    @Override
+    public void receive(final Processed processed) {
+      processed.count = processed.count + 1;
+    }
+  }
+
+  public static interface Pinger {
+    void start(final Ponger ponger, final int roundTrips, final Processed done);
+    void pong();
+  }
+
+  public static interface Ponger {
+    void ping(final Pinger pinger);
+  }
+
+  public static class PingerActor extends Actor implements Pinger {
+    private Processed done;
+    private Ponger ponger;
+    private int remaining;
+    private final Pinger self;
+
+    public PingerActor() {
+      this.self = selfAs(Pinger.class);
+    }
+
+    @Override
+    public void start(final Ponger ponger, final int roundTrips, final Processed done) {
+      this.ponger = ponger;
+      this.remaining = roundTrips;
+      this.done = done;
+      ponger.ping(self);
+    }
+
+    @Override
+    public void pong() {
+      if (--remaining > 0) {
+        ponger.ping(self);
+      } else {
+        done.count = done.count + 1;
+      }
+    }
+  }
+
+  public static class PongerActor extends Actor implements Ponger {
+    @Override
+    public void ping(final Pinger pinger) {
+      pinger.pong();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vlingo.actors.pubsub.ConcurrentPublisher;
+import io.vlingo.actors.pubsub.DefaultPublisher;
+import io.vlingo.actors.pubsub.HierarchicalTopic;
+import io.vlingo.actors.pubsub.Message;
+import io.vlingo.actors.pubsub.Publisher;
+import io.vlingo.actors.pubsub.Subscriber;
+import io.vlingo.actors.pubsub.Topic;
+
+/**
+ * PublisherBenchmark measures the throughput of four threads publishing to
+ * {@code topics} hierarchical topics of one shared {@code Publisher}. The
+ * {@code DefaultPublisher} is only safe when its use is serialized, so it is
+ * measured behind a lock, as any shared use of it must be; the
+ * {@code ConcurrentPublisher} is measured as is.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class PublisherBenchmark {
+  private static final Message Tick = new Message() { };
+
+  @Param({ "1000" })
+  public int topics;
+
+  private Publisher concurrentPublisher;
+  private Publisher defaultPublisher;
+  private Topic[] published;
+
+  @Setup
+  public void setUp() {
+    concurrentPublisher = new ConcurrentPublisher();
+    defaultPublisher = new DefaultPublisher();
+    published = new Topic[topics];
+
+    final Subscriber<Message> all = new CountingSubscriber();
+    concurrentPublisher.subscribe(new HierarchicalTopic("market"), all);
+    defaultPublisher.subscribe(new HierarchicalTopic("market"), all);
+
+    for (int index = 0; index < topics; ++index) {
+      final Topic topic = new HierarchicalTopic("market/i" + index);
+      final Subscriber<Message> subscriber = new CountingSubscriber();
+      concurrentPublisher.subscribe(topic, subscriber);
+      defaultPublisher.subscribe(topic, subscriber);
+      published[index] = topic;
+    }
+  }
+
+  @Benchmark
+  public void publishConcurrent(final Producer producer) {
+    concurrentPublisher.publish(published[producer.next(topics)], Tick);
+  }
+
+  @Benchmark
+  public void publishSerialized(final Producer producer) {
+    final Topic topic = published[producer.next(topics)];
+    synchronized (defaultPublisher) {
+      defaultPublisher.publish(topic, Tick);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Producer {
+    private int next;
+
+    int next(final int topics) {
+      if (++next >= topics) next = 0;
+      return next;
+    }
+  }
+
+  private static class CountingSubscriber implements Subscriber<Message> {
+    private long received;
+
+    @Override
+    public void receive(final Message message) {
+      ++received;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.RoundRobinRoutingStrategy;
+import io.vlingo.actors.Router;
+import io.vlingo.actors.RouterSpecification;
+import io.vlingo.actors.World;
+
+/**
+ * RouterBenchmark compares routing through a computed {@code Routing}, which
+ * allocates per message, against routing through {@code computeRoutee()}, which
+ * does not. The {@code choose*} benchmarks measure only the routing decision;
+ * the {@code send*} benchmarks also send the message to the chosen routee.
+ * Run with {@code -prof gc} to report allocations per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouterBenchmark {
+  @Param({ "4" })
+  public int poolSize;
+
+  private RoutedRouterActor router;
+  private World world;
+
+  @Setup
+  public void setUp() {
+    world = World.startWithDefaults("router-benchmark");
+    world.actorFor(Definition.has(RoutedRouterActor.class, Definition.parameters(poolSize)), Routed.class);
+    router = RoutedRouterActor.instance;
+  }
+
+  @TearDown
+  public void tearDown() {
+    world.terminate();
+  }
+
+  @Benchmark
+  public Object chooseThroughRouting() {
+    return router.chooseThroughRouting();
+  }
+
+  @Benchmark
+  public Object chooseThroughRoutee() {
+    return router.chooseThroughRoutee();
+  }
+
+  @Benchmark
+  public void sendThroughRouting() {
+    router.sendThroughRouting();
+  }
+
+  @Benchmark
+  public void sendThroughRoutee() {
+    router.sendThroughRoutee();
+  }
+
+  public static interface Routed {
+    void route(final Object message);
+  }
+
+  public static class RoutedWorkerActor extends Actor implements Routed {
+    public Object lastMessage;
+
+    @Override
+    public void route(final Object message) {
+      lastMessage = message;
+    }
+  }
+
+  /**
+   * The benchmark thread is the only caller of this router's methods, so
+   * it is driven directly rather than through its mailbox.
+   */
+  public static class RoutedRouterActor extends Router implements Routed {
+    static volatile RoutedRouterActor instance;
+
+    private final Object message = new Object();
+
+    public RoutedRouterActor(final int poolSize) {
+      super(
+              new RouterSpecification(
+                      poolSize,
+                      Definition.has(RoutedWorkerActor.class, Definition.NoParameters),
+                      Routed.class),
+              new RoundRobinRoutingStrategy());
+
+      instance = this;
+    }
+
+    @Override
+    public void route(final Object message) {
+      computeRoutee(message).as(Routed.class).route(message);
+    }
+
+    Object chooseThroughRouting() {
+      return computeRouting(message).routeesAs(Routed.class);
+    }
+
+    Object chooseThroughRoutee() {
+      return computeRoutee(message).as(Routed.class);
+    }
+
+    void sendThroughRouting() {
+      computeRouting(message)
+        .routeesAs(Routed.class)
+        .forEach(routee -> routee.route(message));
+    }
+
+    void sendThroughRoutee() {
+      route(message);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vlingo.actors.pubsub.DefaultPublisher;
+import io.vlingo.actors.pubsub.HierarchicalTopic;
+import io.vlingo.actors.pubsub.Message;
+import io.vlingo.actors.pubsub.Publisher;
+import io.vlingo.actors.pubsub.Subscriber;
+import io.vlingo.actors.pubsub.Topic;
+
+/**
+ * SubscriptionsBenchmark publishes to {@code topics} distinct hierarchical topics,
+ * each of {@code market/r<region>/s<sector>/i<instrument>} with its own subscriber,
+ * and with further subscribers of the {@code market} and region topics. Every
+ * publish therefore reaches three subscribers. Run with {@code -prof gc} to report
+ * allocations per publish.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubscriptionsBenchmark {
+  private static final Message Tick = new Message() { };
+  private static final int Regions = 10;
+  private static final int Sectors = 1000;
+
+  @Param({ "100000" })
+  public int topics;
+
+  private int next;
+  private Publisher publisher;
+  private CountingSubscriber subscriber;
+  private Topic[] published;
+
+  @Setup
+  public void setUp() {
+    publisher = new DefaultPublisher();
+    subscriber = new CountingSubscriber();
+    published = new Topic[topics];
+
+    publisher.subscribe(new HierarchicalTopic("market"), new CountingSubscriber());
+    for (int region = 0; region < Regions; ++region) {
+      publisher.subscribe(new HierarchicalTopic("market/r" + region), new CountingSubscriber());
+    }
+
+    for (int index = 0; index < topics; ++index) {
+      final String name = "market/r" + (index % Regions) + "/s" + (index % Sectors) + "/i" + index;
+      publisher.subscribe(new HierarchicalTopic(name), subscriber);
+      published[index] = new HierarchicalTopic(name);
+    }
+  }
+
+  @Benchmark
+  public void publish() {
+    publisher.publish(published[next], Tick);
+    if (++next == published.length) next = 0;
+  }
+
+  private static class CountingSubscriber implements Subscriber<Message> {
+    long received;
+
+    @Override
+    public void receive(final Message message) {
+      ++received;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.World;
+
+/**
+ * VirtualThreadDispatcherBenchmark compares the {@code ExecutorDispatcher} of the
+ * {@code queueMailbox} with the {@code VirtualThreadDispatcher} of the
+ * {@code virtualThreadMailbox}, by the time per message of sending one message to
+ * each of {@code Workers} actors and waiting for all to be delivered. A
+ * {@code nonBlocking} handler only counts the message, and a {@code blocking} one
+ * first sleeps for {@code BlockMillis}, as if on I/O. The
+ * {@code virtualThreadMailbox} is in the separate {@code virtualthreads} module,
+ * which is added to the benchmarks when they are built and run on Java 21 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class VirtualThreadDispatcherBenchmark {
+  static final long BlockMillis = 1;
+  static final int Workers = 100;
+
+  @Param({ "queueMailbox", "virtualThreadMailbox" })
+  public String mailbox;
+
+  @Param({ "nonBlocking", "blocking" })
+  public String handler;
+
+  private final AtomicLong processed = new AtomicLong();
+  private long sent;
+  private World world;
+  private final List<Worker> workers = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    final Properties properties = new Properties();
+    properties.setProperty("plugin.name.virtualThreadMailbox", "true");
+    properties.setProperty("plugin.virtualThreadMailbox.classname", "io.vlingo.actors.plugin.mailbox.virtualthread.VirtualThreadMailboxPlugin");
+    properties.setProperty("plugin.virtualThreadMailbox.defaultMailbox", "false");
+
+    world = World.start("virtual-thread-dispatcher-benchmark",
+            "virtualThreadMailbox".equals(mailbox) ? Configuration.defineAlongWith(properties) : Configuration.define());
+
+    final long blockMillis = "blocking".equals(handler) ? BlockMillis : 0;
+    final String actorName = null;
+    for (int count = 0; count < Workers; ++count) {
+      workers.add(world.actorFor(Definition.has(WorkerActor.class, Definition.parameters(processed, blockMillis), mailbox, actorName), Worker.class));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    world.terminate();
+  }
+
+  @Benchmark
+  @Threads(1)
+  @OperationsPerInvocation(Workers)
+  public void fanOut() {
+    for (final Worker worker : workers) {
+      worker.work();
+    }
+    sent += Workers;
+    while (processed.get() < sent) {
+      Thread.yield();
+    }
+  }
+
+  public static interface Worker {
+    void work();
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    private final long blockMillis;
+    private final AtomicLong processed;
+
+    public WorkerActor(final AtomicLong processed, final long blockMillis) {
+      this.processed = processed;
+      this.blockMillis = blockMillis;
+    }
+
+    @Override
+    public void work() {
+      if (blockMillis > 0) {
+        try {
+          Thread.sleep(blockMillis);
+        } catch (InterruptedException e) {
+          // done
+        }
+      }
+      processed.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,127 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * ActorEvents are the Java Flight Recorder events committed by the
+ * {@link JfrRuntimeListener}, each named {@code io.vlingo.actors.<Event>} so that
+ * they may be enabled and disabled in a recording's settings. An {@code Actor} is
+ * identified by its simple type name and address id, such as {@code Greeter@42}.
+ */
+public final class ActorEvents {
+  public static final String CategoryName = "vlingo";
+  public static final String Prefix = "io.vlingo.actors.";
+
+  @Name(Prefix + "ActorCreated")
+  @Label("Actor Created")
+  @Category({ CategoryName, "Actors" })
+  @StackTrace(false)
+  public static final class ActorCreatedEvent extends Event {
+    @Label("Actor")
+    public String actor;
+  }
+
+  @Name(Prefix + "ActorStopped")
+  @Label("Actor Stopped")
+  @Category({ CategoryName, "Actors" })
+  @StackTrace(false)
+  public static final class ActorStoppedEvent extends Event {
+    @Label("Actor")
+    public String actor;
+  }
+
+  @Name(Prefix + "ActorFailed")
+  @Label("Actor Failed")
+  @Description("An actor threw while handling a message, and is about to be supervised")
+  @Category({ CategoryName, "Supervision" })
+  public static final class ActorFailedEvent extends Event {
+    @Label("Actor")
+    public String actor;
+
+    @Label("Message")
+    public String representation;
+
+    @Label("Exception Class")
+    public Class<?> exceptionClass;
+
+    @Label("Exception Message")
+    public String exceptionMessage;
+  }
+
+  @Name(Prefix + "DeadLetter")
+  @Label("Dead Letter")
+  @Category({ CategoryName, "Messages" })
+  @StackTrace(false)
+  public static final class DeadLetterEvent extends Event {
+    @Label("Actor")
+    public String actor;
+
+    @Label("Message")
+    public String representation;
+  }
+
+  @Name(Prefix + "MessageDelivered")
+  @Label("Message Delivered")
+  @Description("A message delivered to an actor, if its handler time reached the delivered threshold")
+  @Category({ CategoryName, "Messages" })
+  @StackTrace(false)
+  public static final class MessageDeliveredEvent extends Event {
+    @Label("Actor")
+    public String actor;
+
+    @Label("Message")
+    public String representation;
+
+    @Label("Mailbox Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long mailboxWait;
+
+    @Label("Handler Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long handlerTime;
+  }
+
+  @Name(Prefix + "MessageEnqueued")
+  @Label("Message Enqueued")
+  @Description("One in every sampled number of messages enqueued for actors")
+  @Category({ CategoryName, "Messages" })
+  @StackTrace(false)
+  public static final class MessageEnqueuedEvent extends Event {
+    @Label("Actor")
+    public String actor;
+
+    @Label("Message")
+    public String representation;
+  }
+
+  @Name(Prefix + "ProxyGenerated")
+  @Label("Proxy Generated")
+  @Category({ CategoryName, "Actors" })
+  @StackTrace(false)
+  public static final class ProxyGeneratedEvent extends Event {
+    @Label("Protocol")
+    public Class<?> protocol;
+
+    @Label("Proxy Class Name")
+    public String proxyClassname;
+
+    @Label("Generation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long elapsed;
+  }
+
+  private ActorEvents() { }
+}
@@ -0,0 +1,108 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.jfr;
+
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.Registrar;
+import io.vlingo.actors.plugin.AbstractPlugin;
+import io.vlingo.actors.plugin.Plugin;
+import io.vlingo.actors.plugin.PluginConfiguration;
+import io.vlingo.actors.plugin.PluginProperties;
+
+/**
+ * JfrPlugin registers a {@link JfrRuntimeListener} with the {@code World}, so that
+ * its {@code Actor}s commit Java Flight Recorder events. It is enabled in the
+ * {@code vlingo-actors.properties} by:
+ * <pre>
+ * plugin.name.jfr = true
+ * plugin.jfr.classname = io.vlingo.actors.plugin.jfr.JfrPlugin
+ * plugin.jfr.deliveredThreshold = 1000000
+ * plugin.jfr.enqueuedSampleEvery = 1000
+ * </pre>
+ */
+public class JfrPlugin extends AbstractPlugin implements Plugin {
+  private final JfrPluginConfiguration jfrPluginConfiguration;
+
+  public JfrPlugin() {
+    this.jfrPluginConfiguration = JfrPluginConfiguration.define();
+  }
+
+  @Override
+  public void close() { }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return jfrPluginConfiguration;
+  }
+
+  @Override
+  public String name() {
+    return jfrPluginConfiguration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    registrar.registerRuntimeListener(
+            new JfrRuntimeListener(
+                    jfrPluginConfiguration.deliveredThreshold(),
+                    jfrPluginConfiguration.enqueuedSampleEvery()));
+  }
+
+  public static class JfrPluginConfiguration implements PluginConfiguration {
+    public static final long DefaultDeliveredThreshold = 1_000_000L; // 1 millisecond of nanoseconds
+    public static final long DefaultEnqueuedSampleEvery = 1_000L;
+
+    private long deliveredThreshold = DefaultDeliveredThreshold;
+    private long enqueuedSampleEvery = DefaultEnqueuedSampleEvery;
+    private String name = "jfr";
+
+    public static JfrPluginConfiguration define() {
+      return new JfrPluginConfiguration();
+    }
+
+    public JfrPluginConfiguration deliveredThreshold(final long deliveredThreshold) {
+      this.deliveredThreshold = deliveredThreshold;
+      return this;
+    }
+
+    public long deliveredThreshold() {
+      return deliveredThreshold;
+    }
+
+    public JfrPluginConfiguration enqueuedSampleEvery(final long enqueuedSampleEvery) {
+      this.enqueuedSampleEvery = enqueuedSampleEvery;
+      return this;
+    }
+
+    public long enqueuedSampleEvery() {
+      return enqueuedSampleEvery;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      deliveredThreshold(DefaultDeliveredThreshold).enqueuedSampleEvery(DefaultEnqueuedSampleEvery);
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+      this.deliveredThreshold = properties.getLong("deliveredThreshold", DefaultDeliveredThreshold);
+      this.enqueuedSampleEvery = properties.getLong("enqueuedSampleEvery", DefaultEnqueuedSampleEvery);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,138 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.jfr;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.DeadLetter;
+import io.vlingo.actors.RuntimeListener;
+import io.vlingo.actors.plugin.jfr.ActorEvents.ActorCreatedEvent;
+import io.vlingo.actors.plugin.jfr.ActorEvents.ActorFailedEvent;
+import io.vlingo.actors.plugin.jfr.ActorEvents.ActorStoppedEvent;
+import io.vlingo.actors.plugin.jfr.ActorEvents.DeadLetterEvent;
+import io.vlingo.actors.plugin.jfr.ActorEvents.MessageDeliveredEvent;
+import io.vlingo.actors.plugin.jfr.ActorEvents.MessageEnqueuedEvent;
+import io.vlingo.actors.plugin.jfr.ActorEvents.ProxyGeneratedEvent;
+
+/**
+ * JfrRuntimeListener commits the {@link ActorEvents} to Java Flight Recorder.
+ * Every event is committed only when enabled in the current recording, and so
+ * costs next to nothing when no recording is running. Because messages are many,
+ * a {@code MessageDelivered} event is committed only when the handler time reaches
+ * {@code deliveredThreshold}, and a {@code MessageEnqueued} event only for one in
+ * every {@code enqueuedSampleEvery} messages enqueued, or for none if it is {@code 0}.
+ * The enqueued messages are sampled at random by each sending thread, so that the
+ * senders share no counter, and only while the event is enabled. The time waited in
+ * the mailbox is asked of the runtime only while {@code MessageDelivered} is enabled.
+ */
+public final class JfrRuntimeListener implements RuntimeListener {
+  private final long deliveredThreshold;
+  private final long enqueuedSampleEvery;
+
+  /**
+   * Constructs my state.
+   * @param deliveredThreshold the long nanoseconds of handler time at which a delivery is committed
+   * @param enqueuedSampleEvery the long number of messages enqueued per one committed, or 0 for none
+   */
+  public JfrRuntimeListener(final long deliveredThreshold, final long enqueuedSampleEvery) {
+    if (deliveredThreshold < 0) throw new IllegalArgumentException("deliveredThreshold must not be negative");
+    if (enqueuedSampleEvery < 0) throw new IllegalArgumentException("enqueuedSampleEvery must not be negative");
+
+    this.deliveredThreshold = deliveredThreshold;
+    this.enqueuedSampleEvery = enqueuedSampleEvery;
+  }
+
+  @Override
+  public void actorCreated(final Actor actor) {
+    final ActorCreatedEvent event = new ActorCreatedEvent();
+    if (event.isEnabled()) {
+      event.actor = nameOf(actor);
+      event.commit();
+    }
+  }
+
+  @Override
+  public void actorStopped(final Actor actor) {
+    final ActorStoppedEvent event = new ActorStoppedEvent();
+    if (event.isEnabled()) {
+      event.actor = nameOf(actor);
+      event.commit();
+    }
+  }
+
+  @Override
+  public void deadLetter(final DeadLetter deadLetter) {
+    final DeadLetterEvent event = new DeadLetterEvent();
+    if (event.isEnabled()) {
+      event.actor = nameOf(deadLetter.actor);
+      event.representation = deadLetter.representation;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void failed(final Actor actor, final String representation, final Throwable throwable) {
+    final ActorFailedEvent event = new ActorFailedEvent();
+    if (event.isEnabled()) {
+      event.actor = nameOf(actor);
+      event.representation = representation;
+      event.exceptionClass = throwable.getClass();
+      event.exceptionMessage = throwable.getMessage();
+      event.commit();
+    }
+  }
+
+  @Override
+  public void messageDelivered(final Actor actor, final String representation, final long mailboxWait, final long handlerTime) {
+    if (handlerTime < deliveredThreshold) {
+      return;
+    }
+    final MessageDeliveredEvent event = new MessageDeliveredEvent();
+    if (event.isEnabled()) {
+      event.actor = nameOf(actor);
+      event.representation = representation;
+      event.mailboxWait = mailboxWait;
+      event.handlerTime = handlerTime;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void messageEnqueued(final Actor actor, final String representation) {
+    if (enqueuedSampleEvery == 0) {
+      return;
+    }
+    final MessageEnqueuedEvent event = new MessageEnqueuedEvent();
+    if (event.isEnabled() && ThreadLocalRandom.current().nextLong(enqueuedSampleEvery) == 0) {
+      event.actor = nameOf(actor);
+      event.representation = representation;
+      event.commit();
+    }
+  }
+
+  @Override
+  public boolean requiresMailboxWait() {
+    return new MessageDeliveredEvent().isEnabled();
+  }
+
+  @Override
+  public void proxyGenerated(final Class<?> protocol, final String proxyClassname, final long elapsed) {
+    final ProxyGeneratedEvent event = new ProxyGeneratedEvent();
+    if (event.isEnabled()) {
+      event.protocol = protocol;
+      event.proxyClassname = proxyClassname;
+      event.elapsed = elapsed;
+      event.commit();
+    }
+  }
+
+  private String nameOf(final Actor actor) {
+    return actor.getClass().getSimpleName() + "@" + actor.address().id();
+  }
+}
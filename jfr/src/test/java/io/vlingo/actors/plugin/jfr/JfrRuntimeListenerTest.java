@@ -0,0 +1,156 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.World;
+import io.vlingo.actors.testkit.TestUntil;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrRuntimeListenerTest {
+
+  @Test
+  public void testThatActorEventsAreRecorded() throws Exception {
+    final Map<String, Integer> counts;
+
+    try (final Recording recording = new Recording()) {
+      enableAll(recording);
+      recording.start();
+
+      final World world = World.start("jfr-test");
+      try {
+        PingActor.until = TestUntil.happenings(3);
+        final Ping ping = world.actorFor(Definition.has(PingActor.class, Definition.NoParameters, "arrayQueueMailbox", "ping"), Ping.class);
+        ping.ping();
+        ping.ping();
+        ping.fail();
+        PingActor.until.completes();
+
+        PingActor.instance.stop();
+        ping.ping();
+      } finally {
+        world.terminate();
+      }
+
+      recording.stop();
+      counts = countsOf(recording);
+    }
+
+    assertEquals(1, (int) counts.getOrDefault("ActorCreated:PingActor", 0));
+    assertEquals(1, (int) counts.getOrDefault("ActorStopped:PingActor", 0));
+    assertEquals(1, (int) counts.getOrDefault("ActorFailed:PingActor", 0));
+    assertEquals(1, (int) counts.getOrDefault("DeadLetter:PingActor", 0));
+    assertEquals(2, (int) counts.getOrDefault("MessageDelivered:PingActor", 0)); // fail() threw
+    assertEquals(3, (int) counts.getOrDefault("MessageEnqueued:PingActor", 0));
+  }
+
+  @Test
+  public void testThatThresholdAndSamplingFilterMessages() throws Exception {
+    final JfrRuntimeListener listener = new JfrRuntimeListener(Long.MAX_VALUE, 0);
+    final Map<String, Integer> counts;
+
+    try (final Recording recording = new Recording()) {
+      enableAll(recording);
+      recording.start();
+
+      listener.messageDelivered(null, "ping()", 10, 10);
+      listener.messageEnqueued(null, "ping()");
+      listener.proxyGenerated(Ping.class, "JfrRuntimeListenerTestPing__Proxy", 1000);
+
+      recording.stop();
+      counts = countsOf(recording);
+    }
+
+    assertEquals(0, (int) counts.getOrDefault("MessageDelivered:", 0));
+    assertEquals(0, (int) counts.getOrDefault("MessageEnqueued:", 0));
+    assertEquals(1, (int) counts.getOrDefault("ProxyGenerated:", 0));
+  }
+
+  @Test
+  public void testThatMailboxWaitIsRequiredOnlyWhileDeliveredIsRecorded() {
+    final JfrRuntimeListener listener = new JfrRuntimeListener(0, 1);
+
+    assertFalse(listener.requiresMailboxWait());
+
+    try (final Recording recording = new Recording()) {
+      enableAll(recording);
+      recording.start();
+
+      assertTrue(listener.requiresMailboxWait());
+
+      recording.stop();
+    }
+
+    assertFalse(listener.requiresMailboxWait());
+  }
+
+  private void enableAll(final Recording recording) {
+    for (final Class<?> eventClass : ActorEvents.class.getClasses()) {
+      recording.enable(eventClass.asSubclass(Event.class));
+    }
+  }
+
+  private Map<String, Integer> countsOf(final Recording recording) throws Exception {
+    final Path file = Files.createTempFile("vlingo-actors", ".jfr");
+    try {
+      recording.dump(file);
+      final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      final Map<String, Integer> counts = new HashMap<>();
+      for (final RecordedEvent event : events) {
+        final String name = event.getEventType().getName().substring(ActorEvents.Prefix.length());
+        final String actor = event.hasField("actor") ? event.getString("actor") : "";
+        final String key = name + ":" + (actor.isEmpty() ? "" : actor.substring(0, actor.indexOf('@')));
+        counts.merge(key, 1, Integer::sum);
+      }
+      return counts;
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  public static interface Ping {
+    void ping();
+    void fail();
+  }
+
+  public static class PingActor extends Actor implements Ping {
+    static volatile PingActor instance;
+    static TestUntil until;
+
+    public PingActor() {
+      instance = this;
+    }
+
+    @Override
+    public void ping() {
+      until.happened();
+    }
+
+    @Override
+    public void fail() {
+      until.happened();
+      throw new IllegalStateException("failed by request");
+    }
+  }
+}
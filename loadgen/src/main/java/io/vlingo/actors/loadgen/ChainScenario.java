@@ -0,0 +1,61 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.World;
+
+/**
+ * ChainScenario sends each {@link Request} to the first of {@code actors} hops,
+ * each of which forwards it to the next, and completes it at the last hop.
+ */
+public class ChainScenario implements Scenario {
+  private Hop first;
+
+  @Override
+  public void start(final World world, final LoadOptions options, final LatencyRecorder recorder) {
+    Hop next = null;
+    for (int count = 0; count < options.actors(); ++count) {
+      next = world.actorFor(Scenario.definitionOf(HopActor.class, options, next, recorder), Hop.class);
+    }
+    first = next;
+  }
+
+  @Override
+  public void send(final Request request) {
+    first.hop(request);
+  }
+
+  public static interface Hop {
+    void hop(final Request request);
+  }
+
+  public static class HopActor extends Actor implements Hop {
+    private final Hop next;
+    private final LatencyRecorder recorder;
+
+    /**
+     * Constructs my state.
+     * @param next the Hop to which I forward, or null if I am the last
+     * @param recorder the LatencyRecorder told when I am the last
+     */
+    public HopActor(final Hop next, final LatencyRecorder recorder) {
+      this.next = next;
+      this.recorder = recorder;
+    }
+
+    @Override
+    public void hop(final Request request) {
+      if (next != null) {
+        next.hop(request);
+      } else {
+        recorder.completed(request);
+      }
+    }
+  }
+}
@@ -0,0 +1,77 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.World;
+
+/**
+ * FanOutScenario sends each {@link Request} to one coordinator, which fans it
+ * out to all {@code actors} workers and completes it when all of them have
+ * answered, fanning in.
+ */
+public class FanOutScenario implements Scenario {
+  private Coordinator coordinator;
+
+  @Override
+  public void start(final World world, final LoadOptions options, final LatencyRecorder recorder) {
+    final Worker[] workers = new Worker[options.actors()];
+    for (int index = 0; index < workers.length; ++index) {
+      workers[index] = world.actorFor(Scenario.definitionOf(WorkerActor.class, options), Worker.class);
+    }
+    coordinator = world.actorFor(Scenario.definitionOf(CoordinatorActor.class, options, workers, recorder), Coordinator.class);
+  }
+
+  @Override
+  public void send(final Request request) {
+    coordinator.fanOut(request);
+  }
+
+  public static interface Coordinator {
+    void fanOut(final Request request);
+    void answered(final Request request);
+  }
+
+  public static interface Worker {
+    void work(final Coordinator coordinator, final Request request);
+  }
+
+  public static class CoordinatorActor extends Actor implements Coordinator {
+    private final LatencyRecorder recorder;
+    private final Coordinator self;
+    private final Worker[] workers;
+
+    public CoordinatorActor(final Worker[] workers, final LatencyRecorder recorder) {
+      this.workers = workers;
+      this.recorder = recorder;
+      this.self = selfAs(Coordinator.class);
+    }
+
+    @Override
+    public void fanOut(final Request request) {
+      request.expecting(workers.length);
+      for (final Worker worker : workers) {
+        worker.work(self, request);
+      }
+    }
+
+    @Override
+    public void answered(final Request request) {
+      if (request.arrived()) {
+        recorder.completed(request);
+      }
+    }
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    @Override
+    public void work(final Coordinator coordinator, final Request request) {
+      coordinator.answered(request);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vlingo.actors.Histogram;
+
+/**
+ * LatencyRecorder records the latency of every completed {@link Request} twice:
+ * corrected, from the time the schedule intended it to be sent, and uncorrected,
+ * from the time it was actually sent. When the system under load stalls, the
+ * generator sends late, and the uncorrected latency omits the time requests
+ * waited to be sent at all, which is coordinated omission. The corrected latency
+ * is what a client sending at the requested rate would observe.
+ */
+public final class LatencyRecorder {
+  private static final long HighestTrackableValue = 60_000_000_000L; // 1 minute of nanoseconds
+  private static final int SubBucketBits = 10; // about three significant digits
+
+  private final AtomicLong completed;
+  private final Histogram corrected;
+  private final Histogram uncorrected;
+
+  public LatencyRecorder() {
+    this.completed = new AtomicLong();
+    this.corrected = new Histogram(SubBucketBits, HighestTrackableValue);
+    this.uncorrected = new Histogram(SubBucketBits, HighestTrackableValue);
+  }
+
+  /**
+   * Records that {@code request} completed now, if it is measured.
+   * @param request the Request that completed
+   */
+  public void completed(final Request request) {
+    if (request.measured) {
+      final long now = System.nanoTime();
+      corrected.record(now - request.intended);
+      uncorrected.record(now - request.sent);
+      completed.incrementAndGet();
+    }
+  }
+
+  /**
+   * Answers the count of measured requests completed.
+   * @return long
+   */
+  public long completedCount() {
+    return completed.get();
+  }
+
+  public Histogram.Snapshot corrected() {
+    return corrected.snapshot();
+  }
+
+  public Histogram.Snapshot uncorrected() {
+    return uncorrected.snapshot();
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.vlingo.actors.World;
+
+/**
+ * LoadGenerator runs one {@link Scenario} at a fixed rate of requests per second
+ * and reports its throughput and latency percentiles, so that deployments can be
+ * sized from numbers measured on the hardware that will run them:
+ * <pre>
+ * java -jar target/loadgen.jar --scenario=fanOut --actors=8 --mailbox=queueMailbox --rate=50000 --duration=30
+ * </pre>
+ * The requests are sent on a schedule fixed in advance, from one thread, whether
+ * or not earlier requests have completed, and the latency of each is measured
+ * from the time the schedule intended it to be sent. So when the actors fall
+ * behind, the latency includes the time requests waited to be sent, rather than
+ * hiding it as a generator that waits for each answer would. The requests of the
+ * warm-up are sent on the same schedule but not recorded.
+ */
+public final class LoadGenerator {
+  private static final long DrainTimeout = TimeUnit.SECONDS.toNanos(10);
+  private static final long ParkThreshold = TimeUnit.MICROSECONDS.toNanos(200);
+  private static final long ParkMargin = TimeUnit.MICROSECONDS.toNanos(100);
+
+  public static void main(final String[] args) {
+    final LoadOptions options;
+    try {
+      options = LoadOptions.parse(args);
+      Scenario.named(options.scenario());
+    } catch (IllegalArgumentException e) {
+      System.err.println(e.getMessage());
+      System.err.println("Usage: java -jar loadgen.jar [--scenario=chain|fanOut|pingPong|pubSub|requestReply|router]");
+      System.err.println("         [--actors=4] [--mailbox=queueMailbox] [--rate=10000] [--duration=10] [--warmup=2]");
+      System.exit(1);
+      return;
+    }
+    System.out.print(run(options).report());
+    System.exit(0);
+  }
+
+  /**
+   * Answers the {@code LoadResult} of running the scenario of {@code options} in a
+   * {@code World} of its own, which is terminated before answering.
+   * @param options the LoadOptions of the run
+   * @return LoadResult
+   */
+  public static LoadResult run(final LoadOptions options) {
+    final Scenario scenario = Scenario.named(options.scenario());
+    final LatencyRecorder recorder = new LatencyRecorder();
+    final World world = World.startWithDefaults("loadgen-" + options.scenario());
+
+    try {
+      scenario.start(world, options, recorder);
+
+      final double interval = 1_000_000_000.0 / options.rate();
+      final long start = System.nanoTime();
+      final long measuredFrom = start + TimeUnit.SECONDS.toNanos(options.warmup());
+      final long end = measuredFrom + TimeUnit.SECONDS.toNanos(options.duration());
+
+      long sent = 0;
+      for (long index = 0; ; ++index) {
+        final long intended = start + (long) (index * interval);
+        if (intended >= end) {
+          break;
+        }
+        final long now = awaitUntil(intended);
+        final boolean measured = intended >= measuredFrom;
+        scenario.send(new Request(intended, now, measured));
+        if (measured) {
+          ++sent;
+        }
+      }
+
+      final long drainDeadline = System.nanoTime() + DrainTimeout;
+      while (recorder.completedCount() < sent && System.nanoTime() < drainDeadline) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+      }
+
+      return new LoadResult(options, sent, recorder, System.nanoTime() - measuredFrom, world.timeToFirstMessage());
+    } finally {
+      world.terminate();
+    }
+  }
+
+  /**
+   * Answers the current time once it is at least {@code intended}, or at once
+   * if the generator is already late.
+   */
+  private static long awaitUntil(final long intended) {
+    long now = System.nanoTime();
+    while (now < intended) {
+      final long remaining = intended - now;
+      if (remaining > ParkThreshold) {
+        LockSupport.parkNanos(remaining - ParkMargin);
+      } else {
+        Thread.yield();
+      }
+      now = System.nanoTime();
+    }
+    return now;
+  }
+
+  private LoadGenerator() { }
+}
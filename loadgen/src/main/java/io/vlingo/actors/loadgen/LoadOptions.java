@@ -0,0 +1,143 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+/**
+ * LoadOptions are the options of one run of the {@link LoadGenerator}, each given
+ * on the command line as {@code --name=value}.
+ */
+public final class LoadOptions {
+  private int actors = 4;
+  private int duration = 10;
+  private String mailbox = "queueMailbox";
+  private int rate = 10_000;
+  private String scenario = "pingPong";
+  private int warmup = 2;
+
+  public static LoadOptions define() {
+    return new LoadOptions();
+  }
+
+  /**
+   * Answers the {@code LoadOptions} parsed from {@code args}, each of the form
+   * {@code --name=value}, with the defaults for those not given.
+   * @param args the String[] command line arguments
+   * @return LoadOptions
+   */
+  public static LoadOptions parse(final String[] args) {
+    final LoadOptions options = define();
+    for (final String arg : args) {
+      final int equals = arg.indexOf('=');
+      if (!arg.startsWith("--") || equals < 0) {
+        throw new IllegalArgumentException("Expected --name=value but was: " + arg);
+      }
+      final String name = arg.substring(2, equals);
+      final String value = arg.substring(equals + 1);
+      switch (name) {
+      case "actors":
+        options.actors(Integer.parseInt(value));
+        break;
+      case "duration":
+        options.duration(Integer.parseInt(value));
+        break;
+      case "mailbox":
+        options.mailbox(value);
+        break;
+      case "rate":
+        options.rate(Integer.parseInt(value));
+        break;
+      case "scenario":
+        options.scenario(value);
+        break;
+      case "warmup":
+        options.warmup(Integer.parseInt(value));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown option: --" + name);
+      }
+    }
+    return options;
+  }
+
+  /**
+   * Sets the number of actors of the scenario: the pairs of {@code pingPong},
+   * the workers of {@code fanOut} and {@code router}, the hops of {@code chain},
+   * the servers of {@code requestReply}, and the subscribers of {@code pubSub}.
+   * @param actors the int number of actors
+   * @return LoadOptions
+   */
+  public LoadOptions actors(final int actors) {
+    if (actors < 1) throw new IllegalArgumentException("actors must be at least 1");
+    this.actors = actors;
+    return this;
+  }
+
+  public int actors() {
+    return actors;
+  }
+
+  public LoadOptions duration(final int seconds) {
+    if (seconds < 1) throw new IllegalArgumentException("duration must be at least 1 second");
+    this.duration = seconds;
+    return this;
+  }
+
+  public int duration() {
+    return duration;
+  }
+
+  public LoadOptions mailbox(final String mailbox) {
+    this.mailbox = mailbox;
+    return this;
+  }
+
+  public String mailbox() {
+    return mailbox;
+  }
+
+  /**
+   * Sets the number of requests per second sent on schedule, regardless of
+   * how quickly they complete.
+   * @param requestsPerSecond the int rate
+   * @return LoadOptions
+   */
+  public LoadOptions rate(final int requestsPerSecond) {
+    if (requestsPerSecond < 1) throw new IllegalArgumentException("rate must be at least 1 per second");
+    this.rate = requestsPerSecond;
+    return this;
+  }
+
+  public int rate() {
+    return rate;
+  }
+
+  public LoadOptions scenario(final String scenario) {
+    this.scenario = scenario;
+    return this;
+  }
+
+  public String scenario() {
+    return scenario;
+  }
+
+  public LoadOptions warmup(final int seconds) {
+    if (seconds < 0) throw new IllegalArgumentException("warmup must not be negative");
+    this.warmup = seconds;
+    return this;
+  }
+
+  public int warmup() {
+    return warmup;
+  }
+
+  @Override
+  public String toString() {
+    return "scenario=" + scenario + " actors=" + actors + " mailbox=" + mailbox +
+            " rate=" + rate + "/s duration=" + duration + "s warmup=" + warmup + "s";
+  }
+}
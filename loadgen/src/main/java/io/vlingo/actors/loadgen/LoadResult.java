@@ -0,0 +1,74 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import io.vlingo.actors.Histogram;
+
+/**
+ * LoadResult is the outcome of one run of the {@link LoadGenerator}: the counts
+ * of the measured requests sent and completed, the throughput at which they
+ * completed, their latencies with and without the correction for coordinated
+ * omission, and the time from the start of its {@code World} to its first message.
+ */
+public final class LoadResult {
+  public final long completed;
+  public final Histogram.Snapshot corrected;
+  public final long elapsed;
+  public final LoadOptions options;
+  public final long sent;
+  public final long timeToFirstMessage;
+  public final Histogram.Snapshot uncorrected;
+
+  LoadResult(final LoadOptions options, final long sent, final LatencyRecorder recorder, final long elapsed, final long timeToFirstMessage) {
+    this.options = options;
+    this.sent = sent;
+    this.completed = recorder.completedCount();
+    this.corrected = recorder.corrected();
+    this.uncorrected = recorder.uncorrected();
+    this.elapsed = elapsed;
+    this.timeToFirstMessage = timeToFirstMessage;
+  }
+
+  /**
+   * Answers the {@code double} measured requests completed per second.
+   * @return double
+   */
+  public double throughput() {
+    return elapsed == 0 ? 0 : completed * 1_000_000_000.0 / elapsed;
+  }
+
+  /**
+   * Answers my report as printed by the {@code LoadGenerator}, with latencies in microseconds.
+   * @return String
+   */
+  public String report() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append(options).append('\n');
+    builder.append(String.format("sent %d, completed %d, throughput %.1f requests/s%n", sent, completed, throughput()));
+    builder.append(String.format("time to first message %.1f ms%n", timeToFirstMessage / 1_000_000.0));
+    builder.append(String.format("%-12s %10s %10s %10s %10s %10s%n", "latency (us)", "p50", "p99", "p99.9", "max", "mean"));
+    builder.append(row("corrected", corrected));
+    builder.append(row("uncorrected", uncorrected));
+    return builder.toString();
+  }
+
+  private String row(final String name, final Histogram.Snapshot latencies) {
+    return String.format(
+            "%-12s %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+            name,
+            micros(latencies.valueAtPercentile(50.0)),
+            micros(latencies.valueAtPercentile(99.0)),
+            micros(latencies.valueAtPercentile(99.9)),
+            micros(latencies.max()),
+            latencies.mean() / 1_000.0);
+  }
+
+  private double micros(final long nanos) {
+    return nanos / 1_000.0;
+  }
+}
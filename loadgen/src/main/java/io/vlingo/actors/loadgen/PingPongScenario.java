@@ -0,0 +1,73 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.World;
+
+/**
+ * PingPongScenario sends each {@link Request} to one of {@code actors} pairs, in
+ * turn, and completes it when its pinger has received the pong of its ponger.
+ */
+public class PingPongScenario implements Scenario {
+  private int next;
+  private Pinger[] pingers;
+
+  @Override
+  public void start(final World world, final LoadOptions options, final LatencyRecorder recorder) {
+    pingers = new Pinger[options.actors()];
+    for (int index = 0; index < pingers.length; ++index) {
+      final Ponger ponger = world.actorFor(Scenario.definitionOf(PongerActor.class, options), Ponger.class);
+      pingers[index] = world.actorFor(Scenario.definitionOf(PingerActor.class, options, ponger, recorder), Pinger.class);
+    }
+  }
+
+  @Override
+  public void send(final Request request) {
+    pingers[next].start(request);
+    next = (next + 1) % pingers.length;
+  }
+
+  public static interface Pinger {
+    void start(final Request request);
+    void pong(final Request request);
+  }
+
+  public static interface Ponger {
+    void ping(final Pinger pinger, final Request request);
+  }
+
+  public static class PingerActor extends Actor implements Pinger {
+    private final Ponger ponger;
+    private final LatencyRecorder recorder;
+    private final Pinger self;
+
+    public PingerActor(final Ponger ponger, final LatencyRecorder recorder) {
+      this.ponger = ponger;
+      this.recorder = recorder;
+      this.self = selfAs(Pinger.class);
+    }
+
+    @Override
+    public void start(final Request request) {
+      ponger.ping(self, request);
+    }
+
+    @Override
+    public void pong(final Request request) {
+      recorder.completed(request);
+    }
+  }
+
+  public static class PongerActor extends Actor implements Ponger {
+    @Override
+    public void ping(final Pinger pinger, final Request request) {
+      pinger.pong(request);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.World;
+import io.vlingo.actors.pubsub.ConcurrentPublisher;
+import io.vlingo.actors.pubsub.HierarchicalTopic;
+import io.vlingo.actors.pubsub.Message;
+import io.vlingo.actors.pubsub.Publisher;
+import io.vlingo.actors.pubsub.Subscriber;
+import io.vlingo.actors.pubsub.Topic;
+
+/**
+ * PubSubScenario publishes each {@link Request} to one topic to which
+ * {@code actors} subscriber actors are subscribed, and completes it when the
+ * last of them has received it.
+ */
+public class PubSubScenario implements Scenario {
+  private Publisher publisher;
+  private int subscribers;
+  private Topic topic;
+
+  @Override
+  public void start(final World world, final LoadOptions options, final LatencyRecorder recorder) {
+    publisher = new ConcurrentPublisher();
+    subscribers = options.actors();
+    topic = new HierarchicalTopic("load/requests");
+    for (int count = 0; count < subscribers; ++count) {
+      final Receiver receiver = world.actorFor(Scenario.definitionOf(ReceiverActor.class, options, recorder), Receiver.class);
+      publisher.subscribe(topic, new ReceiverSubscriber(receiver));
+    }
+  }
+
+  @Override
+  public void send(final Request request) {
+    publisher.publish(topic, new Published(request.expecting(subscribers)));
+  }
+
+  public static interface Receiver {
+    void receive(final Request request);
+  }
+
+  public static class ReceiverActor extends Actor implements Receiver {
+    private final LatencyRecorder recorder;
+
+    public ReceiverActor(final LatencyRecorder recorder) {
+      this.recorder = recorder;
+    }
+
+    @Override
+    public void receive(final Request request) {
+      if (request.arrived()) {
+        recorder.completed(request);
+      }
+    }
+  }
+
+  private static final class Published implements Message {
+    final Request request;
+
+    Published(final Request request) {
+      this.request = request;
+    }
+  }
+
+  /**
+   * ReceiverSubscriber is subscribed on behalf of a {@code Receiver}, to which
+   * it forwards what is published, because the {@code Publisher} delivers on the
+   * publishing thread.
+   */
+  private static final class ReceiverSubscriber implements Subscriber<Published> {
+    private final Receiver receiver;
+
+    ReceiverSubscriber(final Receiver receiver) {
+      this.receiver = receiver;
+    }
+
+    @Override
+    public void receive(final Message message) {
+      receiver.receive(((Published) message).request);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Request is one unit of work of a {@link Scenario}, such as one ping-pong round
+ * trip or one fan-out and fan-in, carried by every message of it so that its
+ * latency is known when it completes.
+ */
+public final class Request {
+  private static final AtomicIntegerFieldUpdater<Request> remainingUpdater =
+          AtomicIntegerFieldUpdater.newUpdater(Request.class, "remaining");
+
+  /** The long nanoseconds at which the schedule intended me to be sent. */
+  public final long intended;
+
+  /** Whether I was sent after the warm-up, and so am recorded. */
+  public final boolean measured;
+
+  /** The long nanoseconds at which I was actually sent. */
+  public final long sent;
+
+  private volatile int remaining;
+
+  Request(final long intended, final long sent, final boolean measured) {
+    this.intended = intended;
+    this.sent = sent;
+    this.measured = measured;
+  }
+
+  /**
+   * Sets the number of {@code arrived()} answers on which I depend, such as the
+   * number of subscribers to which I am published.
+   * @param arrivals the int number of arrivals
+   * @return Request
+   */
+  public Request expecting(final int arrivals) {
+    this.remaining = arrivals;
+    return this;
+  }
+
+  /**
+   * Answers whether this is the last of my expected arrivals. It may be called
+   * concurrently by the actors answering.
+   * @return boolean
+   */
+  public boolean arrived() {
+    return remainingUpdater.decrementAndGet(this) == 0;
+  }
+}
@@ -0,0 +1,49 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.World;
+import io.vlingo.common.Completes;
+
+/**
+ * RequestReplyScenario sends each {@link Request} to one of {@code actors}
+ * servers, in turn, and completes it when the server's {@code Completes} answer
+ * is consumed, as a client outside of any actor would.
+ */
+public class RequestReplyScenario implements Scenario {
+  private int next;
+  private LatencyRecorder recorder;
+  private Server[] servers;
+
+  @Override
+  public void start(final World world, final LoadOptions options, final LatencyRecorder recorder) {
+    this.recorder = recorder;
+    this.servers = new Server[options.actors()];
+    for (int index = 0; index < servers.length; ++index) {
+      servers[index] = world.actorFor(Scenario.definitionOf(ServerActor.class, options), Server.class);
+    }
+  }
+
+  @Override
+  public void send(final Request request) {
+    servers[next].serve(request).andThenConsume(served -> recorder.completed(served));
+    next = (next + 1) % servers.length;
+  }
+
+  public static interface Server {
+    Completes<Request> serve(final Request request);
+  }
+
+  public static class ServerActor extends Actor implements Server {
+    @Override
+    public Completes<Request> serve(final Request request) {
+      return completes().with(request);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.RoundRobinRoutingStrategy;
+import io.vlingo.actors.Router;
+import io.vlingo.actors.RouterSpecification;
+import io.vlingo.actors.World;
+
+/**
+ * RouterScenario sends each {@link Request} to a round-robin router of a pool of
+ * {@code actors} workers, and completes it when the worker routed to handles it.
+ */
+public class RouterScenario implements Scenario {
+  private Worker router;
+
+  @Override
+  public void start(final World world, final LoadOptions options, final LatencyRecorder recorder) {
+    final RouterSpecification specification =
+            new RouterSpecification(
+                    options.actors(),
+                    Scenario.definitionOf(WorkerActor.class, options, recorder),
+                    Worker.class);
+
+    router = world.actorFor(Scenario.definitionOf(WorkerRouterActor.class, options, specification), Worker.class);
+  }
+
+  @Override
+  public void send(final Request request) {
+    router.work(request);
+  }
+
+  public static interface Worker {
+    void work(final Request request);
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    private final LatencyRecorder recorder;
+
+    public WorkerActor(final LatencyRecorder recorder) {
+      this.recorder = recorder;
+    }
+
+    @Override
+    public void work(final Request request) {
+      recorder.completed(request);
+    }
+  }
+
+  public static class WorkerRouterActor extends Router implements Worker {
+    public WorkerRouterActor(final RouterSpecification specification) {
+      super(specification, new RoundRobinRoutingStrategy());
+    }
+
+    @Override
+    public void work(final Request request) {
+      computeRoutee(request).as(Worker.class).work(request);
+    }
+  }
+}
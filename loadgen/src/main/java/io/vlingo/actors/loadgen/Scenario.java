@@ -0,0 +1,71 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.World;
+
+/**
+ * Scenario is a workload of actors driven by the {@link LoadGenerator}. It is
+ * started once, then sent one {@link Request} after another, and tells the
+ * {@link LatencyRecorder} when each of them completes.
+ */
+public interface Scenario {
+
+  /**
+   * Answers the {@code Scenario} named {@code name}.
+   * @param name the String name of the scenario
+   * @return Scenario
+   */
+  static Scenario named(final String name) {
+    switch (name) {
+    case "chain":
+      return new ChainScenario();
+    case "fanOut":
+      return new FanOutScenario();
+    case "pingPong":
+      return new PingPongScenario();
+    case "pubSub":
+      return new PubSubScenario();
+    case "requestReply":
+      return new RequestReplyScenario();
+    case "router":
+      return new RouterScenario();
+    default:
+      throw new IllegalArgumentException("Unknown scenario: " + name +
+              "; expected one of chain, fanOut, pingPong, pubSub, requestReply, router");
+    }
+  }
+
+  /**
+   * Answers the {@code Definition} of an actor of {@code type} in the mailbox of {@code options}.
+   * @param type the {@code Class<? extends Actor>} of the actor
+   * @param options the LoadOptions of the run
+   * @param parameters the Object... parameters of the actor's constructor
+   * @return Definition
+   */
+  static Definition definitionOf(final Class<? extends Actor> type, final LoadOptions options, final Object... parameters) {
+    final String actorName = null;
+    return Definition.has(type, Definition.parameters(parameters), options.mailbox(), actorName);
+  }
+
+  /**
+   * Creates my actors in {@code world}.
+   * @param world the World in which to create my actors
+   * @param options the LoadOptions of the run
+   * @param recorder the LatencyRecorder told of every completed Request
+   */
+  void start(final World world, final LoadOptions options, final LatencyRecorder recorder);
+
+  /**
+   * Sends {@code request} to my actors, without waiting for it to complete.
+   * @param request the Request to send
+   */
+  void send(final Request request);
+}
@@ -0,0 +1,49 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.loadgen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LoadGeneratorTest {
+
+  @Test
+  public void testThatEveryScenarioCompletesEveryRequest() {
+    for (final String scenario : new String[] { "chain", "fanOut", "pingPong", "pubSub", "requestReply", "router" }) {
+      final LoadResult result =
+              LoadGenerator.run(LoadOptions.define().scenario(scenario).actors(3).rate(1_000).duration(1).warmup(0));
+
+      assertEquals(scenario, 1_000, result.sent);
+      assertEquals(scenario, result.sent, result.completed);
+      assertEquals(scenario, result.completed, result.corrected.count());
+      assertTrue(scenario, result.corrected.max() >= result.uncorrected.max());
+      assertTrue(scenario, result.throughput() > 0);
+      assertTrue(scenario, result.timeToFirstMessage > 0);
+    }
+  }
+
+  @Test
+  public void testThatOptionsAreParsed() {
+    final LoadOptions options =
+            LoadOptions.parse(new String[] { "--scenario=chain", "--actors=10", "--mailbox=ringMailbox", "--rate=500", "--duration=3", "--warmup=1" });
+
+    assertEquals("chain", options.scenario());
+    assertEquals(10, options.actors());
+    assertEquals("ringMailbox", options.mailbox());
+    assertEquals(500, options.rate());
+    assertEquals(3, options.duration());
+    assertEquals(1, options.warmup());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testThatUnknownOptionsAreRejected() {
+    LoadOptions.parse(new String[] { "--threads=4" });
+  }
+}
@@ -68,7 +68,6 @@ public abstract class Actor implements Startable, Stoppable, TestStateView {
   public void stop() {
     if (!isStopped()) {
       if (lifeCycle.address().id() != World.DEADLETTERS_ID) {
-        // TODO: remove this actor as a child on parent
         lifeCycle.stop(this);
       }
     }
@@ -144,13 +143,27 @@ public abstract class Actor implements Startable, Stoppable, TestStateView {
    * @return T
    */
   protected <T> T childActorFor(final Definition definition, final Class<T> protocol) {
+    return childActorFor(definition, protocol, null);
+  }
+
+  /**
+   * Answers the {@code T} protocol for the child {@code Actor} to be created by this parent {@code Actor}
+   * and that will use the given {@code maybeMailbox}, if not null. (INTERNAL ONLY)
+   * @param definition the {@code Definition} of the child {@code Actor} to be created by this parent {@code Actor}
+   * @param protocol the {@code Class<T>} protocol of the child {@code Actor}
+   * @param maybeMailbox the possible {@code Mailbox} of the child {@code Actor}
+   * @param <T> the protocol type
+   * @return T
+   */
+  <T> T childActorFor(final Definition definition, final Class<T> protocol, final Mailbox maybeMailbox) {
+    final Stage stage = lifeCycle.environment.stage;
     if (definition.supervisor() != null) {
-      return lifeCycle.environment.stage.actorFor(definition, protocol, this, definition.supervisor(), logger());
+      return stage.actorFor(definition, protocol, this, maybeMailbox, definition.supervisor(), logger());
     } else {
       if (this instanceof Supervisor) {
-        return lifeCycle.environment.stage.actorFor(definition, protocol, this, lifeCycle.lookUpProxy(Supervisor.class), logger());
+        return stage.actorFor(definition, protocol, this, maybeMailbox, lifeCycle.lookUpProxy(Supervisor.class), logger());
       } else {
-        return lifeCycle.environment.stage.actorFor(definition, protocol, this, null, logger());
+        return stage.actorFor(definition, protocol, this, maybeMailbox, null, logger());
       }
     }
   }
@@ -259,7 +272,8 @@ public abstract class Actor implements Startable, Stoppable, TestStateView {
   }
 
   /**
-   * Starts the process of dispersing any messages stowed for this {@code Actor}.
+   * Disperses all messages stowed for this {@code Actor} by sending them, in the order
+   * stowed, ahead of the messages pending in its mailbox.
    */
   protected void disperseStowedMessages() {
     lifeCycle.disperseStowedMessages();
@@ -283,6 +297,19 @@ public abstract class Actor implements Startable, Stoppable, TestStateView {
     lifeCycle.environment.stowageOverrides(stowageOverrides);
   }
 
+  /**
+   * Starts the process of stowing messages for this {@code Actor}, holding at most {@code capacity} messages,
+   * and registers {@code stowageOverrides} as the protocol that will trigger dispersal. A message stowed when
+   * {@code capacity} messages are already stowed is handled according to {@code overflow}.
+   * @param capacity the int maximum number of stowed messages
+   * @param overflow the {@code Stowage.Overflow} policy applied when a message is stowed at capacity
+   * @param stowageOverrides the {@code Class<T>} protocol that will trigger dispersal
+   */
+  protected void stowMessages(final int capacity, final Stowage.Overflow overflow, final Class<?>... stowageOverrides) {
+    lifeCycle.stowMessages(capacity, overflow);
+    lifeCycle.environment.stowageOverrides(stowageOverrides);
+  }
+
   //=======================================
   // life cycle overrides
   //=======================================
@@ -12,6 +12,24 @@ import java.lang.reflect.Constructor;
 public class ActorFactory {
   static final ThreadLocal<Environment> threadLocalEnvironment = new ThreadLocal<Environment>();
 
+  // whether an Actor type or any protocol it implements is marked Blocking, looked up once per type
+  private static final ClassValue<Boolean> isBlocking = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(final Class<?> type) {
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        if (current.isAnnotationPresent(Blocking.class)) {
+          return true;
+        }
+        for (final Class<?> protocol : current.getInterfaces()) {
+          if (protocol.isAnnotationPresent(Blocking.class)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+  };
+
   @SuppressWarnings("unchecked")
   public static Class<? extends Actor> actorClassWithProtocol(final String actorClassname, final Class<?> protocolClass) {
     try {
@@ -101,12 +119,23 @@ public class ActorFactory {
     if (parent != null) {
       parent.lifeCycle.environment.addChild(actor);
     }
+
+    if (environment.runtimeListener != null) {
+      environment.runtimeListener.actorCreated(actor);
+    }
     
     return actor;
   }
 
   static Mailbox actorMailbox(final Stage stage, final Address address, final Definition definition) {
-    final String mailboxName = stage.world().mailboxNameFrom(definition.mailboxName());
+    final String candidateMailboxName =
+            definition.mailboxName() != null ?
+                definition.mailboxName() :
+                isBlocking.get(definition.type()) ? Definition.BlockingMailbox : stage.mailboxName();
+    if (Definition.BlockingMailbox.equals(candidateMailboxName)) {
+      stage.world().startBlockingMailbox();
+    }
+    final String mailboxName = stage.world().mailboxNameFrom(candidateMailboxName);
     final Mailbox mailbox = stage.world().assignMailbox(mailboxName, address.hashCode());
     
     return mailbox;
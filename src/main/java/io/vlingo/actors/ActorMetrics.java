@@ -0,0 +1,91 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ActorMetrics holds the {@link MessageMetrics} of each protocol method
+ * delivered to one {@code Actor}.
+ */
+public final class ActorMetrics {
+  private final Address address;
+  private final ConcurrentMap<String, MessageMetrics> messageMetrics;
+  private final int subBucketBits;
+  private final long highestTrackableValue;
+  private final Class<? extends Actor> type;
+
+  ActorMetrics(final Address address, final Class<? extends Actor> type, final int subBucketBits, final long highestTrackableValue) {
+    this.address = address;
+    this.type = type;
+    this.subBucketBits = subBucketBits;
+    this.highestTrackableValue = highestTrackableValue;
+    this.messageMetrics = new ConcurrentHashMap<>();
+  }
+
+  public Address address() {
+    return address;
+  }
+
+  /**
+   * Answers the count of all messages delivered.
+   * @return long
+   */
+  public long delivered() {
+    long delivered = 0;
+    for (final MessageMetrics metrics : messageMetrics.values()) {
+      delivered += metrics.delivered();
+    }
+    return delivered;
+  }
+
+  /**
+   * Answers the total nanoseconds spent handling all messages.
+   * @return long
+   */
+  public long handlerTime() {
+    long handlerTime = 0;
+    for (final MessageMetrics metrics : messageMetrics.values()) {
+      handlerTime += metrics.totalHandlerTime();
+    }
+    return handlerTime;
+  }
+
+  /**
+   * Answers the {@code MessageMetrics} of {@code representation}, or null if none was delivered.
+   * @param representation the String protocol method, such as {@code "ping(int)"}
+   * @return MessageMetrics
+   */
+  public MessageMetrics messageMetricsOf(final String representation) {
+    return messageMetrics.get(representation);
+  }
+
+  public Collection<MessageMetrics> messageMetrics() {
+    return Collections.unmodifiableCollection(messageMetrics.values());
+  }
+
+  public Class<? extends Actor> type() {
+    return type;
+  }
+
+  @Override
+  public String toString() {
+    return "ActorMetrics[type=" + type.getSimpleName() + " address=" + address + "]";
+  }
+
+  void delivered(final String representation, final long enqueuedAt, final long started, final long ended) {
+    MessageMetrics metrics = messageMetrics.get(representation);
+    if (metrics == null) {
+      metrics = messageMetrics.computeIfAbsent(representation, key -> new MessageMetrics(key, subBucketBits, highestTrackableValue));
+    }
+    metrics.record(enqueuedAt, started, ended);
+  }
+}
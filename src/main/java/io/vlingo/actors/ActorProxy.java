@@ -22,7 +22,7 @@ public final class ActorProxy {
   public static synchronized <T> T createFor(final Class<T> protocol, final Actor actor, final Mailbox mailbox) {
     final String proxyClassname = fullyQualifiedClassnameFor(protocol, "__Proxy");
     
-    final T maybeProxy = actor.lifeCycle.environment.lookUpProxy(protocol);
+    final T maybeProxy = actor.lifeCycle.environment.lookUpProxy(proxyClassname);
     
     if (maybeProxy != null) {
       return maybeProxy;
@@ -81,9 +81,14 @@ public final class ActorProxy {
           final ProxyGenerator generator,
           final String targetClassname) {
     try {
+      final long started = System.nanoTime();
       final Result result = generator.generateFor(protocol.getName());
       final Input input = new Input(protocol, targetClassname, result.source, result.sourceFile, classLoader, generator.type(), true);
       final Class<T> proxyClass = proxyCompiler.compile(input);
+      final RuntimeListener runtimeListener = actor.lifeCycle.environment.stage.world().runtimeListener();
+      if (runtimeListener != null) {
+        runtimeListener.proxyGenerated(protocol, targetClassname, System.nanoTime() - started);
+      }
       return tryCreateWithProxyClass(proxyClass, actor, mailbox);
     } catch (Exception e) {
       throw new IllegalArgumentException("Actor proxy " + protocol.getName() + " not created because: " + e.getMessage(), e);
@@ -0,0 +1,199 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vlingo.actors.plugin.mailbox.concurrentqueue.ExecutorDispatcher;
+
+/**
+ * BalancingMailbox is the {@link Mailbox} of one {@link Routee} of a {@link Router}
+ * whose {@link RouterSpecification} requests a shared mailbox. Messages of the routed
+ * protocol are placed in a single queue shared by all routees of the {@link Pool}, and
+ * whichever routee is idle takes the next one. All other messages, such as
+ * {@code start()}, stay in the queue of the addressed routee.
+ */
+final class BalancingMailbox implements Mailbox {
+  private final PrecedingMessages ahead;
+  private final AtomicBoolean closed;
+  private final AtomicBoolean delivering;
+  private final Queue<Message> ownQueue;
+  private final Pool pool;
+  private volatile Actor routee;
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      ownQueue.clear();
+      ahead.clear();
+      pool.closed(this);
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public boolean isDelivering() {
+    return delivering.get();
+  }
+
+  @Override
+  public boolean delivering(final boolean flag) {
+    return delivering.compareAndSet(!flag, flag);
+  }
+
+  @Override
+  public void send(final Message message) {
+    message.enqueued();
+    if (pool.isBalanced(message)) {
+      pool.queue.add(message);
+      pool.dispatchToIdle();
+    } else {
+      ownQueue.add(message);
+      if (!isDelivering()) {
+        pool.dispatcher.execute(this);
+      }
+    }
+  }
+
+  @Override
+  public void sendAhead(final Message[] messages) {
+    ahead.addAhead(messages);
+    if (!isDelivering()) {
+      pool.dispatcher.execute(this);
+    }
+  }
+
+  @Override
+  public Message receive() {
+    final Message preceding = ahead.poll();
+    if (preceding != null) {
+      return preceding;
+    }
+    final Message own = ownQueue.poll();
+    if (own != null) {
+      return own;
+    }
+    if (isClosed()) {
+      return null;
+    }
+    final Message shared = pool.queue.poll();
+    if (shared != null && routee != null) {
+      // intentionally retargeted in place: the message was created for whichever routee
+      // it was sent to, and once polled from the shared queue only this mailbox holds it
+      ((LocalMessage<?>) shared).actor = routee;
+    }
+    return shared;
+  }
+
+  @Override
+  public void run() {
+    final int total = pool.throttlingCount;
+    final DispatcherTelemetry telemetry = pool.dispatcher.telemetry();
+    final long startedAt = telemetry.turnStarted();
+    int count = 0;
+    for ( ; count < total; ++count) {
+      final Message message = receive();
+      if (message != null) {
+        message.deliver();
+      } else {
+        break;
+      }
+    }
+    if (count > 0) {
+      telemetry.turnEnded(startedAt, count, count == total);
+    }
+    delivering(false);
+    if (!ahead.isEmpty() || !ownQueue.isEmpty() || (!isClosed() && !pool.queue.isEmpty())) {
+      pool.dispatcher.execute(this);
+    }
+  }
+
+  /* @see io.vlingo.actors.Mailbox#pendingMessages() */
+  @Override
+  public int pendingMessages() {
+    return ahead.size() + ownQueue.size() + pool.queue.size();
+  }
+
+  void bindTo(final Actor routee) {
+    this.routee = routee;
+  }
+
+  private BalancingMailbox(final Pool pool) {
+    this.ahead = new PrecedingMessages();
+    this.pool = pool;
+    this.closed = new AtomicBoolean(false);
+    this.delivering = new AtomicBoolean(false);
+    this.ownQueue = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * Pool holds the queue and {@code Dispatcher} shared by the {@code BalancingMailbox}
+   * instances of one {@code Router}. The {@code Dispatcher} has one thread per routee,
+   * but no more than there are processors, and no fewer than two so that a routee
+   * blocked in its turn does not hold back the others. It is closed when the last
+   * routee's mailbox is closed.
+   */
+  static final class Pool {
+    private static final int DefaultThrottlingCount = 10;
+    private static final int MaximumThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final Dispatcher dispatcher;
+    private final List<BalancingMailbox> mailboxes;
+    private final AtomicInteger open;
+    private final Class<?> protocol;
+    private final Queue<Message> queue;
+    private final int throttlingCount;
+
+    Pool(final RouterSpecification specification, final DispatcherTelemetry.Registry telemetryRegistry) {
+      this.dispatcher = new ExecutorDispatcher(Math.min(specification.poolSize(), MaximumThreads), 1.0f, telemetryRegistry);
+      this.mailboxes = new CopyOnWriteArrayList<>();
+      this.open = new AtomicInteger(0);
+      this.protocol = specification.routerProtocol();
+      this.queue = new ConcurrentLinkedQueue<>();
+      this.throttlingCount = DefaultThrottlingCount;
+    }
+
+    BalancingMailbox newMailbox() {
+      final BalancingMailbox mailbox = new BalancingMailbox(this);
+      mailboxes.add(mailbox);
+      open.incrementAndGet();
+      return mailbox;
+    }
+
+    private void closed(final BalancingMailbox mailbox) {
+      mailboxes.remove(mailbox);
+      if (open.decrementAndGet() == 0) {
+        queue.clear();
+        dispatcher.close();
+      }
+    }
+
+    private void dispatchToIdle() {
+      for (final BalancingMailbox mailbox : mailboxes) {
+        if (!mailbox.isDelivering() && !mailbox.isClosed()) {
+          // if another sender claims it first, its running turn will take the message
+          dispatcher.execute(mailbox);
+          return;
+        }
+      }
+    }
+
+    private boolean isBalanced(final Message message) {
+      return message instanceof LocalMessage && ((LocalMessage<?>) message).protocol == protocol;
+    }
+  }
+}
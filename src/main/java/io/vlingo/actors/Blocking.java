@@ -0,0 +1,27 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Blocking marks an {@code Actor} type, or a protocol that it implements, whose
+ * messages call blocking APIs such as JDBC or file I/O. Unless its {@code Definition}
+ * names a mailbox, such an {@code Actor} is given a mailbox of the
+ * {@code Definition.BlockingMailbox}, whose threads are separate from those of the
+ * other mailboxes, so that they are not tied up while it blocks.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Blocking {
+}
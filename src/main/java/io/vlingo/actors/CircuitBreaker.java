@@ -0,0 +1,56 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+/**
+ * CircuitBreaker is the state of the circuit of one {@code Actor} supervised by a
+ * {@link CircuitBreakerStrategy}. Its delay doubles, as does that of {@link Backoff},
+ * each time the circuit opens again after being half open, and is reset when the
+ * circuit closes. The delay is not slept, but scheduled, so that no dispatcher
+ * thread is held while the circuit is open.
+ */
+final class CircuitBreaker {
+  enum State { Closed, Open, HalfOpen }
+
+  private long delay;
+  private volatile State state;
+
+  CircuitBreaker() {
+    this.delay = 0;
+    this.state = State.Closed;
+  }
+
+  /**
+   * Opens the circuit and answers the milliseconds until it is half open.
+   * @param strategy the CircuitBreakerStrategy providing the delays
+   * @return long
+   */
+  synchronized long open(final CircuitBreakerStrategy strategy) {
+    if (state == State.Closed || delay == 0) {
+      delay = strategy.initialDelay();
+    } else {
+      delay = Math.min(delay * 2, strategy.maximumDelay());
+    }
+    state = State.Open;
+    return delay;
+  }
+
+  void halfOpen() {
+    state = State.HalfOpen;
+  }
+
+  void succeeded() {
+    if (state == State.HalfOpen) {
+      state = State.Closed;
+    }
+  }
+
+  State state() {
+    return state;
+  }
+}
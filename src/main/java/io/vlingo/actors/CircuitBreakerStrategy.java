@@ -0,0 +1,87 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+/**
+ * CircuitBreakerStrategy is a {@link SupervisionStrategy} that restarts a failed
+ * {@code Actor} only after a delay, rather than immediately. While the delay lasts
+ * the circuit is open: the {@code Actor} stays suspended, and the messages sent to it
+ * are stashed, up to {@code stashCapacity}, or are otherwise sent to dead letters.
+ * When the delay elapses the circuit is half open: the {@code Actor} is restarted and
+ * the stashed messages are dispersed. If the next message is delivered successfully
+ * the circuit closes, but if it fails the circuit opens again for twice as long as
+ * before, up to {@code maximumDelay}.
+ * <p>
+ * The intensity and period of a {@code CircuitBreakerStrategy} are forever, because
+ * its failures are limited by the delays between restarts.
+ */
+public final class CircuitBreakerStrategy implements SupervisionStrategy {
+  public static final long DefaultInitialDelay = 100;
+  public static final long DefaultMaximumDelay = 30_000;
+  public static final int DeadLettersWhileOpen = 0;
+  public static final int UnlimitedStash = Integer.MAX_VALUE;
+
+  private final long initialDelay;
+  private final long maximumDelay;
+  private final Scope scope;
+  private final int stashCapacity;
+
+  /**
+   * Answers a {@code CircuitBreakerStrategy} with the default delays that stashes all
+   * messages sent while its circuit is open.
+   * @return CircuitBreakerStrategy
+   */
+  public static CircuitBreakerStrategy withDefaults() {
+    return new CircuitBreakerStrategy(DefaultInitialDelay, DefaultMaximumDelay, UnlimitedStash, Scope.One);
+  }
+
+  /**
+   * Constructs my state.
+   * @param initialDelay the long milliseconds the circuit is first opened for
+   * @param maximumDelay the long maximum milliseconds the circuit is opened for
+   * @param stashCapacity the int maximum number of messages stashed while the circuit is open, or {@code DeadLettersWhileOpen}
+   * @param scope the Scope of the {@code Actor}s restarted when the circuit is half open
+   */
+  public CircuitBreakerStrategy(final long initialDelay, final long maximumDelay, final int stashCapacity, final Scope scope) {
+    if (initialDelay <= 0) throw new IllegalArgumentException("initialDelay must be 1 or greater");
+    if (maximumDelay < initialDelay) throw new IllegalArgumentException("maximumDelay must not be less than initialDelay");
+    if (stashCapacity < 0) throw new IllegalArgumentException("stashCapacity must be 0 or greater");
+
+    this.initialDelay = initialDelay;
+    this.maximumDelay = maximumDelay;
+    this.stashCapacity = stashCapacity;
+    this.scope = scope;
+  }
+
+  public long initialDelay() {
+    return initialDelay;
+  }
+
+  public long maximumDelay() {
+    return maximumDelay;
+  }
+
+  public int stashCapacity() {
+    return stashCapacity;
+  }
+
+  @Override
+  public int intensity() {
+    return SupervisionStrategy.ForeverIntensity;
+  }
+
+  @Override
+  public long period() {
+    return SupervisionStrategy.ForeverPeriod;
+  }
+
+  @Override
+  public Scope scope() {
+    return scope;
+  }
+}
@@ -0,0 +1,36 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+/**
+ * CircuitBreakerSupervisor restarts the {@code Actor}s it supervises according to a
+ * {@link CircuitBreakerStrategy}, which protects the dispatcher from back-to-back
+ * restarts when messages fail repeatedly. It may be registered as a default or
+ * common supervisor, in which case it uses {@code CircuitBreakerStrategy.withDefaults()}.
+ */
+public class CircuitBreakerSupervisor extends Actor implements Supervisor {
+  private final CircuitBreakerStrategy strategy;
+
+  public CircuitBreakerSupervisor() {
+    this(CircuitBreakerStrategy.withDefaults());
+  }
+
+  public CircuitBreakerSupervisor(final CircuitBreakerStrategy strategy) {
+    this.strategy = strategy;
+  }
+
+  @Override
+  public void inform(final Throwable throwable, final Supervised supervised) {
+    supervised.restartWithBackoff(strategy);
+  }
+
+  @Override
+  public SupervisionStrategy supervisionStrategy() {
+    return strategy;
+  }
+}
@@ -11,8 +11,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -20,28 +22,42 @@ import io.vlingo.actors.plugin.Plugin;
 import io.vlingo.actors.plugin.PluginLoader;
 import io.vlingo.actors.plugin.PluginProperties;
 import io.vlingo.actors.plugin.completes.PooledCompletesPlugin.PooledCompletesPluginConfiguration;
+import io.vlingo.actors.plugin.logging.async.AsyncLoggerPlugin.AsyncLoggerPluginConfiguration;
 import io.vlingo.actors.plugin.logging.jdk.JDKLoggerPlugin.JDKLoggerPluginConfiguration;
 import io.vlingo.actors.plugin.mailbox.agronampscarrayqueue.ManyToOneConcurrentArrayQueuePlugin.ManyToOneConcurrentArrayQueuePluginConfiguration;
 import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin.ConcurrentQueueMailboxPluginConfiguration;
 import io.vlingo.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailboxPlugin.SharedRingBufferMailboxPluginConfiguration;
+import io.vlingo.actors.plugin.metrics.MetricsPlugin.MetricsPluginConfiguration;
+import io.vlingo.actors.plugin.reporting.FailureReportingPlugin.FailureReportingPluginConfiguration;
 import io.vlingo.actors.plugin.supervision.CommonSupervisorsPlugin.CommonSupervisorsPluginConfiguration;
 import io.vlingo.actors.plugin.supervision.DefaultSupervisorOverridePlugin.DefaultSupervisorOverridePluginConfiguration;
 
 public class Configuration {
+  private static final long DefaultBlockingKeepAlive = 60_000L;
+  private static final int DefaultBlockingMaximumThreads = 64;
+
   private ConcurrentQueueMailboxPluginConfiguration concurrentQueueMailboxPluginConfiguration;
   private CommonSupervisorsPluginConfiguration commonSupervisorsPluginConfiguration;
   private DefaultSupervisorOverridePluginConfiguration defaultSupervisorOverridePluginConfiguration;
+  private FailureReportingPluginConfiguration failureReportingPluginConfiguration;
+  private AsyncLoggerPluginConfiguration asyncLoggerPluginConfiguration;
   private JDKLoggerPluginConfiguration jdkLoggerPluginConfiguration;
   private PooledCompletesPluginConfiguration pooledCompletesPluginConfiguration;
   private ManyToOneConcurrentArrayQueuePluginConfiguration manyToOneConcurrentArrayQueuePluginConfiguration;
+  private MetricsPluginConfiguration metricsPluginConfiguration;
   private SharedRingBufferMailboxPluginConfiguration sharedRingBufferMailboxPluginConfiguration;
 
+  private long blockingKeepAlive;
+  private int blockingMaximumThreads;
+  private boolean blockingVirtualThreads;
+  private boolean fastStart;
   private String mainProxyGeneratedClassesPath;
   private String mainProxyGeneratedSourcesPath;
   private String testProxyGeneratedClassesPath;
   private String testProxyGeneratedSourcesPath;
 
   private final List<Plugin> plugins;
+  private final Map<String, StageConfiguration> stageConfigurations = new HashMap<>();
 
   public static Configuration define() {
     return new Configuration();
@@ -86,6 +102,24 @@ public class Configuration {
     return defaultSupervisorOverridePluginConfiguration;
   }
 
+  public Configuration with(final AsyncLoggerPluginConfiguration configuration) {
+    this.asyncLoggerPluginConfiguration = configuration;
+    return this;
+  }
+
+  public AsyncLoggerPluginConfiguration asyncLoggerPluginConfiguration() {
+    return asyncLoggerPluginConfiguration;
+  }
+
+  public Configuration with(final FailureReportingPluginConfiguration configuration) {
+    this.failureReportingPluginConfiguration = configuration;
+    return this;
+  }
+
+  public FailureReportingPluginConfiguration failureReportingPluginConfiguration() {
+    return failureReportingPluginConfiguration;
+  }
+
   public Configuration with(final JDKLoggerPluginConfiguration configuration) {
     this.jdkLoggerPluginConfiguration = configuration;
     return this;
@@ -104,6 +138,15 @@ public class Configuration {
     return manyToOneConcurrentArrayQueuePluginConfiguration;
   }
 
+  public Configuration with(final MetricsPluginConfiguration configuration) {
+    this.metricsPluginConfiguration = configuration;
+    return this;
+  }
+
+  public MetricsPluginConfiguration metricsPluginConfiguration() {
+    return metricsPluginConfiguration;
+  }
+
   public Configuration with(final PooledCompletesPluginConfiguration configuration) {
     pooledCompletesPluginConfiguration = configuration;
     return this;
@@ -113,6 +156,20 @@ public class Configuration {
     return pooledCompletesPluginConfiguration;
   }
 
+  public Configuration with(final StageConfiguration configuration) {
+    this.stageConfigurations.put(configuration.name(), configuration);
+    return this;
+  }
+
+  /**
+   * Answers the {@code StageConfiguration} of the {@code Stage} named {@code name}, or null if none.
+   * @param name the String name of the Stage
+   * @return StageConfiguration
+   */
+  public StageConfiguration stageConfiguration(final String name) {
+    return stageConfigurations.get(name);
+  }
+
   public Configuration with(final SharedRingBufferMailboxPluginConfiguration configuration) {
     this.sharedRingBufferMailboxPluginConfiguration = configuration;
     return this;
@@ -122,6 +179,63 @@ public class Configuration {
     return sharedRingBufferMailboxPluginConfiguration;
   }
 
+  /**
+   * Answers me after setting the pool of threads of the {@code Definition.BlockingMailbox},
+   * which grows to at most {@code maximumThreads} while its {@code Actor}s block, and
+   * shrinks again as threads stay idle for {@code keepAlive} milliseconds. Also set by
+   * the properties {@code world.blocking.maximumThreads} and {@code world.blocking.keepAlive}.
+   * @param maximumThreads the int maximum number of threads
+   * @param keepAlive the long milliseconds an idle thread is kept
+   * @return Configuration
+   */
+  public Configuration usingBlockingThreads(final int maximumThreads, final long keepAlive) {
+    this.blockingMaximumThreads = maximumThreads;
+    this.blockingKeepAlive = keepAlive;
+    return this;
+  }
+
+  public long blockingKeepAlive() {
+    return blockingKeepAlive;
+  }
+
+  public int blockingMaximumThreads() {
+    return blockingMaximumThreads;
+  }
+
+  /**
+   * Answers me after setting whether the threads of the {@code Definition.BlockingMailbox}
+   * are virtual threads, when the runtime has them, and otherwise platform threads. Also
+   * set by the property {@code world.blocking.virtualThreads=true}.
+   * @param virtualThreads the boolean indicating whether to use virtual threads
+   * @return Configuration
+   */
+  public Configuration usingBlockingVirtualThreads(final boolean virtualThreads) {
+    this.blockingVirtualThreads = virtualThreads;
+    return this;
+  }
+
+  public boolean isBlockingVirtualThreads() {
+    return blockingVirtualThreads;
+  }
+
+  /**
+   * Answers me after setting whether the {@code World} starts fast, by creating
+   * its supporting actors, such as the pool of {@code CompletesEventually} actors
+   * and the directory scanner of each {@code Stage}, when first used rather than
+   * when the {@code World} or {@code Stage} is started. Also set by the property
+   * {@code world.fastStart=true}.
+   * @param fastStart the boolean indicating whether to start fast
+   * @return Configuration
+   */
+  public Configuration usingFastStart(final boolean fastStart) {
+    this.fastStart = fastStart;
+    return this;
+  }
+
+  public boolean isFastStart() {
+    return fastStart;
+  }
+
   public Configuration usingMainProxyGeneratedClassesPath(final String path) {
     mainProxyGeneratedClassesPath = path;
     return this;
@@ -169,6 +283,9 @@ public class Configuration {
   private Configuration() {
     this.plugins = loadPlugins(true);
 
+    this.blockingKeepAlive = DefaultBlockingKeepAlive;
+    this.blockingMaximumThreads = DefaultBlockingMaximumThreads;
+
     this
       .usingMainProxyGeneratedClassesPath("target/classes/")
       .usingMainProxyGeneratedSourcesPath("target/generated-sources/")
@@ -177,6 +294,21 @@ public class Configuration {
   }
 
   private Configuration(final Properties properties, final boolean includeBaseLoad) {
+    this.fastStart = Boolean.parseBoolean(properties.getProperty("world.fastStart", "false"));
+    this.blockingKeepAlive = Long.parseLong(properties.getProperty("world.blocking.keepAlive", String.valueOf(DefaultBlockingKeepAlive)));
+    this.blockingMaximumThreads = Integer.parseInt(properties.getProperty("world.blocking.maximumThreads", String.valueOf(DefaultBlockingMaximumThreads)));
+    this.blockingVirtualThreads = Boolean.parseBoolean(properties.getProperty("world.blocking.virtualThreads", "false"));
+
+    for (final String key : properties.stringPropertyNames()) {
+      final String stageName = StageConfiguration.stageNameOf(key);
+      if (stageName != null && !stageConfigurations.containsKey(stageName)) {
+        final StageConfiguration stageConfiguration = StageConfiguration.from(stageName, properties);
+        if (stageConfiguration != null) {
+          with(stageConfiguration);
+        }
+      }
+    }
+
     if (includeBaseLoad) {
       final List<Plugin> plugins = loadPlugins(false);
       this.plugins = loadPropertiesPlugins(properties, plugins);
@@ -201,6 +333,8 @@ public class Configuration {
             io.vlingo.actors.plugin.mailbox.agronampscarrayqueue.ManyToOneConcurrentArrayQueuePlugin.class,
             io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin.class,
             io.vlingo.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailboxPlugin.class,
+            io.vlingo.actors.plugin.metrics.MetricsPlugin.class,
+            io.vlingo.actors.plugin.reporting.FailureReportingPlugin.class,
             io.vlingo.actors.plugin.supervision.CommonSupervisorsPlugin.class,
             io.vlingo.actors.plugin.supervision.DefaultSupervisorOverridePlugin.class);
 
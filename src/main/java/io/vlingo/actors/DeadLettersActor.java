@@ -20,7 +20,12 @@ public class DeadLettersActor extends Actor implements DeadLetters {
   }
 
   public void failedDelivery(final DeadLetter deadLetter) {
-    logger().log(deadLetter.toString());
+    stage().world().failureReporter().deadLetter(deadLetter, logger());
+
+    final RuntimeListener runtimeListener = stage().world().runtimeListener();
+    if (runtimeListener != null) {
+      runtimeListener.deadLetter(deadLetter);
+    }
 
     for (final DeadLettersListener listener : listeners) {
       try {
@@ -11,6 +11,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 public final class Definition {
+  /**
+   * The name of the mailbox whose elastic, bounded pool of threads is separate from
+   * those of the other mailboxes, used by the {@code Actor}s marked {@code Blocking}
+   * or whose {@code Definition} names it.
+   */
+  public static final String BlockingMailbox = "blockingMailbox";
   public static final List<Object> NoParameters = new ArrayList<Object>();
 
   public static Definition has(
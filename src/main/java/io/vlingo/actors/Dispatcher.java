@@ -12,4 +12,13 @@ public interface Dispatcher {
   boolean isClosed();
   void execute(final Mailbox mailbox);
   boolean requiresExecutionNotification();
+
+  /**
+   * Answers my {@code DispatcherTelemetry}. Unless overridden, answers the shared
+   * {@code DispatcherTelemetry.none()}, which records nothing.
+   * @return DispatcherTelemetry
+   */
+  default DispatcherTelemetry telemetry() {
+    return DispatcherTelemetry.none();
+  }
 }
@@ -0,0 +1,343 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * DispatcherTelemetry counts how a {@link Dispatcher} spends its threads: the
+ * turns that delivered messages, the messages delivered, the nanoseconds busy
+ * delivering them, the turns that stopped at the throttling count, and the times
+ * a thread backed off because there was nothing to deliver. It also reads the
+ * current depth of the run queue and number of threads of its {@code Dispatcher}.
+ * <p>
+ * Recording costs two {@code System.nanoTime()} calls per turn that delivers,
+ * not per message, and striped counters that do not contend. Each is opened in
+ * the {@link Registry} of the {@code World} whose plugin created its
+ * {@code Dispatcher}, which answers the telemetry of its open {@code Dispatcher}s
+ * by {@code snapshots()}, and over JMX by the {@link DispatchersMXBean} named
+ * {@code io.vlingo.actors:type=Dispatchers,world=<name>}. The
+ * {@code DispatchersMXBean} is registered by a daemon thread when the first
+ * {@code DispatcherTelemetry} of a {@code Registry} is opened, because creating
+ * the platform {@code MBeanServer} takes about a hundred milliseconds, which would
+ * otherwise delay the start of the first {@code World}.
+ */
+public final class DispatcherTelemetry {
+  private static final AtomicInteger nextId = new AtomicInteger(0);
+  private static final DispatcherTelemetry None = new DispatcherTelemetry(null, "None", () -> 0, () -> 0);
+
+  private final LongAdder backoffs;
+  private final LongAdder busyNanos;
+  private final long createdAt;
+  private final LongAdder messages;
+  private final String name;
+  private final IntSupplier queueDepth;
+  private final Registry registry;
+  private final IntSupplier threads;
+  private final LongAdder throttled;
+  private final LongAdder turns;
+
+  /**
+   * Answers the shared {@code DispatcherTelemetry} that records nothing, which is
+   * that of a {@code Dispatcher} that does not open its own.
+   * @return DispatcherTelemetry
+   */
+  public static DispatcherTelemetry none() {
+    return None;
+  }
+
+  /**
+   * Answers a new open {@code DispatcherTelemetry} of a {@code Dispatcher} that
+   * belongs to no {@code World}, in the {@code Registry.unscoped()}.
+   * @param kind the String kind of Dispatcher, such as its simple class name
+   * @param threads the IntSupplier of the number of threads of the Dispatcher
+   * @param queueDepth the IntSupplier of the number of runnables or messages waiting
+   * @return DispatcherTelemetry
+   */
+  public static DispatcherTelemetry open(final String kind, final IntSupplier threads, final IntSupplier queueDepth) {
+    return Registry.Unscoped.open(kind, threads, queueDepth);
+  }
+
+  /**
+   * Records that a thread found nothing to deliver and backed off.
+   */
+  public void backedOff() {
+    if (registry != null) {
+      backoffs.increment();
+    }
+  }
+
+  /**
+   * Closes me, so that I am no longer among the {@code snapshots()} of my {@code Registry}.
+   */
+  public void close() {
+    if (registry != null) {
+      registry.open.remove(this);
+    }
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Answers a {@code Snapshot} of my current counts.
+   * @return Snapshot
+   */
+  public Snapshot snapshot() {
+    return new Snapshot(this);
+  }
+
+  /**
+   * Answers the start time of a turn that has at least one message to deliver,
+   * to be given to {@code turnEnded()}.
+   * @return long
+   */
+  public long turnStarted() {
+    return registry == null ? 0 : System.nanoTime();
+  }
+
+  /**
+   * Records the end of a turn that started at {@code startedAt}.
+   * @param startedAt the long answered by turnStarted()
+   * @param delivered the int number of messages delivered in the turn
+   * @param throttled the boolean indicating whether the turn stopped at the throttling count
+   */
+  public void turnEnded(final long startedAt, final int delivered, final boolean throttled) {
+    if (registry == null) {
+      return;
+    }
+    busyNanos.add(System.nanoTime() - startedAt);
+    turns.increment();
+    messages.add(delivered);
+    if (throttled) {
+      this.throttled.increment();
+    }
+  }
+
+  private DispatcherTelemetry(final Registry registry, final String name, final IntSupplier threads, final IntSupplier queueDepth) {
+    this.registry = registry;
+    this.name = name;
+    this.threads = threads;
+    this.queueDepth = queueDepth;
+    this.createdAt = System.nanoTime();
+    this.backoffs = new LongAdder();
+    this.busyNanos = new LongAdder();
+    this.messages = new LongAdder();
+    this.throttled = new LongAdder();
+    this.turns = new LongAdder();
+  }
+
+  /**
+   * Registry holds the open {@code DispatcherTelemetry} of the {@code Dispatcher}s of
+   * one {@code World}, so that those of different {@code World}s in one JVM are kept
+   * apart, and is closed when its {@code World} terminates.
+   */
+  public static final class Registry {
+    private static final Registry Unscoped = new Registry(null);
+
+    private boolean closed;
+    private ObjectName objectName;
+    private final Set<DispatcherTelemetry> open;
+    private boolean registering;
+    private final String worldName;
+
+    /**
+     * Answers the {@code Registry} of the {@code Dispatcher}s that belong to no
+     * {@code World}, whose MBean is named {@code io.vlingo.actors:type=Dispatchers}.
+     * @return Registry
+     */
+    public static Registry unscoped() {
+      return Unscoped;
+    }
+
+    /**
+     * Answers the {@code Registry} of the {@code World} of {@code registrar}, or the
+     * {@link #unscoped()} one if {@code registrar} has no {@code World}.
+     * @param registrar the Registrar through which a plugin is started
+     * @return Registry
+     */
+    public static Registry of(final Registrar registrar) {
+      final World world = registrar.world();
+      return world == null ? Unscoped : world.dispatcherTelemetry();
+    }
+
+    /**
+     * Constructs my state.
+     * @param worldName the String name of the World whose Dispatchers I hold, or null if none
+     */
+    public Registry(final String worldName) {
+      this.open = ConcurrentHashMap.newKeySet();
+      this.worldName = worldName;
+    }
+
+    /**
+     * Unregisters my {@code DispatchersMXBean}, if registered, and registers none later.
+     */
+    public synchronized void close() {
+      closed = true;
+      if (objectName != null) {
+        try {
+          ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (Exception e) {
+          // already unregistered
+        }
+        objectName = null;
+      }
+    }
+
+    /**
+     * Answers a new open {@code DispatcherTelemetry} held by me.
+     * @param kind the String kind of Dispatcher, such as its simple class name
+     * @param threads the IntSupplier of the number of threads of the Dispatcher
+     * @param queueDepth the IntSupplier of the number of runnables or messages waiting
+     * @return DispatcherTelemetry
+     */
+    public DispatcherTelemetry open(final String kind, final IntSupplier threads, final IntSupplier queueDepth) {
+      registerLater();
+      final DispatcherTelemetry telemetry = new DispatcherTelemetry(this, kind + "#" + nextId.incrementAndGet(), threads, queueDepth);
+      open.add(telemetry);
+      return telemetry;
+    }
+
+    /**
+     * Answers a {@code Snapshot} of each open {@code DispatcherTelemetry} I hold.
+     * @return {@code List<Snapshot>}
+     */
+    public List<Snapshot> snapshots() {
+      final List<Snapshot> snapshots = new ArrayList<>(open.size());
+      for (final DispatcherTelemetry telemetry : open) {
+        snapshots.add(telemetry.snapshot());
+      }
+      return snapshots;
+    }
+
+    private void register() {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name =
+                new ObjectName(worldName == null ?
+                        "io.vlingo.actors:type=Dispatchers" :
+                        "io.vlingo.actors:type=Dispatchers,world=" + ObjectName.quote(worldName));
+        synchronized (this) {
+          if (!closed) {
+            if (server.isRegistered(name)) {
+              server.unregisterMBean(name);
+            }
+            server.registerMBean(new DispatchersView(this), name);
+            objectName = name;
+          }
+        }
+      } catch (Exception e) {
+        // telemetry remains available through snapshots()
+      }
+    }
+
+    private synchronized void registerLater() {
+      if (!registering && !closed) {
+        registering = true;
+        final Thread registration = new Thread(this::register, "vlingo-actors-dispatchers-mbean");
+        registration.setDaemon(true);
+        registration.start();
+      }
+    }
+  }
+
+  /**
+   * DispatchersMXBean is the JMX view of the telemetry of all open {@code Dispatcher}s of one {@code Registry}.
+   */
+  public static interface DispatchersMXBean {
+    List<Snapshot> getDispatchers();
+  }
+
+  private static final class DispatchersView implements DispatchersMXBean {
+    private final Registry registry;
+
+    private DispatchersView(final Registry registry) {
+      this.registry = registry;
+    }
+
+    @Override
+    public List<Snapshot> getDispatchers() {
+      return registry.snapshots();
+    }
+  }
+
+  /**
+   * Snapshot holds the counts of one {@code DispatcherTelemetry} at one time.
+   * Its getters also serve its JMX view.
+   */
+  public static final class Snapshot {
+    private final long backoffs;
+    private final long busyNanos;
+    private final long messages;
+    private final String name;
+    private final int queueDepth;
+    private final int threads;
+    private final long throttled;
+    private final long turns;
+    private final long uptimeNanos;
+
+    private Snapshot(final DispatcherTelemetry telemetry) {
+      this.name = telemetry.name;
+      this.backoffs = telemetry.backoffs.sum();
+      this.busyNanos = telemetry.busyNanos.sum();
+      this.messages = telemetry.messages.sum();
+      this.throttled = telemetry.throttled.sum();
+      this.turns = telemetry.turns.sum();
+      this.queueDepth = telemetry.queueDepth.getAsInt();
+      this.threads = telemetry.threads.getAsInt();
+      this.uptimeNanos = System.nanoTime() - telemetry.createdAt;
+    }
+
+    public long getBackoffs() { return backoffs; }
+    public long getBusyNanos() { return busyNanos; }
+    public long getMessages() { return messages; }
+    public String getName() { return name; }
+    public int getQueueDepth() { return queueDepth; }
+    public int getThreads() { return threads; }
+    public long getThrottleHits() { return throttled; }
+    public long getTurns() { return turns; }
+    public long getUptimeNanos() { return uptimeNanos; }
+
+    /**
+     * Answers the mean number of messages delivered per turn.
+     * @return double
+     */
+    public double getMessagesPerTurn() {
+      return turns == 0 ? 0 : (double) messages / turns;
+    }
+
+    /**
+     * Answers the fraction of the time of all threads since creation spent
+     * delivering messages, between 0 and 1.
+     * @return double
+     */
+    public double getUtilization() {
+      final double capacity = (double) uptimeNanos * Math.max(1, threads);
+      return capacity == 0 ? 0 : Math.min(1.0, busyNanos / capacity);
+    }
+
+    @Override
+    public String toString() {
+      return "DispatcherTelemetry[name=" + name + " threads=" + threads + " utilization=" + getUtilization() +
+             " turns=" + turns + " messages=" + messages + " throttleHits=" + throttled +
+             " backoffs=" + backoffs + " queueDepth=" + queueDepth + "]";
+    }
+  }
+}
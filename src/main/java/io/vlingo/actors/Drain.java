@@ -0,0 +1,195 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.vlingo.common.BasicCompletes;
+import io.vlingo.common.Cancellable;
+import io.vlingo.common.Completes;
+
+/**
+ * Drain stops the {@code Actor}s under the default parent of a {@code World}
+ * leaves-first, and then terminates the {@code World}. Each {@code Actor} is
+ * sent {@code stop()} once all of its children have stopped, so that it first
+ * delivers the messages already in its mailbox, and all leaves drain at once on
+ * the threads of their mailboxes. The {@code Actor}s that serve the others to
+ * the end, those completing {@code Completes}, scanning the directory and logging,
+ * are stopped only when the {@code World} is terminated. Any {@code Actor} not
+ * stopped by the deadline is sent {@code stop()} ahead of what remains in its
+ * mailbox, which is dropped, and is counted as forced at once, so that an
+ * {@code Actor} blocked in a handler does not hold up the termination of the
+ * {@code World}. Each is stopped on the thread of its mailbox, never that of the
+ * deadline. (INTERNAL ONLY)
+ */
+final class Drain {
+  private final Set<Actor> asked;
+  private final Completes<ShutdownReport> completes;
+  private Cancellable deadline;
+  private long dropped;
+  private final Set<Actor> draining;
+  private int drained;
+  private boolean finished;
+  private int forced;
+  private final Map<Actor, Integer> remainingChildren;
+  private final long startedAt;
+  private final World world;
+
+  Drain(final World world) {
+    this.world = world;
+    this.asked = new HashSet<>();
+    this.completes = new BasicCompletes<>(world.stage().scheduler());
+    this.draining = new HashSet<>();
+    this.remainingChildren = new HashMap<>();
+    this.startedAt = System.nanoTime();
+  }
+
+  /**
+   * Answers the {@code Completes<ShutdownReport>} completed when the {@code World} is terminated.
+   * @return {@code Completes<ShutdownReport>}
+   */
+  Completes<ShutdownReport> completes() {
+    return completes;
+  }
+
+  /**
+   * Starts draining the children of {@code root}, stopping any remaining after {@code timeout} milliseconds.
+   * @param root the Actor whose descendants are drained
+   * @param timeout the long milliseconds before any remaining are stopped at once
+   */
+  synchronized void start(final Actor root, final long timeout) {
+    final List<Actor> leaves = new ArrayList<>();
+    collect(root, leaves);
+
+    if (draining.isEmpty()) {
+      finish();
+      return;
+    }
+
+    deadline = world.stage().scheduler().scheduleOnce((scheduled, data) -> forceStop(), null, 0, timeout);
+
+    for (final Actor leaf : leaves) {
+      stopWhenDrained(leaf);
+    }
+  }
+
+  /**
+   * Records that {@code actor} has stopped with {@code undelivered} messages in its
+   * mailbox, and starts draining its parent if it was the last of its children.
+   * @param actor the Actor that stopped
+   * @param undelivered the int number of messages not delivered
+   */
+  synchronized void stopped(final Actor actor, final int undelivered) {
+    if (!draining.remove(actor)) {
+      return;
+    }
+
+    ++drained;
+    dropped += undelivered;
+
+    final Actor parent = actor.lifeCycle.environment.parent;
+    final Integer remaining = remainingChildren.get(parent);
+    if (remaining != null) {
+      if (remaining == 1) {
+        remainingChildren.remove(parent);
+        stopWhenDrained(parent);
+      } else {
+        remainingChildren.put(parent, remaining - 1);
+      }
+    }
+
+    if (draining.isEmpty()) {
+      finish();
+    }
+  }
+
+  /**
+   * Answers the number of messages pending in {@code mailbox}, or 0 if it cannot tell.
+   * @param mailbox the Mailbox of an Actor about to stop
+   * @return int
+   */
+  int undeliveredOf(final Mailbox mailbox) {
+    try {
+      return mailbox.pendingMessages();
+    } catch (UnsupportedOperationException e) {
+      return 0;
+    }
+  }
+
+  private void collect(final Actor parent, final List<Actor> leaves) {
+    int children = 0;
+    for (final Actor child : parent.lifeCycle.environment.childrenSnapshot()) {
+      if (!child.isStopped() && !isSupporting(child)) {
+        draining.add(child);
+        collect(child, leaves);
+        ++children;
+      }
+    }
+    if (children == 0) {
+      leaves.add(parent);
+    } else {
+      remainingChildren.put(parent, children);
+    }
+  }
+
+  private void finish() {
+    if (finished) {
+      return;
+    }
+    finished = true;
+
+    if (deadline != null) {
+      deadline.cancel();
+    }
+
+    final ShutdownReport report = new ShutdownReport(drained, forced, dropped, System.nanoTime() - startedAt);
+
+    // the last to stop may be delivering on a thread of the dispatcher being closed
+    final Thread terminator = new Thread(() -> {
+      world.terminate();
+      completes.with(report);
+    }, "vlingo-actors-drain-" + world.name());
+    terminator.setDaemon(true);
+    terminator.start();
+  }
+
+  private synchronized void forceStop() {
+    if (finished) {
+      return;
+    }
+    for (final Actor actor : draining) {
+      final Mailbox mailbox = actor.lifeCycle.environment.mailbox;
+      final int undelivered = undeliveredOf(mailbox);
+      ++forced;
+      // the stop() sent is not a dropped message, but is still pending
+      dropped += asked.contains(actor) ? Math.max(0, undelivered - 1) : undelivered;
+      mailbox.sendAhead(new Message[] { new LocalMessage<Stoppable>(actor, Stoppable.class, Stoppable::stop, "stop()") });
+    }
+    // those still to stop are swept by the World when terminated
+    draining.clear();
+    remainingChildren.clear();
+
+    finish();
+  }
+
+  private boolean isSupporting(final Actor actor) {
+    return actor instanceof CompletesEventuallyActor || actor instanceof DirectoryScannerActor || actor instanceof Logger;
+  }
+
+  private void stopWhenDrained(final Actor actor) {
+    if (draining.contains(actor)) {
+      asked.add(actor);
+      new Stoppable__Proxy(actor, actor.lifeCycle.environment.mailbox).stop();
+    }
+  }
+}
@@ -9,24 +9,31 @@ package io.vlingo.actors;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Environment {
   final Address address;
-  final List<Actor> children;
+  final Set<Actor> children;
   final Definition definition;
   final FailureMark failureMark;
   final Logger logger;
   final Mailbox mailbox;
   final Supervisor maybeSupervisor;
+  final ActorMetrics metrics;
   final Actor parent;
+  final RuntimeListener runtimeListener;
   final Map<String,Object> proxyCache;
   final Stage stage;
   final Stowage stowage;
   final Stowage suspended;
 
+  CircuitBreaker circuitBreaker;
+  boolean awaitingFirstMessage;
+
   private final AtomicBoolean secured;
   private final AtomicBoolean stopped;
 
@@ -51,9 +58,12 @@ public class Environment {
     assert(mailbox != null);
     this.mailbox = mailbox;
     this.maybeSupervisor = maybeSupervisor;
+    this.metrics = stage.world().metrics().register(address, definition.type());
+    this.runtimeListener = stage.world().runtimeListener();
+    this.awaitingFirstMessage = stage.world().isAwaitingFirstMessage();
     this.failureMark = new FailureMark();
     this.logger = logger;
-    this.children = new ArrayList<Actor>(0);
+    this.children = new LinkedHashSet<Actor>(0);
     this.proxyCache = new HashMap<>();
     this.stowage = new Stowage();
     this.stowageOverrides = null;
@@ -64,7 +74,41 @@ public class Environment {
   }
 
   void addChild(final Actor child) {
-    children.add(child);
+    synchronized (children) {
+      children.add(child);
+    }
+  }
+
+  /**
+   * Answers a copy of my children, which may be stopped, and so removed, while iterated.
+   * @return {@code List<Actor>}
+   */
+  List<Actor> childrenSnapshot() {
+    synchronized (children) {
+      return new ArrayList<>(children);
+    }
+  }
+
+  void removeChild(final Actor child) {
+    synchronized (children) {
+      children.remove(child);
+    }
+  }
+
+  synchronized CircuitBreaker circuitBreaker() {
+    if (circuitBreaker == null) {
+      circuitBreaker = new CircuitBreaker();
+    }
+    return circuitBreaker;
+  }
+
+  /**
+   * Records the first message delivered to my {@code Actor} as a candidate for
+   * the first of its {@code World}.
+   */
+  void firstMessageDelivered() {
+    awaitingFirstMessage = false;
+    stage.world().firstMessageDelivered();
   }
 
   <T> void cacheProxy(final T proxy) {
@@ -76,6 +120,11 @@ public class Environment {
     return (T) proxyCache.get(protocol.getName());
   }
 
+  @SuppressWarnings("unchecked")
+  <T> T lookUpProxy(final String proxyClassname) {
+    return (T) proxyCache.get(proxyClassname);
+  }
+
   boolean isSecured() {
     return secured.get();
   }
@@ -97,6 +146,12 @@ public class Environment {
       stowage.reset();
 
       mailbox.close();
+
+      stage.removeFromDirectory(address);
+
+      if (metrics != null) {
+        stage.world().metrics().unregister(address);
+      }
     }
   }
 
@@ -117,7 +172,10 @@ public class Environment {
 
   private void stopChildren() {
     // TODO: re-implement as: children.forEach(child -> selfAs(Stoppable.class).stop());
-    children.forEach(child -> child.stop());
-    children.clear();
+    final List<Actor> stopping = childrenSnapshot();
+    synchronized (children) {
+      children.clear();
+    }
+    stopping.forEach(child -> child.stop());
   }
 }
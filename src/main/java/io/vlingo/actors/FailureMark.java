@@ -31,7 +31,7 @@ public class FailureMark {
       ++timedIntensity;
     }
     
-    final boolean periodExceeded = startOfPeriod - currentTime >= period;
+    final boolean periodExceeded = currentTime - startOfPeriod >= period;
     
     if (timedIntensity > intensity && !periodExceeded) {
       return true;
@@ -0,0 +1,213 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FailureReporter counts the dead letters and the message delivery failures of a
+ * {@code World} by {@code Actor} type and protocol method, and logs the details of
+ * only every {@code sampleEvery}th one of each, starting with the first. The counts
+ * since the previous summary are logged by {@code summarize(Logger)}, which the
+ * {@code World} schedules every {@code summaryInterval} milliseconds. Counting is
+ * lock free and allocates nothing once a type and method have been seen, so that
+ * reporting does not become the bottleneck of a hot {@code Actor} that fails or is
+ * stopped.
+ * <p>
+ * A {@link FailureListener} may be registered to receive every failure, and every
+ * dead letter is still sent to each {@link DeadLettersListener}.
+ */
+public final class FailureReporter {
+  public static final int DefaultSampleEvery = 1;
+  public static final long DefaultSummaryInterval = 0;
+
+  private final ConcurrentMap<Class<?>, ConcurrentMap<String, Count>> deadLetters;
+  private final ConcurrentMap<Class<?>, ConcurrentMap<String, Count>> failures;
+  private final List<FailureListener> listeners;
+  private final int sampleEvery;
+  private final long summaryInterval;
+
+  /**
+   * FailureListener receives every failure of a message delivery.
+   */
+  @FunctionalInterface
+  public static interface FailureListener {
+    void failed(final Actor actor, final String representation, final Throwable throwable);
+  }
+
+  /**
+   * Answers a {@code FailureReporter} that logs every dead letter and failure,
+   * and does not summarize.
+   * @return FailureReporter
+   */
+  public static FailureReporter logEvery() {
+    return new FailureReporter(DefaultSampleEvery, DefaultSummaryInterval);
+  }
+
+  /**
+   * Constructs my state.
+   * @param sampleEvery the int interval of the dead letters and failures of one type and method that are logged in detail
+   * @param summaryInterval the long milliseconds between summaries, or 0 for none
+   */
+  public FailureReporter(final int sampleEvery, final long summaryInterval) {
+    if (sampleEvery <= 0) throw new IllegalArgumentException("sampleEvery must be 1 or greater");
+    if (summaryInterval < 0) throw new IllegalArgumentException("summaryInterval must be 0 or greater");
+
+    this.deadLetters = new ConcurrentHashMap<>();
+    this.failures = new ConcurrentHashMap<>();
+    this.listeners = new CopyOnWriteArrayList<>();
+    this.sampleEvery = sampleEvery;
+    this.summaryInterval = summaryInterval;
+  }
+
+  /**
+   * Counts {@code deadLetter} and logs it to {@code logger} if it is sampled.
+   * @param deadLetter the DeadLetter to report
+   * @param logger the Logger of the sampled details
+   */
+  public void deadLetter(final DeadLetter deadLetter, final Logger logger) {
+    if (isSampled(countOf(deadLetters, deadLetter.actor, deadLetter.representation).increment())) {
+      logger.log(deadLetter.toString());
+    }
+  }
+
+  /**
+   * Counts the failure of {@code actor} to handle {@code representation}, logs it
+   * to the logger of {@code actor} if it is sampled, and sends it to all listeners.
+   * @param actor the Actor that failed
+   * @param representation the String representation of the message that failed
+   * @param throwable the Throwable of the failure
+   */
+  public void failure(final Actor actor, final String representation, final Throwable throwable) {
+    final long count = countOf(failures, actor, representation).increment();
+
+    if (isSampled(count)) {
+      actor.logger().log(
+              "Message#deliver(): Exception: " + throwable.getMessage() + " for Actor: " + actor + " sending: " + representation +
+              (count == 1 ? "" : " (failure " + count + " of this kind)"),
+              throwable);
+    }
+
+    for (final FailureListener listener : listeners) {
+      try {
+        listener.failed(actor, representation, throwable);
+      } catch (Throwable t) {
+        actor.logger().log("vlingo/actors: FailureReporter listener failed to handle failure of: " + representation, t);
+      }
+    }
+  }
+
+  /**
+   * Answers the counts of dead letters, each keyed by {@code Type.method(parameters)}.
+   * @return {@code Map<String,Long>}
+   */
+  public Map<String,Long> deadLetterCounts() {
+    return totalsOf(deadLetters);
+  }
+
+  /**
+   * Answers the counts of failures, each keyed by {@code Type.method(parameters)}.
+   * @return {@code Map<String,Long>}
+   */
+  public Map<String,Long> failureCounts() {
+    return totalsOf(failures);
+  }
+
+  /**
+   * Registers {@code listener} to receive every failure.
+   * @param listener the FailureListener to register
+   */
+  public void registerListener(final FailureListener listener) {
+    listeners.add(listener);
+  }
+
+  public int sampleEvery() {
+    return sampleEvery;
+  }
+
+  public long summaryInterval() {
+    return summaryInterval;
+  }
+
+  /**
+   * Logs to {@code logger} the counts of each type and method of dead letters and
+   * failures that occurred since the previous summary, if any.
+   * @param logger the Logger of the summary
+   */
+  public void summarize(final Logger logger) {
+    summarize("dead letters", deadLetters, logger);
+    summarize("failures", failures, logger);
+  }
+
+  private Count countOf(final ConcurrentMap<Class<?>, ConcurrentMap<String, Count>> counts, final Actor actor, final String representation) {
+    final Class<?> type = actor == null ? Actor.class : actor.getClass();
+
+    ConcurrentMap<String, Count> ofType = counts.get(type);
+    if (ofType == null) {
+      ofType = counts.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+    }
+
+    Count count = ofType.get(representation);
+    if (count == null) {
+      count = ofType.computeIfAbsent(representation, key -> new Count());
+    }
+    return count;
+  }
+
+  private boolean isSampled(final long count) {
+    return sampleEvery == 1 || count % sampleEvery == 1;
+  }
+
+  private void summarize(final String kind, final ConcurrentMap<Class<?>, ConcurrentMap<String, Count>> counts, final Logger logger) {
+    for (final Map.Entry<Class<?>, ConcurrentMap<String, Count>> ofType : counts.entrySet()) {
+      for (final Map.Entry<String, Count> count : ofType.getValue().entrySet()) {
+        final long since = count.getValue().sinceSummary();
+        if (since > 0) {
+          logger.log("vlingo/actors: " + since + " " + kind + " of " + ofType.getKey().getSimpleName() + "." + count.getKey() +
+                     " (" + count.getValue().total() + " in total)");
+        }
+      }
+    }
+  }
+
+  private Map<String,Long> totalsOf(final ConcurrentMap<Class<?>, ConcurrentMap<String, Count>> counts) {
+    final Map<String,Long> totals = new HashMap<>();
+    for (final Map.Entry<Class<?>, ConcurrentMap<String, Count>> ofType : counts.entrySet()) {
+      for (final Map.Entry<String, Count> count : ofType.getValue().entrySet()) {
+        totals.put(ofType.getKey().getSimpleName() + "." + count.getKey(), count.getValue().total());
+      }
+    }
+    return totals;
+  }
+
+  private static final class Count {
+    private final AtomicLong total = new AtomicLong();
+    private long summarized;
+
+    private long increment() {
+      return total.incrementAndGet();
+    }
+
+    private synchronized long sinceSummary() {
+      final long current = total.get();
+      final long since = current - summarized;
+      summarized = current;
+      return since;
+    }
+
+    private long total() {
+      return total.get();
+    }
+  }
+}
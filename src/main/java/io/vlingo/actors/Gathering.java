@@ -0,0 +1,104 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.List;
+
+/**
+ * Gathering is the policy by which a {@link Router} aggregates the replies
+ * of a scatter-gather, answering the outcome {@code O} once the required
+ * number of {@code R} replies has been received. A {@code Gathering} holds
+ * no state of its own and may be reused for any number of scatter-gathers.
+ * @param <R> the reply type of each routee
+ * @param <O> the aggregated outcome type
+ */
+public abstract class Gathering<R, O> {
+  @SuppressWarnings("rawtypes")
+  private static final Gathering FirstWins = new Gathering<Object, Object>() {
+    @Override
+    protected int requiredOf(final int scattered) {
+      return 1;
+    }
+
+    @Override
+    protected Object outcomeOf(final List<Object> replies) {
+      return replies.get(0);
+    }
+  };
+
+  @SuppressWarnings("rawtypes")
+  private static final Gathering AllOf = new Gathering<Object, List<Object>>() {
+    @Override
+    protected int requiredOf(final int scattered) {
+      return scattered;
+    }
+
+    @Override
+    protected List<Object> outcomeOf(final List<Object> replies) {
+      return replies;
+    }
+  };
+
+  /**
+   * Answers the {@code Gathering} whose outcome is the first reply received.
+   * @param <R> the reply type
+   * @return {@code Gathering<R, R>}
+   */
+  @SuppressWarnings("unchecked")
+  public static <R> Gathering<R, R> firstWins() {
+    return FirstWins;
+  }
+
+  /**
+   * Answers the {@code Gathering} whose outcome is the replies of all routees, in the order received.
+   * @param <R> the reply type
+   * @return {@code Gathering<R, List<R>>}
+   */
+  @SuppressWarnings("unchecked")
+  public static <R> Gathering<R, List<R>> allOf() {
+    return AllOf;
+  }
+
+  /**
+   * Answers the {@code Gathering} whose outcome is the first {@code quorum} replies, in the order
+   * received. When fewer routees than {@code quorum} are scattered to, all of their replies are required.
+   * @param quorum the int number of replies required
+   * @param <R> the reply type
+   * @return {@code Gathering<R, List<R>>}
+   */
+  public static <R> Gathering<R, List<R>> quorumOf(final int quorum) {
+    if (quorum <= 0)
+      throw new IllegalArgumentException("quorum must be 1 or greater");
+
+    return new Gathering<R, List<R>>() {
+      @Override
+      protected int requiredOf(final int scattered) {
+        return Math.min(quorum, scattered);
+      }
+
+      @Override
+      protected List<R> outcomeOf(final List<R> replies) {
+        return replies;
+      }
+    };
+  }
+
+  /**
+   * Answers the number of replies required to complete when {@code scattered} routees were sent the query.
+   * @param scattered the int number of routees that were sent the query
+   * @return int
+   */
+  protected abstract int requiredOf(final int scattered);
+
+  /**
+   * Answers the outcome of the required {@code replies}.
+   * @param replies the {@code List<R>} of replies in the order received
+   * @return O
+   */
+  protected abstract O outcomeOf(final List<R> replies);
+}
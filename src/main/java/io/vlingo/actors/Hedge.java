@@ -0,0 +1,99 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.function.Function;
+
+import io.vlingo.common.Cancellable;
+import io.vlingo.common.Completes;
+import io.vlingo.common.Scheduled;
+import io.vlingo.common.Scheduler;
+
+/**
+ * Hedge is one hedged request of a {@link Router}. The query is sent to the
+ * primary {@link Routee}, and is sent to the secondary only if no reply arrived
+ * within the {@link HedgeThreshold} delay. Whichever reply arrives first completes
+ * the outcome, and its latency is recorded with the {@code HedgeThreshold}.
+ * Both routee proxies are resolved by the {@code Router} because the secondary
+ * is sent to from the {@code Scheduler} thread.
+ * @param <P> the protocol type of the routees
+ * @param <R> the reply type
+ */
+final class Hedge<P, R> implements Scheduled {
+  private static final Object HedgeSignal = new Object();
+  private static final Object TimeoutSignal = new Object();
+
+  private final Completes<R> completes;
+  private boolean completed;
+  private Cancellable hedgeCancellable;
+  private final Function<P, Completes<R>> query;
+  private final P secondary;
+  private final HedgeThreshold threshold;
+  private Cancellable timeoutCancellable;
+
+  Hedge(
+          final Completes<R> completes,
+          final HedgeThreshold threshold,
+          final P secondary,
+          final Function<P, Completes<R>> query) {
+    this.completes = completes;
+    this.threshold = threshold;
+    this.secondary = secondary;
+    this.query = query;
+  }
+
+  void send(final P primary, final Scheduler scheduler, final long timeout) {
+    synchronized (this) {
+      if (timeout > 0) {
+        timeoutCancellable = scheduler.scheduleOnce(this, TimeoutSignal, 0, timeout);
+      }
+      if (secondary != null) {
+        hedgeCancellable = scheduler.scheduleOnce(this, HedgeSignal, 0, threshold.delay());
+      }
+    }
+    sendTo(primary);
+  }
+
+  /* @see io.vlingo.common.Scheduled#intervalSignal(io.vlingo.common.Scheduled, java.lang.Object) */
+  @Override
+  public void intervalSignal(final Scheduled scheduled, final Object data) {
+    if (data == HedgeSignal) {
+      synchronized (this) {
+        if (completed) return;
+      }
+      sendTo(secondary);
+    } else {
+      synchronized (this) {
+        if (completed) return;
+        completed = true;
+        cancel(hedgeCancellable);
+      }
+      completes.failed();
+    }
+  }
+
+  private void cancel(final Cancellable cancellable) {
+    if (cancellable != null) cancellable.cancel();
+  }
+
+  private void reply(final R reply, final long sentAt) {
+    synchronized (this) {
+      if (completed) return;
+      completed = true;
+      cancel(hedgeCancellable);
+      cancel(timeoutCancellable);
+    }
+    threshold.record(System.nanoTime() - sentAt);
+    completes.with(reply);
+  }
+
+  private void sendTo(final P routee) {
+    final long sentAt = System.nanoTime();
+    query.apply(routee).andThenConsume(reply -> reply(reply, sentAt));
+  }
+}
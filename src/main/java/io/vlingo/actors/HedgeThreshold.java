@@ -0,0 +1,85 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HedgeThreshold answers how long a {@link Router} waits for the reply of a
+ * hedged request before sending it to a second {@link Routee}. The delay is
+ * the given percentile of the most recent reply latencies, and the
+ * {@code initialDelay} until enough latencies have been recorded. Latencies
+ * are recorded lock-free, and the percentile is recomputed only once every
+ * {@code RecomputeInterval} recordings.
+ */
+public final class HedgeThreshold {
+  private static final int MinimumSamples = 32;
+  private static final int RecomputeInterval = 16;
+  private static final int Samples = 256;
+
+  private volatile long delay;
+  private final double percentile;
+  private final AtomicLong recorded;
+  private final AtomicLongArray samples;
+
+  /**
+   * Answers a new {@code HedgeThreshold} at the given {@code percentile} of recent reply latencies.
+   * @param percentile the double percentile, greater than 0 and at most 100, such as 95.0
+   * @param initialDelay the long milliseconds to wait until enough latencies have been recorded
+   * @return HedgeThreshold
+   */
+  public static HedgeThreshold atPercentile(final double percentile, final long initialDelay) {
+    return new HedgeThreshold(percentile, initialDelay);
+  }
+
+  /**
+   * Answers the milliseconds to wait for a reply before hedging.
+   * @return long
+   */
+  public long delay() {
+    return delay;
+  }
+
+  /**
+   * Records the latency of a reply.
+   * @param elapsedNanos the long nanoseconds between sending a request and receiving its reply
+   */
+  public void record(final long elapsedNanos) {
+    final long count = recorded.getAndIncrement();
+    samples.set((int) (count % Samples), elapsedNanos);
+    if (count + 1 >= MinimumSamples && (count + 1) % RecomputeInterval == 0) {
+      recompute(Math.min(count + 1, Samples));
+    }
+  }
+
+  private HedgeThreshold(final double percentile, final long initialDelay) {
+    if (percentile <= 0.0 || percentile > 100.0)
+      throw new IllegalArgumentException("percentile must be greater than 0 and at most 100");
+    if (initialDelay < 0)
+      throw new IllegalArgumentException("initialDelay must be 0 or greater");
+
+    this.delay = initialDelay;
+    this.percentile = percentile;
+    this.recorded = new AtomicLong(0);
+    this.samples = new AtomicLongArray(Samples);
+  }
+
+  private void recompute(final long count) {
+    final int size = (int) count;
+    final long[] sorted = new long[size];
+    for (int index = 0; index < size; ++index) {
+      sorted[index] = samples.get(index);
+    }
+    Arrays.sort(sorted);
+    final int rank = (int) Math.ceil(percentile / 100.0 * size) - 1;
+    final long nanos = sorted[Math.max(0, rank)];
+    delay = Math.max(1, (nanos + 999_999) / 1_000_000);
+  }
+}
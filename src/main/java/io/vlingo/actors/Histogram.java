@@ -0,0 +1,172 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram records {@code long} values, such as nanoseconds, into a fixed
+ * number of buckets in the manner of an HDR histogram: values below
+ * {@code 2^subBucketBits} each have their own bucket, and each power of two
+ * above that is divided into {@code 2^subBucketBits} linear sub-buckets, so the
+ * relative error of any percentile is at most {@code 1/2^subBucketBits}. Values
+ * above {@code highestTrackableValue} are counted in the highest bucket, though
+ * the maximum is exact. Recording takes no lock and allocates nothing.
+ */
+public final class Histogram {
+  private final AtomicLongArray counts;
+  private final long highestTrackableValue;
+  private final AtomicLong max;
+  private final int subBucketBits;
+  private final int subBucketCount;
+  private final AtomicLong total;
+
+  /**
+   * Constructs my state.
+   * @param subBucketBits the int number of bits of precision, between 1 and 16
+   * @param highestTrackableValue the long highest value that is bucketed precisely
+   */
+  public Histogram(final int subBucketBits, final long highestTrackableValue) {
+    if (subBucketBits < 1 || subBucketBits > 16) throw new IllegalArgumentException("subBucketBits must be between 1 and 16");
+    if (highestTrackableValue < 2L << subBucketBits) throw new IllegalArgumentException("highestTrackableValue must be at least 2^(subBucketBits+1)");
+
+    this.subBucketBits = subBucketBits;
+    this.subBucketCount = 1 << subBucketBits;
+    this.highestTrackableValue = highestTrackableValue;
+    this.counts = new AtomicLongArray(indexOf(highestTrackableValue) + 1);
+    this.max = new AtomicLong();
+    this.total = new AtomicLong();
+  }
+
+  /**
+   * Answers the count of values recorded.
+   * @return long
+   */
+  public long count() {
+    long count = 0;
+    for (int index = 0; index < counts.length(); ++index) {
+      count += counts.get(index);
+    }
+    return count;
+  }
+
+  /**
+   * Records {@code value}, where a negative value is recorded as {@code 0}.
+   * @param value the long value to record
+   */
+  public void record(final long value) {
+    final long positive = value < 0 ? 0 : value;
+
+    counts.incrementAndGet(indexOf(Math.min(positive, highestTrackableValue)));
+    total.addAndGet(positive);
+
+    long currentMax = max.get();
+    while (positive > currentMax && !max.compareAndSet(currentMax, positive)) {
+      currentMax = max.get();
+    }
+  }
+
+  /**
+   * Answers a {@code Snapshot} of my current state. The snapshot is not atomic
+   * with respect to concurrent recording, but is consistent enough to report.
+   * @return Snapshot
+   */
+  public Snapshot snapshot() {
+    final long[] copy = new long[counts.length()];
+    long copied = 0;
+    for (int index = 0; index < copy.length; ++index) {
+      copy[index] = counts.get(index);
+      copied += copy[index];
+    }
+    return new Snapshot(copy, copied, total.get(), max.get());
+  }
+
+  /**
+   * Answers the sum of the values recorded.
+   * @return long
+   */
+  public long total() {
+    return total.get();
+  }
+
+  int bucketCount() {
+    return counts.length();
+  }
+
+  private int indexOf(final long value) {
+    if (value < subBucketCount) {
+      return (int) value;
+    }
+    final int shift = 63 - Long.numberOfLeadingZeros(value) - subBucketBits;
+    return (shift + 1) * subBucketCount + (int) ((value >>> shift) - subBucketCount);
+  }
+
+  private long highestValueOf(final int index) {
+    if (index < subBucketCount) {
+      return index;
+    }
+    final int shift = index / subBucketCount - 1;
+    final long lowest = ((long) subBucketCount + index % subBucketCount) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  /**
+   * Snapshot is an immutable copy of a {@code Histogram}.
+   */
+  public final class Snapshot {
+    private final long[] counts;
+    private final long count;
+    private final long max;
+    private final long total;
+
+    private Snapshot(final long[] counts, final long count, final long total, final long max) {
+      this.counts = counts;
+      this.count = count;
+      this.total = total;
+      this.max = max;
+    }
+
+    public long count() {
+      return count;
+    }
+
+    public long max() {
+      return max;
+    }
+
+    public double mean() {
+      return count == 0 ? 0 : (double) total / count;
+    }
+
+    public long total() {
+      return total;
+    }
+
+    /**
+     * Answers the highest value equivalent to that below which {@code percentile}
+     * of the recorded values fall, and never more than {@code max()}.
+     * @param percentile the double percentile, between 0 and 100
+     * @return long
+     */
+    public long valueAtPercentile(final double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      final long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+      long cumulative = 0;
+      for (int index = 0; index < counts.length; ++index) {
+        cumulative += counts[index];
+        if (cumulative >= target) {
+          return Math.min(highestValueOf(index), max);
+        }
+      }
+      return max;
+    }
+  }
+}
@@ -9,6 +9,8 @@ package io.vlingo.actors;
 
 import java.util.function.Consumer;
 
+import io.vlingo.common.Completes;
+
 final class LifeCycle {
   final Environment environment;
 
@@ -49,8 +51,23 @@ final class LifeCycle {
   }
 
   void stop(final Actor actor) {
+    final Drain drain = environment.stage.world().drain();
+    final int undelivered = drain == null ? 0 : drain.undeliveredOf(environment.mailbox);
+
     environment.stop();
-    
+
+    if (environment.parent != null) {
+      environment.parent.lifeCycle.environment.removeChild(actor);
+    }
+
+    if (drain != null) {
+      drain.stopped(actor, undelivered);
+    }
+
+    if (environment.runtimeListener != null) {
+      environment.runtimeListener.actorStopped(actor);
+    }
+
     afterStop(actor);
   }
 
@@ -128,25 +145,14 @@ final class LifeCycle {
 
   void disperseStowedMessages() {
     environment.stowage.dispersingMode();
-    sendFirstIn(environment.stowage);
-  }
-
-  void nextDispersing() {
-    if (isDispersing()) {
-      if (!sendFirstIn(environment.stowage)) {
-        environment.stowage.reset();
-      }
-    }
+    sendAllAhead(environment.stowage);
   }
 
-  boolean sendFirstIn(final Stowage stowage) {
-    final Message maybeMessage = stowage.head();
-    if (maybeMessage != null) {
-      //stowage.dump(environment.logger);
-      environment.mailbox.send(maybeMessage);
-      return true;
+  void sendAllAhead(final Stowage stowage) {
+    final Message[] messages = stowage.takeAll();
+    if (messages.length > 0) {
+      environment.mailbox.sendAhead(messages);
     }
-    return false;
   }
 
   boolean isStowing() {
@@ -157,23 +163,48 @@ final class LifeCycle {
     environment.stowage.stowingMode();  
   }
 
+  void stowMessages(final int capacity, final Stowage.Overflow overflow) {
+    environment.stowage.stowingMode(capacity, overflow);
+  }
+
   //=======================================
   // supervisor/suspending/resuming
   //=======================================
 
-  boolean isResuming() {
-    return environment.suspended.isDispersing();
+  /**
+   * Resumes {@code actor} by sending ahead of its pending messages one that
+   * disperses those suspended, so that they are taken on the thread of its
+   * {@code Mailbox}, the only one that stows them, rather than on that of its
+   * supervisor.
+   * @param actor the Actor to resume
+   */
+  void resume(final Actor actor) {
+    environment.mailbox.sendAhead(new Message[] { new Resuming(actor) });
   }
 
-  void nextResuming() {
-    if (isResuming()) {
-      sendFirstIn(environment.suspended);
-    }
+  private void resumeNow() {
+    environment.suspended.dispersingMode();
+    sendAllAhead(environment.suspended);
   }
 
-  void resume() {
-    environment.suspended.dispersingMode();
-    sendFirstIn(environment.suspended);
+  /**
+   * Limits the messages stashed while {@code actor} is suspended to {@code capacity}
+   * by sending ahead of its pending messages one that sets the limit, so that the
+   * suspended {@code Stowage} is changed only on the thread of its {@code Mailbox}.
+   * @param actor the Actor whose suspended messages are stashed
+   * @param capacity the int maximum number of messages stashed
+   */
+  void stashWhileSuspended(final Actor actor, final int capacity) {
+    environment.mailbox.sendAhead(new Message[] { new Stashing(actor, capacity) });
+  }
+
+  private void stashNow(final int capacity) {
+    // those suspended before the limit is set are stowed again, so that it holds for them as well
+    final Message[] suspended = environment.suspended.takeAll();
+    environment.suspended.stowingMode(capacity, Stowage.Overflow.DeadLetterNewest);
+    for (final Message message : suspended) {
+      environment.suspended.stow(message);
+    }
   }
 
   boolean isSuspended() {
@@ -194,4 +225,76 @@ final class LifeCycle {
     
     return supervisor;
   }
+
+  private static final class Stashing implements Message {
+    private final Actor actor;
+    private final int capacity;
+
+    Stashing(final Actor actor, final int capacity) {
+      this.actor = actor;
+      this.capacity = capacity;
+    }
+
+    @Override
+    public Actor actor() {
+      return actor;
+    }
+
+    @Override
+    public void deliver() {
+      if (!actor.isStopped()) {
+        actor.lifeCycle.stashNow(capacity);
+      }
+    }
+
+    @Override
+    public String representation() {
+      return "stashWhileSuspended(" + capacity + ")";
+    }
+
+    @Override
+    public boolean isStowed() {
+      return false;
+    }
+
+    @Override
+    public void set(final Actor actor, final Class<?> protocol, final Consumer<?> consumer, final Completes<?> completes, final String representation) {
+      throw new UnsupportedOperationException("Not a preallocated message.");
+    }
+  }
+
+  private static final class Resuming implements Message {
+    private final Actor actor;
+
+    Resuming(final Actor actor) {
+      this.actor = actor;
+    }
+
+    @Override
+    public Actor actor() {
+      return actor;
+    }
+
+    @Override
+    public void deliver() {
+      if (!actor.isStopped()) {
+        actor.lifeCycle.resumeNow();
+      }
+    }
+
+    @Override
+    public String representation() {
+      return "resume()";
+    }
+
+    @Override
+    public boolean isStowed() {
+      return false;
+    }
+
+    @Override
+    public void set(final Actor actor, final Class<?> protocol, final Consumer<?> consumer, final Completes<?> completes, final String representation) {
+      throw new UnsupportedOperationException("Not a preallocated message.");
+    }
+  }
 }
@@ -15,7 +15,9 @@ public class LocalMessage<T> implements Message {
   Actor actor;
   Completes<Object> completes;
   Consumer<T> consumer;
+  long enqueuedAt;
   Class<T> protocol;
+  final boolean preallocated;
   String representation;
 
   @SuppressWarnings("unchecked")
@@ -25,6 +27,7 @@ public class LocalMessage<T> implements Message {
     this.protocol = protocol;
     this.representation = representation;
     this.completes = (Completes<Object>) completes;
+    this.preallocated = false;
   }
 
   public LocalMessage(final Actor actor, final Class<T> protocol, final Consumer<T> consumer, final String representation) {
@@ -33,10 +36,12 @@ public class LocalMessage<T> implements Message {
 
   public LocalMessage(final LocalMessage<T> message) {
     this(message.actor, message.protocol, message.consumer, message.completes, message.representation);
+    this.enqueuedAt = message.enqueuedAt;
   }
 
   public LocalMessage(final Mailbox mailbox) {
     assert mailbox.isPreallocated();
+    this.preallocated = true;
   }
 
   @Override
@@ -46,18 +51,19 @@ public class LocalMessage<T> implements Message {
 
   @Override
   public void deliver() {
-    if (actor.lifeCycle.isResuming()) {
-      if (isStowed()) {
-        internalDeliver(this);
-      } else {
-        internalDeliver(actor.lifeCycle.environment.suspended.swapWith(this));
+    internalDeliver(this);
+  }
+
+  @Override
+  public void enqueued() {
+    final Environment environment = actor.lifeCycle.environment;
+    if (environment.runtimeListener != null) {
+      if (environment.metrics != null || environment.runtimeListener.requiresMailboxWait()) {
+        enqueuedAt = System.nanoTime();
       }
-      actor.lifeCycle.nextResuming();
-    } else if (actor.isDispersing()) {
-      internalDeliver(this);
-      actor.lifeCycle.nextDispersing();
-    } else {
-      internalDeliver(this);
+      environment.runtimeListener.messageEnqueued(actor, representation);
+    } else if (environment.metrics != null) {
+      enqueuedAt = System.nanoTime();
     }
   }
 
@@ -78,6 +84,7 @@ public class LocalMessage<T> implements Message {
     this.protocol = (Class<T>) protocol;
     this.representation = representation;
     this.completes = (Completes<Object>) completes;
+    this.enqueuedAt = 0;
   }
 
   @Override
@@ -106,12 +113,36 @@ public class LocalMessage<T> implements Message {
     } else {
       try {
         actor.completes.reset(completes);
-        consumer.accept((T) actor);
+        final ActorMetrics metrics = actor.lifeCycle.environment.metrics;
+        final RuntimeListener runtimeListener = actor.lifeCycle.environment.runtimeListener;
+        if (metrics == null && runtimeListener == null) {
+          consumer.accept((T) actor);
+        } else {
+          final long started = System.nanoTime();
+          consumer.accept((T) actor);
+          final long ended = System.nanoTime();
+          if (metrics != null) {
+            metrics.delivered(representation, enqueuedAt, started, ended);
+          }
+          if (runtimeListener != null) {
+            runtimeListener.messageDelivered(actor, representation, enqueuedAt == 0 ? 0 : started - enqueuedAt, ended - started);
+          }
+        }
+        if (actor.lifeCycle.environment.awaitingFirstMessage) {
+          actor.lifeCycle.environment.firstMessageDelivered();
+        }
+        final CircuitBreaker circuitBreaker = actor.lifeCycle.environment.circuitBreaker;
+        if (circuitBreaker != null) {
+          circuitBreaker.succeeded();
+        }
         if (actor.completes.__internal__outcomeSet) {
           actor.lifeCycle.environment.stage.world().completesFor(completes).with(actor.completes.__internal__outcome);
         }
       } catch (Throwable t) {
-        actor.logger().log("Message#deliver(): Exception: " + t.getMessage() + " for Actor: " + actor + " sending: " + representation, t);
+        if (actor.lifeCycle.environment.runtimeListener != null) {
+          actor.lifeCycle.environment.runtimeListener.failed(actor, representation, t);
+        }
+        actor.lifeCycle.environment.stage.world().failureReporter().failure(actor, representation, t);
         actor.stage().handleFailureOf(new StageSupervisedActor(protocol, actor, t));
       }
     }
@@ -7,6 +7,8 @@
 
 package io.vlingo.actors;
 
+import java.util.function.Supplier;
+
 import io.vlingo.actors.plugin.logging.jdk.JDKLogger;
 import io.vlingo.actors.plugin.logging.noop.NoOpLogger;
 
@@ -24,4 +26,27 @@ public interface Logger {
   void log(final String message);
   void log(final String message, final Throwable throwable);
   String name();
+
+  /**
+   * Logs the {@code String} answered by {@code message} only if I am enabled,
+   * so that the message is not built at all when I am not.
+   * @param message the {@code Supplier<String>} of the message to log
+   */
+  default void log(final Supplier<String> message) {
+    if (isEnabled()) {
+      log(message.get());
+    }
+  }
+
+  /**
+   * Logs the {@code String} answered by {@code message} and {@code throwable}
+   * only if I am enabled, so that the message is not built at all when I am not.
+   * @param message the {@code Supplier<String>} of the message to log
+   * @param throwable the Throwable to log
+   */
+  default void log(final Supplier<String> message, final Throwable throwable) {
+    if (isEnabled()) {
+      log(message.get(), throwable);
+    }
+  }
 }
@@ -75,4 +75,16 @@ public class Logger__Proxy implements Logger {
     }
     return false;
   }
+  // the message is built on the caller's thread, and only if enabled, so that a
+  // disabled level costs no message and the Supplier reads no state across threads
+  public void log(java.util.function.Supplier<java.lang.String> arg0) {
+    if (((Logger) actor).isEnabled()) {
+      log(arg0.get());
+    }
+  }
+  public void log(java.util.function.Supplier<java.lang.String> arg0, java.lang.Throwable arg1) {
+    if (((Logger) actor).isEnabled()) {
+      log(arg0.get(), arg1);
+    }
+  }
 }
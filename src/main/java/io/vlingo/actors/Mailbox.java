@@ -22,6 +22,20 @@ public interface Mailbox extends Runnable {
 
   default boolean isPreallocated()
     { return false; }
+  /**
+   * Sends {@code messages}, in order, to be received before any message now pending
+   * or sent later. This is used to disperse stowed messages, and is to be called only
+   * while the receiving {@code Actor} is delivering a message or is suspended. A
+   * {@code Mailbox} that cannot place messages ahead of its queue sends them in order
+   * behind its pending messages.
+   * @param messages the {@code Message[]} to send ahead
+   */
+  default void sendAhead(final Message[] messages) {
+    for (final Message message : messages) {
+      send(message);
+    }
+  }
+
   default void send(final Actor actor, final Class<?> protocol, final Consumer<?> consumer, final Completes<?> completes, final String representation)
     { throw new UnsupportedOperationException("Not a preallocated mailbox."); }
 }
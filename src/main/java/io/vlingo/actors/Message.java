@@ -16,5 +16,12 @@ public interface Message {
   void deliver();
   String representation();
   boolean isStowed();
+
+  /**
+   * Marks me as sent to a {@code Mailbox}, which every {@code Mailbox} does on
+   * {@code send()}. Unless {@code Metrics} are enabled this does nothing.
+   */
+  default void enqueued() { }
+
   void set(final Actor actor, final Class<?> protocol, final Consumer<?> consumer, final Completes<?> completes, final String representation);
 }
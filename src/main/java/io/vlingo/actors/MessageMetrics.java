@@ -0,0 +1,68 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+/**
+ * MessageMetrics records the deliveries of one protocol method to one {@code Actor}:
+ * the nanoseconds spent in its handler, and the nanoseconds each message waited
+ * in the {@code Mailbox} between being sent and being delivered.
+ */
+public final class MessageMetrics {
+  private final Histogram handlerTime;
+  private final Histogram mailboxWait;
+  private final String representation;
+
+  MessageMetrics(final String representation, final int subBucketBits, final long highestTrackableValue) {
+    this.representation = representation;
+    this.handlerTime = new Histogram(subBucketBits, highestTrackableValue);
+    this.mailboxWait = new Histogram(subBucketBits, highestTrackableValue);
+  }
+
+  /**
+   * Answers the count of messages delivered.
+   * @return long
+   */
+  public long delivered() {
+    return handlerTime.count();
+  }
+
+  /**
+   * Answers a snapshot of the nanoseconds spent handling each message.
+   * @return Histogram.Snapshot
+   */
+  public Histogram.Snapshot handlerTime() {
+    return handlerTime.snapshot();
+  }
+
+  /**
+   * Answers a snapshot of the nanoseconds each message waited in the {@code Mailbox}.
+   * @return Histogram.Snapshot
+   */
+  public Histogram.Snapshot mailboxWait() {
+    return mailboxWait.snapshot();
+  }
+
+  /**
+   * Answers the protocol method of my messages, such as {@code "ping(int)"}.
+   * @return String
+   */
+  public String representation() {
+    return representation;
+  }
+
+  long totalHandlerTime() {
+    return handlerTime.total();
+  }
+
+  void record(final long enqueuedAt, final long started, final long ended) {
+    handlerTime.record(ended - started);
+    if (enqueuedAt != 0) {
+      mailboxWait.record(started - enqueuedAt);
+    }
+  }
+}
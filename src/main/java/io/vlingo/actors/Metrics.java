@@ -0,0 +1,233 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Metrics holds the {@link ActorMetrics} of each {@code Actor} of a {@code World},
+ * which records per protocol method the messages delivered, the time spent in
+ * the handler, and the time waited in the {@code Mailbox}. Metrics are opt-in:
+ * unless enabled, by the {@code metrics} plugin, no {@code Actor} has metrics
+ * and delivery costs no more than a null check. When enabled, the metrics may
+ * also be read through the JMX {@link MetricsMXBean} named
+ * {@code io.vlingo.actors:type=Metrics,world=<name>}.
+ */
+public final class Metrics {
+  public static final int DefaultSubBucketBits = 5;
+  public static final long DefaultHighestTrackableValue = 60_000_000_000L; // 60 seconds of nanoseconds
+
+  private final ConcurrentMap<Address, ActorMetrics> actorMetrics;
+  private final boolean enabled;
+  private final long highestTrackableValue;
+  private final boolean jmx;
+  private ObjectName objectName;
+  private final int subBucketBits;
+
+  /**
+   * Answers a {@code Metrics} that records nothing.
+   * @return Metrics
+   */
+  public static Metrics disabled() {
+    return new Metrics(false, DefaultSubBucketBits, DefaultHighestTrackableValue, false);
+  }
+
+  /**
+   * Constructs my enabled state.
+   * @param subBucketBits the int bits of precision of each Histogram
+   * @param highestTrackableValue the long highest nanoseconds recorded precisely
+   * @param jmx the boolean indicating whether to register my MetricsMXBean
+   */
+  public Metrics(final int subBucketBits, final long highestTrackableValue, final boolean jmx) {
+    this(true, subBucketBits, highestTrackableValue, jmx);
+
+    if (subBucketBits < 1 || subBucketBits > 16) throw new IllegalArgumentException("subBucketBits must be between 1 and 16");
+    if (highestTrackableValue < 2L << subBucketBits) throw new IllegalArgumentException("highestTrackableValue must be at least 2^(subBucketBits+1)");
+  }
+
+  /**
+   * Answers the {@code ActorMetrics} of the {@code Actor} at {@code address}, or null if none.
+   * @param address the Address of the Actor
+   * @return ActorMetrics
+   */
+  public ActorMetrics actorMetricsOf(final Address address) {
+    return actorMetrics.get(address);
+  }
+
+  /**
+   * Answers the {@code ActorMetrics} of all current {@code Actor}s.
+   * @return {@code Collection<ActorMetrics>}
+   */
+  public Collection<ActorMetrics> actorMetrics() {
+    return Collections.unmodifiableCollection(actorMetrics.values());
+  }
+
+  /**
+   * Answers up to {@code limit} of the {@code ActorMetrics} that spent the most
+   * time handling messages, the hottest first.
+   * @param limit the int maximum number to answer
+   * @return {@code List<ActorMetrics>}
+   */
+  public List<ActorMetrics> hottest(final int limit) {
+    final List<ActorMetrics> hottest = new ArrayList<>(actorMetrics.values());
+    hottest.sort(Comparator.comparingLong(ActorMetrics::handlerTime).reversed());
+    return hottest.size() <= limit ? hottest : new ArrayList<>(hottest.subList(0, limit));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Unregisters my {@code MetricsMXBean}, if registered.
+   */
+  synchronized void close() {
+    if (objectName != null) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+      } catch (Exception e) {
+        // already unregistered
+      }
+      objectName = null;
+    }
+  }
+
+  /**
+   * Registers my {@code MetricsMXBean} for the {@code World} named {@code worldName}
+   * if I was constructed to do so, replacing any registered for a {@code World}
+   * of the same name.
+   * @param worldName the String name of my World
+   * @throws Exception if the MetricsMXBean cannot be registered
+   */
+  synchronized void open(final String worldName) throws Exception {
+    if (!enabled || !jmx || objectName != null) {
+      return;
+    }
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final ObjectName name = new ObjectName("io.vlingo.actors:type=Metrics,world=" + ObjectName.quote(worldName));
+    if (server.isRegistered(name)) {
+      server.unregisterMBean(name);
+    }
+    server.registerMBean(new MetricsView(), name);
+    objectName = name;
+  }
+
+  /**
+   * Answers new {@code ActorMetrics} for the {@code Actor} at {@code address},
+   * or null if I am not enabled.
+   * @param address the Address of the Actor
+   * @param type the {@code Class<? extends Actor>} of the Actor
+   * @return ActorMetrics
+   */
+  ActorMetrics register(final Address address, final Class<? extends Actor> type) {
+    if (!enabled) {
+      return null;
+    }
+    final ActorMetrics metrics = new ActorMetrics(address, type, subBucketBits, highestTrackableValue);
+    actorMetrics.put(address, metrics);
+    return metrics;
+  }
+
+  void unregister(final Address address) {
+    actorMetrics.remove(address);
+  }
+
+  private Metrics(final boolean enabled, final int subBucketBits, final long highestTrackableValue, final boolean jmx) {
+    this.enabled = enabled;
+    this.subBucketBits = subBucketBits;
+    this.highestTrackableValue = highestTrackableValue;
+    this.jmx = jmx;
+    this.actorMetrics = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * MetricsMXBean is the JMX view of the {@code Metrics} of a {@code World}.
+   */
+  public static interface MetricsMXBean {
+    int getActorCount();
+    long getMessagesDelivered();
+    List<MessageMetricsData> getMessageMetrics();
+  }
+
+  /**
+   * MessageMetricsData is the JMX view of one {@code MessageMetrics}, in nanoseconds.
+   */
+  public static final class MessageMetricsData {
+    private final String actor;
+    private final long delivered;
+    private final long handlerTimeMax;
+    private final double handlerTimeMean;
+    private final long handlerTimeP99;
+    private final long mailboxWaitMax;
+    private final double mailboxWaitMean;
+    private final long mailboxWaitP99;
+    private final String representation;
+
+    MessageMetricsData(final ActorMetrics actorMetrics, final MessageMetrics messageMetrics) {
+      final Histogram.Snapshot handlerTime = messageMetrics.handlerTime();
+      final Histogram.Snapshot mailboxWait = messageMetrics.mailboxWait();
+
+      this.actor = actorMetrics.type().getSimpleName() + "@" + actorMetrics.address().id();
+      this.representation = messageMetrics.representation();
+      this.delivered = handlerTime.count();
+      this.handlerTimeMax = handlerTime.max();
+      this.handlerTimeMean = handlerTime.mean();
+      this.handlerTimeP99 = handlerTime.valueAtPercentile(99);
+      this.mailboxWaitMax = mailboxWait.max();
+      this.mailboxWaitMean = mailboxWait.mean();
+      this.mailboxWaitP99 = mailboxWait.valueAtPercentile(99);
+    }
+
+    public String getActor() { return actor; }
+    public long getDelivered() { return delivered; }
+    public long getHandlerTimeMax() { return handlerTimeMax; }
+    public double getHandlerTimeMean() { return handlerTimeMean; }
+    public long getHandlerTimeP99() { return handlerTimeP99; }
+    public long getMailboxWaitMax() { return mailboxWaitMax; }
+    public double getMailboxWaitMean() { return mailboxWaitMean; }
+    public long getMailboxWaitP99() { return mailboxWaitP99; }
+    public String getRepresentation() { return representation; }
+  }
+
+  private final class MetricsView implements MetricsMXBean {
+    @Override
+    public int getActorCount() {
+      return actorMetrics.size();
+    }
+
+    @Override
+    public long getMessagesDelivered() {
+      long delivered = 0;
+      for (final ActorMetrics metrics : actorMetrics.values()) {
+        delivered += metrics.delivered();
+      }
+      return delivered;
+    }
+
+    @Override
+    public List<MessageMetricsData> getMessageMetrics() {
+      final List<MessageMetricsData> data = new ArrayList<>();
+      for (final ActorMetrics metrics : actorMetrics.values()) {
+        for (final MessageMetrics messageMetrics : metrics.messageMetrics()) {
+          data.add(new MessageMetricsData(metrics, messageMetrics));
+        }
+      }
+      return data;
+    }
+  }
+}
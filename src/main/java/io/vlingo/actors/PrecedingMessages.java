@@ -0,0 +1,87 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+/**
+ * PrecedingMessages holds the messages sent to a {@link Mailbox} by
+ * {@link Mailbox#sendAhead(Message[])}, which the {@code Mailbox} receives, in
+ * order, before any message in its queue. While none are held, answering that
+ * there are none costs a single volatile read.
+ */
+public final class PrecedingMessages {
+  private static final Message[] None = new Message[0];
+
+  private int index;
+  private volatile Message[] messages;
+
+  public PrecedingMessages() {
+    this.index = 0;
+    this.messages = None;
+  }
+
+  /**
+   * Adds {@code ahead}, in order, before all messages held and not yet polled.
+   * @param ahead the {@code Message[]} to add
+   */
+  public synchronized void addAhead(final Message[] ahead) {
+    final Message[] current = messages;
+    final int remaining = current.length - index;
+    final Message[] combined = new Message[ahead.length + remaining];
+    System.arraycopy(ahead, 0, combined, 0, ahead.length);
+    System.arraycopy(current, index, combined, ahead.length, remaining);
+    this.index = 0;
+    this.messages = combined.length == 0 ? None : combined;
+  }
+
+  /**
+   * Removes all messages held.
+   */
+  public synchronized void clear() {
+    this.index = 0;
+    this.messages = None;
+  }
+
+  /**
+   * Answers whether no messages are held.
+   * @return boolean
+   */
+  public boolean isEmpty() {
+    return messages == None;
+  }
+
+  /**
+   * Answers the next message held and removes it, or null if none are held.
+   * @return Message
+   */
+  public Message poll() {
+    if (messages == None) {
+      return null;
+    }
+    synchronized (this) {
+      final Message[] current = messages;
+      if (current == None) {
+        return null;
+      }
+      final Message message = current[index];
+      current[index] = null;
+      if (++index == current.length) {
+        this.index = 0;
+        this.messages = None;
+      }
+      return message;
+    }
+  }
+
+  /**
+   * Answers the number of messages held.
+   * @return int
+   */
+  public synchronized int size() {
+    return messages.length - index;
+  }
+}
@@ -24,7 +24,12 @@ public class RandomRoutingStrategy extends RoutingStrategyAdapter {
 
   @Override
   protected Routing chooseRouteFor(final List<Routee> routees) {
+    return Routing.with(chooseRouteeFor(routees));
+  }
+
+  @Override
+  protected Routee chooseRouteeFor(final List<Routee> routees) {
     int index = random.nextInt(routees.size());
-    return Routing.with(routees.get(index));
+    return routees.get(index);
   }
 }
@@ -14,6 +14,9 @@ public interface Registrar {
 
   void registerCommonSupervisor(final String stageName, final String name, final Class<?> supervisedProtocol, final Class<? extends Actor> supervisorClass);
   void registerDefaultSupervisor(final String stageName, final String name, final Class<? extends Actor> supervisorClass);
+  default void registerFailureReporter(final FailureReporter failureReporter) { }
+  default void registerMetrics(final Metrics metrics) { }
+  default void registerRuntimeListener(final RuntimeListener runtimeListener) { }
   void registerCompletesEventuallyProviderKeeper(final CompletesEventuallyProviderKeeper keeper);
   void registerLoggerProviderKeeper(final LoggerProviderKeeper keeper);
   void registerMailboxProviderKeeper(final MailboxProviderKeeper keeper);
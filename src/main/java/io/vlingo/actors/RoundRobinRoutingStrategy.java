@@ -24,7 +24,12 @@ public class RoundRobinRoutingStrategy extends RoutingStrategyAdapter {
   
   @Override
   protected Routing chooseRouteFor(final List<Routee> routees) {
-    final int nextIndex = lastIndex++ % routees.size();
-    return Routing.with(routees.get(nextIndex));
+    return Routing.with(chooseRouteeFor(routees));
+  }
+
+  @Override
+  protected Routee chooseRouteeFor(final List<Routee> routees) {
+    if (lastIndex >= routees.size()) lastIndex = 0;
+    return routees.get(lastIndex++);
   }
 }
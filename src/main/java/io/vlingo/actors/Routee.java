@@ -15,6 +15,8 @@ import java.util.stream.Collectors;
 public class Routee {
   
   private final Actor actor;
+  private Object lastProxy;
+  private Class<?> lastProtocol;
 
   static List<Routee> forAll(final List<Actor> children) {
     return children.stream()
@@ -31,7 +33,12 @@ public class Routee {
     return actor.lifeCycle.environment.mailbox.pendingMessages();
   }
   
+  @SuppressWarnings("unchecked")
   public <T> T as(final Class<T> protocol) {
-    return actor.selfAs(protocol);
+    if (lastProtocol != protocol) {
+      lastProxy = actor.selfAs(protocol);
+      lastProtocol = protocol;
+    }
+    return (T) lastProxy;
   }
 }
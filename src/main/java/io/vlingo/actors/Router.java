@@ -7,25 +7,58 @@
 package io.vlingo.actors;
 
 import java.util.List;
+import java.util.function.Function;
+
+import io.vlingo.common.Completes;
 /**
  * Router is a kind of {@link Actor} that forwards a message
  * to zero or more other {@link Actor actors} according to a
  * {@link Routing} that is computed by a {@link RoutingStrategy}.
+ * Routers of single-target strategies should prefer {@code computeRoutee()},
+ * which answers the chosen {@link Routee} without allocating a {@link Routing}.
+ * Queries answering a {@code Completes<R>} may be sent to all routees using
+ * {@code scatterGather()}, whose replies are aggregated by a {@link Gathering},
+ * or to one routee using {@code hedge()}, which also sends to a second routee
+ * when the first does not reply within the {@link HedgeThreshold}.
  */
 public abstract class Router extends Actor {
   
   //TODO: remove routees if their Actor is stopped
   //TODO: allow pool of routees to be dynamic / resizable
   
+  private static final double DefaultHedgePercentile = 95.0;
+  private static final long DefaultHedgeDelay = 10;
+
+  private final HedgeThreshold hedgeThreshold;
   private final List<Routee> routees;
   private final RoutingStrategy routingStrategy;
   
   protected Router(final RouterSpecification specification, final RoutingStrategy routingStrategy) {
-    for (int i = 0; i < specification.poolSize(); i++) {
-      childActorFor(specification.routerDefinition(), specification.routerProtocol());
+    this(specification, routingStrategy, HedgeThreshold.atPercentile(DefaultHedgePercentile, DefaultHedgeDelay));
+  }
+  
+  protected Router(final RouterSpecification specification, final RoutingStrategy routingStrategy, final HedgeThreshold hedgeThreshold) {
+    final BalancingMailbox[] mailboxes = specification.isSharedMailbox() ? new BalancingMailbox[specification.poolSize()] : null;
+    if (mailboxes != null) {
+      final BalancingMailbox.Pool pool = new BalancingMailbox.Pool(specification, stage().world().dispatcherTelemetry());
+      for (int i = 0; i < specification.poolSize(); i++) {
+        mailboxes[i] = pool.newMailbox();
+        childActorFor(specification.routerDefinition(), specification.routerProtocol(), mailboxes[i]);
+      }
+    } else {
+      for (int i = 0; i < specification.poolSize(); i++) {
+        childActorFor(specification.routerDefinition(), specification.routerProtocol());
+      }
+    }
+    final List<Actor> children = lifeCycle.environment.childrenSnapshot();
+    if (mailboxes != null) {
+      for (int i = 0; i < mailboxes.length; i++) {
+        mailboxes[i].bindTo(children.get(i));
+      }
     }
-    this.routees = Routee.forAll(lifeCycle.environment.children);
+    this.routees = Routee.forAll(children);
     this.routingStrategy = routingStrategy;
+    this.hedgeThreshold = hedgeThreshold;
   }
   
   protected <T1> Routing computeRouting(final T1 routable1) {
@@ -57,4 +90,75 @@ public abstract class Router extends Actor {
     routing.validate();
     return routing;
   }
+
+  protected <T1> Routee computeRoutee(final T1 routable1) {
+    return validate(routingStrategy.chooseRouteeFor(routable1, routees));
+  }
+
+  protected <T1, T2> Routee computeRoutee(final T1 routable1, final T2 routable2) {
+    return validate(routingStrategy.chooseRouteeFor(routable1, routable2, routees));
+  }
+
+  protected <T1, T2, T3> Routee computeRoutee(final T1 routable1, final T2 routable2, final T3 routable3) {
+    return validate(routingStrategy.chooseRouteeFor(routable1, routable2, routable3, routees));
+  }
+
+  protected <T1, T2, T3, T4> Routee computeRoutee(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4) {
+    return validate(routingStrategy.chooseRouteeFor(routable1, routable2, routable3, routable4, routees));
+  }
+
+  protected <T1, T2, T3, T4, T5> Routee computeRoutee(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final T5 routable5) {
+    return validate(routingStrategy.chooseRouteeFor(routable1, routable2, routable3, routable4, routable5, routees));
+  }
+
+  /**
+   * Answers the eventual outcome of sending the {@code query} to all routees and gathering
+   * their replies according to {@code gathering}. The outcome fails if the required replies
+   * are not received within {@code timeout} milliseconds.
+   * @param protocol the {@code Class<P>} protocol of the routees
+   * @param query the {@code Function<P, Completes<R>>} that sends the query to one routee
+   * @param gathering the {@code Gathering<R, O>} that aggregates the replies
+   * @param timeout the long milliseconds to wait for the required replies, or 0 to wait indefinitely
+   * @param <P> the protocol type
+   * @param <R> the reply type
+   * @param <O> the outcome type
+   * @return {@code Completes<O>}
+   */
+  protected <P, R, O> Completes<O> scatterGather(final Class<P> protocol, final Function<P, Completes<R>> query, final Gathering<R, O> gathering, final long timeout) {
+    final Completes<O> completes = Completes.using(scheduler());
+    final ScatterGather<R, O> gatherer = new ScatterGather<>(completes, gathering, routees.size());
+    gatherer.timeoutAfter(scheduler(), timeout);
+    for (final Routee routee : routees) {
+      query.apply(routee.as(protocol)).andThenConsume(gatherer::reply);
+    }
+    return completes;
+  }
+
+  /**
+   * Answers the eventual outcome of sending the {@code query} to {@code routee}, and also to
+   * the next routee in the pool if no reply is received within the {@link HedgeThreshold} delay.
+   * The first reply is the outcome, which fails if no reply is received within {@code timeout}
+   * milliseconds.
+   * @param routee the {@code Routee} to send the query to first, such as answered by {@code computeRoutee()}
+   * @param protocol the {@code Class<P>} protocol of the routees
+   * @param query the {@code Function<P, Completes<R>>} that sends the query to one routee
+   * @param timeout the long milliseconds to wait for a reply, or 0 to wait indefinitely
+   * @param <P> the protocol type
+   * @param <R> the reply type
+   * @return {@code Completes<R>}
+   */
+  protected <P, R> Completes<R> hedge(final Routee routee, final Class<P> protocol, final Function<P, Completes<R>> query, final long timeout) {
+    final Completes<R> completes = Completes.using(scheduler());
+    final Routee next = routees.get((routees.indexOf(routee) + 1) % routees.size());
+    final P secondary = next == routee ? null : next.as(protocol);
+    final Hedge<P, R> hedge = new Hedge<>(completes, hedgeThreshold, secondary, query);
+    hedge.send(routee.as(protocol), scheduler(), timeout);
+    return completes;
+  }
+
+  private Routee validate(final Routee routee) {
+    if (routee == null)
+      throw new IllegalStateException("routee may not be null");
+    return routee;
+  }
 }
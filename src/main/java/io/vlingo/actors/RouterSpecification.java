@@ -8,20 +8,29 @@ package io.vlingo.actors;
 /**
  * RouterSpecification specifies the definition and protocol of
  * the {@link Actor actors} to which a {@link Router} will route,
- * as well as other details such as pool size.
+ * as well as other details such as pool size. When {@code sharedMailbox}
+ * is requested, all routees take messages of the {@code routerProtocol}
+ * from a single shared queue, so an idle routee always receives the
+ * next message while a busy routee builds no backlog of its own.
  */
 public class RouterSpecification {
   
   private final int poolSize; //TODO: refactor towards resizable pool
   private final Definition routerDefinition;
   private final Class<?> routerProtocol;
+  private final boolean sharedMailbox;
   
   public RouterSpecification(final int poolSize, final Definition routerDefinition, final Class<?> routerProtocol) {
+    this(poolSize, routerDefinition, routerProtocol, false);
+  }
+  
+  public RouterSpecification(final int poolSize, final Definition routerDefinition, final Class<?> routerProtocol, final boolean sharedMailbox) {
     if (poolSize <= 0)
       throw new IllegalArgumentException("poolSize must be 1 or greater");
     this.poolSize = poolSize;
     this.routerDefinition = routerDefinition;
     this.routerProtocol = routerProtocol;
+    this.sharedMailbox = sharedMailbox;
   }
 
   public int poolSize() {
@@ -35,4 +44,8 @@ public class RouterSpecification {
   public Class<?> routerProtocol() {
     return routerProtocol;
   }
+  
+  public boolean isSharedMailbox() {
+    return sharedMailbox;
+  }
 }
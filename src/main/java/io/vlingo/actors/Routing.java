@@ -7,11 +7,9 @@
 package io.vlingo.actors;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 /**
  * Routing is an ordered sequence of {@link Routee routees} that
  * was computed by a {@link RoutingStrategy} and whose elements
@@ -24,7 +22,7 @@ public class Routing {
   }
 
   public static Routing with(final Routee routee) {
-    return new Routing(Arrays.asList(routee));
+    return new Routing(Collections.singletonList(routee));
   }
   
   public static Routing with(final Optional<Routee> routeeOrNull) {
@@ -54,9 +52,23 @@ public class Routing {
   }
   
   public <T> List<T> routeesAs(final Class<T> protocol) {
-    return routees.stream()
-            .map(routee -> routee.as(protocol))
-            .collect(Collectors.toList());
+    final List<T> protocols = new ArrayList<>(routees.size());
+    for (final Routee routee : routees) {
+      protocols.add(routee.as(protocol));
+    }
+    return protocols;
+  }
+
+  /**
+   * Answers the only {@code Routee} of this {@code Routing}.
+   * @return Routee
+   * @throws IllegalStateException if there is not exactly one {@code Routee}
+   */
+  public Routee single() {
+    validate();
+    if (routees.size() > 1)
+      throw new IllegalStateException("routees must be exactly one but are: " + routees.size());
+    return routees.get(0);
   }
 
   public boolean isEmpty() {
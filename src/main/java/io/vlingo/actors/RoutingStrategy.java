@@ -12,6 +12,11 @@ import java.util.List;
  * {@link Routing} for a message based on a defined strategy
  * (e.g., round robin, smallest mailbox, etc.). An empty {@link Routing}
  * is not legal and will result in an {@link IllegalStateException}.
+ * <p>
+ * Strategies that always choose exactly one {@link Routee} should
+ * also answer it directly from {@code chooseRouteeFor()}, which
+ * avoids allocating a {@link Routing} for every routed message.
+ * The default implementations fall back to {@code chooseRouteFor()}.
  */
 public interface RoutingStrategy {
   <T1> Routing chooseRouteFor(final T1 routable1, final List<Routee> routees);
@@ -19,4 +24,15 @@ public interface RoutingStrategy {
   <T1, T2, T3> Routing chooseRouteFor(final T1 routable1, final T2 routable2, final T3 routable3, final List<Routee> routees);
   <T1, T2, T3, T4> Routing chooseRouteFor(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final List<Routee> routees);
   <T1, T2, T3, T4, T5> Routing chooseRouteFor(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final T5 routable5, final List<Routee> routees);
+
+  default <T1> Routee chooseRouteeFor(final T1 routable1, final List<Routee> routees)
+    { return chooseRouteFor(routable1, routees).single(); }
+  default <T1, T2> Routee chooseRouteeFor(final T1 routable1, final T2 routable2, final List<Routee> routees)
+    { return chooseRouteFor(routable1, routable2, routees).single(); }
+  default <T1, T2, T3> Routee chooseRouteeFor(final T1 routable1, final T2 routable2, final T3 routable3, final List<Routee> routees)
+    { return chooseRouteFor(routable1, routable2, routable3, routees).single(); }
+  default <T1, T2, T3, T4> Routee chooseRouteeFor(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final List<Routee> routees)
+    { return chooseRouteFor(routable1, routable2, routable3, routable4, routees).single(); }
+  default <T1, T2, T3, T4, T5> Routee chooseRouteeFor(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final T5 routable5, final List<Routee> routees)
+    { return chooseRouteFor(routable1, routable2, routable3, routable4, routable5, routees).single(); }
 }
@@ -21,6 +21,17 @@ public abstract class RoutingStrategyAdapter implements RoutingStrategy {
     throw new IllegalStateException(getClass().getName() + " must implement chooseRouteFor(List<Routeee>)");
   }
 
+  /**
+   * Answers the single {@code Routee} chosen from {@code routees} without allocating
+   * a {@code Routing}, or {@code null} if this strategy does not choose a single
+   * {@code Routee} independently of the routables. Override for single-target strategies.
+   * @param routees the {@code List<Routee>} from which to choose
+   * @return Routee
+   */
+  protected Routee chooseRouteeFor(final List<Routee> routees) {
+    return null;
+  }
+
   /* @see io.vlingo.actors.RoutingStrategy#chooseRouteFor(java.lang.Object, java.util.List) */
   @Override
   public <T1> Routing chooseRouteFor(final T1 routable1, final List<Routee> routees) {
@@ -50,4 +61,39 @@ public abstract class RoutingStrategyAdapter implements RoutingStrategy {
   public <T1, T2, T3, T4, T5> Routing chooseRouteFor(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final T5 routable5, final List<Routee> routees) {
     return chooseRouteFor(routees);
   }
+
+  /* @see io.vlingo.actors.RoutingStrategy#chooseRouteeFor(java.lang.Object, java.util.List) */
+  @Override
+  public <T1> Routee chooseRouteeFor(final T1 routable1, final List<Routee> routees) {
+    final Routee routee = chooseRouteeFor(routees);
+    return routee != null ? routee : chooseRouteFor(routable1, routees).single();
+  }
+
+  /* @see io.vlingo.actors.RoutingStrategy#chooseRouteeFor(java.lang.Object, java.lang.Object, java.util.List) */
+  @Override
+  public <T1, T2> Routee chooseRouteeFor(final T1 routable1, final T2 routable2, final List<Routee> routees) {
+    final Routee routee = chooseRouteeFor(routees);
+    return routee != null ? routee : chooseRouteFor(routable1, routable2, routees).single();
+  }
+
+  /* @see io.vlingo.actors.RoutingStrategy#chooseRouteeFor(java.lang.Object, java.lang.Object, java.lang.Object, java.util.List) */
+  @Override
+  public <T1, T2, T3> Routee chooseRouteeFor(final T1 routable1, final T2 routable2, final T3 routable3, final List<Routee> routees) {
+    final Routee routee = chooseRouteeFor(routees);
+    return routee != null ? routee : chooseRouteFor(routable1, routable2, routable3, routees).single();
+  }
+
+  /* @see io.vlingo.actors.RoutingStrategy#chooseRouteeFor(java.lang.Object, java.lang.Object, java.lang.Object, java.lang.Object, java.util.List) */
+  @Override
+  public <T1, T2, T3, T4> Routee chooseRouteeFor(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final List<Routee> routees) {
+    final Routee routee = chooseRouteeFor(routees);
+    return routee != null ? routee : chooseRouteFor(routable1, routable2, routable3, routable4, routees).single();
+  }
+
+  /* @see io.vlingo.actors.RoutingStrategy#chooseRouteeFor(java.lang.Object, java.lang.Object, java.lang.Object, java.lang.Object, java.lang.Object, java.util.List) */
+  @Override
+  public <T1, T2, T3, T4, T5> Routee chooseRouteeFor(final T1 routable1, final T2 routable2, final T3 routable3, final T4 routable4, final T5 routable5, final List<Routee> routees) {
+    final Routee routee = chooseRouteeFor(routees);
+    return routee != null ? routee : chooseRouteFor(routable1, routable2, routable3, routable4, routable5, routees).single();
+  }
 }
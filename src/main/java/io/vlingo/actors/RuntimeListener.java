@@ -0,0 +1,78 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+/**
+ * RuntimeListener is told of the events in the life of the {@code Actor}s of a
+ * {@code World}, such as to record them with a profiler. At most one is registered
+ * with a {@code World}, by a plugin, and when none is registered the runtime does
+ * no more than a null check. Each method is invoked on the thread of the event,
+ * often in the midst of delivery, so it must be quick and must not throw.
+ */
+public interface RuntimeListener {
+  /**
+   * Tells of the creation of {@code actor}.
+   * @param actor the Actor created
+   */
+  default void actorCreated(final Actor actor) { }
+
+  /**
+   * Tells of the stopping of {@code actor}.
+   * @param actor the Actor stopped
+   */
+  default void actorStopped(final Actor actor) { }
+
+  /**
+   * Tells of the undeliverable {@code deadLetter}.
+   * @param deadLetter the DeadLetter
+   */
+  default void deadLetter(final DeadLetter deadLetter) { }
+
+  /**
+   * Tells of the failure of {@code actor} to handle the message {@code representation},
+   * just before it is supervised.
+   * @param actor the Actor that failed
+   * @param representation the String representation of the message
+   * @param throwable the Throwable causing the failure
+   */
+  default void failed(final Actor actor, final String representation, final Throwable throwable) { }
+
+  /**
+   * Tells of the delivery of the message {@code representation} to {@code actor}.
+   * @param actor the Actor to which the message was delivered
+   * @param representation the String representation of the message
+   * @param mailboxWait the long nanoseconds the message waited in the Mailbox, or 0 if unknown
+   * @param handlerTime the long nanoseconds the Actor spent handling the message
+   */
+  default void messageDelivered(final Actor actor, final String representation, final long mailboxWait, final long handlerTime) { }
+
+  /**
+   * Tells of the enqueuing of the message {@code representation} for {@code actor}.
+   * @param actor the Actor for which the message was enqueued
+   * @param representation the String representation of the message
+   */
+  default void messageEnqueued(final Actor actor, final String representation) { }
+
+  /**
+   * Tells of the generation and compilation of a proxy for {@code protocol}.
+   * @param protocol the {@code Class<?>} of the protocol
+   * @param proxyClassname the String name of the proxy class
+   * @param elapsed the long nanoseconds taken to generate and compile the proxy
+   */
+  default void proxyGenerated(final Class<?> protocol, final String proxyClassname, final long elapsed) { }
+
+  /**
+   * Answers whether the {@code mailboxWait} of {@code messageDelivered()} is needed,
+   * asked as each message is enqueued. When not, the time of enqueuing is not read
+   * and {@code mailboxWait} is 0 unless known for another reason.
+   * @return boolean
+   */
+  default boolean requiresMailboxWait() {
+    return true;
+  }
+}
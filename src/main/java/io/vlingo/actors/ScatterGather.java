@@ -0,0 +1,69 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.vlingo.common.Cancellable;
+import io.vlingo.common.Completes;
+import io.vlingo.common.Scheduled;
+import io.vlingo.common.Scheduler;
+
+/**
+ * ScatterGather collects the replies of one scatter-gather of a {@link Router}.
+ * Replies arrive on the threads that complete the routees' {@code Completes},
+ * and the timeout on the {@code Scheduler} thread, so all state is guarded
+ * by this instance.
+ * @param <R> the reply type of each routee
+ * @param <O> the aggregated outcome type
+ */
+final class ScatterGather<R, O> implements Scheduled {
+  private Cancellable cancellable;
+  private final Completes<O> completes;
+  private boolean completed;
+  private final Gathering<R, O> gathering;
+  private final List<R> replies;
+  private final int required;
+
+  ScatterGather(final Completes<O> completes, final Gathering<R, O> gathering, final int scattered) {
+    this.completes = completes;
+    this.gathering = gathering;
+    this.required = gathering.requiredOf(scattered);
+    this.replies = new ArrayList<>(required);
+  }
+
+  synchronized void timeoutAfter(final Scheduler scheduler, final long timeout) {
+    if (!completed && timeout > 0) {
+      cancellable = scheduler.scheduleOnce(this, null, 0, timeout);
+    }
+  }
+
+  void reply(final R reply) {
+    final O outcome;
+    synchronized (this) {
+      if (completed) return;
+      replies.add(reply);
+      if (replies.size() < required) return;
+      completed = true;
+      if (cancellable != null) cancellable.cancel();
+      outcome = gathering.outcomeOf(replies);
+    }
+    completes.with(outcome);
+  }
+
+  /* @see io.vlingo.common.Scheduled#intervalSignal(io.vlingo.common.Scheduled, java.lang.Object) */
+  @Override
+  public void intervalSignal(final Scheduled scheduled, final Object data) {
+    synchronized (this) {
+      if (completed) return;
+      completed = true;
+    }
+    completes.failed();
+  }
+}
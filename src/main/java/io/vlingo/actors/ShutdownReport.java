@@ -0,0 +1,43 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+/**
+ * ShutdownReport is the outcome of draining and terminating a {@code World} by
+ * {@code World.terminate(long)}: the number of {@code Actor}s stopped once they
+ * had delivered the messages sent to them before they were asked to stop, the
+ * number stopped at the deadline instead, the messages still pending in the
+ * mailboxes of both when they stopped, and the nanoseconds the drain took.
+ */
+public final class ShutdownReport {
+  public final int drained;
+  public final long dropped;
+  public final long elapsed;
+  public final int forced;
+
+  ShutdownReport(final int drained, final int forced, final long dropped, final long elapsed) {
+    this.drained = drained;
+    this.forced = forced;
+    this.dropped = dropped;
+    this.elapsed = elapsed;
+  }
+
+  /**
+   * Answers whether every {@code Actor} was drained before the deadline and no
+   * message was dropped.
+   * @return boolean
+   */
+  public boolean isLossless() {
+    return forced == 0 && dropped == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "ShutdownReport[drained=" + drained + " forced=" + forced + " dropped=" + dropped + " elapsed=" + elapsed + "]";
+  }
+}
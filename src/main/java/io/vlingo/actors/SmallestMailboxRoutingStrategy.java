@@ -19,10 +19,17 @@ public class SmallestMailboxRoutingStrategy extends RoutingStrategyAdapter {
   
   @Override
   protected Routing chooseRouteFor(final List<Routee> routees) {
+    final Routee least = chooseRouteeFor(routees);
+    return least == null ? Routing.empty() : Routing.with(least);
+  }
+
+  @Override
+  protected Routee chooseRouteeFor(final List<Routee> routees) {
     Routee least = null;
     int leastCount = Integer.MAX_VALUE;
-    for (Routee routee : routees) {
-      int count = routee.pendingMessages();
+    for (int idx = 0; idx < routees.size(); ++idx) {
+      final Routee routee = routees.get(idx);
+      final int count = routee.pendingMessages();
       if (count == 0) {
         least = routee;
         break;
@@ -32,6 +39,6 @@ public class SmallestMailboxRoutingStrategy extends RoutingStrategyAdapter {
         leastCount = count;
       }
     }
-    return least == null ? Routing.empty() : Routing.with(least);
+    return least;
   }
 }
@@ -10,20 +10,29 @@ package io.vlingo.actors;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin;
+import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin.ConcurrentQueueMailboxPluginConfiguration;
+import io.vlingo.actors.plugin.mailbox.sharded.ShardedMailboxPlugin;
+import io.vlingo.actors.plugin.mailbox.sharded.ShardedMailboxPlugin.ShardedMailboxPluginConfiguration;
 import io.vlingo.actors.plugin.mailbox.testkit.TestMailbox;
 import io.vlingo.actors.testkit.TestActor;
 import io.vlingo.common.Completes;
 import io.vlingo.common.Scheduler;
 
 public class Stage implements Stoppable {
+  private static final long StopAwaitMillis = 100L;
+
   private final Map<Class<?>, Supervisor> commonSupervisors;
   private final Directory directory;
-  private DirectoryScanner directoryScanner;
+  private volatile DirectoryScanner directoryScanner;
+  private final String mailboxName;
   private final String name;
   private final Scheduler scheduler;
   private AtomicBoolean stopped;
+  private final Object stopping = new Object();
   private final World world;
 
   /**
@@ -162,7 +171,8 @@ public class Stage implements Stoppable {
    * @return {@code Completes<T>}
    */
   public <T> Completes<T> actorOf(final Address address, final Class<T> protocol) {
-    return directoryScanner.actorOf(address, protocol);
+    final DirectoryScanner scanner = directoryScanner;
+    return (scanner != null ? scanner : startDirectoryScanner()).actorOf(address, protocol);
   }
 
   /**
@@ -291,10 +301,7 @@ public class Stage implements Stoppable {
 
     sweep();
 
-    int retries = 0;
-    while (count() > 1 && ++retries < 10) {
-      try { Thread.sleep(10L); } catch (Exception e) {}
-    }
+    awaitStopped();
     
     scheduler.close();
   }
@@ -319,6 +326,16 @@ public class Stage implements Stoppable {
     this.commonSupervisors = new HashMap<>();
     this.scheduler = new Scheduler();
     this.stopped = new AtomicBoolean(false);
+    this.mailboxName = startMailboxOf(world, world.configuration().stageConfiguration(name));
+  }
+
+  /**
+   * Answers the {@code String} name of the mailbox of my {@code Actor}s whose
+   * {@code Definition} names none, or null if that of the {@code World}. (INTERNAL ONLY)
+   * @return String
+   */
+  String mailboxName() {
+    return mailboxName;
   }
 
   /**
@@ -336,6 +353,22 @@ public class Stage implements Stoppable {
     return actor.protocolActor();
   }
 
+  /**
+   * Answers the T protocol for the newly created Actor instance that uses the possible Mailbox. (INTERNAL ONLY)
+   * @param definition the Definition of the Actor
+   * @param protocol the {@code Class<T>} protocol of the Actor
+   * @param parent the Actor parent of this Actor
+   * @param maybeMailbox the possible Mailbox of this Actor
+   * @param maybeSupervisor the possible Supervisor of this Actor
+   * @param logger the Logger of this Actor
+   * @param <T> the protocol type
+   * @return T
+   */
+  <T> T actorFor(final Definition definition, final Class<T> protocol, final Actor parent, final Mailbox maybeMailbox, final Supervisor maybeSupervisor, final Logger logger) {
+    ActorProtocolActor<T> actor = actorProtocolFor(definition, protocol, parent, null, maybeMailbox, maybeSupervisor, logger);
+    return actor.protocolActor();
+  }
+
 
   /**
    * Answers the ActorProtocolActor[] for the newly created Actor instance. (INTERNAL ONLY)
@@ -476,10 +509,30 @@ public class Stage implements Stoppable {
   }
 
   /**
-   * Start the directory scan process in search for a given Actor instance. (INTERNAL ONLY)
+   * Start the directory scan process in search for a given Actor instance, if not
+   * already started, which with a fast start is when first used. (INTERNAL ONLY)
+   * @return DirectoryScanner
    */
-  void startDirectoryScanner() {
-    this.directoryScanner = actorFor(Definition.has(DirectoryScannerActor.class, Definition.parameters(directory)), DirectoryScanner.class);
+  synchronized DirectoryScanner startDirectoryScanner() {
+    if (directoryScanner == null) {
+      this.directoryScanner = actorFor(Definition.has(DirectoryScannerActor.class, Definition.parameters(directory)), DirectoryScanner.class);
+    }
+    return directoryScanner;
+  }
+
+  /**
+   * Removes the Actor at {@code address} from my Directory, and wakes my stop() if it is
+   * awaiting the last of them. (INTERNAL ONLY)
+   * @param address the Address of the stopped Actor
+   */
+  void removeFromDirectory(final Address address) {
+    directory.remove(address);
+
+    if (stopped.get()) {
+      synchronized (stopping) {
+        stopping.notifyAll();
+      }
+    }
   }
 
   /**
@@ -573,6 +626,62 @@ public class Stage implements Stoppable {
     return actor;
   }
 
+  /**
+   * Answers the {@code String} name of my mailbox according to {@code configuration},
+   * starting a {@code queueMailbox} of my own if it has dispatchers. (INTERNAL ONLY)
+   * @param world the World of this Stage
+   * @param configuration the StageConfiguration of this Stage, or null if none
+   * @return String
+   */
+  private String startMailboxOf(final World world, final StageConfiguration configuration) {
+    // the default stage is created before the mailbox plugins are started
+    if (configuration == null || name.equals(World.DEFAULT_STAGE)) {
+      return null;
+    }
+    if (configuration.numberOfShards() > 0) {
+      final ShardedMailboxPlugin mailbox =
+              new ShardedMailboxPlugin(
+                      ShardedMailboxPluginConfiguration
+                        .define()
+                        .name("stage." + name)
+                        .numberOfShards(configuration.numberOfShards())
+                        .dispatcherThrottlingCount(configuration.dispatcherThrottlingCount()));
+      mailbox.start(world);
+      return mailbox.name();
+    }
+    if (configuration.numberOfDispatchers() > 0) {
+      final ConcurrentQueueMailboxPlugin mailbox =
+              new ConcurrentQueueMailboxPlugin(
+                      ConcurrentQueueMailboxPluginConfiguration
+                        .define()
+                        .name("stage." + name)
+                        .numberOfDispatchers(configuration.numberOfDispatchers())
+                        .dispatcherThrottlingCount(configuration.dispatcherThrottlingCount()));
+      mailbox.start(world);
+      return mailbox.name();
+    }
+    return configuration.mailbox();
+  }
+
+  /**
+   * Awaits, for at most {@code StopAwaitMillis}, the removal of all Actor instances but the
+   * last from my Directory, being woken as each is removed. (INTERNAL ONLY)
+   */
+  private void awaitStopped() {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(StopAwaitMillis);
+    synchronized (stopping) {
+      long remaining;
+      while (count() > 1 && (remaining = deadline - System.nanoTime()) > 0) {
+        try {
+          TimeUnit.NANOSECONDS.timedWait(stopping, remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
   /**
    * Stops all Actor instances from the PrivateRootActor down to the last child. (INTERNAL ONLY)
    */
@@ -0,0 +1,127 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import java.util.Properties;
+
+/**
+ * StageConfiguration isolates the {@code Actor}s of the named {@code Stage} from
+ * those of other stages. With {@code numberOfShards} greater than zero, the
+ * {@code Stage} is sharded: it has a {@code shardedMailbox} of its own, named
+ * {@code stage.<name>}, that partitions its {@code Actor}s among that many shards,
+ * typically one per core, each delivering on a thread of its own and sharing nothing
+ * with the others. Otherwise, with {@code numberOfDispatchers} greater than zero, the
+ * {@code Stage} has a {@code queueMailbox} of its own, named {@code stage.<name>},
+ * whose dispatcher has that many threads and {@code dispatcherThrottlingCount},
+ * and whose telemetry is reported under its name. Otherwise, {@code mailbox} names
+ * the shared mailbox that its {@code Actor}s use. Either is used by the {@code Actor}s
+ * whose {@code Definition} names no mailbox of its own. In {@code vlingo-actors.properties}:
+ * <pre>
+ * stage.batch.numberOfDispatchers = 2
+ * stage.batch.dispatcherThrottlingCount = 10
+ * stage.market.numberOfShards = 8
+ * stage.trading.mailbox = ringMailbox
+ * </pre>
+ * The default {@code Stage} uses the shared mailboxes configured by their plugins.
+ */
+public class StageConfiguration {
+  private static final String stageNamePrefix = "stage.";
+
+  private int dispatcherThrottlingCount;
+  private String mailbox;
+  private final String name;
+  private int numberOfDispatchers;
+  private int numberOfShards;
+
+  public static StageConfiguration define(final String name) {
+    return new StageConfiguration(name);
+  }
+
+  /**
+   * Answers the {@code StageConfiguration} of the {@code Stage} named {@code name}
+   * from the {@code properties}, or null if there is none.
+   * @param name the String name of the Stage
+   * @param properties the Properties from which to read it
+   * @return StageConfiguration
+   */
+  static StageConfiguration from(final String name, final Properties properties) {
+    final String prefix = stageNamePrefix + name + ".";
+    final String numberOfDispatchers = properties.getProperty(prefix + "numberOfDispatchers");
+    final String numberOfShards = properties.getProperty(prefix + "numberOfShards");
+    final String mailbox = properties.getProperty(prefix + "mailbox");
+    if (numberOfDispatchers == null && numberOfShards == null && mailbox == null) {
+      return null;
+    }
+    return define(name)
+            .numberOfDispatchers(Integer.parseInt(numberOfDispatchers == null ? "0" : numberOfDispatchers))
+            .numberOfShards(Integer.parseInt(numberOfShards == null ? "0" : numberOfShards))
+            .dispatcherThrottlingCount(Integer.parseInt(properties.getProperty(prefix + "dispatcherThrottlingCount", "1")))
+            .mailbox(mailbox);
+  }
+
+  /**
+   * Answers the {@code String} name of the {@code Stage} of the property {@code key},
+   * or null if {@code key} does not configure a {@code Stage}.
+   * @param key the String key of a property
+   * @return String
+   */
+  static String stageNameOf(final String key) {
+    if (key.startsWith(stageNamePrefix)) {
+      final int end = key.lastIndexOf('.');
+      if (end > stageNamePrefix.length()) {
+        return key.substring(stageNamePrefix.length(), end);
+      }
+    }
+    return null;
+  }
+
+  public StageConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+    this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+    return this;
+  }
+
+  public int dispatcherThrottlingCount() {
+    return dispatcherThrottlingCount;
+  }
+
+  public StageConfiguration mailbox(final String mailbox) {
+    this.mailbox = mailbox;
+    return this;
+  }
+
+  public String mailbox() {
+    return mailbox;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public StageConfiguration numberOfDispatchers(final int numberOfDispatchers) {
+    this.numberOfDispatchers = numberOfDispatchers;
+    return this;
+  }
+
+  public int numberOfDispatchers() {
+    return numberOfDispatchers;
+  }
+
+  public StageConfiguration numberOfShards(final int numberOfShards) {
+    this.numberOfShards = numberOfShards;
+    return this;
+  }
+
+  public int numberOfShards() {
+    return numberOfShards;
+  }
+
+  private StageConfiguration(final String name) {
+    this.name = name;
+    this.dispatcherThrottlingCount = 1;
+  }
+}
@@ -31,20 +31,24 @@ public class StageSupervisedActor implements Supervised {
     if (failureThresholdReached(period, intensity)) {
       stop(scope);
     } else {
-      if (scope == Scope.One) {
-        restartWithin(actor, period, intensity);
-      } else {
-        for (final Actor actor : selfWithSiblings()) {
-          restartWithin(actor, period, intensity);
-        }
-      }
+      restart(scope);
     }
   }
 
+  @Override
+  public void restartWithBackoff(final CircuitBreakerStrategy strategy) {
+    final long delay = environmentOf(actor).circuitBreaker().open(strategy);
+    actor.lifeCycle.stashWhileSuspended(actor, strategy.stashCapacity());
+    // the supervisor is informed again once the delay elapses, so that the restart runs as supervision does
+    final Supervisor supervisor = supervisor();
+    final Supervised halfOpening = new HalfOpeningSupervisedActor(protocol, actor, throwable);
+    actor.scheduler().scheduleOnce((scheduled, data) -> supervisor.inform(throwable, halfOpening), null, 0, delay);
+  }
+
   @Override
   public void resume() {
     actor.lifeCycle.beforeResume(actor, throwable, protocol);
-    actor.lifeCycle.resume();
+    actor.lifeCycle.resume(actor);
   }
 
   @Override
@@ -80,7 +84,7 @@ public class StageSupervisedActor implements Supervised {
   }
 
   private Collection<Actor> selfWithSiblings() {
-    return environmentOf(environmentOf(actor).parent).children;
+    return environmentOf(environmentOf(actor).parent).childrenSnapshot();
   }
 
   private Environment environmentOf(final Actor actor) {
@@ -91,7 +95,24 @@ public class StageSupervisedActor implements Supervised {
     return environmentOf(actor).failureMark.failedWithExcessiveFailures(period, intensity);
   }
 
-  private void restartWithin(final Actor actor, final long period, final int intensity) {
+  private void halfOpen(final Scope scope) {
+    if (!actor.isStopped()) {
+      environmentOf(actor).circuitBreaker().halfOpen();
+      restart(scope);
+    }
+  }
+
+  private void restart(final Scope scope) {
+    if (scope == Scope.One) {
+      restart(actor);
+    } else {
+      for (final Actor actor : selfWithSiblings()) {
+        restart(actor);
+      }
+    }
+  }
+
+  private void restart(final Actor actor) {
     actor.lifeCycle.beforeRestart(actor, throwable, protocol);
     // TODO: Actually restart actor here? I am not
     // yet convinced that it is necessary or practical.
@@ -99,4 +120,19 @@ public class StageSupervisedActor implements Supervised {
     actor.lifeCycle.afterRestart(actor, throwable, protocol);
     resume();
   }
+
+  /**
+   * HalfOpeningSupervisedActor is the {@code Supervised} with which the supervisor is
+   * informed when the circuit is to be half open, which restarts when backed off.
+   */
+  private static final class HalfOpeningSupervisedActor extends StageSupervisedActor {
+    private HalfOpeningSupervisedActor(final Class<?> protocol, final Actor actor, final Throwable throwable) {
+      super(protocol, actor, throwable);
+    }
+
+    @Override
+    public void restartWithBackoff(final CircuitBreakerStrategy strategy) {
+      super.halfOpen(strategy.scope());
+    }
+  }
 }
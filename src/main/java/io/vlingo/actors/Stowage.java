@@ -7,50 +7,82 @@
 
 package io.vlingo.actors;
 
-import java.util.LinkedList;
-import java.util.Queue;
-
+/**
+ * Stowage holds the messages of an {@code Actor} that are set aside while it stows
+ * or is suspended, until they are dispersed. The messages are referenced directly
+ * by a ring of array slots that grows by doubling rather than copied, so stowing
+ * and dispersing allocate nothing once the ring is large enough. The ring is kept for reuse when reset. Messages that a preallocated
+ * {@code Mailbox} reuses are copied when stowed.
+ * When dispersed, all messages are taken at once, in order, to be sent ahead of
+ * those pending in the {@code Mailbox}.
+ * Stowing may be limited to a capacity, beyond which messages are handled according
+ * to an {@link Overflow} policy.
+ */
 public class Stowage {
-  private Queue<Message> stowedMessages;
+  private static final Message[] Empty = new Message[0];
+  private static final int InitialCapacity = 8;
+  private static final int Unlimited = Integer.MAX_VALUE;
+
+  private int capacity;
+  private int count;
   private boolean dispersing;
+  private int head;
+  private Overflow overflow;
+  private Message[] ring;
   private boolean stowing;
 
+  /**
+   * Overflow is the policy for a message stowed when the stowage is at capacity.
+   */
+  public enum Overflow {
+    /** The newly stowed message is sent to dead letters. */
+    DeadLetterNewest,
+    /** The oldest stowed message is sent to dead letters, and the newly stowed message is kept. */
+    DeadLetterOldest
+  }
+
   public Stowage() {
+    this.capacity = Unlimited;
     this.dispersing = false;
+    this.overflow = Overflow.DeadLetterNewest;
+    this.ring = Empty;
     this.stowing = false;
-    reset();
   }
 
   @Override
   public String toString() {
     return "Stowage[stowing=" + stowing + ", dispersing=" + dispersing +
-           " messages=" + stowedMessages + "]";
+           " messages=" + count + "]";
   }
 
   int count() {
-    return stowedMessages.size();
+    return count;
   }
 
   void dump(final Logger logger) {
-    for (final Message message : stowedMessages) {
-      logger.log("STOWED: " + message);
+    for (int index = 0; index < count; ++index) {
+      logger.log("STOWED: " + ring[(head + index) & (ring.length - 1)]);
     }
   }
 
   boolean hasMessages() {
-    return !stowedMessages.isEmpty();
+    return count > 0;
   }
 
   Message head() {
-    if (stowedMessages.isEmpty()) {
+    if (count == 0) {
       reset();
       return null;
     }
-    return stowedMessages.poll();
+    return take();
   }
 
   void reset() {
-    this.stowedMessages = new LinkedList<>();
+    for (int index = 0; index < count; ++index) {
+      ring[(head + index) & (ring.length - 1)] = null;
+    }
+    this.count = 0;
+    this.head = 0;
     this.stowing = false;
     this.dispersing = false;
   }
@@ -60,6 +92,14 @@ public class Stowage {
   }
 
   void stowingMode() {
+    stowingMode(Unlimited, Overflow.DeadLetterNewest);
+  }
+
+  void stowingMode(final int capacity, final Overflow overflow) {
+    if (capacity < 0)
+      throw new IllegalArgumentException("capacity must be 0 or greater");
+    this.capacity = capacity;
+    this.overflow = overflow;
     this.stowing = true;
     this.dispersing = false;
   }
@@ -79,28 +119,72 @@ public class Stowage {
     }
   }
 
-  @SuppressWarnings({ "rawtypes", "unchecked" })
   void stow(final Message message) {
     if (isStowing()) {
-      final Message toStow;
-      if (message.isStowed()) {
-        toStow = message;
-      } else {
-        toStow = new StowedLocalMessage((LocalMessage) message);
+      if (count >= capacity) {
+        if (overflow == Overflow.DeadLetterOldest && count > 0) {
+          deadLetter(take());
+        } else {
+          deadLetter(message);
+          return;
+        }
       }
-      stowedMessages.add(toStow);
+      add(message);
+    }
+  }
+
+  /**
+   * Answers all stowed messages in order, or an empty array if there are none,
+   * and resets me.
+   * @return {@code Message[]}
+   */
+  Message[] takeAll() {
+    final Message[] all = new Message[count];
+    for (int index = 0; index < all.length; ++index) {
+      all[index] = take();
     }
+    reset();
+    return all;
   }
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
-  Message swapWith(final Message newerMessage) {
-    if (stowedMessages.isEmpty()) {
-      reset();
-      return newerMessage;
+  private void add(final Message message) {
+    final Message toStow =
+            message instanceof LocalMessage && ((LocalMessage) message).preallocated ?
+                    new LocalMessage((LocalMessage) message) :
+                    message;
+    if (count == ring.length) {
+      grow();
+    }
+    ring[(head + count) & (ring.length - 1)] = toStow;
+    ++count;
+  }
+
+  private Message take() {
+    final Message message = ring[head];
+    ring[head] = null;
+    head = (head + 1) & (ring.length - 1);
+    --count;
+    return message;
+  }
+
+  private void deadLetter(final Message message) {
+    final Actor actor = message.actor();
+    final DeadLetter deadLetter = new DeadLetter(actor, message.representation());
+    final DeadLetters deadLetters = actor.deadLetters();
+    if (deadLetters != null) {
+      deadLetters.failedDelivery(deadLetter);
+    } else {
+      actor.logger().log("vlingo/actors: MISSING DEAD LETTERS FOR: " + deadLetter);
+    }
+  }
+
+  private void grow() {
+    final Message[] grown = new Message[ring.length == 0 ? InitialCapacity : ring.length * 2];
+    for (int index = 0; index < count; ++index) {
+      grown[index] = ring[(head + index) & (ring.length - 1)];
     }
-    
-    final Message olderMessage = head();
-    stowedMessages.add(new StowedLocalMessage((LocalMessage) newerMessage));
-    return olderMessage;
+    ring = grown;
+    head = 0;
   }
 }
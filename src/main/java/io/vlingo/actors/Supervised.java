@@ -13,6 +13,16 @@ public interface Supervised {
   Address address();
   void escalate();
   void restartWithin(final long period, final int intensity, final Scope scope);
+
+  /**
+   * Restarts after a delay that backs off according to {@code strategy}. Unless overridden,
+   * restarts within the period and intensity of {@code strategy} without delay.
+   * @param strategy the CircuitBreakerStrategy of the delays and stashing
+   */
+  default void restartWithBackoff(final CircuitBreakerStrategy strategy) {
+    restartWithin(strategy.period(), strategy.intensity(), strategy.scope());
+  }
+
   void resume();
   void stop(final Scope scope);
   Supervisor supervisor();
@@ -9,10 +9,14 @@ package io.vlingo.actors;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.vlingo.actors.plugin.completes.DefaultCompletesEventuallyProviderKeeper;
 import io.vlingo.actors.plugin.logging.DefaultLoggerProviderKeeper;
 import io.vlingo.actors.plugin.mailbox.DefaultMailboxProviderKeeper;
+import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin;
+import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin.ConcurrentQueueMailboxPluginConfiguration;
+import io.vlingo.common.Cancellable;
 import io.vlingo.common.Completes;
 
 /**
@@ -32,15 +36,26 @@ public final class World implements Registrar {
 
   private final AddressFactory addressFactory;
   private final Configuration configuration;
+  private final DispatcherTelemetry.Registry dispatcherTelemetry;
   private final String name;
   private final Map<String, Stage> stages;
   private final Map<String, Object> dynamicDependencies;
+  private final long startedAt;
+  private final AtomicLong timeToFirstMessage;
+
+  private volatile boolean awaitingFirstMessage;
+  private volatile boolean blockingMailboxStarted;
+  private volatile Drain drain;
 
   private CompletesEventuallyProviderKeeper completesProviderKeeper;
   private DeadLetters deadLetters;
   private Logger defaultLogger;
+  private FailureReporter failureReporter;
+  private Cancellable failureSummary;
+  private Metrics metrics;
   private Actor defaultParent;
   private Supervisor defaultSupervisor;
+  private RuntimeListener runtimeListener;
   private LoggerProviderKeeper loggerProviderKeeper;
   private MailboxProviderKeeper mailboxProviderKeeper;
   private Stoppable privateRoot;
@@ -200,6 +215,40 @@ public final class World implements Registrar {
     return this.defaultLogger;
   }
 
+  /**
+   * Answers the {@code FailureReporter} that counts and logs the dead letters and
+   * message delivery failures of this {@code World}.
+   * @return FailureReporter
+   */
+  public FailureReporter failureReporter() {
+    return failureReporter;
+  }
+
+  /**
+   * Answers the {@code DispatcherTelemetry.Registry} of the {@code Dispatcher}s of this {@code World}.
+   * @return DispatcherTelemetry.Registry
+   */
+  public DispatcherTelemetry.Registry dispatcherTelemetry() {
+    return dispatcherTelemetry;
+  }
+
+  /**
+   * Answers the {@code Metrics} of the {@code Actor}s of this {@code World}, which
+   * record nothing unless enabled by the {@code metrics} plugin.
+   * @return Metrics
+   */
+  public Metrics metrics() {
+    return metrics;
+  }
+
+  /**
+   * Answers the {@code RuntimeListener} of this {@code World}, or null if none is registered.
+   * @return RuntimeListener
+   */
+  public RuntimeListener runtimeListener() {
+    return runtimeListener;
+  }
+
   /**
    * Answers the {@code Actor} that serves as the default parent for this {@code World}.
    * Unless overridden using {@code Configuration} (e.g. {@code Properties} or fluent {@code Configuration})
@@ -310,6 +359,54 @@ public final class World implements Registrar {
     }
   }
 
+  /**
+   * Registers the {@code FailureReporter} plugin, replacing the current one, and
+   * schedules its summaries if it has a {@code summaryInterval}.
+   * @param failureReporter the {@code FailureReporter} to register
+   */
+  @Override
+  public synchronized void registerFailureReporter(final FailureReporter failureReporter) {
+    if (this.failureSummary != null) {
+      this.failureSummary.cancel();
+      this.failureSummary = null;
+    }
+    this.failureReporter = failureReporter;
+    if (failureReporter.summaryInterval() > 0) {
+      this.failureSummary =
+              stage().scheduler().schedule(
+                      (scheduled, data) -> failureReporter.summarize(defaultLogger()),
+                      null,
+                      failureReporter.summaryInterval(),
+                      failureReporter.summaryInterval());
+    }
+  }
+
+  /**
+   * Registers the {@code Metrics} plugin, replacing the current one. Only the
+   * {@code Actor}s started after registration have their metrics recorded.
+   * @param metrics the {@code Metrics} to register
+   */
+  @Override
+  public synchronized void registerMetrics(final Metrics metrics) {
+    this.metrics.close();
+    this.metrics = metrics;
+    try {
+      metrics.open(name);
+    } catch (Exception e) {
+      defaultLogger().log("vlingo/actors: World cannot register the metrics MXBean of: " + name, e);
+    }
+  }
+
+  /**
+   * Registers the {@code RuntimeListener} plugin, replacing the current one. Only
+   * the {@code Actor}s started after registration tell of their messages.
+   * @param runtimeListener the {@code RuntimeListener} to register
+   */
+  @Override
+  public synchronized void registerRuntimeListener(final RuntimeListener runtimeListener) {
+    this.runtimeListener = runtimeListener;
+  }
+
   /**
    * Registers the {@code CompletesEventuallyProviderKeeper} plugin.
    * @param keeper the {@code CompletesEventuallyProviderKeeper} to register
@@ -385,26 +482,45 @@ public final class World implements Registrar {
 
     if (stage == null) {
       stage = new Stage(this, name);
-      if (!name.equals(DEFAULT_STAGE)) stage.startDirectoryScanner();
+      if (!name.equals(DEFAULT_STAGE) && !configuration.isFastStart()) stage.startDirectoryScanner();
       stages.put(name, stage);
     }
 
     return stage;
   }
 
+  /**
+   * Answers the {@code long} nanoseconds from the start of this {@code World} until
+   * the first message was delivered to an {@code Actor} created after it started,
+   * or -1 if none has been delivered yet.
+   * @return long
+   */
+  public long timeToFirstMessage() {
+    final long elapsed = timeToFirstMessage.get();
+    return elapsed == 0 ? -1 : elapsed;
+  }
+
   /**
    * Answers whether or not this {@code World} has been terminated or is in the process of termination.
    * @return boolean
    */
   public boolean isTerminated() {
-    return stage().isStopped();
+    return drain != null || stage().isStopped();
   }
 
   /**
    * Initiates the {@code World} terminate process if the process has not already been initiated.
    */
   public void terminate() {
-    if (!isTerminated()) {
+    if (!stage().isStopped()) {
+      synchronized (this) {
+        if (failureSummary != null) {
+          failureSummary.cancel();
+          failureSummary = null;
+        }
+        metrics.close();
+      }
+
       for (final Stage stage : stages.values()) {
         stage.stop();
       }
@@ -412,7 +528,37 @@ public final class World implements Registrar {
       loggerProviderKeeper.close();
       mailboxProviderKeeper.close();
       completesProviderKeeper.close();
+      dispatcherTelemetry.close();
+    }
+  }
+
+  /**
+   * Answers the {@code Completes<ShutdownReport>} that completes when this {@code World}
+   * has been drained and terminated. No new {@code Actor} may be created through me
+   * once draining starts. The {@code Actor}s under the default parent are sent
+   * {@code stop()} leaves-first, each once all of its children have stopped, so that
+   * each first delivers the messages already sent to it, and the mailboxes of all
+   * leaves drain at once. Those not stopped within {@code timeout} milliseconds are
+   * stopped at once, and the messages left in their mailboxes are reported as dropped.
+   * If draining or termination has already started, the {@code ShutdownReport} is
+   * of the drain already started, or empty.
+   * @param timeout the long milliseconds within which to drain
+   * @return {@code Completes<ShutdownReport>}
+   */
+  public Completes<ShutdownReport> terminate(final long timeout) {
+    final Drain started;
+    synchronized (this) {
+      if (drain != null) {
+        return drain.completes();
+      }
+      if (stage().isStopped()) {
+        return Completes.withSuccess(new ShutdownReport(0, 0, 0, 0));
+      }
+      started = new Drain(this);
+      drain = started;
     }
+    started.start(defaultParent(), timeout);
+    return started.completes();
   }
 
   /**
@@ -424,6 +570,33 @@ public final class World implements Registrar {
     return this;
   }
 
+  /**
+   * Answers the {@code Drain} of this {@code World}, or null if it is not draining. (INTERNAL ONLY)
+   * @return Drain
+   */
+  Drain drain() {
+    return drain;
+  }
+
+  /**
+   * Answers whether the {@code Actor}s now created are to record the first message
+   * delivered to them, which is until the first has been delivered. (INTERNAL ONLY)
+   * @return boolean
+   */
+  boolean isAwaitingFirstMessage() {
+    return awaitingFirstMessage;
+  }
+
+  /**
+   * Records that an {@code Actor} created after this {@code World} started has
+   * delivered its first message, the first of which is my {@code timeToFirstMessage()}. (INTERNAL ONLY)
+   */
+  void firstMessageDelivered() {
+    if (timeToFirstMessage.compareAndSet(0, Math.max(1, System.nanoTime() - startedAt))) {
+      awaitingFirstMessage = false;
+    }
+  }
+
   /**
    * Answers the {@code Mailbox} instance by {@code mailboxName} and {@code hashCode}. (INTERNAL ONLY)
    * @param mailboxName the {@code String} name of the {@code Mailbox} type to use
@@ -434,6 +607,33 @@ public final class World implements Registrar {
     return mailboxProviderKeeper.assignMailbox(mailboxName, hashCode);
   }
 
+  /**
+   * Starts the {@code Definition.BlockingMailbox} when first needed, unless one
+   * has been registered by its plugin. Its dispatcher is separate from the others,
+   * and its pool of threads is elastic and bounded as configured. (INTERNAL ONLY)
+   */
+  void startBlockingMailbox() {
+    if (blockingMailboxStarted) {
+      return;
+    }
+    synchronized (this) {
+      if (!blockingMailboxStarted) {
+        if (!mailboxProviderKeeper.isValidMailboxName(Definition.BlockingMailbox)) {
+          new ConcurrentQueueMailboxPlugin(
+                  ConcurrentQueueMailboxPluginConfiguration
+                    .define()
+                    .name(Definition.BlockingMailbox)
+                    .numberOfDispatchers(configuration.blockingMaximumThreads())
+                    .keepAlive(configuration.blockingKeepAlive())
+                    .virtualThreads(configuration.isBlockingVirtualThreads())
+                    .dispatcherThrottlingCount(1))
+            .start(this);
+        }
+        blockingMailboxStarted = true;
+      }
+    }
+  }
+
   /**
    * Answers a {@code name} for a {@code Mailbox} given a {@code candidateMailboxName}, which if non-existing
    * the {@code name} of the default {@code Mailbox} is answered. (INTERNAL ONLY)
@@ -530,6 +730,8 @@ public final class World implements Registrar {
    * @param configuration the {@code Configuration} to use to initialize various {@code World} facilities
    */
   private World(final String name, final Configuration configuration) {
+    this.startedAt = System.nanoTime();
+    this.timeToFirstMessage = new AtomicLong(0);
     this.name = name;
     this.configuration = configuration;
     this.addressFactory = new BasicAddressFactory();
@@ -538,6 +740,9 @@ public final class World implements Registrar {
     this.mailboxProviderKeeper = new DefaultMailboxProviderKeeper();
     this.stages = new ConcurrentHashMap<>();
     this.dynamicDependencies = new ConcurrentHashMap<>();
+    this.failureReporter = FailureReporter.logEvery();
+    this.dispatcherTelemetry = new DispatcherTelemetry.Registry(name);
+    this.metrics = Metrics.disabled();
 
     final Stage defaultStage = stageNamed(DEFAULT_STAGE);
 
@@ -548,7 +753,11 @@ public final class World implements Registrar {
 
     configuration.startPlugins(this, 2);
 
-    defaultStage.startDirectoryScanner();
+    if (!configuration.isFastStart()) {
+      defaultStage.startDirectoryScanner();
+    }
+
+    this.awaitingFirstMessage = true;
   }
 
   /**
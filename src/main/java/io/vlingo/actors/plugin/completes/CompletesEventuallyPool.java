@@ -8,6 +8,7 @@
 package io.vlingo.actors.plugin.completes;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import io.vlingo.actors.CompletesEventually;
 import io.vlingo.actors.CompletesEventuallyActor;
@@ -17,45 +18,54 @@ import io.vlingo.actors.PooledCompletes;
 import io.vlingo.actors.Stage;
 import io.vlingo.common.Completes;
 
+/**
+ * CompletesEventuallyPool provides {@code CompletesEventually} actors round-robin
+ * from a pool of {@code poolSize}. Unless {@code lazy}, the actors are all created
+ * when initialized; otherwise each is created when first provided, so that a fast
+ * starting {@code World} does not create actors it may never use.
+ */
 public class CompletesEventuallyPool implements CompletesEventuallyProvider {
   private final AtomicLong completesEventuallyId;
+  private final boolean lazy;
   private final String mailboxName;
-  private final CompletesEventually[] pool;
+  private final AtomicReferenceArray<CompletesEventually> pool;
   private final AtomicLong poolIndex;
-  private final long poolSize;
+  private final int poolSize;
+  private volatile Stage stage;
 
-  CompletesEventuallyPool(final int poolSize, final String mailboxName) {
+  CompletesEventuallyPool(final int poolSize, final String mailboxName, final boolean lazy) {
     this.completesEventuallyId = new AtomicLong(0);
     this.poolSize = poolSize;
     this.mailboxName = mailboxName;
+    this.lazy = lazy;
     this.poolIndex = new AtomicLong(0);
-    this.pool = new CompletesEventually[poolSize];
+    this.pool = new AtomicReferenceArray<>(poolSize);
   }
 
   @Override
   public void close() {
-    for (final CompletesEventually completes : pool) {
-      completes.stop();
+    for (int idx = 0; idx < poolSize; ++idx) {
+      final CompletesEventually completes = pool.get(idx);
+      if (completes != null) {
+        completes.stop();
+      }
     }
   }
 
   @Override
   public CompletesEventually completesEventually() {
     final int index = (int)(poolIndex.incrementAndGet() % poolSize);
-    return pool[index];
+    final CompletesEventually completes = pool.get(index);
+    return completes != null ? completes : completesEventuallyAt(index);
   }
 
   @Override
   public void initializeUsing(final Stage stage) {
-    for (int idx = 0; idx < poolSize; ++idx) {
-      pool[idx] =
-              stage.actorFor(
-                      Definition.has(
-                              CompletesEventuallyActor.class,
-                              Definition.NoParameters,
-                              mailboxName,
-                              "completes-eventually-" + (idx + 1)),
-                      CompletesEventually.class);
+    this.stage = stage;
+    if (!lazy) {
+      for (int idx = 0; idx < poolSize; ++idx) {
+        completesEventuallyAt(idx);
+      }
     }
   }
 
@@ -66,4 +76,20 @@ public class CompletesEventuallyPool implements CompletesEventuallyProvider {
             clientCompletes,
             completesEventually());
   }
+
+  private synchronized CompletesEventually completesEventuallyAt(final int index) {
+    CompletesEventually completes = pool.get(index);
+    if (completes == null) {
+      completes =
+              stage.actorFor(
+                      Definition.has(
+                              CompletesEventuallyActor.class,
+                              Definition.NoParameters,
+                              mailboxName,
+                              "completes-eventually-" + (index + 1)),
+                      CompletesEventually.class);
+      pool.set(index, completes);
+    }
+    return completes;
+  }
 }
@@ -45,7 +45,11 @@ public class PooledCompletesPlugin extends AbstractPlugin implements Plugin {
 
   @Override
   public void start(final Registrar registrar) {
-    this.completesEventuallyProvider = new CompletesEventuallyPool(this.pooledCompletesPluginConfiguration.poolSize, this.pooledCompletesPluginConfiguration.mailbox);
+    this.completesEventuallyProvider =
+            new CompletesEventuallyPool(
+                    this.pooledCompletesPluginConfiguration.poolSize,
+                    this.pooledCompletesPluginConfiguration.mailbox,
+                    registrar.world().configuration().isFastStart());
     registrar.register(pooledCompletesPluginConfiguration.name(), completesEventuallyProvider);
   }
 
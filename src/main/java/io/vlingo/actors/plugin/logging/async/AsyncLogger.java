@@ -0,0 +1,183 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.logging.async;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import io.vlingo.actors.Logger;
+import io.vlingo.actors.plugin.logging.async.AsyncLoggerPlugin.AsyncLoggerPluginConfiguration;
+import io.vlingo.actors.plugin.logging.async.LogEntryRing.Entry;
+
+/**
+ * AsyncLogger places each entry in a preallocated {@link LogEntryRing} and
+ * answers at once. A single daemon thread drains the ring, formats each entry,
+ * including the stack trace of any {@code Throwable}, into a reused buffer, and
+ * writes it to a {@link MappedRollingFile}. Logging thus allocates nothing on
+ * the calling thread and never waits for I/O. Entries that arrive while the
+ * ring is full are dropped and counted, and the count is written to the log.
+ * If the file cannot be written, logging is disabled and the failure is reported
+ * to the {@code fallback} logger, which is looked up only then.
+ * <p>
+ * An {@code AsyncLogger} is used directly rather than through an {@code Actor},
+ * which would cost a {@code Consumer} and a {@code Message} for each entry.
+ */
+public class AsyncLogger implements Logger {
+  private static final long IdleNanos = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final int ForceEveryIdle = 100;
+
+  private final Thread drainer;
+  private volatile boolean enabled;
+  private final Supplier<Logger> fallback;
+  private final MappedRollingFile file;
+  private final StringBuilder line;
+  private final String name;
+  private final LogEntryRing ring;
+
+  public AsyncLogger(final String name, final AsyncLoggerPluginConfiguration configuration, final Supplier<Logger> fallback) throws IOException {
+    this.name = name;
+    this.fallback = fallback;
+    this.ring = new LogEntryRing(configuration.ringSize());
+    this.file = new MappedRollingFile(configuration.filePath(), configuration.fileSize(), configuration.fileCount());
+    this.line = new StringBuilder(1024);
+    this.enabled = true;
+    this.drainer = new Thread(this::drain, "vlingo-actors-async-logger-" + name);
+    this.drainer.setDaemon(true);
+    this.drainer.start();
+  }
+
+  /**
+   * Stops accepting entries, writes those remaining, and closes the file.
+   */
+  @Override
+  public void close() {
+    if (!enabled) {
+      return;
+    }
+    enabled = false;
+    LockSupport.unpark(drainer);
+    try {
+      drainer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  @Override
+  public void log(final String message) {
+    if (enabled) {
+      ring.offer(System.currentTimeMillis(), Thread.currentThread().getName(), message, null);
+    }
+  }
+
+  @Override
+  public void log(final String message, final Throwable throwable) {
+    if (enabled) {
+      ring.offer(System.currentTimeMillis(), Thread.currentThread().getName(), message, throwable);
+    }
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  private void drain() {
+    int idle = 0;
+    while (true) {
+      final int written = drainAvailable();
+      if (written > 0) {
+        idle = 0;
+      } else if (!enabled) {
+        drainAvailable();
+        break;
+      } else {
+        if (++idle == ForceEveryIdle) {
+          file.force();
+        }
+        LockSupport.parkNanos(IdleNanos);
+      }
+    }
+    file.close();
+  }
+
+  private int drainAvailable() {
+    int written = 0;
+    Entry entry;
+    while ((entry = ring.poll()) != null) {
+      write(entry);
+      ring.release(entry);
+      ++written;
+    }
+
+    final long dropped = ring.takeDropped();
+    if (dropped > 0) {
+      line.setLength(0);
+      line.append(System.currentTimeMillis()).append(' ').append(name)
+          .append(": ").append(dropped).append(" entries were dropped because the ring of ")
+          .append(ring.capacity()).append(" was full\n");
+      write(line);
+    }
+
+    return written;
+  }
+
+  private void write(final Entry entry) {
+    line.setLength(0);
+    line.append(entry.timestamp).append(" [").append(entry.thread).append("] ")
+        .append(name).append(": ").append(entry.message).append('\n');
+    if (entry.throwable != null) {
+      appendStackTrace(entry.throwable);
+    }
+    write(line);
+  }
+
+  private void write(final CharSequence text) {
+    try {
+      file.write(text);
+    } catch (IOException e) {
+      enabled = false;
+      fallback.get().log("vlingo/actors: AsyncLogger " + name + " failed to write and is disabled because: " + e.getMessage(), e);
+    }
+  }
+
+  private void appendStackTrace(final Throwable throwable) {
+    final Map<Throwable,Throwable> seen = new IdentityHashMap<>();
+    Throwable current = throwable;
+    String caption = "";
+    while (current != null && !seen.containsKey(current)) {
+      seen.put(current, current);
+      line.append(caption).append(current).append('\n');
+      for (final StackTraceElement element : current.getStackTrace()) {
+        line.append("\tat ").append(element.getClassName()).append('.').append(element.getMethodName()).append('(');
+        if (element.isNativeMethod()) {
+          line.append("Native Method");
+        } else if (element.getFileName() == null) {
+          line.append("Unknown Source");
+        } else {
+          line.append(element.getFileName());
+          if (element.getLineNumber() >= 0) {
+            line.append(':').append(element.getLineNumber());
+          }
+        }
+        line.append(")\n");
+      }
+      current = current.getCause();
+      caption = "Caused by: ";
+    }
+  }
+}
@@ -0,0 +1,173 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.logging.async;
+
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.Logger;
+import io.vlingo.actors.LoggerProvider;
+import io.vlingo.actors.Registrar;
+import io.vlingo.actors.World;
+import io.vlingo.actors.plugin.AbstractPlugin;
+import io.vlingo.actors.plugin.Plugin;
+import io.vlingo.actors.plugin.PluginConfiguration;
+import io.vlingo.actors.plugin.PluginProperties;
+import io.vlingo.actors.plugin.logging.jdk.JDKLogger;
+
+/**
+ * AsyncLoggerPlugin provides an {@link AsyncLogger}. Since it writes to a file,
+ * it is not started by default, but only when enabled by properties:
+ * <pre>
+ * plugin.name.asyncLogger = true
+ * plugin.asyncLogger.classname = io.vlingo.actors.plugin.logging.async.AsyncLoggerPlugin
+ * plugin.asyncLogger.defaultLogger = true
+ * plugin.asyncLogger.ringSize = 8192
+ * plugin.asyncLogger.file.path = vlingo-actors.log
+ * plugin.asyncLogger.file.size = 67108864
+ * plugin.asyncLogger.file.count = 3
+ * </pre>
+ */
+public class AsyncLoggerPlugin extends AbstractPlugin implements Plugin, LoggerProvider {
+  private final AsyncLoggerPluginConfiguration asyncLoggerPluginConfiguration;
+  private Logger logger;
+
+  public AsyncLoggerPlugin() {
+    this.asyncLoggerPluginConfiguration = AsyncLoggerPluginConfiguration.define();
+  }
+
+  @Override
+  public void close() {
+    if (logger != null) {
+      logger.close();
+    }
+  }
+
+  @Override
+  public String name() {
+    return asyncLoggerPluginConfiguration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return asyncLoggerPluginConfiguration;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    try {
+      logger = new AsyncLogger(asyncLoggerPluginConfiguration.name(), asyncLoggerPluginConfiguration, () -> fallbackLogger(registrar));
+    } catch (Exception e) {
+      throw new IllegalStateException("Cannot open the log file: " + asyncLoggerPluginConfiguration.filePath(), e);
+    }
+    registrar.register(asyncLoggerPluginConfiguration.name(), asyncLoggerPluginConfiguration.isDefaultLogger(), this);
+  }
+
+  @Override
+  public Logger logger() {
+    return logger;
+  }
+
+  /**
+   * Answers the standard logger of the {@code World}, as the {@code World} itself
+   * falls back to, or a standalone one if there is no {@code World}.
+   */
+  private Logger fallbackLogger(final Registrar registrar) {
+    final World world = registrar.world();
+    return world == null ? JDKLogger.testInstance() : LoggerProvider.standardLoggerProvider(world, "vlingo").logger();
+  }
+
+  public static class AsyncLoggerPluginConfiguration implements PluginConfiguration {
+    private boolean defaultLogger;
+    private int fileCount = 3;
+    private String filePath = "vlingo-actors.log";
+    private int fileSize = 64 * 1024 * 1024;
+    private String name = "asyncLogger";
+    private int ringSize = 8192;
+
+    public static AsyncLoggerPluginConfiguration define() {
+      return new AsyncLoggerPluginConfiguration();
+    }
+
+    public AsyncLoggerPluginConfiguration defaultLogger() {
+      this.defaultLogger = true;
+      return this;
+    }
+
+    public boolean isDefaultLogger() {
+      return defaultLogger;
+    }
+
+    public AsyncLoggerPluginConfiguration fileCount(final int fileCount) {
+      this.fileCount = fileCount;
+      return this;
+    }
+
+    public int fileCount() {
+      return fileCount;
+    }
+
+    public AsyncLoggerPluginConfiguration filePath(final String filePath) {
+      this.filePath = filePath;
+      return this;
+    }
+
+    public String filePath() {
+      return filePath;
+    }
+
+    public AsyncLoggerPluginConfiguration fileSize(final int fileSize) {
+      this.fileSize = fileSize;
+      return this;
+    }
+
+    public int fileSize() {
+      return fileSize;
+    }
+
+    public AsyncLoggerPluginConfiguration name(final String name) {
+      this.name = name;
+      return this;
+    }
+
+    public AsyncLoggerPluginConfiguration ringSize(final int ringSize) {
+      this.ringSize = ringSize;
+      return this;
+    }
+
+    public int ringSize() {
+      return ringSize;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      configuration.with(defaultLogger().name("vlingo/actors"));
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+
+      this.defaultLogger = properties.getBoolean("defaultLogger", true);
+      this.ringSize = properties.getInteger("ringSize", 8192);
+      this.filePath = properties.getString("file.path", "vlingo-actors.log");
+      this.fileSize = properties.getInteger("file.size", 64 * 1024 * 1024);
+      this.fileCount = properties.getInteger("file.count", 3);
+
+      configuration.with(this);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
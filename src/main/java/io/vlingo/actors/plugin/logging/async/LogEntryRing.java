@@ -0,0 +1,128 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.logging.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LogEntryRing is a bounded, multiple-producer, single-consumer ring of
+ * preallocated {@code Entry} instances. Each slot carries its own sequence, so
+ * that a producer claims a slot with one compare-and-set and publishes it with
+ * one ordered write, and the consumer never takes a lock. A producer never
+ * waits: when the ring is full the entry is counted as dropped instead.
+ */
+final class LogEntryRing {
+  private final Entry[] entries;
+  private final AtomicLong dropped;
+  private final int mask;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail;
+  private long head;
+
+  LogEntryRing(final int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("capacity must be a power of two of 2 or greater");
+    }
+
+    this.entries = new Entry[capacity];
+    this.sequences = new AtomicLongArray(capacity);
+    for (int index = 0; index < capacity; ++index) {
+      entries[index] = new Entry();
+      sequences.set(index, index);
+    }
+    this.dropped = new AtomicLong();
+    this.mask = capacity - 1;
+    this.tail = new AtomicLong();
+    this.head = 0;
+  }
+
+  int capacity() {
+    return entries.length;
+  }
+
+  /**
+   * Answers and resets the count of entries dropped because I was full.
+   * @return long
+   */
+  long takeDropped() {
+    return dropped.getAndSet(0);
+  }
+
+  /**
+   * Answers whether the entry was placed, or dropped because I am full.
+   * @param timestamp the long milliseconds of the entry
+   * @param thread the String name of the logging thread
+   * @param message the String message
+   * @param throwable the Throwable, which may be null
+   * @return boolean
+   */
+  boolean offer(final long timestamp, final String thread, final String message, final Throwable throwable) {
+    while (true) {
+      final long position = tail.get();
+      final int index = (int) position & mask;
+      final long difference = sequences.get(index) - position;
+
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          entries[index].set(timestamp, thread, message, throwable);
+          sequences.lazySet(index, position + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        dropped.incrementAndGet();
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Answers the next published {@code Entry}, or null if there is none. The
+   * answered {@code Entry} must be released by {@code release(Entry)} before
+   * the next {@code poll()}. Must be used only by the single consumer.
+   * @return Entry
+   */
+  Entry poll() {
+    final int index = (int) head & mask;
+    if (sequences.get(index) != head + 1) {
+      return null;
+    }
+    return entries[index];
+  }
+
+  /**
+   * Releases the {@code Entry} answered by the previous {@code poll()} for reuse.
+   * @param entry the Entry to release
+   */
+  void release(final Entry entry) {
+    entry.clear();
+    final int index = (int) head & mask;
+    sequences.lazySet(index, head + entries.length);
+    ++head;
+  }
+
+  static final class Entry {
+    String message;
+    String thread;
+    Throwable throwable;
+    long timestamp;
+
+    private void clear() {
+      this.message = null;
+      this.thread = null;
+      this.throwable = null;
+    }
+
+    private void set(final long timestamp, final String thread, final String message, final Throwable throwable) {
+      this.timestamp = timestamp;
+      this.thread = thread;
+      this.message = message;
+      this.throwable = throwable;
+    }
+  }
+}
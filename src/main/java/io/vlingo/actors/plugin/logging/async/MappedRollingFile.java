@@ -0,0 +1,147 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.logging.async;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * MappedRollingFile writes UTF-8 text into a memory-mapped file of a fixed size.
+ * When the text does not fit the current file, the file is truncated to its
+ * written length and rolled: {@code path} becomes {@code path.1}, {@code path.1}
+ * becomes {@code path.2}, and so on, the oldest beyond {@code count} being
+ * deleted. A non-empty {@code path} left by a previous run is rolled the same
+ * way when constructed, so that it is kept. Must be used only by a single thread.
+ */
+final class MappedRollingFile {
+  private CharBuffer chars;
+  private final int count;
+  private final CharsetEncoder encoder;
+  private RandomAccessFile file;
+  private MappedByteBuffer mapped;
+  private final String path;
+  private final int size;
+
+  MappedRollingFile(final String path, final int size, final int count) throws IOException {
+    if (size < 1024) throw new IllegalArgumentException("size must be 1024 or greater");
+    if (count < 1) throw new IllegalArgumentException("count must be 1 or greater");
+
+    this.path = path;
+    this.size = size;
+    this.count = count;
+    this.chars = CharBuffer.allocate(1024);
+    this.encoder =
+            StandardCharsets.UTF_8.newEncoder()
+              .onMalformedInput(CodingErrorAction.REPLACE)
+              .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    final File parent = new File(path).getAbsoluteFile().getParentFile();
+    if (parent != null) {
+      parent.mkdirs();
+    }
+
+    if (new File(path).length() > 0) {
+      shiftGenerations();
+    }
+
+    open();
+  }
+
+  /**
+   * Closes the current file, truncated to its written length.
+   */
+  void close() {
+    try {
+      if (file != null) {
+        mapped.force();
+        file.getChannel().truncate(mapped.position());
+        file.close();
+      }
+    } catch (IOException e) {
+      // nothing more can be done about it
+    } finally {
+      file = null;
+      mapped = null;
+    }
+  }
+
+  /**
+   * Forces the written text to the storage device.
+   */
+  void force() {
+    if (mapped != null) {
+      mapped.force();
+    }
+  }
+
+  /**
+   * Writes all of {@code text}, rolling to the next file if it does not fit
+   * the current one. A text larger than a whole file is split across files.
+   * @param text the CharSequence to write
+   * @throws IOException if a file cannot be rolled
+   */
+  void write(final CharSequence text) throws IOException {
+    if (mapped == null) {
+      return;
+    }
+
+    final int length = text.length();
+    if (chars.capacity() < length) {
+      chars = CharBuffer.allocate(Math.max(length, chars.capacity() * 2));
+    }
+    chars.clear();
+    for (int index = 0; index < length; ++index) {
+      chars.put(text.charAt(index));
+    }
+    chars.flip();
+
+    encoder.reset();
+    while (true) {
+      final CoderResult result = encoder.encode(chars, mapped, true);
+      if (result.isOverflow()) {
+        roll();
+      } else {
+        break;
+      }
+    }
+    while (encoder.flush(mapped).isOverflow()) {
+      roll();
+    }
+  }
+
+  private void open() throws IOException {
+    file = new RandomAccessFile(path, "rw");
+    file.setLength(0);
+    mapped = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+  }
+
+  private void roll() throws IOException {
+    close();
+    shiftGenerations();
+    open();
+  }
+
+  private void shiftGenerations() {
+    new File(path + "." + count).delete();
+    for (int generation = count - 1; generation >= 1; --generation) {
+      final File older = new File(path + "." + generation);
+      if (older.exists()) {
+        older.renameTo(new File(path + "." + (generation + 1)));
+      }
+    }
+    new File(path).renameTo(new File(path + ".1"));
+  }
+}
@@ -11,15 +11,16 @@ import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.MailboxProvider;
 import io.vlingo.actors.MailboxProviderKeeper;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DefaultMailboxProviderKeeper implements MailboxProviderKeeper {
   private final Map<String, MailboxProviderInfo> mailboxProviderInfos;
-  private MailboxProviderInfo defaultProvider;
+  private volatile MailboxProviderInfo defaultProvider;
 
   public DefaultMailboxProviderKeeper() {
-    this.mailboxProviderInfos = new HashMap<>();
+    // mailboxes of Stages and for Blocking actors are kept while others are assigned
+    this.mailboxProviderInfos = new ConcurrentHashMap<>();
     this.defaultProvider = null;
   }
 
@@ -9,6 +9,7 @@ package io.vlingo.actors.plugin.mailbox.agronampscarrayqueue;
 
 import io.vlingo.actors.Backoff;
 import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.Message;
 
@@ -18,19 +19,26 @@ public class ManyToOneConcurrentArrayQueueDispatcher extends Thread implements D
   private final Backoff backoff;
   private final Mailbox mailbox;
   private final boolean requiresExecutionNotification;
+  private final DispatcherTelemetry telemetry;
   private final int throttlingCount;
   private final AtomicBoolean closed = new AtomicBoolean(false);
 
   protected ManyToOneConcurrentArrayQueueDispatcher(final int mailboxSize, final long fixedBackoff, final int throttlingCount, final int totalSendRetries) {
+    this(mailboxSize, fixedBackoff, throttlingCount, totalSendRetries, DispatcherTelemetry.Registry.unscoped());
+  }
+
+  protected ManyToOneConcurrentArrayQueueDispatcher(final int mailboxSize, final long fixedBackoff, final int throttlingCount, final int totalSendRetries, final DispatcherTelemetry.Registry telemetryRegistry) {
     this.backoff = fixedBackoff == 0L ? null : new Backoff(fixedBackoff);
     this.requiresExecutionNotification = fixedBackoff == 0L;
     this.mailbox = new ManyToOneConcurrentArrayQueueMailbox(this, mailboxSize, totalSendRetries);
     this.throttlingCount = throttlingCount;
+    this.telemetry = telemetryRegistry.open("ManyToOneConcurrentArrayQueueDispatcher", () -> isAlive() ? 1 : 0, mailbox::pendingMessages);
   }
 
   @Override
   public void close() {
     closed.set(true);
+    telemetry.close();
   }
 
   @Override
@@ -48,11 +56,19 @@ public class ManyToOneConcurrentArrayQueueDispatcher extends Thread implements D
     return requiresExecutionNotification;
   }
 
+  @Override
+  public DispatcherTelemetry telemetry() {
+    return telemetry;
+  }
+
   @Override
   public void run() {
     while (!closed.get()) {
       if (!deliver()) {
-        if (backoff != null) backoff.now();
+        if (backoff != null) {
+          telemetry.backedOff();
+          backoff.now();
+        }
       }
     }
   }
@@ -67,14 +83,24 @@ public class ManyToOneConcurrentArrayQueueDispatcher extends Thread implements D
    * @return boolean if at least one message was delivered.
    */
   private boolean deliver() {
-    for (int idx = 0; idx < throttlingCount; ++idx) {
+    final Message first = mailbox.receive();
+    if (first == null) {
+      return false;
+    }
+
+    final long startedAt = telemetry.turnStarted();
+    first.deliver();
+    for (int idx = 1; idx < throttlingCount; ++idx) {
       final Message message = mailbox.receive();
       if (message == null) {
-        return idx > 0; // we delivered at least one message
+        telemetry.turnEnded(startedAt, idx, false);
+        return true; // we delivered at least one message
       } else {
         message.deliver();
       }
     }
+    telemetry.turnEnded(startedAt, throttlingCount, true);
     return true;
   }
+
 }
@@ -12,8 +12,10 @@ import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import io.vlingo.actors.Dispatcher;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.Message;
+import io.vlingo.actors.PrecedingMessages;
 
 public class ManyToOneConcurrentArrayQueueMailbox implements Mailbox {
+  private final PrecedingMessages ahead;
   private final Dispatcher dispatcher;
   private final ManyToOneConcurrentArrayQueue<Message> queue;
   private final int totalSendRetries;
@@ -22,6 +24,7 @@ public class ManyToOneConcurrentArrayQueueMailbox implements Mailbox {
   public void close() {
     dispatcher.close();
     queue.clear();
+    ahead.clear();
   }
 
   @Override
@@ -46,6 +49,7 @@ public class ManyToOneConcurrentArrayQueueMailbox implements Mailbox {
 
   @Override
   public void send(final Message message) {
+    message.enqueued();
     for (int tries = 0; tries < totalSendRetries; ++tries) {
       if (queue.offer(message)) {
         return;
@@ -54,18 +58,28 @@ public class ManyToOneConcurrentArrayQueueMailbox implements Mailbox {
     throw new IllegalStateException("Count not enqueue message due to busy mailbox.");
   }
 
+  @Override
+  public void sendAhead(final Message[] messages) {
+    ahead.addAhead(messages);
+  }
+
   @Override
   public final Message receive() {
+    final Message preceding = ahead.poll();
+    if (preceding != null) {
+      return preceding;
+    }
     return queue.poll();
   }
 
   /* @see io.vlingo.actors.Mailbox#pendingMessages() */
   @Override
   public int pendingMessages() {
-    throw new UnsupportedOperationException("ManyToOneConcurrentArrayQueueMailbox does not support this operation");
+    return ahead.size() + queue.size();
   }
 
   protected ManyToOneConcurrentArrayQueueMailbox(final Dispatcher dispatcher, final int mailboxSize, final int totalSendRetries) {
+    this.ahead = new PrecedingMessages();
     this.dispatcher = dispatcher;
     this.queue = new ManyToOneConcurrentArrayQueue<>(mailboxSize);
     this.totalSendRetries = totalSendRetries;
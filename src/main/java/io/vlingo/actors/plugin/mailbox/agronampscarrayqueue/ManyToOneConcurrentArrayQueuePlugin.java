@@ -12,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import io.vlingo.actors.Configuration;
 import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.MailboxProvider;
 import io.vlingo.actors.Registrar;
@@ -23,6 +24,7 @@ import io.vlingo.actors.plugin.PluginProperties;
 public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implements Plugin, MailboxProvider {
   private final ManyToOneConcurrentArrayQueuePluginConfiguration configuration;
   private final Map<Integer, ManyToOneConcurrentArrayQueueDispatcher> dispatchers;
+  private DispatcherTelemetry.Registry telemetryRegistry;
 
   public ManyToOneConcurrentArrayQueuePlugin() {
     this.configuration = new ManyToOneConcurrentArrayQueuePluginConfiguration();
@@ -51,6 +53,7 @@ public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implemen
 
   @Override
   public void start(final Registrar registrar) {
+    telemetryRegistry = DispatcherTelemetry.Registry.of(registrar);
     registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
   }
 
@@ -71,7 +74,8 @@ public class ManyToOneConcurrentArrayQueuePlugin extends AbstractPlugin implemen
                       configuration.ringSize(),
                       configuration.fixedBackoff(),
                       configuration.dispatcherThrottlingCount(),
-                      configuration.sendRetires());
+                      configuration.sendRetires(),
+                      telemetryRegistry != null ? telemetryRegistry : DispatcherTelemetry.Registry.unscoped());
 
       final ManyToOneConcurrentArrayQueueDispatcher otherDispatcher =
               dispatchers.putIfAbsent(hashCode, newDispatcher);
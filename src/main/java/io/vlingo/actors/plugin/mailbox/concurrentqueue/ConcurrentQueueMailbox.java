@@ -12,36 +12,56 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.Message;
+import io.vlingo.actors.PrecedingMessages;
 
 public class ConcurrentQueueMailbox implements Mailbox, Runnable {
+  private final PrecedingMessages ahead;
+  private final AtomicBoolean closed;
   private AtomicBoolean delivering;
   private final Dispatcher dispatcher;
   private final Queue<Message> queue;
+  private final DispatcherTelemetry telemetry;
   private final byte throttlingCount;
 
   @Override
   public void close() {
+    // the dispatcher is shared by all mailboxes, and so is closed only by the plugin
+    closed.set(true);
     queue.clear();
-    dispatcher.close();
+    ahead.clear();
   }
 
   @Override
   public boolean isClosed() {
-    return dispatcher.isClosed();
+    return closed.get() || dispatcher.isClosed();
   }
 
   @Override
   public void send(final Message message) {
+    message.enqueued();
     queue.add(message);
     if (!isDelivering()) {
       dispatcher.execute(this);
     }
   }
 
+  @Override
+  public void sendAhead(final Message[] messages) {
+    ahead.addAhead(messages);
+    if (!isDelivering()) {
+      dispatcher.execute(this);
+    }
+  }
+
   @Override
   public Message receive() {
+    final Message preceding = ahead.poll();
+    if (preceding != null) {
+      return preceding;
+    }
     return queue.poll();
   }
 
@@ -58,7 +78,9 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
   @Override
   public void run() {
     final int total = (int) throttlingCount;
-    for (int count = 0; count < total; ++count) {
+    final long startedAt = telemetry.turnStarted();
+    int count = 0;
+    for ( ; count < total; ++count) {
       final Message message = receive();
       if (message != null) {
         message.deliver();
@@ -66,8 +88,11 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
         break;
       }
     }
+    if (count > 0) {
+      telemetry.turnEnded(startedAt, count, count == total);
+    }
     delivering(false);
-    if (!queue.isEmpty()) {
+    if (!queue.isEmpty() || !ahead.isEmpty()) {
       dispatcher.execute(this);
     }
   }
@@ -75,13 +100,16 @@ public class ConcurrentQueueMailbox implements Mailbox, Runnable {
   /* @see io.vlingo.actors.Mailbox#pendingMessages() */
   @Override
   public int pendingMessages() {
-    return queue.size();
+    return ahead.size() + queue.size();
   }
   
   protected ConcurrentQueueMailbox(final Dispatcher dispatcher, final int throttlingCount) {
+    this.ahead = new PrecedingMessages();
+    this.closed = new AtomicBoolean(false);
     this.dispatcher = dispatcher;
     this.delivering = new AtomicBoolean(false);
     this.queue = new ConcurrentLinkedQueue<Message>();
     this.throttlingCount = (byte) throttlingCount;
+    this.telemetry = dispatcher.telemetry();
   }
 }
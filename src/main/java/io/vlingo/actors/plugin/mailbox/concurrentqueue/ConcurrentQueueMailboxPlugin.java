@@ -9,6 +9,7 @@ package io.vlingo.actors.plugin.mailbox.concurrentqueue;
 
 import io.vlingo.actors.Configuration;
 import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.MailboxProvider;
 import io.vlingo.actors.Registrar;
@@ -25,6 +26,10 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
     this.configuration = new ConcurrentQueueMailboxPluginConfiguration();
   }
 
+  public ConcurrentQueueMailboxPlugin(final ConcurrentQueueMailboxPluginConfiguration configuration) {
+    this.configuration = configuration;
+  }
+
   @Override
   public void close() {
     executorDispatcher.close();
@@ -47,10 +52,13 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
 
   @Override
   public void start(final Registrar registrar) {
+    final int numberOfThreads =
+            configuration.numberOfDispatchers > 0 ?
+                configuration.numberOfDispatchers :
+                (int) ((float) Runtime.getRuntime().availableProcessors() * configuration.numberOfDispatchersFactor);
+
     executorDispatcher =
-            new ExecutorDispatcher(
-                Runtime.getRuntime().availableProcessors(),
-                configuration.numberOfDispatchersFactor);
+            new ExecutorDispatcher(numberOfThreads, configuration.keepAlive, configuration.name(), configuration.virtualThreads, DispatcherTelemetry.Registry.of(registrar));
 
     registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
   }
@@ -71,8 +79,11 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
   public static class ConcurrentQueueMailboxPluginConfiguration implements PluginConfiguration {
     private boolean defaultMailbox;
     private int dispatcherThrottlingCount;
+    private long keepAlive;
     private String name = "queueMailbox";
+    private int numberOfDispatchers;
     private float numberOfDispatchersFactor;
+    private boolean virtualThreads;
 
     public static ConcurrentQueueMailboxPluginConfiguration define() {
       return new ConcurrentQueueMailboxPluginConfiguration();
@@ -96,6 +107,42 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
       return dispatcherThrottlingCount;
     }
 
+    /**
+     * Answers me after setting the milliseconds that an idle thread of my dispatcher is
+     * kept, which when greater than zero makes its pool elastic, starting threads only
+     * when needed, up to its number, and ending those that stay idle.
+     * @param keepAlive the long milliseconds an idle thread is kept
+     * @return ConcurrentQueueMailboxPluginConfiguration
+     */
+    public ConcurrentQueueMailboxPluginConfiguration keepAlive(final long keepAlive) {
+      this.keepAlive = keepAlive;
+      return this;
+    }
+
+    public long keepAlive() {
+      return keepAlive;
+    }
+
+    public ConcurrentQueueMailboxPluginConfiguration name(final String name) {
+      this.name = name;
+      return this;
+    }
+
+    /**
+     * Answers me after setting the number of threads of my dispatcher, which when
+     * greater than zero is used instead of the {@code numberOfDispatchersFactor}.
+     * @param numberOfDispatchers the int number of threads
+     * @return ConcurrentQueueMailboxPluginConfiguration
+     */
+    public ConcurrentQueueMailboxPluginConfiguration numberOfDispatchers(final int numberOfDispatchers) {
+      this.numberOfDispatchers = numberOfDispatchers;
+      return this;
+    }
+
+    public int numberOfDispatchers() {
+      return numberOfDispatchers;
+    }
+
     public ConcurrentQueueMailboxPluginConfiguration numberOfDispatchersFactor(final float numberOfDispatchersFactor) {
       this.numberOfDispatchersFactor = numberOfDispatchersFactor;
       return this;
@@ -105,6 +152,21 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
       return numberOfDispatchersFactor;
     }
 
+    /**
+     * Answers me after setting whether the threads of my dispatcher are virtual threads,
+     * when the runtime has them.
+     * @param virtualThreads the boolean indicating whether to use virtual threads
+     * @return ConcurrentQueueMailboxPluginConfiguration
+     */
+    public ConcurrentQueueMailboxPluginConfiguration virtualThreads(final boolean virtualThreads) {
+      this.virtualThreads = virtualThreads;
+      return this;
+    }
+
+    public boolean isVirtualThreads() {
+      return virtualThreads;
+    }
+
     @Override
     public void build(final Configuration configuration) {
       configuration.with(defaultMailbox().numberOfDispatchersFactor(1.5f).dispatcherThrottlingCount(1));
@@ -115,7 +177,10 @@ public class ConcurrentQueueMailboxPlugin extends AbstractPlugin implements Plug
       this.name = properties.name;
       this.defaultMailbox = properties.getBoolean("defaultMailbox", true);
       this.dispatcherThrottlingCount = properties.getInteger("dispatcherThrottlingCount", 1);
+      this.numberOfDispatchers = properties.getInteger("numberOfDispatchers", 0);
       this.numberOfDispatchersFactor = properties.getFloat("numberOfDispatchersFactor", 1.5f);
+      this.keepAlive = properties.getLong("keepAlive", 0L);
+      this.virtualThreads = properties.getBoolean("virtualThreads", false);
     }
 
     @Override
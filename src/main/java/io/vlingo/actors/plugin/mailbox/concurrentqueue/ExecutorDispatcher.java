@@ -8,26 +8,91 @@
 package io.vlingo.actors.plugin.mailbox.concurrentqueue;
 
 import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
 import io.vlingo.actors.Mailbox;
 
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ExecutorDispatcher implements Dispatcher {
   private final AtomicBoolean closed = new AtomicBoolean(false);
-  private final ExecutorService executor;
+  private final ThreadPoolExecutor executor;
+  private final DispatcherTelemetry telemetry;
 
-  protected ExecutorDispatcher(final int availableThreads, final float numberOfDispatchersFactor) {
+  public ExecutorDispatcher(final int availableThreads, final float numberOfDispatchersFactor) {
+    this(availableThreads, numberOfDispatchersFactor, DispatcherTelemetry.Registry.unscoped());
+  }
+
+  /**
+   * Constructs my state as above, with my telemetry opened in {@code telemetryRegistry},
+   * that of the {@code World} to which I belong.
+   * @param availableThreads the int number of threads from which to compute mine
+   * @param numberOfDispatchersFactor the float factor of availableThreads that I use
+   * @param telemetryRegistry the DispatcherTelemetry.Registry in which my telemetry is opened
+   */
+  public ExecutorDispatcher(final int availableThreads, final float numberOfDispatchersFactor, final DispatcherTelemetry.Registry telemetryRegistry) {
     final int numberOfThreads = (int) ((float) availableThreads * numberOfDispatchersFactor);
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         0L, TimeUnit.MILLISECONDS,
         new LinkedBlockingQueue<>(),
         new RejectionHandler());
+    this.telemetry = telemetryRegistry.open("ExecutorDispatcher", executor::getPoolSize, () -> executor.getQueue().size());
+  }
+
+  /**
+   * Constructs my state with threads and telemetry named after {@code name}, such as
+   * that of the mailbox I dispatch, so that the pools of different mailboxes, and of
+   * the {@code Stage}s that have their own, can be told apart.
+   * @param availableThreads the int number of threads from which to compute mine
+   * @param numberOfDispatchersFactor the float factor of availableThreads that I use
+   * @param name the String name of my threads and telemetry
+   */
+  public ExecutorDispatcher(final int availableThreads, final float numberOfDispatchersFactor, final String name) {
+    this((int) ((float) availableThreads * numberOfDispatchersFactor), 0L, name, false);
+  }
+
+  /**
+   * Constructs my state with at most {@code numberOfThreads} threads and telemetry named
+   * after {@code name}. With a {@code keepAlive} greater than zero my pool is elastic:
+   * a thread is started only when needed, and ends once idle for {@code keepAlive}
+   * milliseconds. With {@code virtualThreads} my threads are virtual threads when the
+   * runtime has them, and platform threads otherwise.
+   * @param numberOfThreads the int maximum number of my threads
+   * @param keepAlive the long milliseconds an idle thread is kept, or 0 to keep them all
+   * @param name the String name of my threads and telemetry
+   * @param virtualThreads the boolean indicating whether to use virtual threads
+   */
+  public ExecutorDispatcher(final int numberOfThreads, final long keepAlive, final String name, final boolean virtualThreads) {
+    this(numberOfThreads, keepAlive, name, virtualThreads, DispatcherTelemetry.Registry.unscoped());
+  }
+
+  /**
+   * Constructs my state as above, with my telemetry opened in {@code telemetryRegistry},
+   * that of the {@code World} to which I belong.
+   * @param numberOfThreads the int maximum number of my threads
+   * @param keepAlive the long milliseconds an idle thread is kept, or 0 to keep them all
+   * @param name the String name of my threads and telemetry
+   * @param virtualThreads the boolean indicating whether to use virtual threads
+   * @param telemetryRegistry the DispatcherTelemetry.Registry in which my telemetry is opened
+   */
+  public ExecutorDispatcher(final int numberOfThreads, final long keepAlive, final String name, final boolean virtualThreads, final DispatcherTelemetry.Registry telemetryRegistry) {
+    final ThreadFactory virtualThreadFactory = virtualThreads ? virtualThreadFactory(name) : null;
+    this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
+        keepAlive, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        virtualThreadFactory != null ? virtualThreadFactory : new NamedThreadFactory(name),
+        new RejectionHandler());
+    if (keepAlive > 0) {
+      executor.allowCoreThreadTimeOut(true);
+    }
+    this.telemetry = telemetryRegistry.open("ExecutorDispatcher:" + name, executor::getPoolSize, () -> executor.getQueue().size());
   }
 
   public void close() {
     closed.set(true);
     executor.shutdown();
+    telemetry.close();
   }
 
   @Override
@@ -47,6 +112,43 @@ public class ExecutorDispatcher implements Dispatcher {
     return false;
   }
 
+  @Override
+  public DispatcherTelemetry telemetry() {
+    return telemetry;
+  }
+
+  /**
+   * Answers the {@code ThreadFactory} of virtual threads named after {@code name}, or
+   * null if the runtime has no virtual threads. Looked up reflectively so that I
+   * still run on the runtimes that do not.
+   * @param name the String name of the threads
+   * @return ThreadFactory
+   */
+  private static ThreadFactory virtualThreadFactory(final String name) {
+    try {
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builderClass.getMethod("name", String.class, long.class).invoke(builder, "vlingo-actors-" + name + "-", 1L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  private static class NamedThreadFactory implements ThreadFactory {
+    private final AtomicInteger nextId = new AtomicInteger(0);
+    private final String prefix;
+
+    NamedThreadFactory(final String name) {
+      this.prefix = "vlingo-actors-" + name + "-";
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      return new Thread(runnable, prefix + nextId.incrementAndGet());
+    }
+  }
+
   private class RejectionHandler implements RejectedExecutionHandler {
 
     public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
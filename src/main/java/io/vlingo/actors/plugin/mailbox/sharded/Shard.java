@@ -0,0 +1,237 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.sharded;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import io.vlingo.actors.Message;
+
+/**
+ * Shard is the one thread that delivers all messages of its {@link ShardedMailbox}es,
+ * and so shares nothing with the other shards of its {@link ShardedDispatcher}.
+ * A message sent by one of its own {@code Actor}s to another is enqueued directly.
+ * One sent from another shard arrives over the single-producer, single-consumer
+ * queue from that shard, and one sent from any other thread over its inbound queue.
+ * Messages sent ahead from another thread travel the same way, and are placed ahead
+ * of those queued when they arrive, so that a mailbox is only ever scheduled here.
+ * When the queue to another shard is full, the messages for it wait, in order, on
+ * this shard until there is room, so that no shard ever waits on another.
+ * A {@code Throwable} escaping the turn of a mailbox is logged, and the shard goes
+ * on delivering to the others.
+ */
+final class Shard extends Thread {
+  private final ShardedDispatcher dispatcher;
+  private final Consumer<Envelope> enqueuer;
+  private final IdleStrategy idleStrategy;
+  private final OneToOneConcurrentArrayQueue<Envelope>[] incoming;
+  private final ManyToOneConcurrentArrayQueue<Envelope> inbound;
+  private final int index;
+  private final OneToOneConcurrentArrayQueue<Envelope>[] outgoing;
+  private final Queue<Envelope>[] overflow;
+  private final Queue<ShardedMailbox> ready;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  Shard(final ShardedDispatcher dispatcher, final int index, final int numberOfShards, final int inboundCapacity, final long maximumParkNanos, final String name) {
+    super(name);
+    this.dispatcher = dispatcher;
+    this.enqueuer = Envelope::enqueue;
+    this.idleStrategy = new BackoffIdleStrategy(100, 10, 1_000, maximumParkNanos);
+    this.incoming = new OneToOneConcurrentArrayQueue[numberOfShards];
+    this.inbound = new ManyToOneConcurrentArrayQueue<>(inboundCapacity);
+    this.index = index;
+    this.outgoing = new OneToOneConcurrentArrayQueue[numberOfShards];
+    this.overflow = new Queue[numberOfShards];
+    this.ready = new ArrayDeque<>();
+  }
+
+  @Override
+  public void run() {
+    while (!dispatcher.isClosed()) {
+      final int work = flush() + receive() + deliver();
+      idleStrategy.idle(work);
+    }
+  }
+
+  /**
+   * Connects me to {@code other} over {@code queue}, on which I am the only producer
+   * and it the only consumer. Must be done before either is started.
+   * @param other the Shard to which the queue leads
+   * @param queue the {@code OneToOneConcurrentArrayQueue<Envelope>} from me to other
+   */
+  void connect(final Shard other, final OneToOneConcurrentArrayQueue<Envelope> queue) {
+    outgoing[other.index] = queue;
+    overflow[other.index] = new ArrayDeque<>();
+    other.incoming[index] = queue;
+  }
+
+  ShardedDispatcher dispatcher() {
+    return dispatcher;
+  }
+
+  boolean isCurrent() {
+    return Thread.currentThread() == this;
+  }
+
+  /**
+   * Answers the number of messages waiting in my inbound queue and those from other
+   * shards, which are safe to read from any thread.
+   * @return int
+   */
+  int queueDepth() {
+    int depth = inbound.size();
+    for (final OneToOneConcurrentArrayQueue<Envelope> queue : incoming) {
+      if (queue != null) {
+        depth += queue.size();
+      }
+    }
+    return depth;
+  }
+
+  /**
+   * Adds {@code mailbox} to those with messages to deliver. Run only by me.
+   * @param mailbox the ShardedMailbox that is ready
+   */
+  void ready(final ShardedMailbox mailbox) {
+    ready.add(mailbox);
+  }
+
+  /**
+   * Sends {@code message} to {@code mailbox}, one of mine, over the way that
+   * suits the sending thread.
+   * @param mailbox the ShardedMailbox of mine to which message is sent
+   * @param message the Message to send
+   */
+  void send(final ShardedMailbox mailbox, final Message message) {
+    if (isCurrent()) {
+      mailbox.enqueue(message);
+    } else {
+      post(new Envelope(mailbox, message, null));
+    }
+  }
+
+  /**
+   * Sends {@code messages} to {@code mailbox}, one of mine, ahead of those queued,
+   * over the way that suits the sending thread.
+   * @param mailbox the ShardedMailbox of mine to which messages are sent
+   * @param messages the {@code Message[]} to send ahead
+   */
+  void sendAhead(final ShardedMailbox mailbox, final Message[] messages) {
+    if (isCurrent()) {
+      mailbox.enqueueAhead(messages);
+    } else {
+      post(new Envelope(mailbox, null, messages));
+    }
+  }
+
+  /**
+   * Delivers a turn of each mailbox that was ready when called, so that those
+   * made ready meanwhile wait for my next round of receiving.
+   * @return int the number of turns
+   */
+  private int deliver() {
+    final int turns = ready.size();
+    for (int count = 0; count < turns; ++count) {
+      final ShardedMailbox mailbox = ready.poll();
+      try {
+        mailbox.run();
+      } catch (Throwable t) {
+        dispatcher.logger().log("vlingo/actors: " + getName() + " failed to deliver a turn of " + mailbox + ": " + t.getMessage(), t);
+      }
+    }
+    return turns;
+  }
+
+  /**
+   * Moves the messages waiting on me for full queues to other shards onto those queues.
+   * @return int the number moved
+   */
+  private int flush() {
+    int moved = 0;
+    for (int other = 0; other < overflow.length; ++other) {
+      final Queue<Envelope> waiting = overflow[other];
+      if (waiting != null) {
+        Envelope envelope;
+        while ((envelope = waiting.peek()) != null && outgoing[other].offer(envelope)) {
+          waiting.poll();
+          ++moved;
+        }
+      }
+    }
+    return moved;
+  }
+
+  /**
+   * Enqueues the messages arriving from other threads and shards in their mailboxes.
+   * @return int the number enqueued
+   */
+  private int receive() {
+    int received = inbound.drain(enqueuer);
+    for (final OneToOneConcurrentArrayQueue<Envelope> queue : incoming) {
+      if (queue != null) {
+        received += queue.drain(enqueuer);
+      }
+    }
+    return received;
+  }
+
+  /**
+   * Posts {@code envelope} to me from a thread other than mine.
+   * @param envelope the Envelope to post
+   */
+  private void post(final Envelope envelope) {
+    final Thread current = Thread.currentThread();
+    if (current instanceof Shard && ((Shard) current).dispatcher == dispatcher) {
+      ((Shard) current).sendTo(this, envelope);
+    } else {
+      while (!inbound.offer(envelope)) {
+        if (dispatcher.isClosed()) {
+          return;
+        }
+        Thread.yield();
+      }
+    }
+  }
+
+  private void sendTo(final Shard other, final Envelope envelope) {
+    final Queue<Envelope> waiting = overflow[other.index];
+    if (!waiting.isEmpty() || !outgoing[other.index].offer(envelope)) {
+      waiting.add(envelope);
+    }
+  }
+
+  /**
+   * Envelope carries a {@code Message}, or the {@code Message[]} sent ahead, to its
+   * {@code ShardedMailbox} on another shard.
+   */
+  static final class Envelope {
+    final Message[] ahead;
+    final ShardedMailbox mailbox;
+    final Message message;
+
+    Envelope(final ShardedMailbox mailbox, final Message message, final Message[] ahead) {
+      this.ahead = ahead;
+      this.mailbox = mailbox;
+      this.message = message;
+    }
+
+    private void enqueue() {
+      if (ahead == null) {
+        mailbox.enqueue(message);
+      } else {
+        mailbox.enqueueAhead(ahead);
+      }
+    }
+  }
+}
@@ -0,0 +1,141 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.sharded;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
+import io.vlingo.actors.Logger;
+import io.vlingo.actors.Mailbox;
+
+/**
+ * ShardedDispatcher partitions its {@code Mailbox}es among {@code numberOfShards}
+ * {@link Shard}s, each delivering on a thread of its own, typically one per core.
+ * Every pair of shards is connected by a preallocated single-producer,
+ * single-consumer queue of {@code channelCapacity} in each direction. A failure
+ * escaping the turn of a mailbox is logged by the {@code Logger} supplied, which is
+ * looked up only then, since it may not yet exist when I am constructed.
+ */
+public class ShardedDispatcher implements Dispatcher {
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final Supplier<Logger> logger;
+  private final Shard[] shards;
+  private final DispatcherTelemetry telemetry;
+
+  public ShardedDispatcher(
+          final String name,
+          final int numberOfShards,
+          final int channelCapacity,
+          final int inboundCapacity,
+          final long maximumParkNanos) {
+    this(name, numberOfShards, channelCapacity, inboundCapacity, maximumParkNanos, DispatcherTelemetry.Registry.unscoped(), Logger::testLogger);
+  }
+
+  public ShardedDispatcher(
+          final String name,
+          final int numberOfShards,
+          final int channelCapacity,
+          final int inboundCapacity,
+          final long maximumParkNanos,
+          final DispatcherTelemetry.Registry telemetryRegistry,
+          final Supplier<Logger> logger) {
+
+    this.logger = logger;
+    this.shards = new Shard[numberOfShards];
+    for (int index = 0; index < numberOfShards; ++index) {
+      shards[index] = new Shard(this, index, numberOfShards, inboundCapacity, maximumParkNanos, "vlingo-actors-" + name + "-" + index);
+    }
+    for (final Shard from : shards) {
+      for (final Shard to : shards) {
+        if (from != to) {
+          from.connect(to, new OneToOneConcurrentArrayQueue<>(channelCapacity));
+        }
+      }
+    }
+    this.telemetry = telemetryRegistry.open("ShardedDispatcher:" + name, this::liveShards, this::queueDepth);
+    for (final Shard shard : shards) {
+      shard.start();
+    }
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    telemetry.close();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  /**
+   * Not supported, since each {@code Shard} runs its own ready mailboxes.
+   */
+  @Override
+  public void execute(final Mailbox mailbox) {
+    throw new UnsupportedOperationException("ShardedDispatcher does not support this operation.");
+  }
+
+  @Override
+  public boolean requiresExecutionNotification() {
+    return false;
+  }
+
+  @Override
+  public DispatcherTelemetry telemetry() {
+    return telemetry;
+  }
+
+  /**
+   * Answers the {@code Logger} of my failures.
+   * @return Logger
+   */
+  Logger logger() {
+    return logger.get();
+  }
+
+  /**
+   * Answers the number of my shards.
+   * @return int
+   */
+  public int numberOfShards() {
+    return shards.length;
+  }
+
+  /**
+   * Answers the {@code Shard} to which the mailbox of {@code hashCode} belongs.
+   * @param hashCode the int hash code, such as of the Address of an Actor
+   * @return Shard
+   */
+  Shard shardFor(final int hashCode) {
+    return shards[(hashCode & Integer.MAX_VALUE) % shards.length];
+  }
+
+  private int liveShards() {
+    int live = 0;
+    for (final Shard shard : shards) {
+      if (shard.isAlive()) {
+        ++live;
+      }
+    }
+    return live;
+  }
+
+  private int queueDepth() {
+    int depth = 0;
+    for (final Shard shard : shards) {
+      depth += shard.queueDepth();
+    }
+    return depth;
+  }
+}
@@ -0,0 +1,160 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.sharded;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import io.vlingo.actors.DispatcherTelemetry;
+import io.vlingo.actors.Mailbox;
+import io.vlingo.actors.Message;
+import io.vlingo.actors.PrecedingMessages;
+
+/**
+ * ShardedMailbox belongs to one {@link Shard}, and only the thread of that
+ * {@code Shard} enqueues, receives and delivers its messages, so its queue is a
+ * plain {@code ArrayDeque}. Messages sent from other threads reach it through the
+ * queues of its {@code Shard}, including those sent ahead, such as by a supervisor
+ * resuming its {@code Actor}. Its {@code pendingMessages()} is exact only on the
+ * thread of its {@code Shard}.
+ */
+public class ShardedMailbox implements Mailbox {
+  private final PrecedingMessages ahead;
+  private volatile boolean closed;
+  private final Queue<Message> queue;
+  private boolean scheduled;
+  private final Shard shard;
+  private final DispatcherTelemetry telemetry;
+  private final int throttlingCount;
+
+  @Override
+  public void close() {
+    closed = true;
+    // otherwise those pending are delivered, as dead letters, by my shard
+    if (shard.isCurrent()) {
+      queue.clear();
+      ahead.clear();
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed || shard.dispatcher().isClosed();
+  }
+
+  @Override
+  public boolean isDelivering() {
+    return scheduled;
+  }
+
+  @Override
+  public boolean delivering(final boolean flag) {
+    // only my shard reads and writes it
+    if (scheduled == flag) {
+      return false;
+    }
+    scheduled = flag;
+    return true;
+  }
+
+  @Override
+  public void send(final Message message) {
+    message.enqueued();
+    shard.send(this, message);
+  }
+
+  @Override
+  public void sendAhead(final Message[] messages) {
+    shard.sendAhead(this, messages);
+  }
+
+  @Override
+  public Message receive() {
+    final Message preceding = ahead.poll();
+    if (preceding != null) {
+      return preceding;
+    }
+    return queue.poll();
+  }
+
+  /**
+   * Delivers up to my throttling count of messages, and is ready again if any remain,
+   * even if a delivery throws. Run only by my shard.
+   */
+  @Override
+  public void run() {
+    final long startedAt = telemetry.turnStarted();
+    int count = 0;
+    try {
+      for ( ; count < throttlingCount; ++count) {
+        final Message message = receive();
+        if (message != null) {
+          message.deliver();
+        } else {
+          break;
+        }
+      }
+    } finally {
+      if (count > 0) {
+        telemetry.turnEnded(startedAt, count, count == throttlingCount);
+      }
+      if (!queue.isEmpty() || !ahead.isEmpty()) {
+        shard.ready(this);
+      } else {
+        scheduled = false;
+      }
+    }
+  }
+
+  /* @see io.vlingo.actors.Mailbox#pendingMessages() */
+  @Override
+  public int pendingMessages() {
+    return ahead.size() + queue.size();
+  }
+
+  /**
+   * Answers the {@code Shard} to which I belong.
+   * @return Shard
+   */
+  Shard shard() {
+    return shard;
+  }
+
+  /**
+   * Enqueues {@code message} and makes me ready. Run only by my shard.
+   * @param message the Message to enqueue
+   */
+  void enqueue(final Message message) {
+    queue.add(message);
+    schedule();
+  }
+
+  /**
+   * Enqueues {@code messages} ahead of those queued and makes me ready. Run only by my shard.
+   * @param messages the {@code Message[]} to enqueue ahead
+   */
+  void enqueueAhead(final Message[] messages) {
+    ahead.addAhead(messages);
+    schedule();
+  }
+
+  ShardedMailbox(final Shard shard, final int throttlingCount) {
+    this.ahead = new PrecedingMessages();
+    this.queue = new ArrayDeque<>();
+    this.shard = shard;
+    this.telemetry = shard.dispatcher().telemetry();
+    this.throttlingCount = throttlingCount;
+  }
+
+  private void schedule() {
+    if (!scheduled) {
+      scheduled = true;
+      shard.ready(this);
+    }
+  }
+}
@@ -0,0 +1,210 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.sharded;
+
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
+import io.vlingo.actors.Logger;
+import io.vlingo.actors.Mailbox;
+import io.vlingo.actors.MailboxProvider;
+import io.vlingo.actors.Registrar;
+import io.vlingo.actors.plugin.AbstractPlugin;
+import io.vlingo.actors.plugin.Plugin;
+import io.vlingo.actors.plugin.PluginConfiguration;
+import io.vlingo.actors.plugin.PluginProperties;
+
+/**
+ * ShardedMailboxPlugin provides {@link ShardedMailbox}es of a {@link ShardedDispatcher},
+ * assigning each to a {@code Shard} by the hash code of the {@code Address} of its
+ * {@code Actor}. It is used by each {@code Stage} configured with a {@code numberOfShards},
+ * or as a shared mailbox enabled in the {@code vlingo-actors.properties} by:
+ * <pre>
+ * plugin.name.shardedMailbox = true
+ * plugin.shardedMailbox.classname = io.vlingo.actors.plugin.mailbox.sharded.ShardedMailboxPlugin
+ * plugin.shardedMailbox.defaultMailbox = false
+ * plugin.shardedMailbox.numberOfShards = 0
+ * plugin.shardedMailbox.channelCapacity = 1024
+ * plugin.shardedMailbox.inboundCapacity = 65536
+ * plugin.shardedMailbox.maximumParkNanos = 100000
+ * plugin.shardedMailbox.dispatcherThrottlingCount = 1
+ * </pre>
+ * A {@code numberOfShards} of 0 is one per available processor.
+ */
+public class ShardedMailboxPlugin extends AbstractPlugin implements Plugin, MailboxProvider {
+  private final ShardedMailboxPluginConfiguration configuration;
+  private ShardedDispatcher dispatcher;
+
+  public ShardedMailboxPlugin() {
+    this.configuration = ShardedMailboxPluginConfiguration.define();
+  }
+
+  public ShardedMailboxPlugin(final ShardedMailboxPluginConfiguration configuration) {
+    this.configuration = configuration;
+  }
+
+  @Override
+  public void close() {
+    dispatcher.close();
+  }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return configuration;
+  }
+
+  @Override
+  public String name() {
+    return configuration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    dispatcher =
+            new ShardedDispatcher(
+                    configuration.name(),
+                    configuration.numberOfShards() > 0 ? configuration.numberOfShards() : Runtime.getRuntime().availableProcessors(),
+                    configuration.channelCapacity(),
+                    configuration.inboundCapacity(),
+                    configuration.maximumParkNanos(),
+                    DispatcherTelemetry.Registry.of(registrar),
+                    registrar.world() != null ? registrar.world()::defaultLogger : Logger::testLogger);
+
+    registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode) {
+    return new ShardedMailbox(dispatcher.shardFor(hashCode), configuration.dispatcherThrottlingCount());
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode, final Dispatcher dispatcher) {
+    if (!(dispatcher instanceof ShardedDispatcher)) {
+      throw new IllegalArgumentException("Dispatcher must be a ShardedDispatcher.");
+    }
+
+    return new ShardedMailbox(((ShardedDispatcher) dispatcher).shardFor(hashCode), configuration.dispatcherThrottlingCount());
+  }
+
+  public static class ShardedMailboxPluginConfiguration implements PluginConfiguration {
+    private int channelCapacity = 1024;
+    private boolean defaultMailbox;
+    private int dispatcherThrottlingCount = 1;
+    private int inboundCapacity = 65536;
+    private long maximumParkNanos = 100_000L;
+    private String name = "shardedMailbox";
+    private int numberOfShards;
+
+    public static ShardedMailboxPluginConfiguration define() {
+      return new ShardedMailboxPluginConfiguration();
+    }
+
+    /**
+     * Answers me after setting the capacity of the queue from each shard to each other.
+     * @param channelCapacity the int capacity
+     * @return ShardedMailboxPluginConfiguration
+     */
+    public ShardedMailboxPluginConfiguration channelCapacity(final int channelCapacity) {
+      this.channelCapacity = channelCapacity;
+      return this;
+    }
+
+    public int channelCapacity() {
+      return channelCapacity;
+    }
+
+    public ShardedMailboxPluginConfiguration defaultMailbox() {
+      this.defaultMailbox = true;
+      return this;
+    }
+
+    public boolean isDefaultMailbox() {
+      return defaultMailbox;
+    }
+
+    public ShardedMailboxPluginConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+      this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+      return this;
+    }
+
+    public int dispatcherThrottlingCount() {
+      return dispatcherThrottlingCount;
+    }
+
+    /**
+     * Answers me after setting the capacity of the queue of each shard for the
+     * messages sent from threads other than shards, which wait while it is full.
+     * @param inboundCapacity the int capacity
+     * @return ShardedMailboxPluginConfiguration
+     */
+    public ShardedMailboxPluginConfiguration inboundCapacity(final int inboundCapacity) {
+      this.inboundCapacity = inboundCapacity;
+      return this;
+    }
+
+    public int inboundCapacity() {
+      return inboundCapacity;
+    }
+
+    /**
+     * Answers me after setting the longest that an idle shard parks before looking
+     * for messages again, after it has spun and yielded.
+     * @param maximumParkNanos the long nanoseconds
+     * @return ShardedMailboxPluginConfiguration
+     */
+    public ShardedMailboxPluginConfiguration maximumParkNanos(final long maximumParkNanos) {
+      this.maximumParkNanos = maximumParkNanos;
+      return this;
+    }
+
+    public long maximumParkNanos() {
+      return maximumParkNanos;
+    }
+
+    public ShardedMailboxPluginConfiguration name(final String name) {
+      this.name = name;
+      return this;
+    }
+
+    public ShardedMailboxPluginConfiguration numberOfShards(final int numberOfShards) {
+      this.numberOfShards = numberOfShards;
+      return this;
+    }
+
+    public int numberOfShards() {
+      return numberOfShards;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      dispatcherThrottlingCount(1);
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+      this.defaultMailbox = properties.getBoolean("defaultMailbox", false);
+      this.numberOfShards = properties.getInteger("numberOfShards", 0);
+      this.channelCapacity = properties.getInteger("channelCapacity", 1024);
+      this.inboundCapacity = properties.getInteger("inboundCapacity", 65536);
+      this.maximumParkNanos = properties.getLong("maximumParkNanos", 100_000L);
+      this.dispatcherThrottlingCount = properties.getInteger("dispatcherThrottlingCount", 1);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
@@ -9,6 +9,7 @@ package io.vlingo.actors.plugin.mailbox.sharedringbuffer;
 
 import io.vlingo.actors.Backoff;
 import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.Message;
 
@@ -19,11 +20,13 @@ public class RingBufferDispatcher extends Thread implements Dispatcher {
   private final AtomicBoolean closed = new AtomicBoolean(false);
   private final Mailbox mailbox;
   private final boolean requiresExecutionNotification;
+  private final DispatcherTelemetry telemetry;
   private final int throttlingCount;
 
   public void close() {
     closed.set(true);
     mailbox.close();
+    telemetry.close();
   }
 
   @Override
@@ -43,21 +46,32 @@ public class RingBufferDispatcher extends Thread implements Dispatcher {
   public void run() {
     while (!closed.get()) {
       if (!deliver()) {
+        telemetry.backedOff();
         backoff.now();
       }
     }
   }
 
+  @Override
+  public DispatcherTelemetry telemetry() {
+    return telemetry;
+  }
+
   @Override
   public synchronized void start() {
     super.start();
   }
 
   RingBufferDispatcher(final int mailboxSize, final long fixedBackoff, final int throttlingCount) {
+    this(mailboxSize, fixedBackoff, throttlingCount, DispatcherTelemetry.Registry.unscoped());
+  }
+
+  RingBufferDispatcher(final int mailboxSize, final long fixedBackoff, final int throttlingCount, final DispatcherTelemetry.Registry telemetryRegistry) {
     this.backoff = fixedBackoff == 0L ? new Backoff() : new Backoff(fixedBackoff);
     this.requiresExecutionNotification = fixedBackoff == 0L;
     this.mailbox = new SharedRingBufferMailbox(this, mailboxSize);
     this.throttlingCount = throttlingCount;
+    this.telemetry = telemetryRegistry.open("RingBufferDispatcher", () -> isAlive() ? 1 : 0, mailbox::pendingMessages);
   }
 
   protected Mailbox mailbox() {
@@ -65,14 +79,24 @@ public class RingBufferDispatcher extends Thread implements Dispatcher {
   }
 
   private boolean deliver() {
-    for (int idx = 0; idx < throttlingCount; ++idx) {
+    final Message first = mailbox.receive();
+    if (first == null) {
+      return false;
+    }
+
+    final long startedAt = telemetry.turnStarted();
+    first.deliver();
+    for (int idx = 1; idx < throttlingCount; ++idx) {
       final Message message = mailbox.receive();
       if (message == null) {
-        return idx > 0; // we delivered at least one message
+        telemetry.turnEnded(startedAt, idx, false);
+        return true; // we delivered at least one message
       } else {
         message.deliver();
       }
     }
+    telemetry.turnEnded(startedAt, throttlingCount, true);
     return true;
   }
+
 }
@@ -16,9 +16,11 @@ import io.vlingo.actors.Dispatcher;
 import io.vlingo.actors.LocalMessage;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.Message;
+import io.vlingo.actors.PrecedingMessages;
 import io.vlingo.common.Completes;
 
 public class SharedRingBufferMailbox implements Mailbox {
+  private final PrecedingMessages ahead;
   private final AtomicBoolean closed;
   private final Dispatcher dispatcher;
   private final int mailboxSize;
@@ -30,6 +32,7 @@ public class SharedRingBufferMailbox implements Mailbox {
   public void close() {
     if (!closed.get()) {
       closed.set(true);
+      ahead.clear();
       dispatcher.close();
     }
   }
@@ -73,12 +76,23 @@ public class SharedRingBufferMailbox implements Mailbox {
     }
 
     messages[ringSendIndex].set(actor, protocol, consumer, completes, representation);
+    messages[ringSendIndex].enqueued();
 
     while (!readyIndex.compareAndSet(messageIndex - 1, messageIndex))
       ;
   }
 
+  @Override
+  public void sendAhead(final Message[] messages) {
+    ahead.addAhead(messages);
+  }
+
   public Message receive() {
+    final Message preceding = ahead.poll();
+    if (preceding != null) {
+      return preceding;
+    }
+
     final long messageIndex = receiveIndex.get();
 
     if (messageIndex < readyIndex.get()) {
@@ -97,10 +111,11 @@ public class SharedRingBufferMailbox implements Mailbox {
   /* @see io.vlingo.actors.Mailbox#pendingMessages() */
   @Override
   public int pendingMessages() {
-    throw new UnsupportedOperationException("SharedRingBufferMailbox does not support this operation");
+    return ahead.size() + (int) Math.max(0, readyIndex.get() - receiveIndex.get());
   }
 
   protected SharedRingBufferMailbox(final Dispatcher dispatcher, final int mailboxSize) {
+    this.ahead = new PrecedingMessages();
     this.dispatcher = dispatcher;
     this.mailboxSize = mailboxSize;
     this.closed = new AtomicBoolean(false);
@@ -12,6 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import io.vlingo.actors.Configuration;
 import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.MailboxProvider;
 import io.vlingo.actors.Registrar;
@@ -23,6 +24,7 @@ import io.vlingo.actors.plugin.PluginProperties;
 public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plugin, MailboxProvider {
   private final SharedRingBufferMailboxPluginConfiguration configuration;
   private final Map<Integer, RingBufferDispatcher> dispatchers;
+  private DispatcherTelemetry.Registry telemetryRegistry;
 
   public SharedRingBufferMailboxPlugin() {
     this.configuration = new SharedRingBufferMailboxPluginConfiguration();
@@ -51,6 +53,7 @@ public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plu
 
   @Override
   public void start(final Registrar registrar) {
+    telemetryRegistry = DispatcherTelemetry.Registry.of(registrar);
     registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
   }
 
@@ -70,7 +73,8 @@ public class SharedRingBufferMailboxPlugin extends AbstractPlugin implements Plu
               new RingBufferDispatcher(
                       configuration.ringSize(),
                       configuration.fixedBackoff(),
-                      configuration.dispatcherThrottlingCount());
+                      configuration.dispatcherThrottlingCount(),
+                      telemetryRegistry != null ? telemetryRegistry : DispatcherTelemetry.Registry.unscoped());
 
       final RingBufferDispatcher otherDispatcher =
               dispatchers.putIfAbsent(hashCode, newDispatcher);
@@ -52,6 +52,7 @@ public class TestMailbox implements Mailbox {
 
   @Override
   public void send(final Message message) {
+    message.enqueued();
     try {
       if (!message.actor().isStopped()) {
         if (!isLifecycleMessage(message)) {
@@ -0,0 +1,129 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.metrics;
+
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.Metrics;
+import io.vlingo.actors.Registrar;
+import io.vlingo.actors.plugin.AbstractPlugin;
+import io.vlingo.actors.plugin.Plugin;
+import io.vlingo.actors.plugin.PluginConfiguration;
+import io.vlingo.actors.plugin.PluginProperties;
+
+/**
+ * MetricsPlugin registers enabled {@link Metrics} with the {@code World}. Metrics
+ * cost time on every delivery, so they are recorded only when {@code enabled}.
+ */
+public class MetricsPlugin extends AbstractPlugin implements Plugin {
+  private final MetricsPluginConfiguration metricsPluginConfiguration;
+
+  public MetricsPlugin() {
+    this.metricsPluginConfiguration = MetricsPluginConfiguration.define();
+  }
+
+  @Override
+  public void close() { }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return metricsPluginConfiguration;
+  }
+
+  @Override
+  public String name() {
+    return metricsPluginConfiguration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    if (metricsPluginConfiguration.isEnabled()) {
+      registrar.registerMetrics(
+              new Metrics(
+                      metricsPluginConfiguration.subBucketBits(),
+                      metricsPluginConfiguration.highestTrackableValue(),
+                      metricsPluginConfiguration.isJmx()));
+    }
+  }
+
+  public static class MetricsPluginConfiguration implements PluginConfiguration {
+    private boolean enabled;
+    private long highestTrackableValue;
+    private boolean jmx;
+    private String name = "metrics";
+    private int subBucketBits;
+
+    public static MetricsPluginConfiguration define() {
+      return new MetricsPluginConfiguration();
+    }
+
+    public MetricsPluginConfiguration enabled(final boolean enabled) {
+      this.enabled = enabled;
+      return this;
+    }
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public MetricsPluginConfiguration highestTrackableValue(final long highestTrackableValue) {
+      this.highestTrackableValue = highestTrackableValue;
+      return this;
+    }
+
+    public long highestTrackableValue() {
+      return highestTrackableValue;
+    }
+
+    public MetricsPluginConfiguration jmx(final boolean jmx) {
+      this.jmx = jmx;
+      return this;
+    }
+
+    public boolean isJmx() {
+      return jmx;
+    }
+
+    public MetricsPluginConfiguration subBucketBits(final int subBucketBits) {
+      this.subBucketBits = subBucketBits;
+      return this;
+    }
+
+    public int subBucketBits() {
+      return subBucketBits;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      configuration.with(
+              enabled(false)
+              .jmx(true)
+              .subBucketBits(Metrics.DefaultSubBucketBits)
+              .highestTrackableValue(Metrics.DefaultHighestTrackableValue));
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+      this.enabled = properties.getBoolean("enabled", false);
+      this.jmx = properties.getBoolean("jmx", true);
+      this.subBucketBits = properties.getInteger("subBucketBits", Metrics.DefaultSubBucketBits);
+      this.highestTrackableValue = properties.getLong("highestTrackableValue", Metrics.DefaultHighestTrackableValue);
+      configuration.with(this);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.reporting;
+
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.FailureReporter;
+import io.vlingo.actors.Registrar;
+import io.vlingo.actors.plugin.AbstractPlugin;
+import io.vlingo.actors.plugin.Plugin;
+import io.vlingo.actors.plugin.PluginConfiguration;
+import io.vlingo.actors.plugin.PluginProperties;
+
+public class FailureReportingPlugin extends AbstractPlugin implements Plugin {
+  private final FailureReportingPluginConfiguration failureReportingPluginConfiguration;
+
+  public FailureReportingPlugin() {
+    this.failureReportingPluginConfiguration = FailureReportingPluginConfiguration.define();
+  }
+
+  @Override
+  public void close() { }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return failureReportingPluginConfiguration;
+  }
+
+  @Override
+  public String name() {
+    return failureReportingPluginConfiguration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    registrar.registerFailureReporter(
+            new FailureReporter(
+                    failureReportingPluginConfiguration.sampleEvery(),
+                    failureReportingPluginConfiguration.summaryInterval()));
+  }
+
+  public static class FailureReportingPluginConfiguration implements PluginConfiguration {
+    private String name = "failureReporting";
+    private int sampleEvery;
+    private long summaryInterval;
+
+    public static FailureReportingPluginConfiguration define() {
+      return new FailureReportingPluginConfiguration();
+    }
+
+    public FailureReportingPluginConfiguration sampleEvery(final int sampleEvery) {
+      this.sampleEvery = sampleEvery;
+      return this;
+    }
+
+    public int sampleEvery() {
+      return sampleEvery;
+    }
+
+    public FailureReportingPluginConfiguration summaryInterval(final long summaryInterval) {
+      this.summaryInterval = summaryInterval;
+      return this;
+    }
+
+    public long summaryInterval() {
+      return summaryInterval;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      configuration.with(sampleEvery(100).summaryInterval(10_000));
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+      this.sampleEvery = properties.getInteger("sampleEvery", 100);
+      this.summaryInterval = properties.getLong("summaryInterval", 10_000L);
+      configuration.with(this);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,254 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+import io.vlingo.actors.DeadLetter;
+import io.vlingo.actors.DeadLettersListener;
+import io.vlingo.actors.Logger;
+import io.vlingo.actors.Stage;
+import io.vlingo.actors.World;
+
+/**
+ * BatchingPublisher is a {@link ConcurrentPublisher} that fans out asynchronously
+ * and in batches. Publishing only places the message in a bounded outlet of each
+ * subscriber, so the publisher never sends to a subscriber itself. The subscribers
+ * are grouped into lanes, and each lane, when it has ready outlets, runs on the
+ * {@code Executor} to take all messages waiting in each outlet and hand them to its
+ * subscriber as one {@link MessageBatch}. An actor subscriber therefore receives
+ * one mailbox message per batch rather than one per published message.
+ * <p>
+ * Each subscriber has a {@code demand}, the maximum number of its messages that
+ * may be waiting or undelivered at once. A message published to a subscriber with
+ * no remaining demand is dropped and counted, so a slow subscriber neither blocks
+ * the publisher nor grows memory without limit.
+ * <p>
+ * A subscriber that throws from {@code receiveAll()} has the failure logged and
+ * its batch released, so that it keeps its demand and receives later messages.
+ * <p>
+ * When created for a {@code World}, an actor subscriber that is stopped is
+ * unsubscribed from all topics once one of its batches reaches dead letters, so
+ * that its outlet is removed rather than holding its demand forever. Otherwise
+ * a stopped subscriber must be unsubscribed by {@code unsubscribeAllTopics()}.
+ */
+public class BatchingPublisher extends ConcurrentPublisher {
+
+    private final int demand;
+    private final LongAdder dropped;
+    private final Executor executor;
+    private final Lane[] lanes;
+    private final Logger logger;
+    private final ConcurrentMap<Subscriber<?>, Outlet> outlets;
+
+    public BatchingPublisher(final World world, final int demand) {
+        this(world, demand, Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+    }
+
+    public BatchingPublisher(final World world, final int demand, final int lanes, final Executor executor) {
+        this(demand, lanes, executor, world.defaultLogger());
+        world.deadLetters().registerListener(new StoppedSubscribers(world.stage()));
+    }
+
+    public BatchingPublisher(final int demand, final int lanes, final Executor executor, final Logger logger) {
+        if(demand <= 0) {
+            throw new IllegalArgumentException("demand must be 1 or greater");
+        }
+        if(lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be 1 or greater");
+        }
+
+        this.demand = demand;
+        this.dropped = new LongAdder();
+        this.executor = executor;
+        this.lanes = new Lane[lanes];
+        this.logger = logger;
+        this.outlets = new ConcurrentHashMap<>();
+
+        for(int index = 0; index < lanes; ++index) {
+            this.lanes[index] = new Lane();
+        }
+    }
+
+    /**
+     * Answers the number of messages dropped because their subscriber had no remaining demand.
+     * @return long
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void publish(final Topic topic, final Message message) {
+        for(final Subscriber<?> subscriber : subscribersOf(topic)) {
+            outletOf(subscriber).offer(message);
+        }
+    }
+
+    @Override
+    public boolean unsubscribe(final Topic topic, final Subscriber<?> subscriber) {
+        final boolean affected = super.unsubscribe(topic, subscriber);
+        if(affected) {
+            // an outlet is created again on the next message to any topic still subscribed
+            outlets.remove(subscriber);
+        }
+        return affected;
+    }
+
+    @Override
+    public void unsubscribeAllTopics(final Subscriber<?> subscriber) {
+        super.unsubscribeAllTopics(subscriber);
+        outlets.remove(subscriber);
+    }
+
+    private Outlet outletOf(final Subscriber<?> subscriber) {
+
+        final Outlet outlet = outlets.get(subscriber);
+
+        if(outlet != null) {
+            return outlet;
+        }
+
+        final Lane lane = lanes[(System.identityHashCode(subscriber) & Integer.MAX_VALUE) % lanes.length];
+        final Outlet created = new Outlet(subscriber, lane);
+        final Outlet existing = outlets.putIfAbsent(subscriber, created);
+
+        return existing == null ? created : existing;
+    }
+
+    /**
+     * Outlet holds the messages waiting for one subscriber, at most its demand.
+     */
+    final class Outlet {
+        private final AtomicInteger inFlight;
+        private final Lane lane;
+        private final ManyToOneConcurrentArrayQueue<Message> queue;
+        private final AtomicBoolean ready;
+        private final Subscriber<?> subscriber;
+
+        Outlet(final Subscriber<?> subscriber, final Lane lane) {
+            this.inFlight = new AtomicInteger(0);
+            this.lane = lane;
+            this.queue = new ManyToOneConcurrentArrayQueue<>(demand);
+            this.ready = new AtomicBoolean(false);
+            this.subscriber = subscriber;
+        }
+
+        void released(final int count) {
+            inFlight.addAndGet(-count);
+        }
+
+        private void flush() {
+            ready.set(false);
+
+            final int count = Math.min(queue.size(), demand);
+            if(count == 0) {
+                return;
+            }
+
+            final Message[] messages = new Message[count];
+            int taken = 0;
+            while(taken < count) {
+                final Message message = queue.poll();
+                if(message == null) break;
+                messages[taken++] = message;
+            }
+
+            final MessageBatch batch;
+            if(taken < count) {
+                // size() is an estimate; release what was not taken so demand is not lost
+                released(count - taken);
+                final Message[] shortened = new Message[taken];
+                System.arraycopy(messages, 0, shortened, 0, taken);
+                batch = new MessageBatch(shortened, this);
+            } else {
+                batch = new MessageBatch(messages, this);
+            }
+
+            try {
+                subscriber.receiveAll(batch);
+            } catch(Throwable t) {
+                // the batch is released only on failure; an actor subscriber releases it when it is delivered
+                batch.release();
+                logger.log("BatchingPublisher: Subscriber failed to receive a batch of " + batch.size() + " messages: " + subscriber, t);
+            }
+        }
+
+        private void offer(final Message message) {
+            if(inFlight.incrementAndGet() > demand) {
+                inFlight.decrementAndGet();
+                dropped.increment();
+                return;
+            }
+
+            queue.offer(message);
+
+            if(ready.compareAndSet(false, true)) {
+                lane.ready(this);
+            }
+        }
+    }
+
+    /**
+     * StoppedSubscribers unsubscribes each actor subscriber whose batch is sent to
+     * dead letters, which happens only once it is stopped.
+     */
+    private final class StoppedSubscribers implements DeadLettersListener {
+        private static final String ReceiveAll = "receiveAll(";
+
+        private final Stage stage;
+
+        StoppedSubscribers(final Stage stage) {
+            this.stage = stage;
+        }
+
+        @Override
+        public void handle(final DeadLetter deadLetter) {
+            if(deadLetter.actor instanceof Subscriber && deadLetter.representation.startsWith(ReceiveAll)) {
+                // the proxy is cached by its actor, so it is the subscriber that was subscribed
+                unsubscribeAllTopics(stage.actorAs(deadLetter.actor, Subscriber.class));
+            }
+        }
+    }
+
+    /**
+     * Lane flushes its ready outlets on the executor, one run at a time.
+     */
+    private final class Lane implements Runnable {
+        private final Queue<Outlet> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        @Override
+        public void run() {
+            do {
+                Outlet outlet;
+                while((outlet = ready.poll()) != null) {
+                    outlet.flush();
+                }
+                running.set(false);
+            } while(!ready.isEmpty() && running.compareAndSet(false, true));
+        }
+
+        private void ready(final Outlet outlet) {
+            ready.add(outlet);
+            if(running.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+    }
+}
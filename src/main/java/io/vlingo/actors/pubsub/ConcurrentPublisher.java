@@ -0,0 +1,230 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ConcurrentPublisher is a {@link Publisher} that may be used by any number of
+ * threads at once. Each published topic's subscribers are resolved once into a
+ * copy-on-write array held in a concurrent map, so publishing takes no lock and
+ * publishers on many threads fan out in parallel. Subscribing and unsubscribing
+ * take a lock shared only with the resolution of topics not yet resolved, and
+ * evict the resolutions they affect. Resolved hierarchical topics are indexed in
+ * a tree of their name segments, so that a subscription change visits only those
+ * under its topic. Topics without subscribers are resolved to a shared empty
+ * array, and at most {@code maximumResolutions} topics are cached, so publishing
+ * to many distinct topics does not grow memory without bound.
+ */
+public class ConcurrentPublisher implements Publisher {
+
+    private final Map<Topic, Node> indexed = new HashMap<>();
+    private final int maximumResolutions;
+    private final ConcurrentMap<Topic, Subscriber<?>[]> resolved = new ConcurrentHashMap<>();
+    private final Node root = new Node(null, null);
+    private final Subscriptions subscriptions;
+
+    public ConcurrentPublisher() {
+        this(Subscriptions.DefaultMaximumResolutions);
+    }
+
+    public ConcurrentPublisher(final int maximumResolutions) {
+        this.maximumResolutions = maximumResolutions;
+        this.subscriptions = new Subscriptions(maximumResolutions);
+    }
+
+    @Override
+    public void publish(final Topic topic, final Message message) {
+        for(final Subscriber<?> subscriber : subscribersOf(topic)) {
+            subscriber.receive(message);
+        }
+    }
+
+    @Override
+    public boolean subscribe(final Topic topic, final Subscriber<?> subscriber) {
+        synchronized(subscriptions) {
+            final boolean affected = subscriptions.create(topic, subscriber).hasAny();
+            if(affected) {
+                evict(topic);
+            }
+            return affected;
+        }
+    }
+
+    @Override
+    public boolean unsubscribe(final Topic topic, final Subscriber<?> subscriber) {
+        synchronized(subscriptions) {
+            final boolean affected = subscriptions.cancel(topic, subscriber).hasAny();
+            if(affected) {
+                evict(topic);
+            }
+            return affected;
+        }
+    }
+
+    @Override
+    public void unsubscribeAllTopics(final Subscriber<?> subscriber) {
+        synchronized(subscriptions) {
+            if(subscriptions.cancelAll(subscriber).hasAny()) {
+                evict(subscriber);
+            }
+        }
+    }
+
+    Subscriber<?>[] subscribersOf(final Topic topic) {
+
+        final Subscriber<?>[] subscribers = resolved.get(topic);
+
+        if(subscribers != null) {
+            return subscribers;
+        }
+
+        synchronized(subscriptions) {
+            final Subscriber<?>[] resolution = subscriptions.subscribersOf(topic);
+            if(!resolved.containsKey(topic)) {
+                if(resolved.size() >= maximumResolutions) {
+                    evictAny();
+                }
+                resolve(topic, resolution);
+            }
+            return resolution;
+        }
+    }
+
+    private void evict(final Topic topic) {
+
+        unresolve(topic);
+
+        final String[] segments = topic.segments();
+
+        // a topic that is not hierarchical may be a super topic of any other
+        final Node node = segments == null ? root : root.find(segments);
+
+        if(node != null) {
+            final List<Topic> candidates = new ArrayList<>();
+            node.collect(candidates);
+            for(final Topic candidate : candidates) {
+                if(topic.isSubTopic(candidate)) {
+                    unresolve(candidate);
+                }
+            }
+        }
+    }
+
+    private void evict(final Subscriber<?> subscriber) {
+
+        final List<Topic> affected = new ArrayList<>();
+
+        for(final Entry<Topic, Subscriber<?>[]> resolution : resolved.entrySet()) {
+            if(contains(resolution.getValue(), subscriber)) {
+                affected.add(resolution.getKey());
+            }
+        }
+
+        for(final Topic topic : affected) {
+            unresolve(topic);
+        }
+    }
+
+    private void evictAny() {
+
+        final Iterator<Topic> iterator = resolved.keySet().iterator();
+
+        if(iterator.hasNext()) {
+            unresolve(iterator.next());
+        }
+    }
+
+    private boolean contains(final Subscriber<?>[] subscribers, final Subscriber<?> subscriber) {
+
+        for(final Subscriber<?> each : subscribers) {
+            if(each.equals(subscriber)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void resolve(final Topic topic, final Subscriber<?>[] resolution) {
+
+        final String[] segments = topic.segments();
+        final Node node = segments == null ? root : root.pathTo(segments);
+
+        node.topics.add(topic);
+        indexed.put(topic, node);
+        resolved.put(topic, resolution);
+    }
+
+    private void unresolve(final Topic topic) {
+
+        resolved.remove(topic);
+
+        final Node node = indexed.remove(topic);
+
+        if(node != null) {
+            node.topics.remove(topic);
+            node.prune();
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+        private final Node parent;
+        private final String segment;
+        private final List<Topic> topics = new ArrayList<>(1);
+
+        private Node(final Node parent, final String segment) {
+            this.parent = parent;
+            this.segment = segment;
+        }
+
+        private Node pathTo(final String[] segments) {
+            Node node = this;
+            for(final String segment : segments) {
+                Node child = node.children.get(segment);
+                if(child == null) {
+                    child = new Node(node, segment);
+                    node.children.put(segment, child);
+                }
+                node = child;
+            }
+            return node;
+        }
+
+        private void collect(final List<Topic> candidates) {
+            candidates.addAll(topics);
+            for(final Node child : children.values()) {
+                child.collect(candidates);
+            }
+        }
+
+        private Node find(final String[] segments) {
+            Node node = this;
+            for(int index = 0; node != null && index < segments.length; ++index) {
+                node = node.children.get(segments[index]);
+            }
+            return node;
+        }
+
+        private void prune() {
+            Node node = this;
+            while(node.parent != null && node.topics.isEmpty() && node.children.isEmpty()) {
+                node.parent.children.remove(node.segment);
+                node = node.parent;
+            }
+        }
+    }
+}
@@ -13,7 +13,9 @@ public class DefaultPublisher implements Publisher {
 
     @Override
     public void publish(final Topic topic, final Message message) {
-        subscriptions.forTopic(topic).forEach(subscriber -> subscriber.receive(message));
+        for(final Subscriber<?> subscriber : subscriptions.subscribersOf(topic)) {
+            subscriber.receive(message);
+        }
     }
 
     @Override
@@ -0,0 +1,64 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import java.util.regex.Pattern;
+
+/**
+ * HierarchicalTopic is a {@link Topic} whose name is a path of segments, such as
+ * {@code "orders/eu/placed"}. Another topic is my sub topic when its segments
+ * extend mine, so subscribers of {@code "orders/eu"} also receive the messages
+ * published to {@code "orders/eu/placed"}. {@link Subscriptions} indexes
+ * hierarchical topics in a tree of their segments, so a subclass that overrides
+ * {@link #isSubTopic(Topic)} must still answer true only for topics whose
+ * segments extend mine.
+ */
+public class HierarchicalTopic extends Topic {
+
+    public static final char DefaultSeparator = '/';
+
+    private final String[] segments;
+    private final char separator;
+
+    public HierarchicalTopic(final String name) {
+        this(name, DefaultSeparator);
+    }
+
+    public HierarchicalTopic(final String name, final char separator) {
+        super(name);
+        this.separator = separator;
+        this.segments = name.split(Pattern.quote(String.valueOf(separator)), -1);
+    }
+
+    @Override
+    public boolean isSubTopic(final Topic anotherTopic) {
+
+        if(!(anotherTopic instanceof HierarchicalTopic)) {
+            return false;
+        }
+
+        final HierarchicalTopic otherTopic = (HierarchicalTopic) anotherTopic;
+
+        if(otherTopic.separator != separator || otherTopic.segments.length <= segments.length) {
+            return false;
+        }
+
+        for(int index = 0; index < segments.length; ++index) {
+            if(!segments[index].equals(otherTopic.segments[index])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    String[] segments() {
+        return segments;
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+/**
+ * LoggedMessage is a published {@link Message} with its offset in the {@link TopicLog},
+ * from which a subscriber may later resume by {@link LoggedPublisher#subscribeFrom(Topic, Subscriber, long)}.
+ */
+public final class LoggedMessage implements Message {
+
+    private final Message message;
+    private final long offset;
+
+    public LoggedMessage(final long offset, final Message message) {
+        this.offset = offset;
+        this.message = message;
+    }
+
+    public Message message() {
+        return message;
+    }
+
+    /**
+     * Answers my offset; resuming from {@code offset() + 1} continues after me.
+     * @return long
+     */
+    public long offset() {
+        return offset;
+    }
+
+    @Override
+    public String toString() {
+        return "LoggedMessage[offset=" + offset + " message=" + message + "]";
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * LoggedPublisher is a {@link Publisher} that appends every published message to a
+ * {@link TopicLog} before publishing it through another {@code Publisher}. Subscribers
+ * receive each message as a {@link LoggedMessage} holding its offset, and a subscriber
+ * that joins late or restarts may {@code subscribeFrom()} an offset to first replay the
+ * logged messages of its topic and then continue with those published live, with no
+ * message missed or repeated.
+ * <p>
+ * Publishers on many threads append and fan out at once, holding only the shared side
+ * of a lock whose exclusive side is taken by the last step of a catch-up, so the wrapped
+ * {@code Publisher} must then be one that may be used concurrently, such as a
+ * {@link ConcurrentPublisher}. Messages published at once from different threads may
+ * be received in an order other than that of their offsets.
+ */
+public class LoggedPublisher implements Publisher {
+
+    private final ReadWriteLock handoff = new ReentrantReadWriteLock();
+    private final TopicLog log;
+    private final Publisher publisher;
+
+    public LoggedPublisher(final Publisher publisher, final TopicLog log) {
+        this.publisher = publisher;
+        this.log = log;
+    }
+
+    @Override
+    public void publish(final Topic topic, final Message message) {
+        // a catch-up must not fall between the append and the fan-out of a message,
+        // or its subscriber could miss the message or receive it twice
+        handoff.readLock().lock();
+        try {
+            final long offset = log.append(topic, message);
+            publisher.publish(topic, new LoggedMessage(offset, message));
+        } finally {
+            handoff.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean subscribe(final Topic topic, final Subscriber<?> subscriber) {
+        return publisher.subscribe(topic, subscriber);
+    }
+
+    /**
+     * Replays to {@code subscriber} the logged messages of {@code topic} from {@code offset},
+     * then subscribes it to {@code topic}. Most of the replay happens while publishing continues;
+     * only the messages appended meanwhile are replayed while publishing waits for those already
+     * appended to be published.
+     * @param topic the Topic to subscribe to
+     * @param subscriber the Subscriber to replay to and subscribe
+     * @param offset the long offset of the first message to replay
+     * @return boolean
+     */
+    public boolean subscribeFrom(final Topic topic, final Subscriber<?> subscriber, final long offset) {
+        final TopicLog.Reader replay = (logged, loggedTopic, message) -> {
+            if(topic.equals(loggedTopic) || topic.isSubTopic(loggedTopic)) {
+                subscriber.receive(new LoggedMessage(logged, message));
+            }
+        };
+
+        final long caughtUp = log.read(offset, replay);
+
+        handoff.writeLock().lock();
+        try {
+            log.read(caughtUp, replay);
+            return publisher.subscribe(topic, subscriber);
+        } finally {
+            handoff.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean unsubscribe(final Topic topic, final Subscriber<?> subscriber) {
+        return publisher.unsubscribe(topic, subscriber);
+    }
+
+    @Override
+    public void unsubscribeAllTopics(final Subscriber<?> subscriber) {
+        publisher.unsubscribeAllTopics(subscriber);
+    }
+}
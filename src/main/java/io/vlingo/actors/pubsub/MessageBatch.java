@@ -0,0 +1,64 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MessageBatch is the messages published to one {@link Subscriber} by a
+ * {@link BatchingPublisher} and delivered to it at once. The demand the
+ * messages consume is returned once the batch is delivered or released.
+ */
+public final class MessageBatch {
+
+    private final Message[] messages;
+    private final BatchingPublisher.Outlet outlet;
+    private final AtomicBoolean released;
+
+    MessageBatch(final Message[] messages, final BatchingPublisher.Outlet outlet) {
+        this.messages = messages;
+        this.outlet = outlet;
+        this.released = new AtomicBoolean(false);
+    }
+
+    /**
+     * Delivers each of my messages in the order published to {@code subscriber}, and then releases me.
+     * @param subscriber the Subscriber to receive my messages
+     */
+    public void deliverTo(final Subscriber<?> subscriber) {
+        try {
+            for(final Message message : messages) {
+                subscriber.receive(message);
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Answers the message at {@code index}.
+     * @param index the int index of the message, from 0 to {@code size() - 1}
+     * @return Message
+     */
+    public Message get(final int index) {
+        return messages[index];
+    }
+
+    /**
+     * Returns the demand consumed by my messages, at most once.
+     */
+    public void release() {
+        if(released.compareAndSet(false, true)) {
+            outlet.released(messages.length);
+        }
+    }
+
+    public int size() {
+        return messages.length;
+    }
+}
@@ -0,0 +1,42 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import java.nio.ByteBuffer;
+
+/**
+ * MessageCodec converts the messages and topics of a {@link TopicLog} to and from
+ * their logged form.
+ */
+public interface MessageCodec {
+
+    /**
+     * Answers the bytes of {@code message} to append to the log.
+     * @param message the Message to encode
+     * @return byte[]
+     */
+    byte[] encode(final Message message);
+
+    /**
+     * Answers the Message decoded from {@code bytes}, which is a read-only view of the
+     * memory-mapped log positioned at the start of the message and limited to its end.
+     * The view is valid only during this call.
+     * @param bytes the ByteBuffer holding the encoded message
+     * @return Message
+     */
+    Message decode(final ByteBuffer bytes);
+
+    /**
+     * Answers the Topic named {@code name} of a logged message.
+     * @param name the String name of the Topic
+     * @return Topic
+     */
+    default Topic topicFor(final String name) {
+        return new HierarchicalTopic(name);
+    }
+}
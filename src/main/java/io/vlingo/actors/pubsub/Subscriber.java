@@ -10,4 +10,14 @@ package io.vlingo.actors.pubsub;
 public interface Subscriber<M extends Message> {
 
     void receive(final Message message);
+
+    /**
+     * Receives the {@code batch} of messages published while my previous batch was pending.
+     * Implementations that override this must {@code deliverTo()} or {@code release()} the
+     * batch, which returns its demand to the {@link BatchingPublisher}.
+     * @param batch the MessageBatch to receive
+     */
+    default void receiveAll(final MessageBatch batch) {
+        batch.deliverTo(this);
+    }
 }
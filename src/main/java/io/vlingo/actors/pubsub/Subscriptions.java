@@ -7,86 +7,380 @@
 
 package io.vlingo.actors.pubsub;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+/**
+ * Subscriptions indexes the {@link Subscriber subscribers} of each {@link Topic}.
+ * Hierarchical topics are indexed in a tree of their name segments, so resolving
+ * the subscribers of a published topic visits only the nodes along its path. The
+ * resolved subscribers are cached per published topic, and the arrays are copied
+ * on write, so publishing to an already resolved topic allocates nothing. Any
+ * subscription change invalidates only the cached resolutions it can affect.
+ * Topics that are not hierarchical are resolved by {@link Topic#isSubTopic(Topic)}
+ * over all subscriptions. Their resolutions, and those of published topics that
+ * lie beyond the subscribed tree, are held in a least recently used cache of at
+ * most {@code maximumResolutions}, so publishing to many distinct topics does not
+ * grow the index.
+ */
 public class Subscriptions {
 
-    private Map<Topic, Set<Subscriber<?>>> index = new HashMap<>();
+    public static final int DefaultMaximumResolutions = 1024;
+
+    private static final Subscriber<?>[] NoSubscribers = new Subscriber<?>[0];
+
+    private final Map<Topic, Subscriber<?>[]> flat = new HashMap<>();
+    private final Map<Topic, Subscriber<?>[]> resolved;
+    private long generation = 0;
+    private final Node root = new Node();
+
+    public Subscriptions() {
+        this(DefaultMaximumResolutions);
+    }
+
+    public Subscriptions(final int maximumResolutions) {
+        this.resolved = new LinkedHashMap<Topic, Subscriber<?>[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Entry<Topic, Subscriber<?>[]> eldest) {
+                return size() > maximumResolutions;
+            }
+        };
+    }
 
     public AffectedSubscriptions create(final Topic topic, final Subscriber<?> subscriber) {
 
-        if(!index.containsKey(topic)) {
-            index.put(topic, new HashSet<>());
+        final AffectedSubscriptions affectedSubscriptions = new AffectedSubscriptions();
+
+        if(insert(subscriptionsOf(topic, true), topic, subscriber)) {
+            affectedSubscriptions.add(topic, subscriber);
+            invalidate(topic);
         }
 
-        return performOperation(topic, subscriber, defaultCondition(), insertOperation());
+        return affectedSubscriptions;
     }
 
     public AffectedSubscriptions cancel(final Topic topic, final Subscriber<?> subscriber) {
-        return performOperation(topic, subscriber, defaultCondition(), removalOperation());
+
+        final AffectedSubscriptions affectedSubscriptions = new AffectedSubscriptions();
+
+        final Map<Topic, Subscriber<?>[]> subscriptions = subscriptionsOf(topic, false);
+
+        if(subscriptions != null && remove(subscriptions, topic, subscriber)) {
+            affectedSubscriptions.add(topic, subscriber);
+            invalidate(topic);
+            prune(topic);
+        }
+
+        return affectedSubscriptions;
     }
 
     public AffectedSubscriptions cancelAll(final Subscriber<?> subscriber) {
-        return performOperation(null, subscriber, noCondition(), removalOperation());
+
+        final AffectedSubscriptions affectedSubscriptions = new AffectedSubscriptions();
+
+        removeAll(flat, subscriber, affectedSubscriptions);
+        removeAll(root, subscriber, affectedSubscriptions);
+
+        if(affectedSubscriptions.hasAny()) {
+            ++generation;
+            resolved.clear();
+            pruneAll(root);
+        }
+
+        return affectedSubscriptions;
     }
 
     public Set<Subscriber<?>> forTopic(final Topic topic) {
+        return new HashSet<>(Arrays.asList(subscribersOf(topic)));
+    }
 
-        final Set<Subscriber<?>> subscribers = new HashSet<>();
+    /**
+     * Answers the subscribers of {@code topic}, which are those subscribed to it or to a
+     * topic of which it is a sub topic. The answered array is shared and must not be modified.
+     * @param topic the Topic to which a message is published
+     * @return {@code Subscriber<?>[]}
+     */
+    public Subscriber<?>[] subscribersOf(final Topic topic) {
 
-        index.entrySet().forEach(subscription -> {
+        final String[] segments = topic.segments();
 
-            final Topic subscribedTopic = subscription.getKey();
+        if(segments == null) {
+            Subscriber<?>[] subscribers = resolved.get(topic);
+            if(subscribers == null) {
+                subscribers = resolveByScan(topic);
+                resolved.put(topic, subscribers);
+            }
+            return subscribers;
+        }
 
-            if(subscribedTopic.equals(topic) || subscribedTopic.isSubTopic(topic)) {
-                subscribers.addAll(subscription.getValue());
+        Node node = root;
+        for(int index = 0; index < segments.length; ++index) {
+            final Node child = node.children.get(segments[index]);
+            if(child == null) {
+                return resolveBeyond(topic, segments);
             }
-        });
+            node = child;
+        }
 
-        return subscribers;
+        if(node.resolved == null || node.resolvedGeneration != generation ||
+                (node.resolvedTopic != topic && !node.resolvedTopic.equals(topic))) {
+            node.resolve(topic, resolveAlongPath(topic, segments), generation);
+        }
+
+        return node.resolved;
     }
 
-    private Operation insertOperation() {
-        return (existingValues, givenValue) -> existingValues.add(givenValue);
+    private boolean insert(final Map<Topic, Subscriber<?>[]> subscriptions, final Topic topic, final Subscriber<?> subscriber) {
+
+        final Subscriber<?>[] existing = subscriptions.get(topic);
+
+        if(existing == null) {
+            subscriptions.put(topic, new Subscriber<?>[] { subscriber });
+            return true;
+        }
+
+        for(final Subscriber<?> each : existing) {
+            if(each.equals(subscriber)) {
+                return false;
+            }
+        }
+
+        final Subscriber<?>[] extended = Arrays.copyOf(existing, existing.length + 1);
+        extended[existing.length] = subscriber;
+        subscriptions.put(topic, extended);
+
+        return true;
     }
 
-    private Operation removalOperation() {
-        return (existingValues, givenValue) -> existingValues.remove(givenValue);
+    private void invalidate(final Topic topic) {
+
+        resolved.clear();
+
+        final String[] segments = topic.segments();
+
+        if(segments == null) {
+            ++generation;
+            return;
+        }
+
+        Node node = root;
+        for(final String segment : segments) {
+            node = node.children.get(segment);
+            if(node == null) {
+                return;
+            }
+        }
+
+        node.invalidateAll();
     }
 
-    private Condition defaultCondition() {
-        return (subscription, topic, subscriber) -> subscription.getKey().equals(topic);
+    private void prune(final Topic topic) {
+
+        final String[] segments = topic.segments();
+
+        if(segments == null) {
+            return;
+        }
+
+        final Node[] path = new Node[segments.length + 1];
+        path[0] = root;
+        for(int index = 0; index < segments.length; ++index) {
+            path[index + 1] = path[index].children.get(segments[index]);
+            if(path[index + 1] == null) {
+                return;
+            }
+        }
+
+        for(int index = segments.length; index > 0 && path[index].isEmpty(); --index) {
+            path[index - 1].children.remove(segments[index - 1]);
+        }
     }
 
-    private Condition noCondition() {
-        return (subscription, topic, subscriber) -> true;
+    private void pruneAll(final Node node) {
+
+        final Iterator<Node> children = node.children.values().iterator();
+
+        while(children.hasNext()) {
+            final Node child = children.next();
+            pruneAll(child);
+            if(child.isEmpty()) {
+                children.remove();
+            }
+        }
     }
 
-    private AffectedSubscriptions performOperation(final Topic topic, final Subscriber<?> subscriber, final Condition condition, final Operation operation) {
+    private boolean remove(final Map<Topic, Subscriber<?>[]> subscriptions, final Topic topic, final Subscriber<?> subscriber) {
 
-        final AffectedSubscriptions affectedSubscriptions = new AffectedSubscriptions();
+        final Subscriber<?>[] existing = subscriptions.get(topic);
+
+        if(existing == null) {
+            return false;
+        }
+
+        for(int index = 0; index < existing.length; ++index) {
+            if(existing[index].equals(subscriber)) {
+                if(existing.length == 1) {
+                    subscriptions.remove(topic);
+                } else {
+                    final Subscriber<?>[] reduced = new Subscriber<?>[existing.length - 1];
+                    System.arraycopy(existing, 0, reduced, 0, index);
+                    System.arraycopy(existing, index + 1, reduced, index, existing.length - index - 1);
+                    subscriptions.put(topic, reduced);
+                }
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void removeAll(final Map<Topic, Subscriber<?>[]> subscriptions, final Subscriber<?> subscriber, final AffectedSubscriptions affectedSubscriptions) {
 
-        index.entrySet().forEach(subscription -> {
-            if(condition.should(subscription, topic, subscriber) &&
-                    operation.perform(subscription.getValue(), subscriber)) {
+        for(final Topic topic : subscriptions.keySet().toArray(new Topic[subscriptions.size()])) {
+            if(remove(subscriptions, topic, subscriber)) {
                 affectedSubscriptions.add(topic, subscriber);
             }
-        });
+        }
+    }
 
-        return affectedSubscriptions;
+    private void removeAll(final Node node, final Subscriber<?> subscriber, final AffectedSubscriptions affectedSubscriptions) {
+
+        if(node.subscriptions != null) {
+            removeAll(node.subscriptions, subscriber, affectedSubscriptions);
+        }
+
+        for(final Node child : node.children.values()) {
+            removeAll(child, subscriber, affectedSubscriptions);
+        }
+    }
+
+    private Subscriber<?>[] resolveAlongPath(final Topic topic, final String[] segments) {
+
+        final Set<Subscriber<?>> subscribers = new LinkedHashSet<>();
+
+        Node node = root;
+        for(int index = 0; node != null && index < segments.length; ++index) {
+            node = node.children.get(segments[index]);
+            if(node != null && node.subscriptions != null) {
+                collect(node.subscriptions, topic, subscribers);
+            }
+        }
+
+        collect(flat, topic, subscribers);
+
+        return subscribers.isEmpty() ? NoSubscribers : subscribers.toArray(NoSubscribers);
+    }
+
+    private Subscriber<?>[] resolveBeyond(final Topic topic, final String[] segments) {
+
+        Subscriber<?>[] subscribers = resolved.get(topic);
+
+        if(subscribers == null) {
+            subscribers = resolveAlongPath(topic, segments);
+            resolved.put(topic, subscribers);
+        }
+
+        return subscribers;
+    }
+
+    private Subscriber<?>[] resolveByScan(final Topic topic) {
+
+        final Set<Subscriber<?>> subscribers = new LinkedHashSet<>();
+
+        collect(flat, topic, subscribers);
+        collectAll(root, topic, subscribers);
+
+        return subscribers.isEmpty() ? NoSubscribers : subscribers.toArray(NoSubscribers);
+    }
+
+    private void collect(final Map<Topic, Subscriber<?>[]> subscriptions, final Topic topic, final Set<Subscriber<?>> subscribers) {
+
+        for(final Entry<Topic, Subscriber<?>[]> subscription : subscriptions.entrySet()) {
+
+            final Topic subscribedTopic = subscription.getKey();
+
+            if(subscribedTopic.equals(topic) || subscribedTopic.isSubTopic(topic)) {
+                Collections.addAll(subscribers, subscription.getValue());
+            }
+        }
     }
 
-    @FunctionalInterface
-    private interface Operation {
-        boolean perform(final Set<Subscriber<?>> existingSubscriber, final Subscriber<?> givenSubscriber);
+    private void collectAll(final Node node, final Topic topic, final Set<Subscriber<?>> subscribers) {
+
+        if(node.subscriptions != null) {
+            collect(node.subscriptions, topic, subscribers);
+        }
+
+        for(final Node child : node.children.values()) {
+            collectAll(child, topic, subscribers);
+        }
     }
 
-    @FunctionalInterface
-    private interface Condition {
-        boolean should(final Entry<Topic, Set<Subscriber<?>>> subscription, final Topic topic, final Subscriber<?> subscriber);
+    private Map<Topic, Subscriber<?>[]> subscriptionsOf(final Topic topic, final boolean create) {
+
+        final String[] segments = topic.segments();
+
+        if(segments == null) {
+            return flat;
+        }
+
+        Node node = root;
+        for(final String segment : segments) {
+            node = create ? node.childOf(segment) : node.children.get(segment);
+            if(node == null) {
+                return null;
+            }
+        }
+
+        if(node.subscriptions == null && create) {
+            node.subscriptions = new HashMap<>(2);
+        }
+
+        return node.subscriptions;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+        private Subscriber<?>[] resolved;
+        private long resolvedGeneration;
+        private Topic resolvedTopic;
+        private Map<Topic, Subscriber<?>[]> subscriptions;
+
+        private Node childOf(final String segment) {
+            Node child = children.get(segment);
+            if(child == null) {
+                child = new Node();
+                children.put(segment, child);
+            }
+            return child;
+        }
+
+        private boolean isEmpty() {
+            return children.isEmpty() && (subscriptions == null || subscriptions.isEmpty());
+        }
+
+        private void invalidateAll() {
+            resolved = null;
+            resolvedTopic = null;
+            for(final Node child : children.values()) {
+                child.invalidateAll();
+            }
+        }
+
+        private void resolve(final Topic topic, final Subscriber<?>[] subscribers, final long generation) {
+            this.resolvedTopic = topic;
+            this.resolved = subscribers;
+            this.resolvedGeneration = generation;
+        }
     }
 }
@@ -21,6 +21,21 @@ public abstract class Topic {
 
     public abstract boolean isSubTopic(final Topic anotherTopic);
 
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + name.hashCode();
+    }
+
+    /**
+     * Answers the segments of my hierarchical name, or null if I am not hierarchical.
+     * Subscriptions indexes hierarchical topics by their segments.
+     * @return String[]
+     */
+    String[] segments() {
+        return null;
+    }
+
+    @Override
     public boolean equals(final Object other) {
 
         if(other == null || !other.getClass().equals(getClass())) {
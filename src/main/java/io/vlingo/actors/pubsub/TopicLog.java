@@ -0,0 +1,378 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * TopicLog is a durable, append-only log of published messages held in memory-mapped
+ * segment files within a directory. Each message is appended at the next offset,
+ * starting from 0, and may be read back from any offset, which makes catch-up replay
+ * possible without an external broker.
+ * <p>
+ * Appends write sequentially into the mapped active segment, which is named by the
+ * offset of its first message, and roll to a new segment when it is full. Every
+ * {@code IndexInterval} bytes of a segment, the offset and position of a message are
+ * recorded in the segment's mapped index file, so that reading from an offset scans
+ * at most that many bytes. Reads decode each message straight from the mapped buffer.
+ * Appended messages may be read immediately, but become durable only when committed,
+ * which happens once per {@code groupCommitSize} appends, on {@code commit()}, and on
+ * {@code close()}. Messages not committed before a crash of the operating system may
+ * be lost; the log recovers up to its last complete message when opened again.
+ * <p>
+ * Appends are serialized; reads may run on any number of threads at once.
+ */
+public class TopicLog {
+
+    public static final int DefaultGroupCommitSize = 256;
+    public static final int DefaultSegmentSize = 64 * 1024 * 1024;
+
+    private static final int HeaderSize = 8;
+    private static final int IndexEntrySize = 8;
+    private static final int IndexInterval = 4096;
+    private static final String IndexSuffix = ".index";
+    private static final String LogSuffix = ".log";
+
+    private final MessageCodec codec;
+    private volatile long committedOffset;
+    private final File directory;
+    private final int groupCommitSize;
+    private volatile long nextOffset;
+    private final int segmentSize;
+    private final List<Segment> segments;
+    private int uncommitted;
+
+    /**
+     * Reader receives each message read from a {@code TopicLog}.
+     */
+    @FunctionalInterface
+    public interface Reader {
+        void read(final long offset, final Topic topic, final Message message);
+    }
+
+    public TopicLog(final File directory, final MessageCodec codec) {
+        this(directory, codec, DefaultSegmentSize, DefaultGroupCommitSize);
+    }
+
+    public TopicLog(final File directory, final MessageCodec codec, final int segmentSize, final int groupCommitSize) {
+        if(segmentSize < IndexInterval) {
+            throw new IllegalArgumentException("segmentSize must be at least " + IndexInterval);
+        }
+        if(groupCommitSize <= 0) {
+            throw new IllegalArgumentException("groupCommitSize must be 1 or greater");
+        }
+
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.groupCommitSize = groupCommitSize;
+        this.segments = new CopyOnWriteArrayList<>();
+
+        if(!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("Cannot create topic log directory: " + directory);
+        }
+
+        recover();
+    }
+
+    /**
+     * Appends {@code message} of {@code topic} and answers its offset.
+     * @param topic the Topic of the message
+     * @param message the Message to append
+     * @return long
+     */
+    public synchronized long append(final Topic topic, final Message message) {
+
+        final byte[] name = topic.name().getBytes(StandardCharsets.UTF_8);
+        final byte[] payload = codec.encode(message);
+        final int size = HeaderSize + name.length + payload.length;
+
+        if(size > segmentSize) {
+            throw new IllegalArgumentException("Message of " + size + " bytes exceeds segmentSize of " + segmentSize);
+        }
+
+        Segment active = segments.get(segments.size() - 1);
+
+        if(active.position + size > segmentSize) {
+            active.force();
+            active = createSegment(nextOffset);
+            segments.add(active);
+        }
+
+        final long offset = nextOffset;
+        active.append(offset, name, payload);
+        nextOffset = offset + 1;
+
+        if(++uncommitted >= groupCommitSize) {
+            commit();
+        }
+
+        return offset;
+    }
+
+    /**
+     * Forces all appended messages to storage.
+     */
+    public synchronized void commit() {
+        if(uncommitted > 0) {
+            segments.get(segments.size() - 1).force();
+            uncommitted = 0;
+            committedOffset = nextOffset;
+        }
+    }
+
+    /**
+     * Commits and closes this log, which may not be used afterward.
+     */
+    public synchronized void close() {
+        commit();
+        for(final Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    /**
+     * Answers the offset before which all messages are durable.
+     * @return long
+     */
+    public long committedOffset() {
+        return committedOffset;
+    }
+
+    /**
+     * Answers the offset at which the next message will be appended.
+     * @return long
+     */
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * Reads to {@code reader} each message from {@code fromOffset} up to those appended
+     * so far, in offset order, and answers the offset following the last message read.
+     * @param fromOffset the long offset of the first message to read
+     * @param reader the Reader receiving the messages
+     * @return long
+     */
+    public long read(final long fromOffset, final Reader reader) {
+
+        final long endOffset = nextOffset;
+        final List<Segment> current = new ArrayList<>(segments);
+
+        long offset = Math.max(0, fromOffset);
+        int segmentIndex = segmentIndexOf(current, offset);
+
+        while(offset < endOffset && segmentIndex < current.size()) {
+            final Segment segment = current.get(segmentIndex);
+            final long segmentEnd = segmentIndex + 1 < current.size() ? current.get(segmentIndex + 1).baseOffset : endOffset;
+            final ByteBuffer view = segment.buffer.asReadOnlyBuffer();
+
+            int position = segment.positionOf(offset);
+
+            while(offset < segmentEnd && offset < endOffset) {
+                final int length = view.getInt(position);
+                final int nameLength = view.getInt(position + 4);
+                final byte[] name = new byte[nameLength];
+
+                view.position(position + HeaderSize);
+                view.get(name);
+                view.limit(position + 4 + length);
+
+                final Message message = codec.decode(view.slice());
+
+                view.clear();
+
+                reader.read(offset, codec.topicFor(new String(name, StandardCharsets.UTF_8)), message);
+
+                position += 4 + length;
+                ++offset;
+            }
+
+            ++segmentIndex;
+        }
+
+        return offset;
+    }
+
+    private Segment createSegment(final long baseOffset) {
+        final String name = String.format("%020d", baseOffset);
+        return new Segment(baseOffset, new File(directory, name + LogSuffix), new File(directory, name + IndexSuffix), true);
+    }
+
+    private void recover() {
+
+        final File[] logs = directory.listFiles((dir, name) -> name.endsWith(LogSuffix));
+
+        if(logs == null || logs.length == 0) {
+            segments.add(createSegment(0));
+            return;
+        }
+
+        Arrays.sort(logs);
+
+        for(final File log : logs) {
+            final String name = log.getName().substring(0, log.getName().length() - LogSuffix.length());
+            final Segment segment = new Segment(Long.parseLong(name), log, new File(directory, name + IndexSuffix), false);
+            nextOffset = segment.recover();
+            segments.add(segment);
+        }
+
+        committedOffset = nextOffset;
+    }
+
+    private int segmentIndexOf(final List<Segment> current, final long offset) {
+
+        int low = 0;
+        int high = current.size() - 1;
+
+        while(low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if(current.get(middle).baseOffset <= offset) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private final class Segment {
+        private final long baseOffset;
+        private final MappedByteBuffer buffer;
+        private final FileChannel channel;
+        private final MappedByteBuffer index;
+        private final FileChannel indexChannel;
+        private int indexEntries;
+        private int lastIndexedPosition;
+        private int position;
+        private int records;
+        private final ByteBuffer writer;
+
+        private Segment(final long baseOffset, final File log, final File indexFile, final boolean create) {
+            this.baseOffset = baseOffset;
+
+            try(final RandomAccessFile logFile = new RandomAccessFile(log, "rw");
+                final RandomAccessFile indexRandomFile = new RandomAccessFile(indexFile, "rw")) {
+                if(create) {
+                    logFile.setLength(segmentSize);
+                    indexRandomFile.setLength((segmentSize / IndexInterval + 2) * IndexEntrySize);
+                }
+                this.channel = logFile.getChannel();
+                this.buffer = channel.map(MapMode.READ_WRITE, 0, logFile.length());
+                this.indexChannel = indexRandomFile.getChannel();
+                this.index = indexChannel.map(MapMode.READ_WRITE, 0, indexRandomFile.length());
+            } catch(IOException e) {
+                throw new UncheckedIOException("Cannot open topic log segment: " + log, e);
+            }
+
+            this.writer = buffer.duplicate();
+        }
+
+        private void append(final long offset, final byte[] name, final byte[] payload) {
+            if(records == 0 || position - lastIndexedPosition >= IndexInterval) {
+                index.putInt(indexEntries * IndexEntrySize, (int) (offset - baseOffset));
+                index.putInt(indexEntries * IndexEntrySize + 4, position);
+                lastIndexedPosition = position;
+                ++indexEntries;
+            }
+
+            writer.position(position + HeaderSize);
+            writer.put(name);
+            writer.put(payload);
+            writer.putInt(position + 4, name.length);
+            // the length is written last, so that a message without it is not recovered
+            writer.putInt(position, 4 + name.length + payload.length);
+
+            position += HeaderSize + name.length + payload.length;
+            ++records;
+        }
+
+        private void close() {
+            try {
+                channel.close();
+                indexChannel.close();
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void force() {
+            buffer.force();
+            index.force();
+        }
+
+        private int positionOf(final long offset) {
+
+            int low = 0;
+            int high = indexEntries - 1;
+            final int relative = (int) (offset - baseOffset);
+
+            while(low < high) {
+                final int middle = (low + high + 1) >>> 1;
+                if(index.getInt(middle * IndexEntrySize) <= relative) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            int current = index.getInt(low * IndexEntrySize);
+            int at = index.getInt(low * IndexEntrySize + 4);
+
+            while(current < relative) {
+                at += 4 + buffer.getInt(at);
+                ++current;
+            }
+
+            return at;
+        }
+
+        private long recover() {
+
+            final int capacity = index.capacity() / IndexEntrySize;
+
+            while(indexEntries < capacity &&
+                    (indexEntries == 0 || index.getInt(indexEntries * IndexEntrySize) != 0)) {
+                ++indexEntries;
+            }
+
+            int relative = index.getInt((indexEntries - 1) * IndexEntrySize);
+            int at = index.getInt((indexEntries - 1) * IndexEntrySize + 4);
+
+            while(at + HeaderSize <= buffer.capacity()) {
+                final int length = buffer.getInt(at);
+                if(length == 0 || at + 4 + length > buffer.capacity()) break;
+                at += 4 + length;
+                ++relative;
+            }
+
+            position = at;
+            records = relative;
+            lastIndexedPosition = index.getInt((indexEntries - 1) * IndexEntrySize + 4);
+
+            if(records == 0) {
+                indexEntries = 0;
+            }
+
+            return baseOffset + records;
+        }
+    }
+}
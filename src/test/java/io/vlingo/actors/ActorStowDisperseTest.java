@@ -9,6 +9,9 @@ package io.vlingo.actors;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 import io.vlingo.actors.Protocols.Two;
@@ -60,6 +63,43 @@ public class ActorStowDisperseTest extends ActorsTest {
     assertEquals(10, results.stowReceivedCount);
   }
 
+  @Test
+  public void testThatDispersedMessagesPrecedePendingMessagesInOrder() {
+    final OrderedResults results = new OrderedResults(10);
+
+    final Two<StowInOrder,OverrideStowage> protocols =
+            Protocols.two(
+                    world.actorFor(
+                            Definition.has(OrderedStowTestActor.class, Definition.parameters(results), "stow-ordered"),
+                            new Class<?>[] { StowInOrder.class, OverrideStowage.class }));
+
+    for (int idx = 0; idx < 5; ++idx) {
+      protocols._1.next(idx);
+    }
+    protocols._2.override();
+    for (int idx = 5; idx < 10; ++idx) {
+      protocols._1.next(idx);
+    }
+
+    results.received.completes();
+
+    final List<Integer> expected = new ArrayList<>();
+    for (int idx = 0; idx < 10; ++idx) {
+      expected.add(idx);
+    }
+    assertEquals(expected, results.order);
+  }
+
+  public static class OrderedResults {
+    public final List<Integer> order;
+    public final TestUntil received;
+
+    OrderedResults(final int received) {
+      this.order = new ArrayList<>();
+      this.received = TestUntil.happenings(received);
+    }
+  }
+
   public static class Results {
     public final TestUntil overrideReceived;
     public int overrideReceivedCount;
@@ -77,6 +117,10 @@ public class ActorStowDisperseTest extends ActorsTest {
     void override();
   }
 
+  public static interface StowInOrder {
+    void next(final int value);
+  }
+
   public static interface StowThese {
     void stow();
   }
@@ -109,4 +153,29 @@ public class ActorStowDisperseTest extends ActorsTest {
       results.stowReceived.happened();
     }
   }
+
+  public static class OrderedStowTestActor extends Actor implements StowInOrder, OverrideStowage {
+    private final OrderedResults results;
+
+    public OrderedStowTestActor(final OrderedResults results) {
+      this.results = results;
+      stowMessages(OverrideStowage.class);
+    }
+
+    @Override
+    public void crash() {
+      throw new IllegalStateException("Intended failure");
+    }
+
+    @Override
+    public void override() {
+      disperseStowedMessages();
+    }
+
+    @Override
+    public void next(final int value) {
+      results.order.add(value);
+      results.received.happened();
+    }
+  }
 }
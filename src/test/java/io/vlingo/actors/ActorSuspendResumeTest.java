@@ -10,6 +10,10 @@ package io.vlingo.actors;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 
 import io.vlingo.actors.supervision.FailureControl;
@@ -57,4 +61,80 @@ public class ActorSuspendResumeTest extends ActorsTest {
     
     assertTrue(failureControlTestResults.afterFailureCountCount.get() >= (times - 1));
   }
+
+  @Test
+  public void testThatResumeFromSupervisorKeepsOrderWhileMessagesArrive() {
+    final int times = 2000;
+    final OrderedResults results = new OrderedResults(times);
+
+    world.actorFor(Definition.has(ResumingSupervisorActor.class, Definition.NoParameters, "resuming-supervisor"), Supervisor.class);
+
+    final FailureControl ordered =
+            world.actorFor(
+                    Definition.has(OrderedActor.class, Definition.parameters(results, times / 4), ResumingSupervisorActor.instance.get(), "ordered"),
+                    FailureControl.class);
+
+    for (int count = 1; count <= times; ++count) {
+      ordered.afterFailureCount(count);
+    }
+
+    results.until.completes();
+
+    assertEquals(times, results.counts.size());
+    for (int index = 0; index < times; ++index) {
+      assertEquals(index + 1, (int) results.counts.get(index));
+    }
+  }
+
+  public static class OrderedResults {
+    public final List<Integer> counts = Collections.synchronizedList(new ArrayList<>());
+    public final TestUntil until;
+
+    public OrderedResults(final int times) {
+      this.until = TestUntil.happenings(times);
+    }
+  }
+
+  public static class OrderedActor extends Actor implements FailureControl {
+    private final int failAt;
+    private final OrderedResults results;
+
+    public OrderedActor(final OrderedResults results, final int failAt) {
+      this.failAt = failAt;
+      this.results = results;
+    }
+
+    @Override
+    public void afterFailureCount(final int count) {
+      results.counts.add(count);
+      results.until.happened();
+      if (count == failAt) {
+        throw new IllegalStateException("Intended failure.");
+      }
+    }
+
+    @Override
+    public void afterFailure() { }
+
+    @Override
+    public void failNow() { }
+  }
+
+  public static class ResumingSupervisorActor extends Actor implements Supervisor {
+    public static final ThreadLocal<ResumingSupervisorActor> instance = new ThreadLocal<>();
+
+    public ResumingSupervisorActor() {
+      instance.set(this);
+    }
+
+    @Override
+    public void inform(final Throwable throwable, final Supervised supervised) {
+      supervised.resume();
+    }
+
+    @Override
+    public SupervisionStrategy supervisionStrategy() {
+      return DefaultSupervisor.DefaultSupervisionStrategy;
+    }
+  }
 }
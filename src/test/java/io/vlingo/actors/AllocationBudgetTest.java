@@ -0,0 +1,195 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.common.Completes;
+
+/**
+ * AllocationBudgetTest asserts the most bytes the sending thread may allocate per
+ * message, for each mailbox and each kind of proxy method: one without
+ * parameters, whose consumer need not be allocated, one with parameters, whose
+ * consumer captures them, and one answering {@code Completes}, whose consumer
+ * also captures the {@code Completes} it answers. The request/reply budget also
+ * includes consuming the answer, as a caller does. The budgets are explicit, so
+ * that a change to the {@code ProxyGenerator}, {@code LocalMessage} or a mailbox
+ * that adds allocation on the send path fails here and must raise its budget
+ * deliberately. Allocation is measured by {@code com.sun.management.ThreadMXBean},
+ * and the test is skipped on JVMs without it.
+ * <p>
+ * The budgets are counted in objects of {@code ObjectBytes}, the size of a small
+ * object, such as a consumer capturing two values, on a 64-bit JVM with compressed
+ * references; every send path measured allocates a multiple of it. Each budget is
+ * the number of objects measured per message, plus {@code Headroom} of one
+ * object for a JVM that lays out or elides one differently. That of the
+ * {@code queueMailbox} has one object more, {@code SubmitHeadroom}, for the node of
+ * the executor's queue allocated when a send also submits the mailbox to its
+ * dispatcher, which depends on timing.
+ */
+public class AllocationBudgetTest {
+  private static final int Headroom = 1;
+  private static final int Messages = 10_000;
+  private static final int ObjectBytes = 24;
+  private static final int SubmitHeadroom = 1;
+  private static final int Warmup = 50_000;
+  private static final int Window = 1_000;
+
+  private static final String[] Mailboxes = { "queueMailbox", "ringMailbox", "arrayQueueMailbox" };
+
+  private com.sun.management.ThreadMXBean threads;
+  private World world;
+
+  @Test
+  public void testThatTellWithoutParametersIsWithinBudget() {
+    for (final String mailbox : Mailboxes) {
+      final Counted counted = countedFor(mailbox);
+      assertWithin(budgetOf(mailbox, 3, 0, 2), mailbox + " tell()", (index) -> counted.tell());
+    }
+  }
+
+  @Test
+  public void testThatTellWithParametersIsWithinBudget() {
+    final Object payload = new Object();
+    for (final String mailbox : Mailboxes) {
+      final Counted counted = countedFor(mailbox);
+      assertWithin(budgetOf(mailbox, 4, 1, 3), mailbox + " tell(int, Object)", (index) -> counted.tell(index, payload));
+    }
+  }
+
+  @Test
+  public void testThatRequestReplyIsWithinBudget() {
+    for (final String mailbox : Mailboxes) {
+      final Counted counted = countedFor(mailbox);
+      assertWithin(budgetOf(mailbox, 16, 13, 15), mailbox + " ask(int)", (index) -> counted.ask(index).andThenConsume(value -> CountedActor.replied()));
+    }
+  }
+
+  @Before
+  public void setUp() {
+    assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+    threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    world = World.start("allocation-budget-test");
+  }
+
+  @After
+  public void tearDown() {
+    if (world != null) {
+      world.terminate();
+    }
+  }
+
+  private void assertWithin(final long budget, final String description, final IntConsumer send) {
+    CountedActor.reset();
+    sendAll(Warmup, send);
+
+    final long allocated = sendAll(Messages, send);
+    final long perMessage = allocated / Messages;
+
+    assertTrue(description + " allocated " + perMessage + " bytes per message; budget is " + budget, perMessage <= budget);
+  }
+
+  /**
+   * Answers the budget in bytes of {@code mailbox}, given the objects measured per
+   * message by each mailbox.
+   */
+  private long budgetOf(final String mailbox, final int queueObjects, final int ringObjects, final int arrayQueueObjects) {
+    switch (mailbox) {
+    case "ringMailbox":
+      return (ringObjects + Headroom) * ObjectBytes;
+    case "arrayQueueMailbox":
+      return (arrayQueueObjects + Headroom) * ObjectBytes;
+    default:
+      return (queueObjects + Headroom + SubmitHeadroom) * ObjectBytes;
+    }
+  }
+
+  private Counted countedFor(final String mailbox) {
+    final String actorName = null;
+    return world.actorFor(Definition.has(CountedActor.class, Definition.NoParameters, mailbox, actorName), Counted.class);
+  }
+
+  /**
+   * Answers the bytes allocated by this thread sending {@code total} messages,
+   * in windows awaited between measurements, so that neither a full mailbox nor
+   * the awaiting is measured.
+   */
+  private long sendAll(final int total, final IntConsumer send) {
+    final long threadId = Thread.currentThread().getId();
+    long allocated = 0;
+    for (int sent = 0; sent < total; sent += Window) {
+      final long before = threads.getThreadAllocatedBytes(threadId);
+      for (int index = 0; index < Window; ++index) {
+        send.accept(index);
+      }
+      allocated += threads.getThreadAllocatedBytes(threadId) - before;
+      final long expected = sent + Window;
+      assertTrue("completed " + CountedActor.completed() + " of " + expected + " messages", CountedActor.await(expected));
+    }
+    CountedActor.reset();
+    return allocated;
+  }
+
+  public static interface Counted {
+    void tell();
+    void tell(final int value, final Object payload);
+    Completes<Integer> ask(final int value);
+  }
+
+  public static class CountedActor extends Actor implements Counted {
+    // replies are consumed by any of the pooled completes actors
+    private static final AtomicLong completed = new AtomicLong();
+
+    static boolean await(final long expected) {
+      final long deadline = System.currentTimeMillis() + 10_000;
+      while (completed.get() < expected && System.currentTimeMillis() < deadline) {
+        Thread.yield();
+      }
+      return completed.get() >= expected;
+    }
+
+    static long completed() {
+      return completed.get();
+    }
+
+    static void replied() {
+      completed.incrementAndGet();
+    }
+
+    static void reset() {
+      completed.set(0);
+    }
+
+    @Override
+    public void tell() {
+      completed.incrementAndGet();
+    }
+
+    @Override
+    public void tell(final int value, final Object payload) {
+      completed.incrementAndGet();
+    }
+
+    @Override
+    public Completes<Integer> ask(final int value) {
+      return completes().with(value);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.vlingo.actors.testkit.TestUntil;
+
+/**
+ * BalancingRouterTest
+ */
+public class BalancingRouterTest {
+
+  @Test
+  public void testThatBusyRouteeDoesNotHoldBackMessages() throws InterruptedException {
+    final World world = World.startWithDefaults("BalancingRouterTest");
+    final int poolSize = 4;
+    final int messagesToSend = 20;
+    final CountDownLatch blocking = new CountDownLatch(1);
+    final TestUntil blocked = TestUntil.happenings(1);
+    final TestUntil until = TestUntil.happenings(messagesToSend);
+    final Work router = world.actorFor(
+            Definition.has(BalancingRouterActor.class, Definition.parameters(poolSize, blocking, blocked, until)),
+            Work.class);
+
+    router.work(-1);
+    blocked.completes();
+
+    for (int i = 0; i < messagesToSend; i++) {
+      router.work(i);
+    }
+
+    // round-robin alone would leave a quarter of these queued behind the blocked routee
+    assertTrue(until.completesWithin(5000));
+    assertEquals(1, blocking.getCount());
+
+    blocking.countDown();
+    world.terminate();
+  }
+
+  @Test
+  public void testThatEachRouteeDeliversOnlyOneMessageAtATime() {
+    final World world = World.startWithDefaults("BalancingRouterTest");
+    final int messagesToSend = 200;
+    final OverlapResults results = new OverlapResults(messagesToSend);
+    final Work router = world.actorFor(
+            Definition.has(OverlapRouterActor.class, Definition.parameters(4, results)),
+            Work.class);
+
+    for (int i = 0; i < messagesToSend; i++) {
+      router.work(i);
+    }
+
+    // a shared message is delivered as the routee whose mailbox took it, so no routee runs twice at once
+    assertTrue(results.until.completesWithin(5000));
+    assertEquals(0, results.overlaps.get());
+
+    world.terminate();
+  }
+
+  public static class OverlapResults {
+    final AtomicInteger overlaps = new AtomicInteger();
+    final TestUntil until;
+
+    OverlapResults(final int messages) {
+      this.until = TestUntil.happenings(messages);
+    }
+  }
+
+  public static class OverlapWorker extends Actor implements Work {
+    private final AtomicBoolean busy = new AtomicBoolean(false);
+    private final OverlapResults results;
+
+    public OverlapWorker(final OverlapResults results) {
+      this.results = results;
+    }
+
+    @Override
+    public void work(final int id) {
+      if (!busy.compareAndSet(false, true)) {
+        results.overlaps.incrementAndGet();
+      }
+      Thread.yield();
+      busy.set(false);
+      results.until.happened();
+    }
+  }
+
+  public static class OverlapRouterActor extends Router implements Work {
+
+    public OverlapRouterActor(final int poolSize, final OverlapResults results) {
+      super(
+              new RouterSpecification(poolSize, Definition.has(OverlapWorker.class, Definition.parameters(results)), Work.class, true),
+              new RoundRobinRoutingStrategy()
+      );
+    }
+
+    @Override
+    public void work(final int id) {
+      computeRoutee(id)
+        .as(Work.class)
+        .work(id);
+    }
+  }
+
+  public static interface Work {
+    void work(final int id);
+  }
+
+  public static class BalancingWorker extends Actor implements Work {
+    private final CountDownLatch blocking;
+    private final TestUntil blocked;
+    private final TestUntil until;
+
+    public BalancingWorker(final CountDownLatch blocking, final TestUntil blocked, final TestUntil until) {
+      this.blocking = blocking;
+      this.blocked = blocked;
+      this.until = until;
+    }
+
+    @Override
+    public void work(final int id) {
+      if (id < 0) {
+        blocked.happened();
+        try {
+          blocking.await();
+        } catch (InterruptedException e) {
+          // fall through
+        }
+      } else {
+        until.happened();
+      }
+    }
+  }
+
+  public static class BalancingRouterActor extends Router implements Work {
+
+    public BalancingRouterActor(final int poolSize, final CountDownLatch blocking, final TestUntil blocked, final TestUntil until) {
+      super(
+              new RouterSpecification(
+                      poolSize,
+                      Definition.has(BalancingWorker.class, Definition.parameters(blocking, blocked, until)),
+                      Work.class,
+                      true),
+              new RoundRobinRoutingStrategy()
+      );
+    }
+
+    @Override
+    public void work(final int id) {
+      computeRoutee(id)
+        .as(Work.class)
+        .work(id);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailbox;
+import io.vlingo.actors.testkit.TestUntil;
+
+public class BlockingActorTest {
+  private World world;
+
+  @Test
+  public void testThatBlockingActorsAreGivenTheBlockingMailbox() {
+    world = World.start("blocking-actor-test", Configuration.define());
+
+    final Results results = new Results();
+
+    final Definition annotated = Definition.has(BlockingWorkerActor.class, Definition.parameters(results));
+    final Definition protocol = Definition.has(QueryActor.class, Definition.parameters(results));
+    final Definition named = Definition.has(WorkerActor.class, Definition.parameters(results), Definition.BlockingMailbox, "named");
+    final Definition other = Definition.has(WorkerActor.class, Definition.parameters(results));
+
+    assertTrue(ActorFactory.actorMailbox(world.stage(), world.addressFactory().unique(), annotated) instanceof ConcurrentQueueMailbox);
+    assertEquals(Definition.BlockingMailbox, world.mailboxNameFrom(Definition.BlockingMailbox));
+
+    results.until = TestUntil.happenings(3);
+    world.actorFor(annotated, Worker.class).work();
+    world.actorFor(protocol, Query.class).query();
+    world.actorFor(named, Worker.class).work();
+    results.until.completes();
+
+    assertEquals(3, results.blockingThreads.get());
+
+    results.until = TestUntil.happenings(1);
+    world.actorFor(other, Worker.class).work();
+    results.until.completes();
+
+    assertEquals(3, results.blockingThreads.get());
+  }
+
+  @Test
+  public void testThatBlockedActorsDoNotStarveOthers() {
+    world = World.start("blocking-actor-test", Configuration.define().usingBlockingThreads(2, 100));
+
+    final Results results = new Results();
+    results.gate = new CountDownLatch(1);
+
+    try {
+      results.until = TestUntil.happenings(2);
+      for (int count = 0; count < 4; ++count) {
+        world.actorFor(Definition.has(BlockingWorkerActor.class, Definition.parameters(results)), Worker.class).work();
+      }
+      results.until.completes();
+
+      results.until = TestUntil.happenings(10);
+      final Worker other = world.actorFor(Definition.has(WorkerActor.class, Definition.parameters(results)), Worker.class);
+      for (int count = 0; count < 10; ++count) {
+        other.work();
+      }
+      results.until.completes();
+
+      assertEquals(2, blockingThreads());
+      assertEquals(2, results.blockingThreads.get());
+    } finally {
+      results.until = TestUntil.happenings(2);
+      results.gate.countDown();
+    }
+    results.until.completes();
+
+    // idle threads end after the keep alive
+    final long deadline = System.currentTimeMillis() + 5_000;
+    while (blockingThreads() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.yield();
+    }
+    assertEquals(0, blockingThreads());
+    assertEquals(4, results.blockingThreads.get());
+  }
+
+  @After
+  public void tearDown() {
+    if (world != null) {
+      world.terminate();
+    }
+  }
+
+  private int blockingThreads() {
+    for (final DispatcherTelemetry.Snapshot snapshot : world.dispatcherTelemetry().snapshots()) {
+      if (snapshot.getName().startsWith("ExecutorDispatcher:" + Definition.BlockingMailbox + "#")) {
+        return snapshot.getThreads();
+      }
+    }
+    return -1;
+  }
+
+  public static interface Worker {
+    void work();
+  }
+
+  @Blocking
+  public static interface Query {
+    void query();
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    protected final Results results;
+
+    public WorkerActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void work() {
+      results.record();
+    }
+  }
+
+  @Blocking
+  public static class BlockingWorkerActor extends WorkerActor {
+    public BlockingWorkerActor(final Results results) {
+      super(results);
+    }
+
+    @Override
+    public void work() {
+      results.record();
+      if (results.gate != null) {
+        try {
+          results.gate.await();
+        } catch (InterruptedException e) {
+          // released
+        }
+      }
+    }
+  }
+
+  public static class QueryActor extends Actor implements Query {
+    private final Results results;
+
+    public QueryActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void query() {
+      results.record();
+    }
+  }
+
+  public static class Results {
+    final AtomicInteger blockingThreads = new AtomicInteger();
+    volatile CountDownLatch gate;
+    volatile TestUntil until = TestUntil.happenings(0);
+
+    void record() {
+      if (Thread.currentThread().getName().startsWith("vlingo-actors-" + Definition.BlockingMailbox + "-")) {
+        blockingThreads.incrementAndGet();
+      }
+      until.happened();
+    }
+  }
+}
@@ -0,0 +1,31 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class CircuitBreakerTest {
+
+  @Test
+  public void testDelayDoublesUntilClosed() {
+    final CircuitBreakerStrategy strategy = new CircuitBreakerStrategy(100, 350, CircuitBreakerStrategy.UnlimitedStash, SupervisionStrategy.Scope.One);
+    final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    assertEquals(100, circuitBreaker.open(strategy));
+    circuitBreaker.halfOpen();
+    assertEquals(200, circuitBreaker.open(strategy));
+    circuitBreaker.halfOpen();
+    assertEquals(350, circuitBreaker.open(strategy));
+    circuitBreaker.halfOpen();
+    circuitBreaker.succeeded();
+    assertEquals(CircuitBreaker.State.Closed, circuitBreaker.state());
+    assertEquals(100, circuitBreaker.open(strategy));
+  }
+}
@@ -20,6 +20,7 @@ import io.vlingo.actors.plugin.logging.jdk.JDKLoggerPlugin.JDKLoggerPluginConfig
 import io.vlingo.actors.plugin.mailbox.agronampscarrayqueue.ManyToOneConcurrentArrayQueuePlugin.ManyToOneConcurrentArrayQueuePluginConfiguration;
 import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailboxPlugin.ConcurrentQueueMailboxPluginConfiguration;
 import io.vlingo.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailboxPlugin.SharedRingBufferMailboxPluginConfiguration;
+import io.vlingo.actors.plugin.reporting.FailureReportingPlugin.FailureReportingPluginConfiguration;
 import io.vlingo.actors.plugin.supervision.CommonSupervisorsPlugin.CommonSupervisorsPluginConfiguration;
 import io.vlingo.actors.plugin.supervision.DefaultSupervisorOverride;
 import io.vlingo.actors.plugin.supervision.DefaultSupervisorOverridePlugin.DefaultSupervisorOverridePluginConfiguration;
@@ -69,6 +70,10 @@ public class ConfigurationTest {
               .with(DefaultSupervisorOverridePluginConfiguration
                       .define()
                       .supervisor("default", "overrideSupervisor", DefaultSupervisorOverride.class))
+              .with(FailureReportingPluginConfiguration
+                      .define()
+                      .sampleEvery(10)
+                      .summaryInterval(5000))
               .usingMainProxyGeneratedClassesPath("target/classes/")
               .usingMainProxyGeneratedSourcesPath("target/generated-sources/")
               .usingTestProxyGeneratedClassesPath("target/test-classes/")
@@ -120,6 +125,10 @@ public class ConfigurationTest {
     assertEquals("overrideSupervisor", configuration.defaultSupervisorOverridePluginConfiguration().name(0));
     assertEquals(DefaultSupervisorOverride.class, configuration.defaultSupervisorOverridePluginConfiguration().supervisorClass(0));
 
+    assertNotNull(configuration.failureReportingPluginConfiguration());
+    assertEquals(10, configuration.failureReportingPluginConfiguration().sampleEvery());
+    assertEquals(5000, configuration.failureReportingPluginConfiguration().summaryInterval());
+
     assertEquals("target/classes/", configuration.mainProxyGeneratedClassesPath());
     assertEquals("target/generated-sources/", configuration.mainProxyGeneratedSourcesPath());
     assertEquals("target/test-classes/", configuration.testProxyGeneratedClassesPath());
@@ -165,6 +174,10 @@ public class ConfigurationTest {
     assertEquals("overrideSupervisor", configuration.defaultSupervisorOverridePluginConfiguration().name(0));
     assertEquals(DefaultSupervisorOverride.class, configuration.defaultSupervisorOverridePluginConfiguration().supervisorClass(0));
 
+    assertNotNull(configuration.failureReportingPluginConfiguration());
+    assertEquals(100, configuration.failureReportingPluginConfiguration().sampleEvery());
+    assertEquals(10000, configuration.failureReportingPluginConfiguration().summaryInterval());
+
     assertEquals("target/classes/", configuration.mainProxyGeneratedClassesPath());
     assertEquals("target/generated-sources/", configuration.mainProxyGeneratedSourcesPath());
     assertEquals("target/test-classes/", configuration.testProxyGeneratedClassesPath());
@@ -6,6 +6,9 @@
 // one at https://mozilla.org/MPL/2.0/.
 package io.vlingo.actors;
 
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
@@ -41,6 +44,15 @@ public class ContentBasedRoutingStrategyTest {
     until.completes();
   }
   
+  @Test
+  public void testThatChosenRouteeFallsBackToContentBasedRouting() {
+    final List<Routee> routees = Arrays.asList(new Routee(null), new Routee(null));
+    final ContentBasedRoutingStrategy strategy = new ContentBasedRoutingStrategy();
+
+    assertSame(routees.get(0), strategy.chooseRouteeFor(new Order("Customer1"), routees));
+    assertSame(routees.get(1), strategy.chooseRouteeFor(new Order("Customer2"), routees));
+  }
+
   static class ContentBasedRoutingStrategy extends RoutingStrategyAdapter {
 
     /* @see io.vlingo.actors.RoutingStrategy#chooseRouteFor(java.lang.Object, java.util.List) */
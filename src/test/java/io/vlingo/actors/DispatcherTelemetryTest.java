@@ -0,0 +1,130 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.Test;
+
+import io.vlingo.actors.LocalMessageTest.Simple;
+import io.vlingo.actors.LocalMessageTest.SimpleActor;
+import io.vlingo.actors.LocalMessageTest.SimpleTestResults;
+import io.vlingo.actors.testkit.TestUntil;
+
+public class DispatcherTelemetryTest {
+
+  @Test
+  public void testThatTurnsAreCounted() {
+    final DispatcherTelemetry telemetry = DispatcherTelemetry.open("Test", () -> 2, () -> 7);
+    try {
+      telemetry.turnEnded(telemetry.turnStarted(), 3, false);
+      telemetry.turnEnded(telemetry.turnStarted(), 5, true);
+      telemetry.backedOff();
+
+      final DispatcherTelemetry.Snapshot snapshot = telemetry.snapshot();
+
+      assertTrue(snapshot.getName().startsWith("Test#"));
+      assertEquals(2, snapshot.getTurns());
+      assertEquals(8, snapshot.getMessages());
+      assertEquals(4.0, snapshot.getMessagesPerTurn(), 0.0);
+      assertEquals(1, snapshot.getThrottleHits());
+      assertEquals(1, snapshot.getBackoffs());
+      assertEquals(2, snapshot.getThreads());
+      assertEquals(7, snapshot.getQueueDepth());
+      assertTrue(snapshot.getUtilization() >= 0.0 && snapshot.getUtilization() <= 1.0);
+    } finally {
+      telemetry.close();
+    }
+  }
+
+  @Test
+  public void testThatOpenDispatchersAreReportedOverJmx() throws Exception {
+    final DispatcherTelemetry telemetry = DispatcherTelemetry.open("Jmx", () -> 1, () -> 0);
+    try {
+      telemetry.turnEnded(telemetry.turnStarted(), 1, true);
+
+      boolean found = false;
+      final ObjectName name = new ObjectName("io.vlingo.actors:type=Dispatchers");
+      // registered in the background when the first telemetry is opened
+      final long deadline = System.currentTimeMillis() + 5_000;
+      while (!ManagementFactory.getPlatformMBeanServer().isRegistered(name) && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      for (final CompositeData data : (CompositeData[]) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Dispatchers")) {
+        if (data.get("name").equals(telemetry.name())) {
+          assertEquals(1L, data.get("messages"));
+          found = true;
+        }
+      }
+      assertTrue(found);
+    } finally {
+      telemetry.close();
+    }
+  }
+
+  @Test
+  public void testThatExecutorDispatcherDeliveriesAreCounted() {
+    final World world = World.start("dispatcher-telemetry-test");
+    try {
+      final SimpleTestResults results = new SimpleTestResults();
+      results.untilSimple = TestUntil.happenings(10);
+      final Simple simple = world.actorFor(Definition.has(SimpleActor.class, Definition.parameters(results)), Simple.class);
+      for (int count = 0; count < 10; ++count) {
+        simple.simple();
+      }
+      results.untilSimple.completes();
+
+      long delivered = 0;
+      for (final DispatcherTelemetry.Snapshot snapshot : world.dispatcherTelemetry().snapshots()) {
+        if (snapshot.getName().startsWith("ExecutorDispatcher")) {
+          delivered += snapshot.getMessages();
+        }
+      }
+      assertTrue(delivered >= 10);
+    } finally {
+      world.terminate();
+    }
+  }
+
+  @Test
+  public void testThatEachWorldHasItsOwnDispatchers() throws Exception {
+    final World first = World.start("dispatcher-telemetry-first");
+    final World second = World.start("dispatcher-telemetry-second");
+    final ObjectName firstName = new ObjectName("io.vlingo.actors:type=Dispatchers,world=" + ObjectName.quote("dispatcher-telemetry-first"));
+    final ObjectName secondName = new ObjectName("io.vlingo.actors:type=Dispatchers,world=" + ObjectName.quote("dispatcher-telemetry-second"));
+    try {
+      final DispatcherTelemetry opened = first.dispatcherTelemetry().open("First", () -> 1, () -> 0);
+
+      assertTrue(first.dispatcherTelemetry().snapshots().stream().anyMatch(each -> each.getName().equals(opened.name())));
+      assertFalse(second.dispatcherTelemetry().snapshots().stream().anyMatch(each -> each.getName().equals(opened.name())));
+      assertFalse(DispatcherTelemetry.Registry.unscoped().snapshots().stream().anyMatch(each -> each.getName().equals(opened.name())));
+
+      // registered in the background when the first telemetry is opened
+      final long deadline = System.currentTimeMillis() + 5_000;
+      while (!(ManagementFactory.getPlatformMBeanServer().isRegistered(firstName) &&
+               ManagementFactory.getPlatformMBeanServer().isRegistered(secondName)) && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(firstName));
+      assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(secondName));
+    } finally {
+      first.terminate();
+      second.terminate();
+    }
+
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(firstName));
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(secondName));
+  }
+}
@@ -0,0 +1,40 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class FailureMarkTest {
+
+  @Test
+  public void testExcessiveFailuresWithinPeriod() {
+    final FailureMark failureMark = new FailureMark();
+
+    assertFalse(failureMark.failedWithExcessiveFailures(1000, 3));
+    assertFalse(failureMark.failedWithExcessiveFailures(1000, 3));
+    assertFalse(failureMark.failedWithExcessiveFailures(1000, 3));
+    assertTrue(failureMark.failedWithExcessiveFailures(1000, 3));
+  }
+
+  @Test
+  public void testFailuresBeyondPeriodStartNewPeriod() throws Exception {
+    final FailureMark failureMark = new FailureMark();
+
+    assertFalse(failureMark.failedWithExcessiveFailures(50, 2));
+    assertFalse(failureMark.failedWithExcessiveFailures(50, 2));
+
+    Thread.sleep(60);
+
+    assertFalse(failureMark.failedWithExcessiveFailures(50, 2));
+    assertFalse(failureMark.failedWithExcessiveFailures(50, 2));
+    assertTrue(failureMark.failedWithExcessiveFailures(50, 2));
+  }
+}
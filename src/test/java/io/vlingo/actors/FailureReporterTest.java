@@ -0,0 +1,112 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class FailureReporterTest {
+
+  @Test
+  public void testThatDeadLettersAreCountedAndSampled() {
+    final CapturingLogger logger = new CapturingLogger();
+    final FailureReporter reporter = new FailureReporter(10, 0);
+
+    for (int count = 0; count < 25; ++count) {
+      reporter.deadLetter(new DeadLetter(null, "doNothing(int)"), logger);
+    }
+    reporter.deadLetter(new DeadLetter(null, "doSomething()"), logger);
+
+    assertEquals(25L, (long) reporter.deadLetterCounts().get("Actor.doNothing(int)"));
+    assertEquals(1L, (long) reporter.deadLetterCounts().get("Actor.doSomething()"));
+
+    // the 1st, 11th, and 21st of doNothing(int), and the 1st of doSomething()
+    assertEquals(4, logger.messages.size());
+  }
+
+  @Test
+  public void testThatSummaryReportsCountsSincePrevious() {
+    final CapturingLogger logger = new CapturingLogger();
+    final FailureReporter reporter = new FailureReporter(1000, 0);
+
+    for (int count = 0; count < 5; ++count) {
+      reporter.deadLetter(new DeadLetter(null, "doNothing(int)"), Logger.noOpLogger());
+    }
+
+    reporter.summarize(logger);
+
+    assertEquals(1, logger.messages.size());
+    assertTrue(logger.messages.get(0).startsWith("vlingo/actors: 5 dead letters of Actor.doNothing(int)"));
+
+    reporter.summarize(logger);
+
+    assertEquals(1, logger.messages.size());
+
+    reporter.deadLetter(new DeadLetter(null, "doNothing(int)"), Logger.noOpLogger());
+    reporter.summarize(logger);
+
+    assertEquals(2, logger.messages.size());
+    assertTrue(logger.messages.get(1).startsWith("vlingo/actors: 1 dead letters of Actor.doNothing(int) (6 in total)"));
+  }
+
+  @Test
+  public void testThatListenersReceiveEveryFailure() {
+    final World world = World.start("failure-reporter-test");
+    try {
+      final FailureReporter reporter = new FailureReporter(100, 0);
+      world.registerFailureReporter(reporter);
+
+      final AtomicInteger failures = new AtomicInteger(0);
+      reporter.registerListener((actor, representation, throwable) -> failures.incrementAndGet());
+
+      final Actor actor = world.defaultParent();
+
+      for (int count = 0; count < 50; ++count) {
+        reporter.failure(actor, "fail()", new IllegalStateException("Intended failure."));
+      }
+
+      assertEquals(50, failures.get());
+      assertEquals(50L, (long) world.failureReporter().failureCounts().get(actor.getClass().getSimpleName() + ".fail()"));
+    } finally {
+      world.terminate();
+    }
+  }
+
+  private static class CapturingLogger implements Logger {
+    private final List<String> messages = new ArrayList<>();
+
+    @Override
+    public void close() { }
+
+    @Override
+    public boolean isEnabled() {
+      return true;
+    }
+
+    @Override
+    public void log(final String message) {
+      messages.add(message);
+    }
+
+    @Override
+    public void log(final String message, final Throwable throwable) {
+      messages.add(message);
+    }
+
+    @Override
+    public String name() {
+      return "capturing";
+    }
+  }
+}
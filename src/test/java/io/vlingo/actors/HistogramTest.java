@@ -0,0 +1,71 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+  @Test
+  public void testThatSmallValuesAreExact() {
+    final Histogram histogram = new Histogram(5, 1_000_000);
+
+    for (int value = 1; value <= 20; ++value) {
+      histogram.record(value);
+    }
+
+    final Histogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(20, snapshot.count());
+    assertEquals(20, snapshot.max());
+    assertEquals(10.5, snapshot.mean(), 0.0);
+    assertEquals(10, snapshot.valueAtPercentile(50));
+    assertEquals(19, snapshot.valueAtPercentile(95));
+    assertEquals(20, snapshot.valueAtPercentile(100));
+  }
+
+  @Test
+  public void testThatPercentilesAreWithinPrecision() {
+    final Histogram histogram = new Histogram(5, 60_000_000_000L);
+
+    for (long value = 1; value <= 100_000; ++value) {
+      histogram.record(value * 1_000);
+    }
+
+    final Histogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(100_000, snapshot.count());
+    assertEquals(100_000_000, snapshot.max());
+    assertWithin(50_000_000, snapshot.valueAtPercentile(50), 1.0 / 32);
+    assertWithin(99_000_000, snapshot.valueAtPercentile(99), 1.0 / 32);
+    assertWithin(99_900_000, snapshot.valueAtPercentile(99.9), 1.0 / 32);
+    assertEquals(100_000_000, snapshot.valueAtPercentile(100));
+  }
+
+  @Test
+  public void testThatValuesBeyondHighestAreClamped() {
+    final Histogram histogram = new Histogram(2, 1_000);
+
+    histogram.record(-5);
+    histogram.record(1_000_000);
+
+    final Histogram.Snapshot snapshot = histogram.snapshot();
+
+    assertEquals(2, snapshot.count());
+    assertEquals(0, snapshot.valueAtPercentile(50));
+    assertEquals(1_000_000, snapshot.max());
+    assertTrue(snapshot.valueAtPercentile(100) >= 1_000);
+  }
+
+  private void assertWithin(final long expected, final long actual, final double error) {
+    assertTrue("expected " + expected + " but was " + actual, Math.abs(actual - expected) <= expected * error);
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.actors.testkit.TestUntil;
+
+public class LoggerProxyTest {
+  private World world;
+
+  @Test
+  public void testThatADisabledLoggerNeverCallsTheSupplier() {
+    final Logger logger = world.actorFor(Definition.has(RecordingLoggerActor.class, Definition.parameters(false, new Results())), Logger.class);
+    final AtomicInteger called = new AtomicInteger();
+
+    logger.log(() -> "message " + called.incrementAndGet());
+    logger.log(() -> "failure " + called.incrementAndGet(), new IllegalStateException());
+
+    assertEquals(0, called.get());
+  }
+
+  @Test
+  public void testThatAnEnabledLoggerBuildsTheMessageOnTheCallersThread() {
+    final Results results = new Results();
+    results.until = TestUntil.happenings(2);
+    final Logger logger = world.actorFor(Definition.has(RecordingLoggerActor.class, Definition.parameters(true, results)), Logger.class);
+    final List<String> builtOn = new CopyOnWriteArrayList<>();
+
+    logger.log(() -> { builtOn.add(Thread.currentThread().getName()); return "message"; });
+    logger.log(() -> { builtOn.add(Thread.currentThread().getName()); return "failure"; }, new IllegalStateException());
+    results.until.completes();
+
+    assertEquals(2, builtOn.size());
+    assertEquals(Thread.currentThread().getName(), builtOn.get(0));
+    assertEquals(Thread.currentThread().getName(), builtOn.get(1));
+    assertEquals("message", results.logged.get(0));
+    assertEquals("failure", results.logged.get(1));
+  }
+
+  @Before
+  public void setUp() {
+    world = World.startWithDefaults("logger-proxy-test");
+  }
+
+  @After
+  public void tearDown() {
+    world.terminate();
+  }
+
+  public static class Results {
+    public final List<String> logged = new CopyOnWriteArrayList<>();
+    public TestUntil until = TestUntil.happenings(0);
+  }
+
+  public static class RecordingLoggerActor extends Actor implements Logger {
+    private final boolean enabled;
+    private final Results results;
+
+    public RecordingLoggerActor(final boolean enabled, final Results results) {
+      this.enabled = enabled;
+      this.results = results;
+    }
+
+    @Override
+    public void close() { }
+
+    @Override
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    @Override
+    public void log(final String message) {
+      results.logged.add(message);
+      results.until.happened();
+    }
+
+    @Override
+    public void log(final String message, final Throwable throwable) {
+      log(message);
+    }
+
+    @Override
+    public String name() {
+      return "recording";
+    }
+  }
+}
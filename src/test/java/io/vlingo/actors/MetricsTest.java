@@ -0,0 +1,143 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.BooleanSupplier;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.Test;
+
+import io.vlingo.actors.LocalMessageTest.Simple;
+import io.vlingo.actors.LocalMessageTest.SimpleActor;
+import io.vlingo.actors.LocalMessageTest.SimpleTestResults;
+import io.vlingo.actors.testkit.TestUntil;
+
+public class MetricsTest {
+
+  @Test
+  public void testThatMetricsAreDisabledByDefault() {
+    final World world = World.start("metrics-disabled-test");
+    try {
+      final SimpleTestResults results = new SimpleTestResults();
+      results.untilSimple = TestUntil.happenings(1);
+      world.actorFor(Definition.has(SimpleActor.class, Definition.parameters(results)), Simple.class).simple();
+      results.untilSimple.completes();
+
+      assertFalse(world.metrics().isEnabled());
+      assertTrue(world.metrics().actorMetrics().isEmpty());
+    } finally {
+      world.terminate();
+    }
+  }
+
+  @Test
+  public void testThatDeliveriesAreRecordedPerMethod() throws Exception {
+    final World world = worldWithMetrics("metrics-test");
+    try {
+      final SimpleTestResults results = new SimpleTestResults();
+      results.untilSimple = TestUntil.happenings(5);
+      final Simple simple = world.actorFor(Definition.has(SimpleActor.class, Definition.parameters(results)), Simple.class);
+
+      simple.simple();
+      simple.simple();
+      simple.simple2(1);
+      simple.simple2(2);
+      simple.simple2(3);
+      results.untilSimple.completes();
+
+      final ActorMetrics actorMetrics = metricsOf(world, SimpleActor.class);
+
+      assertNotNull(actorMetrics);
+      // the last delivery is recorded after its handler returns
+      awaitRecorded(() -> actorMetrics.delivered() == 6 && mailboxWaitCountOf(actorMetrics, "simple2(int)") == 3);
+      assertEquals(6, actorMetrics.delivered()); // including start()
+      assertEquals(2, actorMetrics.messageMetricsOf("simple()").delivered());
+      assertEquals(3, actorMetrics.messageMetricsOf("simple2(int)").delivered());
+      assertEquals(3, actorMetrics.messageMetricsOf("simple2(int)").mailboxWait().count());
+      assertTrue(actorMetrics.messageMetricsOf("simple2(int)").handlerTime().max() > 0);
+      assertTrue(world.metrics().hottest(1).size() == 1);
+
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = new ObjectName("io.vlingo.actors:type=Metrics,world=" + ObjectName.quote("metrics-test"));
+      assertTrue((Integer) server.getAttribute(name, "ActorCount") > 0);
+      boolean found = false;
+      for (final CompositeData data : (CompositeData[]) server.getAttribute(name, "MessageMetrics")) {
+        if (data.get("representation").equals("simple2(int)") && data.get("actor").toString().startsWith("SimpleActor@")) {
+          assertEquals(3L, data.get("delivered"));
+          found = true;
+        }
+      }
+      assertTrue(found);
+
+      world.terminate();
+
+      assertFalse(server.isRegistered(name));
+    } finally {
+      world.terminate();
+    }
+  }
+
+  @Test
+  public void testThatStoppedActorMetricsAreRemoved() {
+    final World world = worldWithMetrics("metrics-stop-test");
+    try {
+      final SimpleTestResults results = new SimpleTestResults();
+      results.untilSimple = TestUntil.happenings(1);
+      final Simple simple = world.actorFor(Definition.has(SimpleActor.class, Definition.parameters(results)), Simple.class);
+      simple.simple();
+      results.untilSimple.completes();
+
+      final ActorMetrics actorMetrics = metricsOf(world, SimpleActor.class);
+      assertNotNull(actorMetrics);
+
+      world.stage().directory().actorOf(actorMetrics.address()).stop();
+
+      assertNull(world.metrics().actorMetricsOf(actorMetrics.address()));
+    } finally {
+      world.terminate();
+    }
+  }
+
+  private void awaitRecorded(final BooleanSupplier recorded) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 10_000;
+    while (!recorded.getAsBoolean()) {
+      assertTrue("Deliveries were not recorded in time.", System.currentTimeMillis() < deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  private long mailboxWaitCountOf(final ActorMetrics actorMetrics, final String representation) {
+    final MessageMetrics messageMetrics = actorMetrics.messageMetricsOf(representation);
+    return messageMetrics == null ? 0 : messageMetrics.mailboxWait().count();
+  }
+
+  private ActorMetrics metricsOf(final World world, final Class<? extends Actor> type) {
+    for (final ActorMetrics actorMetrics : world.metrics().actorMetrics()) {
+      if (actorMetrics.type() == type) {
+        return actorMetrics;
+      }
+    }
+    return null;
+  }
+
+  private World worldWithMetrics(final String name) {
+    final Configuration configuration = Configuration.define();
+    configuration.metricsPluginConfiguration().enabled(true);
+    return World.start(name, configuration);
+  }
+}
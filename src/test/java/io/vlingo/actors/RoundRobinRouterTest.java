@@ -6,6 +6,11 @@
 // one at https://mozilla.org/MPL/2.0/.
 package io.vlingo.actors;
 
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 import io.vlingo.actors.testkit.TestUntil;
@@ -33,6 +38,20 @@ public class RoundRobinRouterTest {
     until.completes();
   }
 
+  @Test
+  public void testThatItChoosesRouteesInTurn() {
+    final List<Routee> routees = Arrays.asList(new Routee(null), new Routee(null), new Routee(null));
+    final RoundRobinRoutingStrategy strategy = new RoundRobinRoutingStrategy();
+
+    for (int round = 0; round < 3; ++round) {
+      for (final Routee expected : routees) {
+        assertSame(expected, strategy.chooseRouteeFor(new Order(round), routees));
+      }
+    }
+
+    assertSame(routees.get(0), strategy.chooseRouteFor(new Order(3), routees).single());
+  }
+
   public static class Order {
     private final int orderId;
 
@@ -96,9 +115,9 @@ public class RoundRobinRouterTest {
      */
     @Override
     public void routeOrder(final Order order) {
-      computeRouting(order)
-        .routeesAs(OrderRouter.class)
-        .forEach(orderRoutee -> orderRoutee.routeOrder(order));
+      computeRoutee(order)
+        .as(OrderRouter.class)
+        .routeOrder(order);
     }
   }
 }
@@ -0,0 +1,130 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.vlingo.actors.LocalMessageTest.Simple;
+import io.vlingo.actors.LocalMessageTest.SimpleActor;
+import io.vlingo.actors.LocalMessageTest.SimpleTestResults;
+import io.vlingo.actors.testkit.TestUntil;
+
+public class RuntimeListenerTest {
+
+  @Test
+  public void testThatRuntimeEventsAreTold() {
+    final World world = World.start("runtime-listener-test");
+    try {
+      final CountingRuntimeListener listener = new CountingRuntimeListener();
+      world.registerRuntimeListener(listener);
+
+      final SimpleTestResults results = new SimpleTestResults();
+      final TestUntil untilDelivered = listener.expect("messageDelivered", 3); // including start()
+      final Simple simple =
+              world.actorFor(Definition.has(SimpleActor.class, Definition.parameters(results), "arrayQueueMailbox", "simple"), Simple.class);
+
+      simple.simple();
+      simple.simple2(1);
+      untilDelivered.completes();
+
+      assertEquals(1, listener.countOf("actorCreated"));
+      assertEquals(3, listener.countOf("messageEnqueued"));
+      assertEquals(3, listener.countOf("messageDelivered"));
+      assertTrue(listener.handlerTime.get() > 0);
+
+      listener.created.stop();
+      assertEquals(1, listener.countOf("actorStopped"));
+
+      final TestUntil untilDeadLetter = listener.expect("deadLetter", 1);
+      simple.simple();
+      untilDeadLetter.completes();
+      assertEquals(1, listener.countOf("deadLetter"));
+    } finally {
+      world.terminate();
+    }
+  }
+
+  @Test
+  public void testThatNoListenerIsRegisteredByDefault() {
+    final World world = World.start("runtime-listener-default-test");
+    try {
+      assertEquals(null, world.runtimeListener());
+    } finally {
+      world.terminate();
+    }
+  }
+
+  private static class CountingRuntimeListener implements RuntimeListener {
+    private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+    private final AtomicLong handlerTime = new AtomicLong();
+    private final Map<String, TestUntil> untils = new ConcurrentHashMap<>();
+    private volatile Actor created;
+
+    @Override
+    public void actorCreated(final Actor actor) {
+      if (actor instanceof SimpleActor) {
+        created = actor;
+      }
+      count("actorCreated", actor);
+    }
+
+    @Override
+    public void actorStopped(final Actor actor) {
+      count("actorStopped", actor);
+    }
+
+    @Override
+    public void deadLetter(final DeadLetter deadLetter) {
+      happened("deadLetter");
+    }
+
+    @Override
+    public void messageDelivered(final Actor actor, final String representation, final long mailboxWait, final long handlerTime) {
+      this.handlerTime.addAndGet(handlerTime);
+      count("messageDelivered", actor);
+    }
+
+    @Override
+    public void messageEnqueued(final Actor actor, final String representation) {
+      count("messageEnqueued", actor);
+    }
+
+    TestUntil expect(final String event, final int times) {
+      final TestUntil until = TestUntil.happenings(times);
+      untils.put(event, until);
+      return until;
+    }
+
+    int countOf(final String event) {
+      final AtomicInteger count = counts.get(event);
+      return count == null ? 0 : count.get();
+    }
+
+    private void count(final String event, final Actor actor) {
+      if (actor instanceof SimpleActor) {
+        happened(event);
+      }
+    }
+
+    private void happened(final String event) {
+      counts.computeIfAbsent(event, key -> new AtomicInteger()).incrementAndGet();
+      final TestUntil until = untils.get(event);
+      if (until != null) {
+        until.happened();
+      }
+    }
+  }
+}
@@ -0,0 +1,159 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.common.Completes;
+
+/**
+ * ScatterGatherRouterTest
+ */
+public class ScatterGatherRouterTest {
+  private static final int PoolSize = 3;
+  private static final int TimeoutMillis = 1000;
+
+  private Gatherer router;
+  private World world;
+
+  @Test
+  public void testThatFirstReplyWins() {
+    final int answer = router.first().await(2000);
+    assertTrue(answer >= 0 && answer < PoolSize);
+  }
+
+  @Test
+  public void testThatAllRepliesAreGathered() {
+    final List<Integer> answers = new ArrayList<>(router.all(false).await(2000));
+    Collections.sort(answers);
+    assertEquals(asList(0, 1, 2), answers);
+  }
+
+  @Test
+  public void testThatQuorumIsGathered() {
+    final List<Integer> answers = router.quorum(2).await(2000);
+    assertEquals(2, answers.size());
+    assertFalse(answers.contains(0));
+  }
+
+  @Test
+  public void testThatGatheringTimesOut() {
+    final long start = System.currentTimeMillis();
+    final List<Integer> answers = router.all(true).await(2000);
+    assertTrue(answers.isEmpty());
+    assertTrue(System.currentTimeMillis() - start < TimeoutMillis);
+  }
+
+  @Test
+  public void testThatSilentRouteeIsHedged() {
+    final long start = System.currentTimeMillis();
+    final int answer = router.hedged().await(2000);
+    assertEquals(1, answer);
+    assertTrue(System.currentTimeMillis() - start < TimeoutMillis);
+  }
+
+  @Before
+  public void setUp() {
+    world = World.startWithDefaults("ScatterGatherRouterTest");
+    router = world.actorFor(Definition.has(GathererActor.class, Definition.parameters(new AtomicInteger(0))), Gatherer.class);
+  }
+
+  @After
+  public void tearDown() {
+    world.terminate();
+  }
+
+  private static List<Integer> asList(final Integer... values) {
+    final List<Integer> list = new ArrayList<>();
+    Collections.addAll(list, values);
+    return list;
+  }
+
+  public static interface Answerer {
+    Completes<Integer> answer(final boolean silentFirst);
+  }
+
+  public static interface Gatherer {
+    Completes<Integer> first();
+    Completes<List<Integer>> all(final boolean silentFirst);
+    Completes<List<Integer>> quorum(final int quorum);
+    Completes<Integer> hedged();
+  }
+
+  public static class AnswererActor extends Actor implements Answerer {
+    private final int index;
+
+    public AnswererActor(final AtomicInteger nextIndex) {
+      this.index = nextIndex.getAndIncrement();
+    }
+
+    @Override
+    public Completes<Integer> answer(final boolean silentFirst) {
+      if (silentFirst && index == 0) {
+        return completes(); // never replies
+      }
+      return completes().with(index);
+    }
+  }
+
+  public static class GathererActor extends Router implements Gatherer {
+    public GathererActor(final AtomicInteger nextIndex) {
+      super(
+              new RouterSpecification(
+                      PoolSize,
+                      Definition.has(AnswererActor.class, Definition.parameters(nextIndex)),
+                      Answerer.class),
+              new RoundRobinRoutingStrategy(),
+              HedgeThreshold.atPercentile(95.0, 50));
+    }
+
+    @Override
+    public Completes<Integer> first() {
+      final CompletesEventually eventually = completesEventually();
+      scatterGather(Answerer.class, answerer -> answerer.answer(false), Gathering.<Integer>firstWins(), 1000)
+        .andThenConsume(eventually::with);
+      return completes();
+    }
+
+    @Override
+    public Completes<List<Integer>> all(final boolean silentFirst) {
+      final CompletesEventually eventually = completesEventually();
+      scatterGather(Answerer.class, answerer -> answerer.answer(silentFirst), Gathering.<Integer>allOf(), 200)
+        .andThenConsume(eventually::with)
+        .otherwiseConsume(failed -> eventually.with(Collections.emptyList()));
+      return completes();
+    }
+
+    @Override
+    public Completes<List<Integer>> quorum(final int quorum) {
+      final CompletesEventually eventually = completesEventually();
+      scatterGather(Answerer.class, answerer -> answerer.answer(true), Gathering.<Integer>quorumOf(quorum), 1000)
+        .andThenConsume(eventually::with);
+      return completes();
+    }
+
+    @Override
+    public Completes<Integer> hedged() {
+      final CompletesEventually eventually = completesEventually();
+      hedge(computeRoutee(0), Answerer.class, answerer -> answerer.answer(true), 1000)
+        .andThenConsume(eventually::with);
+      return completes();
+    }
+  }
+}
@@ -0,0 +1,162 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vlingo.actors.plugin.mailbox.sharedringbuffer.SharedRingBufferMailbox;
+import io.vlingo.actors.testkit.TestUntil;
+
+public class StageConfigurationTest {
+  private World world;
+
+  @Test
+  public void testThatStageConfigurationsAreReadFromProperties() {
+    final Properties properties = new Properties();
+    properties.setProperty("stage.batch.numberOfDispatchers", "2");
+    properties.setProperty("stage.batch.dispatcherThrottlingCount", "10");
+    properties.setProperty("stage.trading.desk.mailbox", "ringMailbox");
+    properties.setProperty("stage.market.numberOfShards", "4");
+
+    final Configuration configuration = Configuration.defineAlongWith(properties);
+
+    final StageConfiguration batch = configuration.stageConfiguration("batch");
+    assertEquals(2, batch.numberOfDispatchers());
+    assertEquals(10, batch.dispatcherThrottlingCount());
+    assertNull(batch.mailbox());
+
+    final StageConfiguration trading = configuration.stageConfiguration("trading.desk");
+    assertEquals(0, trading.numberOfDispatchers());
+    assertEquals("ringMailbox", trading.mailbox());
+
+    assertEquals(4, configuration.stageConfiguration("market").numberOfShards());
+
+    assertNull(configuration.stageConfiguration("other"));
+  }
+
+  @Test
+  public void testThatAFloodedStageDoesNotStealThreadsOfOthers() {
+    world = World.start("stage-configuration-test", Configuration.define().with(StageConfiguration.define("batch").numberOfDispatchers(1)));
+
+    final Results results = new Results();
+    results.gate = new CountDownLatch(1);
+
+    try {
+      final Worker batch = world.stageNamed("batch").actorFor(Definition.has(WorkerActor.class, Definition.parameters(results)), Worker.class);
+      for (int count = 0; count < 100; ++count) {
+        batch.work(true);
+      }
+
+      results.until = TestUntil.happenings(10);
+      final Worker critical = world.stageNamed("critical").actorFor(Definition.has(WorkerActor.class, Definition.parameters(results)), Worker.class);
+      for (int count = 0; count < 10; ++count) {
+        critical.work(false);
+      }
+      results.until.completes();
+
+      assertTrue(results.batchThread.startsWith("vlingo-actors-stage.batch-"));
+      assertTrue(results.criticalThread.startsWith("vlingo-actors-queueMailbox-"));
+    } finally {
+      results.gate.countDown();
+    }
+
+    boolean reported = false;
+    for (final DispatcherTelemetry.Snapshot snapshot : world.dispatcherTelemetry().snapshots()) {
+      if (snapshot.getName().startsWith("ExecutorDispatcher:stage.batch#")) {
+        assertEquals(1, snapshot.getThreads());
+        reported = true;
+      }
+    }
+    assertTrue(reported);
+  }
+
+  @Test
+  public void testThatAStageUsesItsConfiguredSharedMailbox() {
+    world = World.start("stage-configuration-test", Configuration.define().with(StageConfiguration.define("trading").mailbox("ringMailbox")));
+
+    final Stage trading = world.stageNamed("trading");
+    final Definition definition = Definition.has(WorkerActor.class, Definition.parameters(new Results()));
+    final Mailbox mailbox = ActorFactory.actorMailbox(trading, world.addressFactory().unique(), definition);
+
+    assertEquals("ringMailbox", trading.mailboxName());
+    assertTrue(mailbox instanceof SharedRingBufferMailbox);
+    assertNull(world.stage().mailboxName());
+  }
+
+  @Test
+  public void testThatAShardedStagePartitionsItsActorsAmongShards() {
+    world = World.start("stage-configuration-test", Configuration.define().with(StageConfiguration.define("market").numberOfShards(2)));
+
+    final Results results = new Results();
+    results.until = TestUntil.happenings(1);
+
+    world.stageNamed("market").actorFor(Definition.has(WorkerActor.class, Definition.parameters(results)), Worker.class).work(false);
+    results.until.completes();
+
+    assertEquals("stage.market", world.stageNamed("market").mailboxName());
+    assertTrue(results.criticalThread.startsWith("vlingo-actors-stage.market-"));
+
+    boolean reported = false;
+    for (final DispatcherTelemetry.Snapshot snapshot : world.dispatcherTelemetry().snapshots()) {
+      if (snapshot.getName().startsWith("ShardedDispatcher:stage.market#")) {
+        assertEquals(2, snapshot.getThreads());
+        reported = true;
+      }
+    }
+    assertTrue(reported);
+  }
+
+  @After
+  public void tearDown() {
+    if (world != null) {
+      world.terminate();
+    }
+  }
+
+  public static interface Worker {
+    void work(final boolean blocking);
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    private final Results results;
+
+    public WorkerActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void work(final boolean blocking) {
+      if (blocking) {
+        results.batchThread = Thread.currentThread().getName();
+        try {
+          results.gate.await();
+        } catch (InterruptedException e) {
+          // released
+        }
+      } else {
+        results.criticalThread = Thread.currentThread().getName();
+        results.until.happened();
+      }
+    }
+  }
+
+  public static class Results {
+    volatile String batchThread = "";
+    volatile String criticalThread = "";
+    CountDownLatch gate;
+    TestUntil until = TestUntil.happenings(0);
+  }
+}
@@ -8,10 +8,15 @@
 package io.vlingo.actors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -19,6 +24,7 @@ import org.junit.Test;
 import io.vlingo.actors.WorldTest.Simple;
 import io.vlingo.actors.WorldTest.SimpleActor;
 import io.vlingo.actors.WorldTest.TestResults;
+import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailbox;
 import io.vlingo.actors.plugin.mailbox.testkit.TestMailbox;
 import io.vlingo.actors.testkit.TestUntil;
 import io.vlingo.actors.testkit.TestWorld;
@@ -147,6 +153,96 @@ public class StageTest {
     assertEquals(5, scanFound);
   }
 
+  @Test
+  public void testThatStoppedActorsAreRemovedFromDirectoryAndParent() throws Exception {
+    final int count = world.stage().count();
+
+    world.stage().actorFor(Definition.has(TestInterfaceActor.class, Definition.NoParameters), NoProtocol.class);
+    final TestInterfaceActor actor = TestInterfaceActor.instance.get();
+    assertEquals(count + 1, world.stage().count());
+
+    actor.stop();
+
+    assertEquals(count, world.stage().count());
+    assertNull(world.stage().directory().actorOf(actor.address()));
+    assertFalse(world.defaultParent().lifeCycle.environment.childrenSnapshot().contains(actor));
+  }
+
+  @Test
+  public void testThatStoppedChildIsRemovedFromItsParent() throws Exception {
+    world.stage().actorFor(Definition.has(ParentInterfaceActor.class, Definition.NoParameters), NoProtocol.class);
+    final ParentInterfaceActor parent = ParentInterfaceActor.parent.get();
+
+    parent.childActorFor(Definition.has(TestInterfaceActor.class, Definition.NoParameters), NoProtocol.class);
+    final TestInterfaceActor child = TestInterfaceActor.instance.get();
+    assertTrue(parent.lifeCycle.environment.childrenSnapshot().contains(child));
+
+    child.stop();
+
+    assertFalse(parent.lifeCycle.environment.childrenSnapshot().contains(child));
+    assertNull(world.stage().directory().actorOf(child.address()));
+    assertFalse(parent.isStopped());
+  }
+
+  @Test
+  public void testThatChildrenAddedFromManyThreadsAreKeptInOrder() throws Exception {
+    final int threads = 4;
+    final int actorsPerThread = 250;
+    final List<List<Actor>> created = new ArrayList<>();
+    final CountDownLatch start = new CountDownLatch(1);
+    final List<Thread> creators = new ArrayList<>();
+
+    for (int thread = 0; thread < threads; ++thread) {
+      final List<Actor> mine = new ArrayList<>();
+      created.add(mine);
+      creators.add(new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          return;
+        }
+        for (int count = 0; count < actorsPerThread; ++count) {
+          world.stage().actorFor(Definition.has(TestInterfaceActor.class, Definition.NoParameters), NoProtocol.class);
+          mine.add(TestInterfaceActor.instance.get());
+        }
+      }));
+    }
+    for (final Thread creator : creators) creator.start();
+    start.countDown();
+    for (final Thread creator : creators) creator.join();
+
+    // top-level actors are children of the default parent, added to from every thread
+    final List<Actor> children = world.defaultParent().lifeCycle.environment.childrenSnapshot();
+    for (final List<Actor> mine : created) {
+      int previous = -1;
+      for (final Actor actor : mine) {
+        final int index = children.indexOf(actor);
+        assertTrue(index > previous);
+        previous = index;
+      }
+    }
+  }
+
+  @Test
+  public void testThatStoppingAQueueMailboxActorKeepsTheSharedDispatcherOpen() throws Exception {
+    world.stage().actorFor(Definition.has(TestInterfaceActor.class, Definition.NoParameters, "queueMailbox", "stopped"), NoProtocol.class);
+    final TestInterfaceActor stopped = TestInterfaceActor.instance.get();
+    final Mailbox stoppedMailbox = stopped.lifeCycle.environment.mailbox;
+    assertTrue(stoppedMailbox instanceof ConcurrentQueueMailbox);
+
+    stopped.stop();
+
+    assertTrue(stoppedMailbox.isClosed());
+
+    final TestResults testResults = new TestResults();
+    testResults.untilSimple = TestUntil.happenings(1);
+    final Simple simple = world.stage().actorFor(Definition.has(SimpleActor.class, Definition.parameters(testResults), "queueMailbox", "running"), Simple.class);
+    simple.simpleSay();
+    testResults.untilSimple.completes();
+
+    assertTrue(testResults.invoked.get());
+  }
+
   @Before
   public void setUp() {
     final TestWorld testWorld = TestWorld.start("test");
@@ -10,12 +10,23 @@ package io.vlingo.actors;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import org.junit.Test;
 
-public class StowageTest {
+import io.vlingo.actors.DeadLettersTest.DeadLettersListenerActor;
+import io.vlingo.actors.DeadLettersTest.TestResult;
+import io.vlingo.actors.LocalMessageTest.SimpleActor;
+import io.vlingo.actors.LocalMessageTest.SimpleTestResults;
+import io.vlingo.actors.testkit.TestActor;
+
+public class StowageTest extends ActorsTest {
 
   @Test
   public void testStowHasMessages() {
@@ -84,23 +95,134 @@ public class StowageTest {
     
     stowage.dispersingMode();
     
-    assertEquals("1", stowage.swapWith(localMessage("4")).representation());
-    assertEquals("2", stowage.swapWith(localMessage("5")).representation());
-    assertEquals("3", stowage.swapWith(localMessage("5")).representation());
-    
-    assertTrue(stowage.hasMessages());
-    
-    assertTrue(stowage.isDispersing());
-    assertNotNull(stowage.head());
     assertTrue(stowage.isDispersing());
-    assertNotNull(stowage.head());
-    assertTrue(stowage.isDispersing());
-    assertNotNull(stowage.head());
-    assertTrue(stowage.isDispersing());
-    assertNull(stowage.head());
+
+    final Message[] dispersed = stowage.takeAll();
+
+    assertEquals(3, dispersed.length);
+    assertEquals("1", dispersed[0].representation());
+    assertEquals("2", dispersed[1].representation());
+    assertEquals("3", dispersed[2].representation());
+
+    assertFalse(stowage.hasMessages());
     assertFalse(stowage.isDispersing());
+    assertEquals(0, stowage.takeAll().length);
   }
   
+  @Test
+  public void testStowBeyondInitialCapacityKeepsOrder() {
+    final Stowage stowage = new Stowage();
+
+    for (int round = 0; round < 2; ++round) {
+      final Deque<String> expected = new ArrayDeque<>();
+
+      stowage.stowingMode();
+
+      for (int count = 0; count < 100; ++count) {
+        stowage.stow(localMessage("" + count));
+        expected.add("" + count);
+        if (count % 3 == 0) {
+          // taking from the head wraps the ring before it grows
+          final Message head = stowage.head();
+          assertEquals(expected.poll(), head.representation());
+          stowage.stow(head);
+          expected.add(head.representation());
+        }
+      }
+
+      assertEquals(expected.size(), stowage.count());
+
+      stowage.dispersingMode();
+
+      for (Message message = stowage.head(); message != null; message = stowage.head()) {
+        assertEquals(expected.poll(), message.representation());
+      }
+      assertTrue(expected.isEmpty());
+      assertFalse(stowage.isDispersing());
+    }
+  }
+
+  @Test
+  public void testOverflowDeadLettersNewest() {
+    final TestResult result = deadLettersResult(1);
+    final Actor actor = simpleActor("overflow-newest");
+
+    final Stowage stowage = new Stowage();
+    stowage.stowingMode(2, Stowage.Overflow.DeadLetterNewest);
+
+    stowage.stow(localMessage(actor, "1"));
+    stowage.stow(localMessage(actor, "2"));
+    stowage.stow(localMessage(actor, "3"));
+
+    result.until.completes();
+
+    assertEquals(2, stowage.count());
+    assertEquals("3", result.deadLetters.get(0).representation);
+    assertEquals("1", stowage.head().representation());
+    assertEquals("2", stowage.head().representation());
+    assertNull(stowage.head());
+  }
+
+  @Test
+  public void testOverflowDeadLettersOldest() {
+    final TestResult result = deadLettersResult(1);
+    final Actor actor = simpleActor("overflow-oldest");
+
+    final Stowage stowage = new Stowage();
+    stowage.stowingMode(2, Stowage.Overflow.DeadLetterOldest);
+
+    stowage.stow(localMessage(actor, "1"));
+    stowage.stow(localMessage(actor, "2"));
+    stowage.stow(localMessage(actor, "3"));
+
+    result.until.completes();
+
+    assertEquals(2, stowage.count());
+    assertEquals("1", result.deadLetters.get(0).representation);
+    assertEquals("2", stowage.head().representation());
+    assertEquals("3", stowage.head().representation());
+    assertNull(stowage.head());
+  }
+
+  @Test
+  public void testStowedPreallocatedMessageSurvivesReuse() {
+    final Stowage stowage = new Stowage();
+    stowage.stowingMode();
+
+    final LocalMessage<Object> slot = new LocalMessage<>(preallocatedMailbox());
+    slot.set(null, Object.class, null, null, "1");
+    stowage.stow(slot);
+    slot.set(null, Object.class, null, null, "2");
+
+    final Message stowed = stowage.head();
+    assertNotSame(slot, stowed);
+    assertEquals("1", stowed.representation());
+  }
+
+  private Mailbox preallocatedMailbox() {
+    return (Mailbox) Proxy.newProxyInstance(
+            Mailbox.class.getClassLoader(),
+            new Class<?>[] { Mailbox.class },
+            (proxy, method, args) -> method.getName().equals("isPreallocated") ? true : null);
+  }
+
+  private TestResult deadLettersResult(final int happenings) {
+    final TestResult result = new TestResult(happenings);
+    final TestActor<DeadLettersListener> listener =
+            testWorld.actorFor(Definition.has(DeadLettersListenerActor.class, Definition.parameters(result)), DeadLettersListener.class);
+    world.deadLetters().registerListener(listener.actor());
+    return result;
+  }
+
+  private Actor simpleActor(final String name) {
+    testWorld.actorFor(Definition.has(SimpleActor.class, Definition.parameters(new SimpleTestResults()), name), LocalMessageTest.Simple.class);
+    return SimpleActor.instance.get();
+  }
+
+  private Message localMessage(final Actor actor, final String encode) {
+    return new LocalMessage<Object>(actor, Object.class, null, encode);
+  }
+
   private Message localMessage() {
     return new LocalMessage<Object>(null, Object.class, null, "");
   }
@@ -0,0 +1,152 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.actors.testkit.TestUntil;
+import io.vlingo.common.Completes;
+
+public class WorldDrainTest {
+  private World world;
+
+  @Test
+  public void testThatDrainDeliversPendingMessagesAndStopsLeavesFirst() {
+    final Results results = new Results();
+    results.untilSpawned = TestUntil.happenings(1);
+
+    final Worker parent = world.actorFor(Definition.has(WorkerActor.class, Definition.parameters(results, "parent")), Worker.class);
+    parent.spawn(3);
+    results.untilSpawned.completes();
+
+    for (int count = 0; count < 1_000; ++count) {
+      parent.work();
+      for (final Worker child : results.children) {
+        child.work();
+      }
+    }
+
+    final ShutdownReport report = world.terminate(5_000).await(10_000);
+
+    assertEquals(4_000, results.worked.get());
+    assertEquals(0, report.forced);
+    assertEquals(0, report.dropped);
+    assertTrue(report.isLossless());
+    assertTrue(report.drained >= 4);
+    assertTrue(world.stage().isStopped());
+    assertEquals("parent", results.stopped.get(3));
+  }
+
+  @Test
+  public void testThatDrainStopsAtTheDeadline() throws Exception {
+    final Results results = new Results();
+    results.gate = new CountDownLatch(1);
+
+    final Worker blocked = world.actorFor(Definition.has(WorkerActor.class, Definition.parameters(results, "blocked")), Worker.class);
+    for (int count = 0; count < 10; ++count) {
+      blocked.work();
+    }
+
+    final ShutdownReport report;
+    try {
+      while (results.worked.get() == 0) {
+        Thread.yield();
+      }
+
+      final Completes<ShutdownReport> completes = world.terminate(100);
+
+      try {
+        world.actorFor(Definition.has(WorkerActor.class, Definition.parameters(results, "late")), Worker.class);
+        fail("No actor may be created while draining.");
+      } catch (IllegalStateException e) {
+        // expected
+      }
+
+      report = completes.await(10_000);
+    } finally {
+      results.gate.countDown();
+    }
+
+    assertEquals(1, results.worked.get());
+    // others sharing the blocked thread of the dispatcher may also be forced
+    assertTrue(report.forced >= 1);
+    assertEquals(9, report.dropped);
+    assertTrue(!report.isLossless());
+    assertTrue(report.elapsed >= TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Before
+  public void setUp() {
+    world = World.startWithDefaults("world-drain-test");
+  }
+
+  @After
+  public void tearDown() {
+    world.terminate();
+  }
+
+  public static interface Worker {
+    void spawn(final int children);
+    void work();
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    private final String name;
+    private final Results results;
+
+    public WorkerActor(final Results results, final String name) {
+      this.results = results;
+      this.name = name;
+    }
+
+    @Override
+    public void spawn(final int children) {
+      for (int count = 0; count < children; ++count) {
+        results.children.add(childActorFor(Definition.has(WorkerActor.class, Definition.parameters(results, name + "/" + count)), Worker.class));
+      }
+      results.untilSpawned.happened();
+    }
+
+    @Override
+    public void work() {
+      results.worked.incrementAndGet();
+      if (results.gate != null) {
+        try {
+          results.gate.await();
+        } catch (InterruptedException e) {
+          // released
+        }
+      }
+    }
+
+    @Override
+    protected void afterStop() {
+      results.stopped.add(name);
+    }
+  }
+
+  public static class Results {
+    final List<Worker> children = new CopyOnWriteArrayList<>();
+    volatile CountDownLatch gate;
+    final List<String> stopped = new CopyOnWriteArrayList<>();
+    TestUntil untilSpawned = TestUntil.happenings(0);
+    final AtomicInteger worked = new AtomicInteger();
+  }
+}
@@ -79,6 +79,56 @@ public class WorldTest extends ActorsTest {
     assertEquals(dep, result);
   }
 
+  @Test
+  public void testThatFastStartCreatesSupportingActorsWhenFirstUsed() throws Exception {
+    final World normalWorld = World.startWithDefaults("normal-start-test");
+    final World fastWorld = World.start("fast-start-test", Configuration.define().usingFastStart(true));
+    try {
+      // the directory scanner and the ten pooled completes actors
+      assertEquals(normalWorld.stage().count(), fastWorld.stage().count() + 11);
+
+      final Address address = fastWorld.addressFactory().uniqueWith("fast-start-actor");
+      fastWorld.stage().directory().register(address, new SimpleActor(new TestResults()));
+
+      final AtomicBoolean found = new AtomicBoolean(false);
+      final TestUntil until = TestUntil.happenings(1);
+      fastWorld.stage().actorOf(address, Simple.class).andThenConsume(actor -> {
+        found.set(actor != null);
+        until.happened();
+      });
+      until.completes();
+
+      assertTrue(found.get());
+    } finally {
+      normalWorld.terminate();
+      fastWorld.terminate();
+    }
+  }
+
+  @Test
+  public void testThatTimeToFirstMessageIsRecorded() throws Exception {
+    final long before = System.nanoTime();
+    final World timedWorld = World.startWithDefaults("time-to-first-message-test");
+    try {
+      assertEquals(-1, timedWorld.timeToFirstMessage());
+
+      final TestResults testResults = new TestResults();
+      testResults.untilSimple = TestUntil.happenings(1);
+      timedWorld.actorFor(Definition.has(SimpleActor.class, Definition.parameters(testResults)), Simple.class).simpleSay();
+      testResults.untilSimple.completes();
+
+      // recorded once the handler returns
+      for (int tries = 0; timedWorld.timeToFirstMessage() == -1 && tries < 100; ++tries) {
+        Thread.sleep(10);
+      }
+
+      assertTrue(timedWorld.timeToFirstMessage() > 0);
+      assertTrue(timedWorld.timeToFirstMessage() <= System.nanoTime() - before);
+    } finally {
+      timedWorld.terminate();
+    }
+  }
+
   @After
   @Override
   public void tearDown() throws Exception {
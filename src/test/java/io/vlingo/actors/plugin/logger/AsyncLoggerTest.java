@@ -0,0 +1,155 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.Logger;
+import io.vlingo.actors.LoggerProvider;
+import io.vlingo.actors.Registrar;
+import io.vlingo.actors.plugin.PluginProperties;
+import io.vlingo.actors.plugin.completes.MockRegistrar;
+import io.vlingo.actors.plugin.logging.async.AsyncLoggerPlugin;
+
+public class AsyncLoggerTest {
+  private File directory;
+  private Logger logger;
+  private boolean registered;
+
+  final Registrar registrar = new MockRegistrar() {
+    @Override
+    public void register(String name, boolean isDefault, LoggerProvider loggerProvider) {
+      registered = true;
+    }
+  };
+
+  @Test
+  public void testThatEntriesAreWrittenToFile() throws Exception {
+    final File path = new File(directory, "entries.log");
+    logger = asyncLogger("testThatEntriesAreWrittenToFile", path, 64 * 1024, 3);
+
+    assertTrue(registered);
+    assertEquals("testThatEntriesAreWrittenToFile", logger.name());
+
+    logger.log("TEST:1 1");
+    logger.log("TEST:1 2");
+    logger.log("TEST:1 3", new IllegalStateException("outer", new IllegalArgumentException("inner")));
+    logger.close();
+
+    final String content = new String(Files.readAllBytes(path.toPath()), StandardCharsets.UTF_8);
+
+    assertTrue(content.indexOf("TEST:1 1") < content.indexOf("TEST:1 2"));
+    assertTrue(content.indexOf("TEST:1 2") < content.indexOf("TEST:1 3"));
+    assertTrue(content.contains("java.lang.IllegalStateException: outer"));
+    assertTrue(content.contains("Caused by: java.lang.IllegalArgumentException: inner"));
+    assertTrue(content.contains("\tat io.vlingo.actors.plugin.logger.AsyncLoggerTest.testThatEntriesAreWrittenToFile(AsyncLoggerTest.java:"));
+    assertFalse(content.contains("\u0000"));
+  }
+
+  @Test
+  public void testThatFilesRoll() throws Exception {
+    final File path = new File(directory, "rolling.log");
+    logger = asyncLogger("testThatFilesRoll", path, 1024, 2);
+
+    for (int count = 0; count < 100; ++count) {
+      logger.log("TEST:2 " + count + " ..........................................");
+      Thread.sleep(count % 20 == 0 ? 2 : 0);
+    }
+    logger.close();
+
+    assertTrue(path.exists());
+    assertTrue(new File(directory, "rolling.log.1").exists());
+    assertTrue(new File(directory, "rolling.log.2").exists());
+    assertFalse(new File(directory, "rolling.log.3").exists());
+
+    final String latest = new String(Files.readAllBytes(path.toPath()), StandardCharsets.UTF_8);
+    assertTrue(latest.contains("TEST:2 99 "));
+  }
+
+  @Test
+  public void testThatPreviousFileIsKept() throws Exception {
+    final File path = new File(directory, "previous.log");
+    Files.write(path.toPath(), "TEST:4 previous run".getBytes(StandardCharsets.UTF_8));
+
+    logger = asyncLogger("testThatPreviousFileIsKept", path, 1024, 2);
+    logger.log("TEST:4 this run");
+    logger.close();
+
+    final String previous = new String(Files.readAllBytes(new File(directory, "previous.log.1").toPath()), StandardCharsets.UTF_8);
+    final String latest = new String(Files.readAllBytes(path.toPath()), StandardCharsets.UTF_8);
+
+    assertEquals("TEST:4 previous run", previous);
+    assertTrue(latest.contains("TEST:4 this run"));
+    assertFalse(latest.contains("TEST:4 previous run"));
+  }
+
+  @Test
+  public void testThatSupplierIsNotEvaluatedWhenDisabled() throws Exception {
+    logger = asyncLogger("testThatSupplierIsNotEvaluatedWhenDisabled", new File(directory, "supplier.log"), 64 * 1024, 1);
+
+    final AtomicInteger evaluated = new AtomicInteger(0);
+
+    logger.log(() -> "TEST:3 " + evaluated.incrementAndGet());
+    assertEquals(1, evaluated.get());
+
+    logger.close();
+    assertFalse(logger.isEnabled());
+
+    logger.log(() -> "TEST:3 " + evaluated.incrementAndGet());
+    logger.log(() -> "TEST:3 " + evaluated.incrementAndGet(), new IllegalStateException());
+    assertEquals(1, evaluated.get());
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("vlingo-async-logger").toFile();
+  }
+
+  @After
+  public void tearDown() {
+    if (logger != null) {
+      logger.close();
+    }
+    for (final File file : directory.listFiles()) {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  private Logger asyncLogger(final String name, final File path, final int fileSize, final int fileCount) {
+    final Properties properties = new Properties();
+    properties.setProperty("plugin.name." + name, "true");
+    properties.setProperty("plugin." + name + ".classname", "io.vlingo.actors.plugin.logging.async.AsyncLoggerPlugin");
+    properties.setProperty("plugin." + name + ".defaultLogger", "true");
+    properties.setProperty("plugin." + name + ".ringSize", "64");
+    properties.setProperty("plugin." + name + ".file.path", path.getPath());
+    properties.setProperty("plugin." + name + ".file.size", Integer.toString(fileSize));
+    properties.setProperty("plugin." + name + ".file.count", Integer.toString(fileCount));
+
+    final Configuration configuration = Configuration.define();
+    final AsyncLoggerPlugin plugin = new AsyncLoggerPlugin();
+    plugin.configuration().buildWith(configuration, new PluginProperties(name, properties));
+
+    plugin.start(registrar);
+
+    return plugin.logger();
+  }
+}
@@ -8,6 +8,8 @@
 package io.vlingo.actors.plugin.mailbox.concurrentqueue;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -52,6 +54,25 @@ public class ConcurrentQueueMailboxTest extends ActorsTest {
     }
   }
   
+  @Test
+  public void testThatClosingOneMailboxKeepsTheSharedDispatcherDelivering() throws Exception {
+    final Mailbox closed = new ConcurrentQueueMailbox(dispatcher, 1);
+    closed.close();
+
+    assertTrue(closed.isClosed());
+    assertFalse(dispatcher.isClosed());
+
+    final TestResults testResults = new TestResults();
+    final CountTakerActor actor = new CountTakerActor(testResults);
+    actor.testResults.until = until(1);
+
+    mailbox.send(new LocalMessage<CountTaker>(actor, CountTaker.class, (consumerActor) -> consumerActor.take(0), "take(int)"));
+
+    actor.testResults.until.completes();
+
+    assertEquals(0, (int) actor.testResults.counts.get(0));
+  }
+  
   @Before
   public void setUp() throws Exception {
     super.setUp();
@@ -0,0 +1,74 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.sharded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.DispatcherTelemetry;
+import io.vlingo.actors.Logger;
+import io.vlingo.actors.Message;
+import io.vlingo.actors.testkit.TestUntil;
+import io.vlingo.common.Completes;
+
+public class ShardedDispatcherTest {
+
+  @Test
+  public void testThatAFailedTurnIsLoggedAndTheShardGoesOn() {
+    final RecordingLogger logger = new RecordingLogger();
+    final ShardedDispatcher dispatcher =
+            new ShardedDispatcher("sharded-dispatcher-test", 1, 4, 16, 1_000_000L, DispatcherTelemetry.Registry.unscoped(), () -> logger);
+    try {
+      final ShardedMailbox failing = new ShardedMailbox(dispatcher.shardFor(0), 10);
+      final ShardedMailbox other = new ShardedMailbox(dispatcher.shardFor(0), 10);
+      final TestUntil until = TestUntil.happenings(2);
+
+      failing.send(new TestMessage(() -> { throw new AssertionError("failed by request"); }));
+      failing.send(new TestMessage(until::happened));
+      other.send(new TestMessage(until::happened));
+
+      until.completes();
+
+      assertEquals(1, logger.failures.size());
+      assertTrue(logger.failures.get(0) instanceof AssertionError);
+    } finally {
+      dispatcher.close();
+    }
+  }
+
+  private static class RecordingLogger implements Logger {
+    final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+    @Override public void close() { }
+    @Override public boolean isEnabled() { return true; }
+    @Override public void log(final String message) { }
+    @Override public void log(final String message, final Throwable throwable) { failures.add(throwable); }
+    @Override public String name() { return "recording"; }
+  }
+
+  private static class TestMessage implements Message {
+    private final Runnable delivery;
+
+    TestMessage(final Runnable delivery) {
+      this.delivery = delivery;
+    }
+
+    @Override public Actor actor() { return null; }
+    @Override public void deliver() { delivery.run(); }
+    @Override public String representation() { return "test()"; }
+    @Override public boolean isStowed() { return false; }
+    @Override public void set(final Actor actor, final Class<?> protocol, final Consumer<?> consumer, final Completes<?> completes, final String representation) { }
+  }
+}
@@ -0,0 +1,201 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.sharded;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.ActorSuspendResumeTest.OrderedActor;
+import io.vlingo.actors.ActorSuspendResumeTest.OrderedResults;
+import io.vlingo.actors.ActorSuspendResumeTest.ResumingSupervisorActor;
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.Supervisor;
+import io.vlingo.actors.World;
+import io.vlingo.actors.plugin.mailbox.sharded.ShardedMailboxPlugin.ShardedMailboxPluginConfiguration;
+import io.vlingo.actors.supervision.FailureControl;
+import io.vlingo.actors.testkit.TestUntil;
+
+public class ShardedMailboxActorTest {
+  private static final String Mailbox = "testShardedMailbox";
+  private static final int Shards = 3;
+
+  private World world;
+
+  @Test
+  public void testThatActorsStayOnTheirShardAndReceiveInOrder() {
+    final Results results = new Results();
+    final int actors = 9;
+    final int messages = 1_000;
+    results.until = TestUntil.happenings(actors * messages);
+
+    final List<Receiver> receivers = new ArrayList<>();
+    for (int index = 0; index < actors; ++index) {
+      receivers.add(world.actorFor(definitionOf(ReceiverActor.class, results, "receiver-" + index), Receiver.class));
+    }
+    for (int count = 1; count <= messages; ++count) {
+      for (final Receiver receiver : receivers) {
+        receiver.receive("main", count);
+      }
+    }
+    results.until.completes();
+
+    assertEquals(0, results.outOfOrder.get());
+    assertEquals(actors, results.threadsOf.size());
+    final Set<String> threads = ConcurrentHashMap.newKeySet();
+    for (final Set<String> threadsOfOne : results.threadsOf.values()) {
+      assertEquals(1, threadsOfOne.size());
+      assertTrue(threadsOfOne.iterator().next().startsWith("vlingo-actors-" + Mailbox + "-"));
+      threads.addAll(threadsOfOne);
+    }
+    assertEquals(Shards, threads.size());
+  }
+
+  @Test
+  public void testThatMessagesAcrossShardsArriveInOrderPastFullChannels() {
+    final Results results = new Results();
+    final int senders = 3;
+    final int receivers = 3;
+    final int messages = 2_000;
+    results.until = TestUntil.happenings(senders * receivers * messages);
+
+    final List<Receiver> targets = new ArrayList<>();
+    for (int index = 0; index < receivers; ++index) {
+      targets.add(world.actorFor(definitionOf(ReceiverActor.class, results, "receiver-" + index), Receiver.class));
+    }
+    for (int index = 0; index < senders; ++index) {
+      world.actorFor(definitionOf(SenderActor.class, results, "sender-" + index), Sender.class).send(targets, messages);
+    }
+    results.until.completes();
+
+    assertEquals(0, results.outOfOrder.get());
+    assertEquals(senders * receivers, results.lastFrom.size());
+    assertTrue(results.crossShard.get() > 0);
+  }
+
+  @Test
+  public void testThatResumeFromASupervisorInAnotherStageKeepsOrder() {
+    final int times = 2_000;
+    final OrderedResults results = new OrderedResults(times);
+
+    world.actorFor(Definition.has(ResumingSupervisorActor.class, Definition.NoParameters, "resuming-supervisor"), Supervisor.class);
+
+    final FailureControl ordered =
+            world.stageNamed("sharded").actorFor(
+                    Definition.has(OrderedActor.class, Definition.parameters(results, times / 4), ResumingSupervisorActor.instance.get(), Mailbox, "ordered"),
+                    FailureControl.class);
+
+    for (int count = 1; count <= times; ++count) {
+      ordered.afterFailureCount(count);
+    }
+
+    results.until.completes();
+
+    assertEquals(times, results.counts.size());
+    for (int index = 0; index < times; ++index) {
+      assertEquals(index + 1, (int) results.counts.get(index));
+    }
+  }
+
+  @Before
+  public void setUp() {
+    world = World.start("sharded-mailbox-test", Configuration.define());
+    new ShardedMailboxPlugin(
+            ShardedMailboxPluginConfiguration
+              .define()
+              .name(Mailbox)
+              .numberOfShards(Shards)
+              .channelCapacity(4))
+      .start(world);
+  }
+
+  @After
+  public void tearDown() {
+    world.terminate();
+  }
+
+  private Definition definitionOf(final Class<? extends Actor> type, final Results results, final String name) {
+    return Definition.has(type, Definition.parameters(results, name), Mailbox, name);
+  }
+
+  public static interface Receiver {
+    void receive(final String from, final int count);
+  }
+
+  public static class ReceiverActor extends Actor implements Receiver {
+    private final String name;
+    private final Results results;
+
+    public ReceiverActor(final Results results, final String name) {
+      this.results = results;
+      this.name = name;
+    }
+
+    @Override
+    public void receive(final String from, final int count) {
+      final String thread = Thread.currentThread().getName();
+      results.threadsOf.computeIfAbsent(name, key -> ConcurrentHashMap.newKeySet()).add(thread);
+
+      final String key = from + "->" + name;
+      final Integer last = results.lastFrom.put(key, count);
+      if (count != (last == null ? 1 : last + 1)) {
+        results.outOfOrder.incrementAndGet();
+      }
+      final String senderThread = results.threadOfSender.get(from);
+      if (senderThread != null && !senderThread.equals(thread)) {
+        results.crossShard.incrementAndGet();
+      }
+      results.until.happened();
+    }
+  }
+
+  public static interface Sender {
+    void send(final List<Receiver> receivers, final int messages);
+  }
+
+  public static class SenderActor extends Actor implements Sender {
+    private final String name;
+    private final Results results;
+
+    public SenderActor(final Results results, final String name) {
+      this.results = results;
+      this.name = name;
+    }
+
+    @Override
+    public void send(final List<Receiver> receivers, final int messages) {
+      results.threadOfSender.put(name, Thread.currentThread().getName());
+      for (int count = 1; count <= messages; ++count) {
+        for (final Receiver receiver : receivers) {
+          receiver.receive(name, count);
+        }
+      }
+    }
+  }
+
+  public static class Results {
+    final AtomicInteger crossShard = new AtomicInteger();
+    final Map<String, Integer> lastFrom = new ConcurrentHashMap<>();
+    final AtomicInteger outOfOrder = new AtomicInteger();
+    final Map<String, String> threadOfSender = new ConcurrentHashMap<>();
+    final Map<String, Set<String>> threadsOf = new ConcurrentHashMap<>();
+    TestUntil until;
+  }
+}
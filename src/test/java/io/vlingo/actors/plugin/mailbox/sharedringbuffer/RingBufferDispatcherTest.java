@@ -8,6 +8,8 @@
 package io.vlingo.actors.plugin.mailbox.sharedringbuffer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -16,6 +18,7 @@ import org.junit.Test;
 
 import io.vlingo.actors.Actor;
 import io.vlingo.actors.ActorsTest;
+import io.vlingo.actors.DispatcherTelemetry;
 import io.vlingo.actors.Mailbox;
 import io.vlingo.actors.testkit.TestUntil;
 
@@ -90,6 +93,50 @@ public class RingBufferDispatcherTest extends ActorsTest {
     assertEquals(mailboxSize, testResults.highest.get());
   }
 
+  @Test
+  public void testTelemetry() throws Exception {
+    final TestResults testResults = new TestResults();
+
+    final int mailboxSize = 64;
+
+    final RingBufferDispatcher dispatcher = new RingBufferDispatcher(mailboxSize, 2, 4);
+
+    dispatcher.start();
+
+    final Mailbox mailbox = dispatcher.mailbox();
+
+    final CountTakerActor actor = new CountTakerActor(testResults);
+
+    testResults.until = until(mailboxSize);
+
+    for (int count = 1; count <= mailboxSize; ++count) {
+      final int countParam = count;
+      final Consumer<CountTaker> consumer = (consumerActor) -> consumerActor.take(countParam);
+
+      mailbox.send(actor, CountTaker.class, consumer, null, "take(int)");
+    }
+
+    testResults.until.completes();
+
+    DispatcherTelemetry.Snapshot snapshot = dispatcher.telemetry().snapshot();
+    for (int tries = 0; tries < 100 && (snapshot.getMessages() < mailboxSize || snapshot.getBackoffs() == 0); ++tries) {
+      Thread.sleep(10);
+      snapshot = dispatcher.telemetry().snapshot();
+    }
+
+    assertEquals(mailboxSize, snapshot.getMessages());
+    assertTrue(snapshot.getTurns() >= mailboxSize / 4);
+    assertTrue(snapshot.getMessagesPerTurn() <= 4.0);
+    assertTrue(snapshot.getBusyNanos() > 0);
+    assertTrue(snapshot.getBackoffs() > 0);
+    assertEquals(0, snapshot.getQueueDepth());
+    assertTrue(DispatcherTelemetry.Registry.unscoped().snapshots().stream().anyMatch(each -> each.getName().equals(dispatcher.telemetry().name())));
+
+    dispatcher.close();
+
+    assertFalse(DispatcherTelemetry.Registry.unscoped().snapshots().stream().anyMatch(each -> each.getName().equals(dispatcher.telemetry().name())));
+  }
+
   @Test
   public void testOverflowDispatch() throws Exception {
     final TestResults testResults = new TestResults();
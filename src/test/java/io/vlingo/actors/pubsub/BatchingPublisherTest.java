@@ -0,0 +1,220 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.Logger;
+import io.vlingo.actors.Protocols;
+import io.vlingo.actors.Stoppable;
+import io.vlingo.actors.World;
+import io.vlingo.actors.testkit.TestUntil;
+
+public class BatchingPublisherTest {
+
+    @Test
+    public void testThatActorSubscribersReceiveInOrder() {
+        final World world = World.startWithDefaults("BatchingPublisherTest");
+        final int messages = 100;
+        final int subscribers = 10;
+        final BatchingPublisher publisher = new BatchingPublisher(world, messages);
+        final TestUntil until = TestUntil.happenings(subscribers);
+
+        for(int count = 0; count < subscribers; ++count) {
+            final Subscriber<?> subscriber = world.actorFor(Definition.has(ReceivingActor.class, Definition.parameters(messages, until)), Subscriber.class);
+            publisher.subscribe(new HierarchicalTopic("ticks"), subscriber);
+        }
+
+        for(int sequence = 0; sequence < messages; ++sequence) {
+            publisher.publish(new HierarchicalTopic("ticks/a"), new Tick(sequence));
+        }
+
+        until.completes();
+
+        assertEquals(0, publisher.dropped());
+        assertEquals(subscribers, ReceivingActor.inOrder.size());
+
+        world.terminate();
+    }
+
+    @Test
+    public void testThatStoppedActorSubscriberIsUnsubscribed() throws InterruptedException {
+        final World world = World.startWithDefaults("BatchingPublisherTest");
+        final BatchingPublisher publisher = new BatchingPublisher(world, 10);
+        final Topic ticks = new HierarchicalTopic("ticks");
+        final Protocols protocols =
+                world.actorFor(
+                        Definition.has(ReceivingActor.class, Definition.parameters(Integer.MAX_VALUE, TestUntil.happenings(0))),
+                        new Class<?>[] { Subscriber.class, Stoppable.class });
+        final Subscriber<?> subscriber = protocols.get(0);
+        final Stoppable stoppable = protocols.get(1);
+
+        publisher.subscribe(ticks, subscriber);
+        stoppable.stop();
+
+        final long deadline = System.currentTimeMillis() + 5000;
+        for(int sequence = 0; publisher.subscribersOf(ticks).length > 0 && System.currentTimeMillis() < deadline; ++sequence) {
+            publisher.publish(ticks, new Tick(sequence));
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, publisher.subscribersOf(ticks).length);
+
+        world.terminate();
+    }
+
+    @Test
+    public void testThatSlowSubscriberDoesNotBlockPublisher() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final int demand = 10;
+        final int messages = 100;
+        final BatchingPublisher publisher = new BatchingPublisher(demand, 1, executor, Logger.noOpLogger());
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final List<Message> received = new ArrayList<>();
+
+        publisher.subscribe(new HierarchicalTopic("ticks"), message -> {
+            try {
+                blocking.await();
+            } catch (InterruptedException e) {
+                // fall through
+            }
+            synchronized(received) {
+                received.add(message);
+            }
+        });
+
+        for(int sequence = 0; sequence < messages; ++sequence) {
+            publisher.publish(new HierarchicalTopic("ticks"), new Tick(sequence));
+        }
+
+        assertEquals(messages - demand, publisher.dropped());
+
+        blocking.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(demand, received.size());
+        for(int sequence = 0; sequence < demand; ++sequence) {
+            assertEquals(sequence, ((Tick) received.get(sequence)).sequence);
+        }
+    }
+
+    @Test
+    public void testThatFailingSubscriberKeepsItsDemand() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final int demand = 2;
+        final BatchingPublisher publisher = new BatchingPublisher(demand, 1, executor, Logger.noOpLogger());
+        final List<Message> received = new ArrayList<>();
+
+        publisher.subscribe(new HierarchicalTopic("ticks"), new Subscriber<Message>() {
+            @Override
+            public void receive(final Message message) {
+                if(((Tick) message).sequence == 0) {
+                    throw new IllegalStateException("Failed on purpose.");
+                }
+                synchronized(received) {
+                    received.add(message);
+                }
+            }
+
+            @Override
+            public void receiveAll(final MessageBatch batch) {
+                for(int index = 0; index < batch.size(); ++index) {
+                    receive(batch.get(index));
+                }
+                batch.release();
+            }
+        });
+
+        for(int sequence = 0; sequence < demand * 10; ++sequence) {
+            publisher.publish(new HierarchicalTopic("ticks"), new Tick(sequence));
+            awaitIdle(executor);
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(0, publisher.dropped());
+        assertEquals(demand * 10 - 1, received.size());
+    }
+
+    @Test
+    public void testThatUnsubscribedSubscriberReceivesNoMore() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final BatchingPublisher publisher = new BatchingPublisher(10, 1, executor, Logger.noOpLogger());
+        final List<Message> received = new ArrayList<>();
+        final Subscriber<Message> subscriber = message -> {
+            synchronized(received) {
+                received.add(message);
+            }
+        };
+
+        publisher.subscribe(new HierarchicalTopic("ticks"), subscriber);
+        publisher.publish(new HierarchicalTopic("ticks"), new Tick(0));
+        awaitIdle(executor);
+        assertTrue(publisher.unsubscribe(new HierarchicalTopic("ticks"), subscriber));
+        publisher.publish(new HierarchicalTopic("ticks"), new Tick(1));
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1, received.size());
+    }
+
+    private void awaitIdle(final ExecutorService executor) throws InterruptedException {
+        final CountDownLatch idle = new CountDownLatch(1);
+        executor.execute(idle::countDown);
+        assertTrue(idle.await(5, TimeUnit.SECONDS));
+    }
+
+    public static class Tick implements Message {
+        final int sequence;
+
+        Tick(final int sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    public static class ReceivingActor extends Actor implements Subscriber<Message> {
+        static final List<ReceivingActor> inOrder = new ArrayList<>();
+
+        private final int expected;
+        private int next;
+        private final TestUntil until;
+
+        public ReceivingActor(final int expected, final TestUntil until) {
+            this.expected = expected;
+            this.until = until;
+        }
+
+        @Override
+        public void receive(final Message message) {
+            if(((Tick) message).sequence == next) {
+                ++next;
+            }
+            if(next == expected) {
+                synchronized(inOrder) {
+                    inOrder.add(this);
+                }
+                until.happened();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ConcurrentPublisherTest {
+
+    private static final Message Tick = new Message() { };
+
+    private final Publisher publisher = new ConcurrentPublisher();
+
+    @Test
+    public void testThatSubscribersReceiveUntilUnsubscribed() {
+        final CountingSubscriber orders = new CountingSubscriber();
+        final CountingSubscriber euOrders = new CountingSubscriber();
+        final Topic placed = new HierarchicalTopic("orders/eu/placed");
+
+        assertTrue(publisher.subscribe(new HierarchicalTopic("orders"), orders));
+        publisher.publish(placed, Tick);
+        assertTrue(publisher.subscribe(new HierarchicalTopic("orders/eu"), euOrders));
+        publisher.publish(placed, Tick);
+        assertTrue(publisher.unsubscribe(new HierarchicalTopic("orders"), orders));
+        assertFalse(publisher.unsubscribe(new HierarchicalTopic("orders"), orders));
+        publisher.publish(placed, Tick);
+        publisher.unsubscribeAllTopics(euOrders);
+        publisher.publish(placed, Tick);
+
+        assertEquals(2, orders.received.get());
+        assertEquals(2, euOrders.received.get());
+    }
+
+    @Test
+    public void testThatManyDistinctTopicsAreResolvedWithinTheBound() {
+        final ConcurrentPublisher bounded = new ConcurrentPublisher(2);
+        final CountingSubscriber orders = new CountingSubscriber();
+        final CountingSubscriber late = new CountingSubscriber();
+
+        assertEquals(0, bounded.subscribersOf(new HierarchicalTopic("orders/0")).length);
+        bounded.subscribe(new HierarchicalTopic("orders"), orders);
+
+        for(int order = 0; order < 100; ++order) {
+            bounded.publish(new HierarchicalTopic("orders/" + order), Tick);
+        }
+        bounded.subscribe(new HierarchicalTopic("orders/7"), late);
+        bounded.publish(new HierarchicalTopic("orders/7"), Tick);
+        bounded.publish(new HierarchicalTopic("orders/8"), Tick);
+
+        assertEquals(102, orders.received.get());
+        assertEquals(1, late.received.get());
+    }
+
+    @Test
+    public void testThatSubscribingEvictsOnlyTheResolutionsBeneathItsTopic() {
+        final ConcurrentPublisher indexed = new ConcurrentPublisher();
+        final CountingSubscriber euOrders = new CountingSubscriber();
+        final Topic euPlaced = new HierarchicalTopic("orders/eu/placed");
+        final Topic usPlaced = new HierarchicalTopic("orders/us/placed");
+
+        final Subscriber<?>[] none = indexed.subscribersOf(euPlaced);
+        final Subscriber<?>[] us = indexed.subscribersOf(usPlaced);
+        assertEquals(0, none.length);
+        assertSame(none, us);
+
+        indexed.subscribe(new HierarchicalTopic("orders/eu"), euOrders);
+
+        assertSame(us, indexed.subscribersOf(usPlaced));
+        assertEquals(1, indexed.subscribersOf(euPlaced).length);
+
+        indexed.unsubscribe(new HierarchicalTopic("orders/eu"), euOrders);
+
+        assertSame(us, indexed.subscribersOf(usPlaced));
+        assertEquals(0, indexed.subscribersOf(euPlaced).length);
+    }
+
+    @Test
+    public void testThatConcurrentPublishersReachSubscribers() throws InterruptedException {
+        final int publishers = 4;
+        final int messages = 10_000;
+        final Topic ticks = new HierarchicalTopic("market/ticks");
+        final CountingSubscriber steady = new CountingSubscriber();
+        final CountingSubscriber churning = new CountingSubscriber();
+        final CountDownLatch done = new CountDownLatch(publishers);
+
+        publisher.subscribe(new HierarchicalTopic("market"), steady);
+
+        final List<Thread> threads = new ArrayList<>();
+        for(int count = 0; count < publishers; ++count) {
+            threads.add(new Thread(() -> {
+                for(int message = 0; message < messages; ++message) {
+                    publisher.publish(ticks, Tick);
+                }
+                done.countDown();
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        while(done.getCount() > 0) {
+            publisher.subscribe(ticks, churning);
+            publisher.unsubscribe(ticks, churning);
+        }
+        for(final Thread thread : threads) {
+            thread.join();
+        }
+
+        final long churned = churning.received.get();
+        publisher.publish(ticks, Tick);
+
+        assertEquals(publishers * messages + 1, steady.received.get());
+        assertEquals(churned, churning.received.get());
+    }
+
+    private static class CountingSubscriber implements Subscriber<Message> {
+        final AtomicLong received = new AtomicLong();
+
+        @Override
+        public void receive(final Message message) {
+            received.incrementAndGet();
+        }
+    }
+}
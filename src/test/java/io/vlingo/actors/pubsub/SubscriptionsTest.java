@@ -0,0 +1,140 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class SubscriptionsTest {
+
+    private final Subscriptions subscriptions = new Subscriptions();
+
+    @Test
+    public void testThatSubscribersOfParentTopicsAreResolved() {
+        final TestSubscriber orders = new TestSubscriber();
+        final TestSubscriber euOrders = new TestSubscriber();
+        final TestSubscriber usOrders = new TestSubscriber();
+
+        assertTrue(subscriptions.create(new HierarchicalTopic("orders"), orders).hasAny());
+        assertTrue(subscriptions.create(new HierarchicalTopic("orders/eu"), euOrders).hasAny());
+        assertTrue(subscriptions.create(new HierarchicalTopic("orders/us"), usOrders).hasAny());
+        assertFalse(subscriptions.create(new HierarchicalTopic("orders/us"), usOrders).hasAny());
+
+        assertEquals(setOf(orders, euOrders), subscriptions.forTopic(new HierarchicalTopic("orders/eu/placed")));
+        assertEquals(setOf(orders, usOrders), subscriptions.forTopic(new HierarchicalTopic("orders/us")));
+        assertEquals(setOf(orders), subscriptions.forTopic(new HierarchicalTopic("orders")));
+        assertEquals(setOf(), subscriptions.forTopic(new HierarchicalTopic("payments/eu")));
+        assertEquals(setOf(), subscriptions.forTopic(new HierarchicalTopic("orders.eu", '.')));
+    }
+
+    @Test
+    public void testThatResolvedSubscribersAreCachedUntilChanged() {
+        final Topic placed = new HierarchicalTopic("orders/eu/placed");
+        final TestSubscriber orders = new TestSubscriber();
+        final TestSubscriber euOrders = new TestSubscriber();
+
+        subscriptions.create(new HierarchicalTopic("orders"), orders);
+
+        final Subscriber<?>[] resolved = subscriptions.subscribersOf(placed);
+        assertSame(resolved, subscriptions.subscribersOf(new HierarchicalTopic("orders/eu/placed")));
+
+        subscriptions.create(new HierarchicalTopic("orders/eu"), euOrders);
+        final Subscriber<?>[] changed = subscriptions.subscribersOf(placed);
+        assertEquals(1, resolved.length);
+        assertEquals(setOf(orders, euOrders), new HashSet<>(Arrays.asList(changed)));
+
+        assertTrue(subscriptions.cancel(new HierarchicalTopic("orders"), orders).hasAny());
+        assertFalse(subscriptions.cancel(new HierarchicalTopic("orders"), orders).hasAny());
+        assertEquals(setOf(euOrders), subscriptions.forTopic(placed));
+    }
+
+    @Test
+    public void testThatResolutionsBeyondTheSubscribedTreeAreBounded() {
+        final Subscriptions bounded = new Subscriptions(2);
+        final TestSubscriber orders = new TestSubscriber();
+
+        bounded.create(new HierarchicalTopic("orders"), orders);
+
+        final Subscriber<?>[] first = bounded.subscribersOf(new HierarchicalTopic("orders/1"));
+        assertSame(first, bounded.subscribersOf(new HierarchicalTopic("orders/1")));
+
+        bounded.subscribersOf(new HierarchicalTopic("orders/2"));
+        bounded.subscribersOf(new HierarchicalTopic("orders/3"));
+
+        final Subscriber<?>[] evicted = bounded.subscribersOf(new HierarchicalTopic("orders/1"));
+        assertNotSame(first, evicted);
+        assertEquals(setOf(orders), new HashSet<>(Arrays.asList(evicted)));
+
+        assertTrue(bounded.cancel(new HierarchicalTopic("orders"), orders).hasAny());
+        assertEquals(setOf(), bounded.forTopic(new HierarchicalTopic("orders/1")));
+    }
+
+    @Test
+    public void testThatSubscriberIsCanceledFromAllTopics() {
+        final Topic placed = new HierarchicalTopic("orders/eu/placed");
+        final Topic flat = new FlatTopic("orders");
+        final TestSubscriber subscriber = new TestSubscriber();
+        final TestSubscriber other = new TestSubscriber();
+
+        subscriptions.create(new HierarchicalTopic("orders"), subscriber);
+        subscriptions.create(new HierarchicalTopic("orders/eu"), other);
+        subscriptions.create(flat, subscriber);
+        assertEquals(setOf(subscriber, other), subscriptions.forTopic(placed));
+        assertEquals(setOf(subscriber), subscriptions.forTopic(flat));
+
+        assertTrue(subscriptions.cancelAll(subscriber).hasAny());
+
+        assertEquals(setOf(other), subscriptions.forTopic(placed));
+        assertEquals(setOf(), subscriptions.forTopic(flat));
+    }
+
+    @Test
+    public void testThatTopicsThatAreNotHierarchicalUseSubTopics() {
+        final TestSubscriber everything = new TestSubscriber();
+        final TestSubscriber orders = new TestSubscriber();
+
+        subscriptions.create(new FlatTopic(""), everything);
+        subscriptions.create(new FlatTopic("orders"), orders);
+
+        assertEquals(setOf(everything, orders), subscriptions.forTopic(new FlatTopic("orders")));
+        assertEquals(setOf(everything), subscriptions.forTopic(new FlatTopic("payments")));
+
+        subscriptions.cancel(new FlatTopic(""), everything);
+
+        assertEquals(setOf(orders), subscriptions.forTopic(new FlatTopic("orders")));
+    }
+
+    private static Set<Subscriber<?>> setOf(final Subscriber<?>... subscribers) {
+        return new HashSet<>(Arrays.asList(subscribers));
+    }
+
+    private static class FlatTopic extends Topic {
+        FlatTopic(final String name) {
+            super(name);
+        }
+
+        @Override
+        public boolean isSubTopic(final Topic anotherTopic) {
+            return anotherTopic instanceof FlatTopic && anotherTopic.name().startsWith(name()) && !anotherTopic.equals(this);
+        }
+    }
+
+    private static class TestSubscriber implements Subscriber<Message> {
+        @Override
+        public void receive(final Message message) { }
+    }
+}
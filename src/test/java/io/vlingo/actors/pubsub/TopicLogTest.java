@@ -0,0 +1,175 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.pubsub;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TopicLogTest {
+
+    private static final int SegmentSize = 4096;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testThatMessagesAreReadFromAnyOffsetAcrossSegments() throws IOException {
+        final File directory = folder.newFolder();
+        final TopicLog log = new TopicLog(directory, new TextCodec(), SegmentSize, 10);
+        final int messages = 1000;
+
+        for(int sequence = 0; sequence < messages; ++sequence) {
+            assertEquals(sequence, log.append(new HierarchicalTopic("ticks/" + (sequence % 3)), new Text("tick-" + sequence)));
+        }
+
+        assertTrue(directory.listFiles((dir, name) -> name.endsWith(".log")).length > 1);
+        assertEquals(messages, log.nextOffset());
+        assertEquals(messages, log.committedOffset());
+
+        assertRead(log, 0, messages);
+        assertRead(log, 517, messages);
+        assertEquals(messages, log.read(messages, (offset, topic, message) -> { throw new IllegalStateException(); }));
+        log.read(0, (offset, topic, message) -> assertEquals(new HierarchicalTopic("ticks/" + (offset % 3)), topic));
+
+        log.close();
+    }
+
+    @Test
+    public void testThatReopenedLogRecoversAndContinues() throws IOException {
+        final File directory = folder.newFolder();
+        final TopicLog log = new TopicLog(directory, new TextCodec(), SegmentSize, 1000);
+
+        for(int sequence = 0; sequence < 500; ++sequence) {
+            log.append(new HierarchicalTopic("ticks"), new Text("tick-" + sequence));
+        }
+        log.close();
+
+        final TopicLog reopened = new TopicLog(directory, new TextCodec(), SegmentSize, 1000);
+        assertEquals(500, reopened.nextOffset());
+
+        for(int sequence = 500; sequence < 700; ++sequence) {
+            assertEquals(sequence, reopened.append(new HierarchicalTopic("ticks"), new Text("tick-" + sequence)));
+        }
+
+        assertRead(reopened, 0, 700);
+        assertRead(reopened, 499, 700);
+
+        reopened.close();
+    }
+
+    @Test
+    public void testThatLateSubscriberReplaysThenContinues() throws IOException {
+        final TopicLog log = new TopicLog(folder.newFolder(), new TextCodec(), SegmentSize, 10);
+        final LoggedPublisher publisher = new LoggedPublisher(new ConcurrentPublisher(), log);
+        final List<LoggedMessage> received = new ArrayList<>();
+
+        for(int sequence = 0; sequence < 10; ++sequence) {
+            publisher.publish(new HierarchicalTopic(sequence % 2 == 0 ? "ticks/even" : "ticks/odd"), new Text("tick-" + sequence));
+        }
+
+        publisher.subscribeFrom(new HierarchicalTopic("ticks/even"), message -> received.add((LoggedMessage) message), 4);
+
+        publisher.publish(new HierarchicalTopic("ticks/even"), new Text("tick-10"));
+        publisher.publish(new HierarchicalTopic("ticks/odd"), new Text("tick-11"));
+
+        assertEquals(4, received.size());
+        final long[] offsets = { 4, 6, 8, 10 };
+        for(int index = 0; index < offsets.length; ++index) {
+            assertEquals(offsets[index], received.get(index).offset());
+            assertEquals("tick-" + offsets[index], ((Text) received.get(index).message()).text);
+        }
+
+        log.close();
+    }
+
+    @Test
+    public void testThatCatchUpWhilePublishingMissesAndRepeatsNothing() throws IOException, InterruptedException {
+        final TopicLog log = new TopicLog(folder.newFolder(), new TextCodec(), 64 * 1024, 100);
+        final LoggedPublisher publisher = new LoggedPublisher(new ConcurrentPublisher(), log);
+        final Topic ticks = new HierarchicalTopic("ticks");
+        final int publishers = 4;
+        final int messages = 2000;
+        final Set<Long> received = ConcurrentHashMap.newKeySet();
+        final AtomicInteger repeated = new AtomicInteger();
+
+        final List<Thread> threads = new ArrayList<>();
+        for(int count = 0; count < publishers; ++count) {
+            threads.add(new Thread(() -> {
+                for(int sequence = 0; sequence < messages; ++sequence) {
+                    publisher.publish(ticks, new Text("tick"));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+
+        while(log.nextOffset() < messages) {
+            Thread.yield();
+        }
+        publisher.subscribeFrom(ticks, message -> {
+            if(!received.add(((LoggedMessage) message).offset())) {
+                repeated.incrementAndGet();
+            }
+        }, 0);
+
+        for(final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, repeated.get());
+        assertEquals(publishers * messages, received.size());
+
+        log.close();
+    }
+
+    private void assertRead(final TopicLog log, final long from, final int messages) {
+        final long[] expected = { from };
+        final long next = log.read(from, (offset, topic, message) -> {
+            assertEquals(expected[0], offset);
+            assertEquals("tick-" + offset, ((Text) message).text);
+            ++expected[0];
+        });
+        assertEquals(messages, next);
+        assertEquals(messages, expected[0]);
+    }
+
+    private static class Text implements Message {
+        final String text;
+
+        Text(final String text) {
+            this.text = text;
+        }
+    }
+
+    private static class TextCodec implements MessageCodec {
+        @Override
+        public byte[] encode(final Message message) {
+            return ((Text) message).text.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Message decode(final ByteBuffer bytes) {
+            final byte[] text = new byte[bytes.remaining()];
+            bytes.get(text);
+            return new Text(new String(text, StandardCharsets.UTF_8));
+        }
+    }
+}
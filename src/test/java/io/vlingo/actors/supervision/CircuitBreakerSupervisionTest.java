@@ -0,0 +1,220 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.supervision;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.vlingo.actors.ActorsTest;
+import io.vlingo.actors.CircuitBreakerStrategy;
+import io.vlingo.actors.CircuitBreakerSupervisor;
+import io.vlingo.actors.DeadLettersListener;
+import io.vlingo.actors.DeadLettersTest.DeadLettersListenerActor;
+import io.vlingo.actors.DeadLettersTest.TestResult;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.Supervised;
+import io.vlingo.actors.Supervisor;
+import io.vlingo.actors.SupervisionStrategy.Scope;
+import io.vlingo.actors.supervision.FailureControlActor.FailureControlTestResults;
+import io.vlingo.actors.testkit.TestActor;
+import io.vlingo.actors.testkit.TestUntil;
+
+public class CircuitBreakerSupervisionTest extends ActorsTest {
+
+  @Test
+  public void testThatOpenCircuitStashesUntilRestarted() {
+    final FailureControlTestResults results = new FailureControlTestResults();
+    final TestActor<FailureControl> failure =
+            failureControlSupervisedBy(new CircuitBreakerStrategy(100, 1000, CircuitBreakerStrategy.UnlimitedStash, Scope.One), results, "stash");
+
+    results.untilAfterRestart = TestUntil.happenings(1);
+    results.untilAfterFail = TestUntil.happenings(3);
+
+    failure.actor().failNow();
+    failure.actor().afterFailure();
+    failure.actor().afterFailure();
+    failure.actor().afterFailure();
+
+    assertEquals(0, results.afterRestartCount.get());
+    assertEquals(0, results.afterFailureCount.get());
+
+    results.untilAfterRestart.completes();
+    results.untilAfterFail.completes();
+
+    assertEquals(1, results.failNowCount.get());
+    assertEquals(1, results.afterRestartCount.get());
+    assertEquals(3, results.afterFailureCount.get());
+  }
+
+  @Test
+  public void testThatOpenCircuitSendsToDeadLetters() {
+    final TestResult deadLetters = new TestResult(2);
+    final TestActor<DeadLettersListener> listener =
+            testWorld.actorFor(Definition.has(DeadLettersListenerActor.class, Definition.parameters(deadLetters)), DeadLettersListener.class);
+    world.deadLetters().registerListener(listener.actor());
+
+    final FailureControlTestResults results = new FailureControlTestResults();
+    final TestActor<FailureControl> failure =
+            failureControlSupervisedBy(new CircuitBreakerStrategy(100, 1000, CircuitBreakerStrategy.DeadLettersWhileOpen, Scope.One), results, "dead-letters");
+
+    results.untilAfterRestart = TestUntil.happenings(1);
+
+    failure.actor().failNow();
+    failure.actor().afterFailure();
+    failure.actor().afterFailure();
+
+    deadLetters.until.completes();
+    results.untilAfterRestart.completes();
+
+    assertEquals(2, deadLetters.deadLetters.size());
+    assertEquals("afterFailure()", deadLetters.deadLetters.get(0).representation);
+    assertEquals(0, results.afterFailureCount.get());
+  }
+
+  @Test
+  public void testThatOpenCircuitStashesOnlyUpToCapacity() {
+    final int times = 20;
+    final int capacity = 5;
+    final TestResult deadLetters = new TestResult(times - capacity);
+    final DeadLettersListener listener =
+            world.actorFor(Definition.has(DeadLettersListenerActor.class, Definition.parameters(deadLetters)), DeadLettersListener.class);
+    world.deadLetters().registerListener(listener);
+
+    final CircuitBreakerStrategy strategy = new CircuitBreakerStrategy(100, 1000, capacity, Scope.One);
+    world.actorFor(
+            Definition.has(CountingCircuitBreakerSupervisor.class, Definition.parameters(strategy, new CountingSupervisorResults()), "circuit-breaker-supervisor-capacity"),
+            Supervisor.class);
+
+    final FailureControlTestResults results = new FailureControlTestResults();
+    final FailureControl failure =
+            world.actorFor(
+                    Definition.has(FailureControlActor.class, Definition.parameters(results), CountingCircuitBreakerSupervisor.instance.get(), "failure-capacity"),
+                    FailureControl.class);
+
+    results.untilAfterRestart = TestUntil.happenings(1);
+    results.untilAfterFail = TestUntil.happenings(capacity);
+
+    // the capacity is set on the actor's own thread, and holds as well
+    // for those messages suspended before it is set
+    failure.failNow();
+    for (int count = 0; count < times; ++count) {
+      failure.afterFailure();
+    }
+
+    deadLetters.until.completes();
+    results.untilAfterRestart.completes();
+    results.untilAfterFail.completes();
+
+    assertEquals(times - capacity, deadLetters.deadLetters.size());
+    assertEquals(capacity, results.afterFailureCount.get());
+  }
+
+  @Test
+  public void testThatFailedTrialDoublesDelay() {
+    final FailureControlTestResults results = new FailureControlTestResults();
+    final TestActor<FailureControl> failure =
+            failureControlSupervisedBy(new CircuitBreakerStrategy(100, 1000, CircuitBreakerStrategy.UnlimitedStash, Scope.One), results, "double");
+
+    results.untilAfterRestart = TestUntil.happenings(2);
+    results.untilAfterFail = TestUntil.happenings(1);
+
+    // the second failNow() is the trial message when the circuit is first half open,
+    // so it opens the circuit again for twice the initial delay
+    final long opened = System.currentTimeMillis();
+    failure.actor().failNow();
+    failure.actor().failNow();
+    failure.actor().afterFailure();
+
+    results.untilAfterRestart.completes();
+    results.untilAfterFail.completes();
+
+    assertTrue(System.currentTimeMillis() - opened >= 300);
+    assertEquals(2, results.failNowCount.get());
+    assertEquals(1, results.afterFailureCount.get());
+
+    // afterFailure() succeeded as the trial message and closed the circuit,
+    // so the next failure opens it for only the initial delay
+    results.untilAfterRestart = TestUntil.happenings(1);
+    results.untilAfterFail = TestUntil.happenings(1);
+    failure.actor().failNow();
+    failure.actor().afterFailure();
+    results.untilAfterRestart.completes();
+    results.untilAfterFail.completes();
+
+    assertEquals(3, results.afterRestartCount.get());
+    assertEquals(2, results.afterFailureCount.get());
+  }
+
+  @Test
+  public void testThatHalfOpenRestartIsSentToTheSupervisor() {
+    final FailureControlTestResults results = new FailureControlTestResults();
+    final CircuitBreakerStrategy strategy = new CircuitBreakerStrategy(100, 1000, CircuitBreakerStrategy.UnlimitedStash, Scope.One);
+    final CountingSupervisorResults supervisorResults = new CountingSupervisorResults();
+
+    world.actorFor(
+            Definition.has(CountingCircuitBreakerSupervisor.class, Definition.parameters(strategy, supervisorResults), "counting-circuit-breaker-supervisor"),
+            Supervisor.class);
+
+    final FailureControl failure =
+            world.actorFor(
+                    Definition.has(FailureControlActor.class, Definition.parameters(results), CountingCircuitBreakerSupervisor.instance.get(), "failure-counting"),
+                    FailureControl.class);
+
+    results.untilAfterRestart = TestUntil.happenings(1);
+    results.untilAfterFail = TestUntil.happenings(1);
+
+    failure.failNow();
+    failure.afterFailure();
+
+    results.untilAfterRestart.completes();
+    results.untilAfterFail.completes();
+
+    assertEquals(2, supervisorResults.informed.get());
+  }
+
+  public static class CountingSupervisorResults {
+    public final AtomicInteger informed = new AtomicInteger(0);
+  }
+
+  public static class CountingCircuitBreakerSupervisor extends CircuitBreakerSupervisor {
+    public static final ThreadLocal<CountingCircuitBreakerSupervisor> instance = new ThreadLocal<>();
+
+    private final CountingSupervisorResults results;
+
+    public CountingCircuitBreakerSupervisor(final CircuitBreakerStrategy strategy, final CountingSupervisorResults results) {
+      super(strategy);
+      this.results = results;
+      instance.set(this);
+    }
+
+    @Override
+    public void inform(final Throwable throwable, final Supervised supervised) {
+      results.informed.incrementAndGet();
+      super.inform(throwable, supervised);
+    }
+  }
+
+  private TestActor<FailureControl> failureControlSupervisedBy(
+          final CircuitBreakerStrategy strategy,
+          final FailureControlTestResults results,
+          final String name) {
+
+    final TestActor<Supervisor> supervisor =
+            testWorld.actorFor(
+                    Definition.has(CircuitBreakerSupervisor.class, Definition.parameters(strategy), "circuit-breaker-supervisor-" + name),
+                    Supervisor.class);
+
+    return testWorld.actorFor(
+            Definition.has(FailureControlActor.class, Definition.parameters(results), supervisor.actorInside(), "failure-" + name),
+            FailureControl.class);
+  }
+}
@@ -0,0 +1,83 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.virtualthread;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
+import io.vlingo.actors.Mailbox;
+
+/**
+ * VirtualThreadDispatcher runs each delivery turn of a {@code Mailbox} on a virtual
+ * thread of its own, so that an {@code Actor} may block in a message handler, on I/O
+ * or on {@code Completes.await()}, while the carrier threads deliver to the others.
+ * No pool is sized: there are as many virtual threads as turns being run, which is
+ * what my telemetry reports as threads. A turn started by {@code execute(Mailbox)}
+ * waits for a carrier thread, not in a queue of mine, so my queue depth is zero.
+ */
+public class VirtualThreadDispatcher implements Dispatcher {
+  private final AtomicBoolean closed;
+  private final ExecutorService executor;
+  private final AtomicInteger running;
+  private final DispatcherTelemetry telemetry;
+
+  public VirtualThreadDispatcher(final String name) {
+    this(name, DispatcherTelemetry.Registry.unscoped());
+  }
+
+  public VirtualThreadDispatcher(final String name, final DispatcherTelemetry.Registry telemetryRegistry) {
+    this.closed = new AtomicBoolean(false);
+    this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("vlingo-actors-" + name + "-", 1).factory());
+    this.running = new AtomicInteger(0);
+    this.telemetry = telemetryRegistry.open("VirtualThreadDispatcher:" + name, running::get, () -> 0);
+  }
+
+  @Override
+  public void close() {
+    closed.set(true);
+    executor.shutdown();
+    telemetry.close();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  @Override
+  public void execute(final Mailbox mailbox) {
+    if (!closed.get()) {
+      if (mailbox.delivering(true)) {
+        executor.execute(() -> turnOf(mailbox));
+      }
+    }
+  }
+
+  @Override
+  public boolean requiresExecutionNotification() {
+    return false;
+  }
+
+  @Override
+  public DispatcherTelemetry telemetry() {
+    return telemetry;
+  }
+
+  private void turnOf(final Mailbox mailbox) {
+    running.incrementAndGet();
+    try {
+      mailbox.run();
+    } finally {
+      running.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,21 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.virtualthread;
+
+import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.plugin.mailbox.concurrentqueue.ConcurrentQueueMailbox;
+
+/**
+ * VirtualThreadMailbox is a {@code ConcurrentQueueMailbox} whose turns are run by
+ * a {@link VirtualThreadDispatcher}.
+ */
+public class VirtualThreadMailbox extends ConcurrentQueueMailbox {
+  VirtualThreadMailbox(final Dispatcher dispatcher, final int throttlingCount) {
+    super(dispatcher, throttlingCount);
+  }
+}
@@ -0,0 +1,132 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.virtualthread;
+
+import io.vlingo.actors.Configuration;
+import io.vlingo.actors.Dispatcher;
+import io.vlingo.actors.DispatcherTelemetry;
+import io.vlingo.actors.Mailbox;
+import io.vlingo.actors.MailboxProvider;
+import io.vlingo.actors.Registrar;
+import io.vlingo.actors.plugin.AbstractPlugin;
+import io.vlingo.actors.plugin.Plugin;
+import io.vlingo.actors.plugin.PluginConfiguration;
+import io.vlingo.actors.plugin.PluginProperties;
+
+/**
+ * VirtualThreadMailboxPlugin provides {@link VirtualThreadMailbox}es, all run by one
+ * {@link VirtualThreadDispatcher}. It is enabled in the {@code vlingo-actors.properties} by:
+ * <pre>
+ * plugin.name.virtualThreadMailbox = true
+ * plugin.virtualThreadMailbox.classname = io.vlingo.actors.plugin.mailbox.virtualthread.VirtualThreadMailboxPlugin
+ * plugin.virtualThreadMailbox.defaultMailbox = false
+ * plugin.virtualThreadMailbox.dispatcherThrottlingCount = 1
+ * </pre>
+ */
+public class VirtualThreadMailboxPlugin extends AbstractPlugin implements Plugin, MailboxProvider {
+  private final VirtualThreadMailboxPluginConfiguration configuration;
+  private Dispatcher dispatcher;
+
+  public VirtualThreadMailboxPlugin() {
+    this.configuration = VirtualThreadMailboxPluginConfiguration.define();
+  }
+
+  public VirtualThreadMailboxPlugin(final VirtualThreadMailboxPluginConfiguration configuration) {
+    this.configuration = configuration;
+  }
+
+  @Override
+  public void close() {
+    dispatcher.close();
+  }
+
+  @Override
+  public PluginConfiguration configuration() {
+    return configuration;
+  }
+
+  @Override
+  public String name() {
+    return configuration.name();
+  }
+
+  @Override
+  public int pass() {
+    return 1;
+  }
+
+  @Override
+  public void start(final Registrar registrar) {
+    dispatcher = new VirtualThreadDispatcher(configuration.name(), DispatcherTelemetry.Registry.of(registrar));
+    registrar.register(configuration.name(), configuration.isDefaultMailbox(), this);
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode) {
+    return new VirtualThreadMailbox(dispatcher, configuration.dispatcherThrottlingCount());
+  }
+
+  @Override
+  public Mailbox provideMailboxFor(final int hashCode, final Dispatcher dispatcher) {
+    if (dispatcher == null) {
+      throw new IllegalArgumentException("Dispatcher must not be null.");
+    }
+
+    return new VirtualThreadMailbox(dispatcher, configuration.dispatcherThrottlingCount());
+  }
+
+  public static class VirtualThreadMailboxPluginConfiguration implements PluginConfiguration {
+    private boolean defaultMailbox;
+    private int dispatcherThrottlingCount = 1;
+    private String name = "virtualThreadMailbox";
+
+    public static VirtualThreadMailboxPluginConfiguration define() {
+      return new VirtualThreadMailboxPluginConfiguration();
+    }
+
+    public VirtualThreadMailboxPluginConfiguration defaultMailbox() {
+      this.defaultMailbox = true;
+      return this;
+    }
+
+    public boolean isDefaultMailbox() {
+      return defaultMailbox;
+    }
+
+    public VirtualThreadMailboxPluginConfiguration dispatcherThrottlingCount(final int dispatcherThrottlingCount) {
+      this.dispatcherThrottlingCount = dispatcherThrottlingCount;
+      return this;
+    }
+
+    public int dispatcherThrottlingCount() {
+      return dispatcherThrottlingCount;
+    }
+
+    public VirtualThreadMailboxPluginConfiguration name(final String name) {
+      this.name = name;
+      return this;
+    }
+
+    @Override
+    public void build(final Configuration configuration) {
+      dispatcherThrottlingCount(1);
+    }
+
+    @Override
+    public void buildWith(final Configuration configuration, final PluginProperties properties) {
+      this.name = properties.name;
+      this.defaultMailbox = properties.getBoolean("defaultMailbox", false);
+      this.dispatcherThrottlingCount = properties.getInteger("dispatcherThrottlingCount", 1);
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+  }
+}
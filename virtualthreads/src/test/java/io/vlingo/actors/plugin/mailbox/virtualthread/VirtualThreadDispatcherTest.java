@@ -0,0 +1,158 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.actors.plugin.mailbox.virtualthread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.actors.Actor;
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.World;
+import io.vlingo.actors.testkit.TestUntil;
+import io.vlingo.common.Completes;
+
+public class VirtualThreadDispatcherTest {
+  private static final String Mailbox = "virtualThreadMailbox";
+
+  private World world;
+
+  @Test
+  public void testThatMessagesAreDeliveredOnVirtualThreads() {
+    final Results results = new Results();
+    results.until = TestUntil.happenings(10);
+
+    final Worker worker = world.actorFor(definitionOf(WorkerActor.class, results), Worker.class);
+    for (int count = 0; count < 10; ++count) {
+      worker.work(count, 0);
+    }
+    results.until.completes();
+
+    assertEquals(10, results.virtual.get());
+    assertEquals(10, results.worked.size());
+    for (int count = 0; count < 10; ++count) {
+      assertEquals(count, (int) results.worked.get(count));
+    }
+  }
+
+  @Test
+  public void testThatBlockedActorsDoNotHoldBackOthers() {
+    final int actors = 1_000;
+    final Results results = new Results();
+    results.until = TestUntil.happenings(actors);
+
+    final long startedAt = System.nanoTime();
+    for (int count = 0; count < actors; ++count) {
+      world.actorFor(definitionOf(WorkerActor.class, results), Worker.class).work(count, 100);
+    }
+    results.until.completes();
+    final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+    // one after another they would take 100 seconds
+    assertTrue("Took " + elapsed + " ms", elapsed < 10_000);
+    assertEquals(actors, results.virtual.get());
+  }
+
+  @Test
+  public void testThatAHandlerMayAwaitAnotherActor() {
+    final Results results = new Results();
+    results.until = TestUntil.happenings(1);
+
+    final Answerer answerer = world.actorFor(Definition.has(AnswererActor.class, Definition.NoParameters), Answerer.class);
+    world.actorFor(definitionOf(AskerActor.class, results), Asker.class).ask(answerer);
+    results.until.completes();
+
+    assertEquals(42, (int) results.worked.get(0));
+  }
+
+  @Before
+  public void setUp() {
+    world = World.start("virtual-thread-dispatcher-test");
+  }
+
+  @After
+  public void tearDown() {
+    world.terminate();
+  }
+
+  private Definition definitionOf(final Class<? extends Actor> type, final Results results) {
+    final String actorName = null;
+    return Definition.has(type, Definition.parameters(results), Mailbox, actorName);
+  }
+
+  public static interface Worker {
+    void work(final int index, final long blockFor);
+  }
+
+  public static class WorkerActor extends Actor implements Worker {
+    private final Results results;
+
+    public WorkerActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void work(final int index, final long blockFor) {
+      if (Thread.currentThread().isVirtual()) {
+        results.virtual.incrementAndGet();
+      }
+      if (blockFor > 0) {
+        try {
+          Thread.sleep(blockFor);
+        } catch (InterruptedException e) {
+          // done
+        }
+      }
+      results.worked.add(index);
+      results.until.happened();
+    }
+  }
+
+  public static interface Answerer {
+    Completes<Integer> answer();
+  }
+
+  public static class AnswererActor extends Actor implements Answerer {
+    @Override
+    public Completes<Integer> answer() {
+      return completes().with(42);
+    }
+  }
+
+  public static interface Asker {
+    void ask(final Answerer answerer);
+  }
+
+  public static class AskerActor extends Actor implements Asker {
+    private final Results results;
+
+    public AskerActor(final Results results) {
+      this.results = results;
+    }
+
+    @Override
+    public void ask(final Answerer answerer) {
+      results.worked.add(answerer.answer().await(5_000));
+      results.until.happened();
+    }
+  }
+
+  public static class Results {
+    TestUntil until;
+    final AtomicInteger virtual = new AtomicInteger();
+    final List<Integer> worked = new CopyOnWriteArrayList<>();
+  }
+}